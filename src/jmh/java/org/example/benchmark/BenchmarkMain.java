@@ -0,0 +1,124 @@
+package org.example.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.example.generator.EndpointPlacement;
+import org.example.generator.MazeTopology;
+import org.example.generator.WorkloadGenerator;
+import org.example.generator.WorkloadSpec;
+import org.example.model.MazeGrid;
+import org.example.model.MazeInstance;
+import org.example.results.ResultRecord;
+import org.example.results.ResultsLog;
+import org.example.solver.SolverFactory;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de {@code benchmarks.jar}: ejecuta los benchmarks con el perfilador de GC activado,
+ * que añade a cada resultado la tasa de reserva de memoria ({@code gc.alloc.rate}) y los bytes
+ * reservados por operación ({@code gc.alloc.rate.norm}).
+ * <p>Acepta las mismas opciones que la línea de comandos de JMH, que tienen prioridad; por ejemplo
+ * {@code java -jar target/benchmarks.jar -p solver=BFS,DFS -p size=257 -rf json}.</p>
+ * <p>Además, con {@code --log ARCHIVO} cada iteración medida del modo de tiempo medio se añade a un
+ * {@link ResultsLog} como un resultado, con la firma del laberinto de prueba, para compararla con una
+ * línea base con {@code org.example.cli.RegressionCheck}. JMH no devuelve el camino, así que esos
+ * resultados no tienen longitud de camino (-1).</p>
+ */
+public class BenchmarkMain {
+
+    /**
+     * Ejecuta los benchmarks.
+     *
+     * @param args Opciones de la línea de comandos de JMH, y opcionalmente {@code --log ARCHIVO}.
+     * @throws RunnerException Si algún benchmark falla.
+     * @throws CommandLineOptionException Si las opciones no son válidas.
+     * @throws IOException Si el registro de resultados no se puede escribir.
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        List<String> jmhArgs = new ArrayList<>(List.of(args));
+        Path log = null;
+        int logIndex = jmhArgs.indexOf("--log");
+        if (logIndex >= 0) {
+            if (logIndex + 1 >= jmhArgs.size()) {
+                throw new IllegalArgumentException("Falta el valor de --log");
+            }
+            log = Paths.get(jmhArgs.remove(logIndex + 1));
+            jmhArgs.remove(logIndex);
+        }
+        CommandLineOptions commandLine = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(SolverBenchmark.class.getSimpleName());
+        }
+        Options options = builder.addProfiler(GCProfiler.class).build();
+        Collection<RunResult> results = new Runner(options).run();
+        if (log != null) {
+            try (ResultsLog resultsLog = new ResultsLog(log)) {
+                List<ResultRecord> records = toRecords(results);
+                resultsLog.appendAll(records);
+                System.out.println(records.size() + " iteraciones añadidas a " + log);
+            }
+        }
+    }
+
+    /**
+     * Convierte las iteraciones medidas en modo de tiempo medio en resultados del registro. El laberinto
+     * se vuelve a generar con los parámetros del benchmark para obtener su firma y su densidad real.
+     */
+    private static List<ResultRecord> toRecords(Collection<RunResult> results) {
+        List<ResultRecord> records = new ArrayList<>();
+        WorkloadGenerator generator = new WorkloadGenerator();
+        long timestamp = System.currentTimeMillis();
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            if (params.getMode() != Mode.AverageTime || params.getParam("solver") == null) {
+                continue; // Solo el tiempo por resolución de SolverBenchmark es comparable con el registro
+            }
+            String solver = params.getParam("solver");
+            int size = Integer.parseInt(params.getParam("size"));
+            WorkloadSpec spec = new WorkloadSpec(size, size,
+                    MazeTopology.valueOf(params.getParam("topology").toUpperCase(Locale.ROOT)),
+                    Double.parseDouble(params.getParam("density")), EndpointPlacement.FARTHEST_PAIR, 42);
+            MazeInstance instance = generator.generate(spec);
+            MazeGrid grid = instance.getGrid();
+            long signature = ResultsLog.signature(grid, instance.getStart(), instance.getEnd());
+            float wallDensity = (float) (1 - (double) grid.countOpen() / ((long) size * size));
+            int threads = SolverFactory.create(solver, size, size).getThreadCount();
+            double nanosPerUnit = params.getTimeUnit().toNanos(1);
+            for (BenchmarkResult fork : result.getBenchmarkResults()) {
+                for (IterationResult iteration : fork.getIterationResults()) {
+                    long timeNanos = Math.round(iteration.getPrimaryResult().getScore() * nanosPerUnit);
+                    records.add(ResultRecord.builder(solver)
+                            .timestamp(timestamp)
+                            .timeNanos(timeNanos)
+                            .mazeSignature(signature)
+                            .dimensions(size, size)
+                            .wallDensity(wallDensity)
+                            .seed(instance.getSeed())
+                            .jvm(ResultRecord.currentJvm())
+                            .threads(threads)
+                            .build());
+                }
+            }
+        }
+        return records;
+    }
+}
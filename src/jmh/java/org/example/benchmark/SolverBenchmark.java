@@ -0,0 +1,85 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.generator.EndpointPlacement;
+import org.example.generator.MazeTopology;
+import org.example.generator.WorkloadGenerator;
+import org.example.generator.WorkloadSpec;
+import org.example.model.Cell;
+import org.example.model.MazeInstance;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+import org.example.solver.SolverFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark JMH de todos los solvers de {@code org.example.solver} sobre laberintos de prueba del
+ * {@link WorkloadGenerator}, parametrizados por tamaño, densidad de muros y topología. Los solvers se
+ * crean con {@link SolverFactory}.
+ * <p>A diferencia de la medida de la interfaz (un único {@code System.nanoTime()} en frío), JMH calienta
+ * el JIT antes de medir, repite en varias JVM y evita que el resultado se descarte como código muerto.
+ * Se mide el rendimiento (resoluciones por segundo) y el tiempo medio por resolución; con el perfilador de
+ * GC que añade {@link BenchmarkMain} se informa además de la memoria reservada por resolución.</p>
+ * <p>El laberinto se genera una vez por combinación de parámetros, con inicio y fin en el par de celdas
+ * más alejadas, y todas las resoluciones usan el mismo.
+ * La densidad no influye en la topología {@code PERFECT}, así que esas combinaciones se repiten.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xss512m", "-Xmx4g", "-Dmaze.metrics=false"}) // Pila grande para los recursivos; sin métricas de búsqueda
+public class SolverBenchmark {
+
+    @Param({"BFS", "DFS", "DFS_PORTFOLIO", "RECURSIVE", "RECURSIVE_COMPLET", "RECURSIVE_COMPLET_BT",
+            "TREMAUX", "WALL_FOLLOWER", "WAYPOINTS", "SPACE_TIME", "EXTERNAL_BFS", "OPTIMIZED_DFS"})
+    public String solver;
+
+    @Param({"65", "257", "1025"})
+    public int size;
+
+    @Param({"0.1", "0.3"})
+    public double density;
+
+    @Param({"PERFECT", "OPEN_ROOMS", "RANDOM_NOISE"})
+    public MazeTopology topology;
+
+    private boolean[][] grid;
+    private Cell start;
+    private Cell end;
+    private MazeSolver mazeSolver;
+
+    /** Genera el laberinto de la combinación de parámetros y crea el solver. */
+    @Setup(Level.Trial)
+    public void setUp() {
+        WorkloadSpec spec = new WorkloadSpec(size, size, topology, density, EndpointPlacement.FARTHEST_PAIR, 42);
+        MazeInstance instance = new WorkloadGenerator().generate(spec);
+        grid = instance.getGrid().toBooleanGrid();
+        start = instance.getStart();
+        end = instance.getEnd();
+        mazeSolver = SolverFactory.create(solver, size, size);
+    }
+
+    /**
+     * Resuelve el laberinto; JMH consume el resultado para que no se elimine la llamada.
+     *
+     * @return El resultado de la resolución.
+     */
+    @Benchmark
+    public MazeResult solve() {
+        return mazeSolver.getPath(grid, start, end);
+    }
+}
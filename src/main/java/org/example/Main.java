@@ -4,6 +4,7 @@ import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
 import org.example.controller.MazeController;
+import org.example.results.ResultsWriter;
 import org.example.view.CreadorMatriz;
 import org.example.view.MazeView;
 
@@ -36,6 +37,9 @@ public class Main {
         final int filas = dimensions[0];
         final int columnas = dimensions[1];
 
+        // Abre el registro de resultados en segundo plano mientras se construye la interfaz
+        ResultsWriter.getDefault();
+
         // Ejecuta la interfaz gráfica en el Event Dispatch Thread (EDT)
         SwingUtilities.invokeLater(() -> {
             MazeView view = new MazeView(filas, columnas);
@@ -0,0 +1,429 @@
+package org.example.cli;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.example.generator.EndpointPlacement;
+import org.example.generator.MazeTopology;
+import org.example.generator.WorkloadGenerator;
+import org.example.generator.WorkloadSpec;
+import org.example.io.AsciiMazeImporter;
+import org.example.io.MazeFileFormat;
+import org.example.model.MazeGrid;
+import org.example.model.MazeInstance;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+import org.example.model.PortfolioResult;
+import org.example.model.SearchMetrics;
+import org.example.monitoring.SolveEvent;
+import org.example.results.MemoryProfiler;
+import org.example.results.ResultRecord;
+import org.example.results.ResultsLog;
+import org.example.solver.SolverFactory;
+
+/**
+ * Ejecutor por lotes sin interfaz gráfica: carga o genera laberintos, ejecuta sobre cada uno los solvers
+ * elegidos con unas rondas de calentamiento y varias repeticiones medidas, y escribe una fila por
+ * repetición en CSV o JSON, con el tiempo y las métricas de búsqueda ({@link SearchMetrics}; -1 si el
+ * solver no las informa o se desactivan con {@code -Dmaze.metrics=false}).
+ * <p>No usa AWT, Swing ni JFreeChart (los solvers se crean con {@link SolverFactory} y los laberintos se
+ * leen con {@link MazeFileFormat} o {@link AsciiMazeImporter}), así que arranca rápido y funciona con
+ * {@code -Djava.awt.headless=true} en servidores sin pantalla. Ejemplo:</p>
+ * <pre>
+ * java -cp proyecto.jar org.example.cli.BatchRunner --generate PERFECT:257x257 --maze lab.maze \
+ *      --solvers BFS,DFS --warmup 5 --repeat 20 --format json --output resultados.json
+ * </pre>
+ * <p>Los solvers se ejecutan en un hilo con una pila de {@value #STACK_BYTES} bytes, porque los
+ * recursivos desbordan la pila por defecto en laberintos grandes; si aun así se desborda, la fila
+ * lo indica en la columna {@code estado} y el lote continúa.</p>
+ * <p>Con {@code --log} cada repetición se añade además a un {@link ResultsLog}, el mismo formato que el
+ * registro de la interfaz, para compararla después con una línea base con {@link RegressionCheck}.</p>
+ * <p>Con {@code --memory}, tras el calentamiento cada solver se perfila con el {@link MemoryProfiler} en una
+ * resolución aparte (fuerza recolecciones, así que no se mezcla con las medidas) y sus filas incluyen la
+ * memoria retenida por el solver y el resultado y el pico de heap; sin la opción esas columnas son -1.</p>
+ * <p>La columna {@code variante} indica qué variante ganó la carrera en los solvers de portafolio
+ * ({@link PortfolioResult}), y es -1 en los demás.</p>
+ */
+public class BatchRunner {
+    public static final int DEFAULT_WARMUP = 3;
+    public static final int DEFAULT_REPEAT = 10;
+    public static final long STACK_BYTES = 1L << 30;
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Uso: BatchRunner [opciones]",
+            "  --maze ARCHIVO           laberinto " + MazeFileFormat.EXTENSION + " o ASCII (repetible)",
+            "  --generate TOPOLOGIA:FILASxCOLUMNAS[:DENSIDAD[:SEMILLA]]",
+            "                           laberinto de prueba (repetible); topologías: " + List.of(MazeTopology.values()),
+            "  --solvers A,B,...        solvers a ejecutar (por defecto todos): " + SolverFactory.NAMES,
+            "  --warmup N               rondas de calentamiento sin medir (por defecto " + DEFAULT_WARMUP + ")",
+            "  --repeat N               repeticiones medidas (por defecto " + DEFAULT_REPEAT + ")",
+            "  --format csv|json        formato de salida (por defecto csv)",
+            "  --output ARCHIVO         archivo de salida (por defecto la salida estándar)",
+            "  --log ARCHIVO            añade las repeticiones a este registro de resultados",
+            "  --memory                 perfila la memoria retenida y el pico de heap de cada solver");
+
+    /** Formatos de salida. */
+    public enum Format {CSV, JSON}
+
+    private final List<String> mazeFiles = new ArrayList<>();
+    private final List<WorkloadSpec> generated = new ArrayList<>();
+    private List<String> solvers = SolverFactory.NAMES;
+    private int warmup = DEFAULT_WARMUP;
+    private int repeat = DEFAULT_REPEAT;
+    private Format format = Format.CSV;
+    private Path output;
+    private Path log;
+    private boolean memory;
+
+    /** Una repetición medida de un solver sobre un laberinto. */
+    private static final class Run {
+        final String maze;
+        final int rows;
+        final int cols;
+        final double wallDensity;
+        final long seed;
+        final String solver;
+        final int iteration;
+        final int pathLength;
+        final int visited;
+        final long timeNanos;
+        final String status;
+        final SearchMetrics metrics;
+        final MemoryProfiler.Footprint memory;
+        final int variant;
+
+        Run(String maze, MazeInstance instance, double wallDensity, String solver, int iteration,
+            int pathLength, int visited, long timeNanos, String status, SearchMetrics metrics,
+            MemoryProfiler.Footprint memory, int variant) {
+            this.maze = maze;
+            this.rows = instance.getGrid().getRows();
+            this.cols = instance.getGrid().getCols();
+            this.wallDensity = wallDensity;
+            this.seed = instance.getSeed();
+            this.solver = solver;
+            this.iteration = iteration;
+            this.pathLength = pathLength;
+            this.visited = visited;
+            this.timeNanos = timeNanos;
+            this.status = status;
+            this.metrics = metrics != null ? metrics : new SearchMetrics(-1, -1, -1, -1, -1);
+            this.memory = memory != null ? memory : new MemoryProfiler.Footprint(-1, -1, -1);
+            this.variant = variant;
+        }
+    }
+
+    /**
+     * Interpreta los argumentos de la línea de comandos.
+     *
+     * @param args Los argumentos (se describen con {@code --help}).
+     * @return El ejecutor configurado.
+     * @throws IllegalArgumentException Si algún argumento no es válido.
+     */
+    public static BatchRunner parse(String[] args) {
+        BatchRunner runner = new BatchRunner();
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--memory")) {
+                runner.memory = true; // Única opción sin valor
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--maze" -> runner.mazeFiles.add(value);
+                case "--generate" -> runner.generated.add(parseSpec(value));
+                case "--solvers" -> runner.solvers = parseSolvers(value);
+                case "--warmup" -> runner.warmup = parseCount(option, value, 0);
+                case "--repeat" -> runner.repeat = parseCount(option, value, 1);
+                case "--format" -> runner.format = parseEnum(Format.class, value, "Formato desconocido");
+                case "--output" -> runner.output = Paths.get(value);
+                case "--log" -> runner.log = Paths.get(value);
+                default -> throw new IllegalArgumentException("Opción desconocida: " + option);
+            }
+        }
+        if (runner.mazeFiles.isEmpty() && runner.generated.isEmpty()) {
+            throw new IllegalArgumentException("Indica al menos un laberinto con --maze o --generate.");
+        }
+        return runner;
+    }
+
+    /**
+     * Ejecuta el lote y escribe los resultados a medida que se obtienen.
+     *
+     * @throws IOException Si algún laberinto no se puede leer o la salida no se puede escribir.
+     */
+    public void run() throws IOException {
+        Writer out = output != null
+                ? Files.newBufferedWriter(output, StandardCharsets.UTF_8)
+                : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        ResultsLog results = log != null ? new ResultsLog(log) : null;
+        try {
+            writeHeader(out);
+            boolean[] first = {true};
+            for (String file : mazeFiles) {
+                runAll(Paths.get(file).getFileName().toString(), load(Paths.get(file)), out, results, first);
+            }
+            WorkloadGenerator generator = new WorkloadGenerator();
+            for (WorkloadSpec spec : generated) {
+                runAll(spec.getLabel(), generator.generate(spec), out, results, first);
+            }
+            writeFooter(out);
+        } finally {
+            if (results != null) {
+                results.close();
+            }
+            if (output != null) {
+                out.close();
+            } else {
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * Punto de entrada del ejecutor por lotes.
+     *
+     * @param args Las opciones (se muestran con {@code --help}).
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length == 0 || args[0].equals("--help")) {
+            System.err.println(USAGE);
+            System.exit(args.length == 0 ? 2 : 0);
+        }
+        BatchRunner runner;
+        try {
+            runner = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        // Los solvers recursivos necesitan una pila mucho mayor que la del hilo principal
+        Throwable[] failure = new Throwable[1];
+        Thread worker = new Thread(null, () -> {
+            try {
+                runner.run();
+            } catch (IOException | RuntimeException e) {
+                failure[0] = e;
+            }
+        }, "batch-runner", STACK_BYTES);
+        worker.start();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure[0] != null) {
+            System.err.println("Error en el lote: " + failure[0].getMessage());
+            System.exit(1);
+        }
+    }
+
+    /** Ejecuta todos los solvers sobre un laberinto. */
+    private void runAll(String label, MazeInstance instance, Writer out, ResultsLog results, boolean[] first) throws IOException {
+        if (instance.getStart() == null || instance.getEnd() == null) {
+            System.err.println("Se omite " + label + ": no tiene celdas de inicio y fin.");
+            return;
+        }
+        MazeGrid grid = instance.getGrid();
+        boolean[][] cells = grid.toBooleanGrid();
+        long total = (long) grid.getRows() * grid.getCols();
+        double wallDensity = (double) (total - grid.countOpen()) / total;
+        long signature = results != null ? ResultsLog.signature(grid, instance.getStart(), instance.getEnd()) : 0;
+        for (String name : solvers) {
+            MazeSolver solver = SolverFactory.create(name, grid.getRows(), grid.getCols());
+            for (int i = 0; i < warmup; i++) {
+                measure(label, instance, wallDensity, name, solver, cells, i, null, true); // Calienta el JIT; no se escribe
+            }
+            MemoryProfiler.Footprint footprint = memory
+                    ? MemoryProfiler.profile(() -> SolverFactory.create(name, grid.getRows(), grid.getCols()),
+                            cells, instance.getStart(), instance.getEnd())
+                    : null;
+            List<ResultRecord> records = new ArrayList<>();
+            for (int i = 0; i < repeat; i++) {
+                Run run = measure(label, instance, wallDensity, name, solver, cells, i, footprint, false);
+                writeRun(out, run, first[0]);
+                first[0] = false;
+                if (!run.status.equals("desbordamiento_pila")) {
+                    records.add(toRecord(run, signature, solver.getThreadCount()));
+                }
+            }
+            out.flush();
+            if (results != null && !records.isEmpty()) {
+                results.appendAll(records); // Una escritura por solver, fuera de las mediciones
+            }
+            System.err.println(label + " / " + name + ": " + repeat + " repeticiones.");
+        }
+    }
+
+    private Run measure(String label, MazeInstance instance, double wallDensity, String name,
+                        MazeSolver solver, boolean[][] cells, int iteration, MemoryProfiler.Footprint footprint,
+                        boolean warmupRun) {
+        SolveEvent event = new SolveEvent();
+        event.begin();
+        long allocatedBefore = SearchMetrics.allocatedBytes();
+        long startTime = System.nanoTime();
+        try {
+            MazeResult result = solver.getPath(cells, instance.getStart(), instance.getEnd());
+            long elapsed = System.nanoTime() - startTime;
+            SearchMetrics.complete(result, allocatedBefore);
+            event.finish(name, cells.length, cells[0].length, result, solver.getThreadCount(), warmupRun);
+            boolean found = result.getPath() != null && !result.getPath().isEmpty();
+            return new Run(label, instance, wallDensity, name, iteration, found ? result.getPath().size() - 1 : -1,
+                    result.getVisited().size(), elapsed, found ? "ok" : "sin_camino", result.getMetrics(), footprint,
+                    result instanceof PortfolioResult portfolio ? portfolio.getWinningVariant() : -1);
+        } catch (StackOverflowError e) {
+            event.finish(name, cells.length, cells[0].length, null, solver.getThreadCount(), warmupRun);
+            return new Run(label, instance, wallDensity, name, iteration, -1, 0, System.nanoTime() - startTime,
+                    "desbordamiento_pila", null, footprint, -1);
+        }
+    }
+
+    /** Convierte una repetición en un resultado del registro: una sola medición, sin dispersión. */
+    private static ResultRecord toRecord(Run run, long signature, int threads) {
+        return ResultRecord.builder(run.solver)
+                .timestamp(System.currentTimeMillis())
+                .pathLength(run.pathLength)
+                .timeNanos(run.timeNanos)
+                .mazeSignature(signature)
+                .dimensions(run.rows, run.cols)
+                .wallDensity((float) run.wallDensity)
+                .seed(run.seed)
+                .jvm(ResultRecord.currentJvm())
+                .threads(threads)
+                .metrics(run.metrics)
+                .memory(run.memory != null && run.memory.getRetainedBytes() >= 0 ? run.memory : null) // Sin --memory no hay huella
+                .winningVariant(run.variant)
+                .build();
+    }
+
+    private static MazeInstance load(Path file) throws IOException {
+        return file.getFileName().toString().endsWith(MazeFileFormat.EXTENSION)
+                ? MazeFileFormat.read(file)
+                : AsciiMazeImporter.read(file);
+    }
+
+    private void writeHeader(Writer out) throws IOException {
+        if (format == Format.CSV) {
+            out.write("laberinto,filas,columnas,densidad_muros,semilla,solver,iteracion,longitud_camino,"
+                    + "celdas_visitadas,tiempo_ns,estado,nodos_expandidos,nodos_generados,frontera_maxima,bytes_reservados,"
+                    + "solver_retenido,resultado_retenido,pico_heap,variante\n");
+        } else {
+            out.write("[\n");
+        }
+    }
+
+    private void writeFooter(Writer out) throws IOException {
+        if (format == Format.JSON) {
+            out.write("\n]\n");
+        }
+    }
+
+    private void writeRun(Writer out, Run run, boolean first) throws IOException {
+        if (format == Format.CSV) {
+            out.write(String.format(Locale.ROOT, "%s,%d,%d,%.4f,%d,%s,%d,%d,%d,%d,%s,%d,%d,%d,%d,%d,%d,%d,%d%n",
+                    csv(run.maze), run.rows, run.cols, run.wallDensity, run.seed, run.solver, run.iteration,
+                    run.pathLength, run.visited, run.timeNanos, run.status, run.metrics.getNodesExpanded(),
+                    run.metrics.getNodesGenerated(), run.metrics.getPeakFrontier(), run.metrics.getAllocatedBytes(),
+                    run.memory.getSolverBytes(), run.memory.getResultBytes(), run.memory.getPeakHeapBytes(), run.variant));
+        } else {
+            out.write(String.format(Locale.ROOT, "%s  {\"laberinto\": %s, \"filas\": %d, \"columnas\": %d, "
+                            + "\"densidad_muros\": %.4f, \"semilla\": %d, \"solver\": %s, \"iteracion\": %d, "
+                            + "\"longitud_camino\": %d, \"celdas_visitadas\": %d, \"tiempo_ns\": %d, \"estado\": %s, "
+                            + "\"nodos_expandidos\": %d, \"nodos_generados\": %d, \"frontera_maxima\": %d, \"bytes_reservados\": %d, "
+                            + "\"solver_retenido\": %d, \"resultado_retenido\": %d, \"pico_heap\": %d, \"variante\": %d}",
+                    first ? "" : ",\n", json(run.maze), run.rows, run.cols, run.wallDensity, run.seed, json(run.solver),
+                    run.iteration, run.pathLength, run.visited, run.timeNanos, json(run.status), run.metrics.getNodesExpanded(),
+                    run.metrics.getNodesGenerated(), run.metrics.getPeakFrontier(), run.metrics.getAllocatedBytes(),
+                    run.memory.getSolverBytes(), run.memory.getResultBytes(), run.memory.getPeakHeapBytes(), run.variant));
+        }
+    }
+
+    private static WorkloadSpec parseSpec(String value) {
+        String[] parts = value.split(":");
+        String[] size = parts.length > 1 ? parts[1].toLowerCase(Locale.ROOT).split("x") : new String[0];
+        if (parts.length < 2 || parts.length > 4 || size.length != 2) {
+            throw new IllegalArgumentException("Laberinto de prueba inválido: " + value
+                    + " (se espera TOPOLOGIA:FILASxCOLUMNAS[:DENSIDAD[:SEMILLA]])");
+        }
+        try {
+            MazeTopology topology = parseEnum(MazeTopology.class, parts[0], "Topología desconocida");
+            double density = parts.length > 2 ? Double.parseDouble(parts[2]) : 0.3;
+            long seed = parts.length > 3 ? Long.parseLong(parts[3]) : 42L;
+            return new WorkloadSpec(Integer.parseInt(size[0]), Integer.parseInt(size[1]), topology, density,
+                    EndpointPlacement.FARTHEST_PAIR, seed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inválido en " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String error) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(error + ": " + value + ". Disponibles: " + List.of(type.getEnumConstants()));
+        }
+    }
+
+    private static List<String> parseSolvers(String value) {
+        List<String> names = new ArrayList<>();
+        for (String name : value.split(",")) {
+            String trimmed = name.trim().toUpperCase(Locale.ROOT);
+            if (!SolverFactory.NAMES.contains(trimmed)) {
+                throw new IllegalArgumentException("Solver desconocido: " + name + ". Disponibles: " + SolverFactory.NAMES);
+            }
+            names.add(trimmed);
+        }
+        return names;
+    }
+
+    private static int parseCount(String option, String value, int min) {
+        try {
+            int count = Integer.parseInt(value);
+            if (count >= min) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo
+        }
+        throw new IllegalArgumentException(option + " debe ser un entero mayor o igual que " + min + ": " + value);
+    }
+
+    private static String csv(String text) {
+        return text.contains(",") || text.contains("\"") ? "\"" + text.replace("\"", "\"\"") + "\"" : text;
+    }
+
+    private static String json(String text) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
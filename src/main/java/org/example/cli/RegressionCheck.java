@@ -0,0 +1,158 @@
+package org.example.cli;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+import org.example.results.RegressionReport;
+import org.example.results.ResultRecord;
+import org.example.results.ResultsLog;
+
+/**
+ * Comprobación de regresiones sin interfaz gráfica: compara una ejecución nueva con una línea base,
+ * ambas guardadas como {@link ResultsLog} (con {@code BatchRunner --log} o {@code BenchmarkMain --log}),
+ * y escribe el {@link RegressionReport} en texto o CSV. Ejemplo:
+ * <pre>
+ * java -cp proyecto.jar org.example.cli.BatchRunner --generate PERFECT:257x257 --repeat 30 --log base.log
+ * (cambios en los solvers)
+ * java -cp proyecto.jar org.example.cli.BatchRunner --generate PERFECT:257x257 --repeat 30 --log actual.log
+ * java -cp proyecto.jar org.example.cli.RegressionCheck --baseline base.log --current actual.log
+ * </pre>
+ * <p>Termina con código 1 si hay alguna regresión, para poder usarlo en integración continua.</p>
+ */
+public class RegressionCheck {
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Uso: RegressionCheck --baseline ARCHIVO --current ARCHIVO [opciones]",
+            "  --baseline ARCHIVO       registro de resultados de la línea base",
+            "  --current ARCHIVO        registro de resultados de la ejecución nueva",
+            "  --solvers A,B,...        solo estos solvers (por defecto todos)",
+            "  --alpha P                nivel de significación (por defecto " + RegressionReport.DEFAULT_ALPHA + ")",
+            "  --threshold F            cambio relativo mínimo a informar (por defecto " + RegressionReport.DEFAULT_THRESHOLD + ")",
+            "  --format text|csv        formato del informe (por defecto text)",
+            "  --output ARCHIVO         archivo del informe (por defecto la salida estándar)");
+
+    private Path baseline;
+    private Path current;
+    private List<String> solvers;
+    private double alpha = RegressionReport.DEFAULT_ALPHA;
+    private double threshold = RegressionReport.DEFAULT_THRESHOLD;
+    private boolean csv;
+    private Path output;
+
+    /**
+     * Interpreta los argumentos de la línea de comandos.
+     *
+     * @param args Los argumentos (se describen con {@code --help}).
+     * @return La comprobación configurada.
+     * @throws IllegalArgumentException Si algún argumento no es válido.
+     */
+    public static RegressionCheck parse(String[] args) {
+        RegressionCheck check = new RegressionCheck();
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--baseline" -> check.baseline = Paths.get(value);
+                case "--current" -> check.current = Paths.get(value);
+                case "--solvers" -> check.solvers = List.of(value.toUpperCase(Locale.ROOT).split("\\s*,\\s*"));
+                case "--alpha" -> check.alpha = parseFraction(option, value);
+                case "--threshold" -> check.threshold = parseFraction(option, value);
+                case "--format" -> check.csv = switch (value.toLowerCase(Locale.ROOT)) {
+                    case "text" -> false;
+                    case "csv" -> true;
+                    default -> throw new IllegalArgumentException("Formato desconocido: " + value + ". Disponibles: [text, csv]");
+                };
+                case "--output" -> check.output = Paths.get(value);
+                default -> throw new IllegalArgumentException("Opción desconocida: " + option);
+            }
+        }
+        if (check.baseline == null || check.current == null) {
+            throw new IllegalArgumentException("Indica la línea base con --baseline y la ejecución nueva con --current.");
+        }
+        return check;
+    }
+
+    /**
+     * Lee los dos registros y escribe el informe.
+     *
+     * @return El informe generado.
+     * @throws IOException Si algún registro no se puede leer o el informe no se puede escribir.
+     */
+    public RegressionReport run() throws IOException {
+        RegressionReport report = new RegressionReport(read(baseline), read(current), alpha, threshold);
+        String text = csv ? report.toCsv() : report.toText();
+        if (output != null) {
+            Files.writeString(output, text, StandardCharsets.UTF_8);
+        } else {
+            System.out.print(text);
+            System.out.flush();
+        }
+        return report;
+    }
+
+    /**
+     * Punto de entrada de la comprobación.
+     *
+     * @param args Las opciones (se muestran con {@code --help}).
+     */
+    public static void main(String[] args) {
+        if (args.length == 0 || args[0].equals("--help")) {
+            System.err.println(USAGE);
+            System.exit(args.length == 0 ? 2 : 0);
+        }
+        RegressionCheck check;
+        try {
+            check = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        try {
+            RegressionReport report = check.run();
+            long regressions = report.count(RegressionReport.Verdict.REGRESION);
+            if (regressions > 0) {
+                System.err.println(regressions + " regresiones detectadas.");
+                System.exit(1);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error en la comprobación: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /** Lee un registro existente sin crearlo, filtrando los solvers pedidos. */
+    private List<ResultRecord> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            throw new IOException("No existe el registro " + file);
+        }
+        try (ResultsLog log = new ResultsLog(file)) {
+            List<ResultRecord> records = log.readAll();
+            if (solvers != null) {
+                records.removeIf(record -> !solvers.contains(record.getAlgorithm()));
+            }
+            return records;
+        }
+    }
+
+    private static double parseFraction(String option, String value) {
+        try {
+            double fraction = Double.parseDouble(value);
+            if (fraction >= 0 && fraction < 1) {
+                return fraction;
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo
+        }
+        throw new IllegalArgumentException(option + " debe ser un número entre 0 y 1: " + value);
+    }
+}
@@ -1,26 +1,62 @@
 package org.example.controller;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javax.swing.JOptionPane;
 import javax.swing.SwingWorker;
 
+import org.example.generator.AsciiFileRowSink;
+import org.example.generator.EllerGenerator;
+import org.example.generator.KruskalGenerator;
+import org.example.generator.MazeGenerator;
+import org.example.generator.PrimGenerator;
+import org.example.generator.RecursiveBacktrackerGenerator;
+import org.example.generator.TiledMazeGenerator;
+import org.example.generator.WilsonGenerator;
+import org.example.io.AsciiMazeImporter;
+import org.example.io.MazeCompression;
+import org.example.io.MazeFileFormat;
+import org.example.io.MazeRasterExporter;
+import org.example.io.PngMazeImporter;
+import org.example.io.RasterFormat;
+import org.example.model.BitPackedGrid;
+import org.example.model.BooleanMazeGrid;
 import org.example.model.Cell;
 import org.example.model.Maze;
+import org.example.model.MazeGrid;
+import org.example.model.MazeInstance;
 import org.example.model.MazeResult;
 import org.example.model.MazeSolver;
+import org.example.model.PortfolioResult;
+import org.example.model.RouteResult;
+import org.example.model.SearchMetrics;
+import org.example.monitoring.AnimationFrameEvent;
+import org.example.monitoring.ResultProcessingEvent;
+import org.example.monitoring.SolveEvent;
+import org.example.results.MemoryProfiler;
+import org.example.results.ResultRecord;
+import org.example.results.ResultsLog;
+import org.example.results.TimingStats;
+import org.example.solver.ExternalMemoryBFS;
 import org.example.solver.MazeSolverBFS;
 import org.example.solver.MazeSolverDFS;
+import org.example.solver.MazeSolverDFSPortfolio;
 import org.example.solver.MazeSolverRecursive;
 import org.example.solver.MazeSolverRecursiveComplet;
 import org.example.solver.MazeSolverRecursiveCompletBT;
-import org.example.view.MazeCellPanel;
+import org.example.solver.MazeSolverTremaux;
+import org.example.solver.MazeSolverWallFollower;
+import org.example.solver.MazeSolverWaypoints;
+import org.example.solver.OptimizedMazeSolver;
+import org.example.view.MazeCanvas;
 import org.example.view.MazeView;
 
 /**
@@ -42,8 +78,9 @@ public final class MazeController {
 
     private Cell startCell;
     private Cell endCell;
-
-    private final Map<String, MazeSolver> solversMap;
+    private final List<Cell> waypoints = new ArrayList<>();
+    private long lastSeed = 0;
+    private MazeResult lastResult;
 
     // Listas para la animación
     public List<Cell> currentVisitedCellsAnimation;
@@ -54,11 +91,14 @@ public final class MazeController {
     public AtomicInteger visitedIndex;
     private boolean isAnimationRunning = false;
     private volatile boolean isAnimatingPathPhase = false;
-    private final int ANIMATION_DELAY_MS = 130;// Retraso en milisegundos
+    private final int ANIMATION_DELAY_MS = 130;// Retraso máximo entre fotogramas, en milisegundos
+    private final int ANIMATION_MAX_FRAMES = 100; // Fotogramas por fase como mucho: en laberintos grandes cada uno pinta varias celdas
+    private final int ANIMATION_PHASE_MS = 3000; // Duración máxima de cada fase (visitadas y camino), en milisegundos
+    private static final int EXPORT_CELL_SIZE = 8; // Píxeles por celda en las imágenes exportadas
 
     /**
      * Construye una nueva instancia de {MazeController}.
-     * Inicializa la vista del laberinto, el modelo del laberinto y los solucionadores disponibles.
+     * Inicializa la vista del laberinto y el modelo del laberinto.
      *
      * @param view La instancia de {MazeView} asociada a este controlador.
      * @param initialRows El número inicial de filas para el laberinto.
@@ -69,13 +109,6 @@ public final class MazeController {
         this.maze = new Maze(new boolean[initialRows][initialCols]);
         initializeMazeGrid(initialRows, initialCols);
 
-        this.solversMap = new HashMap<>();
-        solversMap.put("Metodo Recursivo", new MazeSolverRecursive());
-        solversMap.put("Metodo Recursivo Completo", new MazeSolverRecursiveComplet());
-        solversMap.put("Metodo Recursivo Completo BT", new MazeSolverRecursiveCompletBT());
-        solversMap.put("Metodo DFS", new MazeSolverDFS());
-        solversMap.put("Metodo BFS", new MazeSolverBFS());
-
         this.animationIndex = new AtomicInteger(0);
         this.pathAnimationIndex = new AtomicInteger(0);
         this.visitedIndex = new AtomicInteger(0);
@@ -97,6 +130,242 @@ public final class MazeController {
         this.maze.setGrid(newGrid);
     }
 
+    /**
+     * Genera un laberinto con el algoritmo indicado, del tamaño de la cuadrícula actual, y lo carga en la vista.
+     * Se borran las celdas de inicio, fin y puntos intermedios, ya que los muros cambian por completo.
+     *
+     * @param algorithmName El nombre del generador a utilizar.
+     * @param seed La semilla del generador; la misma semilla produce el mismo laberinto.
+     */
+    public void generateMaze(String algorithmName, long seed) {
+        MazeGenerator generator = createGenerator(algorithmName);
+        if (generator == null) {
+            showMessage("Generador no reconocido.", "Error", "ERROR");
+            return;
+        }
+        MazeCanvas canvas = view.getMazeCanvas();
+        BitPackedGrid grid = new BitPackedGrid(canvas.getRows(), canvas.getCols());
+
+        long startTime = System.nanoTime();
+        generator.generate(grid, seed);
+        long endTime = System.nanoTime();
+        System.out.println("Laberinto generado con " + algorithmName + " (semilla " + seed + ") en " + (endTime - startTime) + " ns.");
+
+        resetMaze();
+        lastSeed = seed;
+        maze.setGrid(grid.toBooleanGrid());
+        view.loadGrid(maze.getGrid());
+    }
+
+    /**
+     * Guarda el laberinto dibujado en la vista (muros, inicio, fin y la semilla si se generó)
+     * en formato binario {@link MazeFileFormat}.
+     *
+     * @param file El archivo de salida.
+     * @param compression La compresión del cuerpo del archivo.
+     */
+    public void saveMaze(File file, MazeCompression compression) {
+        boolean[][] grid = view.getGridState();
+        maze.setGrid(grid);
+        MazeInstance instance = new MazeInstance(BitPackedGrid.fromBooleanGrid(grid), startCell, endCell, lastSeed);
+        try {
+            MazeFileFormat.write(file.toPath(), instance, compression);
+            System.out.println("Laberinto guardado en " + file.getAbsolutePath() + " (" + file.length() + " bytes, " + compression + ").");
+            showMessage("Laberinto guardado en " + file.getName() + " (" + file.length() + " bytes).", "Éxito", "INFORMATION");
+        } catch (IOException e) {
+            System.err.println("Error al guardar el laberinto: " + e.getMessage());
+            showMessage("No se pudo guardar el laberinto: " + e.getMessage(), "Error", "ERROR");
+        }
+    }
+
+    /**
+     * Abre un archivo de laberinto mapeándolo en memoria (sin copiarlo al heap si no está comprimido).
+     *
+     * @param file El archivo a abrir.
+     * @return El laberinto abierto, o null si no se pudo leer (se informa al usuario).
+     */
+    public MazeInstance openMaze(File file) {
+        try {
+            MazeInstance instance = MazeFileFormat.map(file.toPath());
+            System.out.println("Laberinto abierto: " + instance);
+            return instance;
+        } catch (IOException e) {
+            System.err.println("Error al abrir el laberinto: " + e.getMessage());
+            showMessage("No se pudo abrir el laberinto: " + e.getMessage(), "Error", "ERROR");
+            return null;
+        }
+    }
+
+    /**
+     * Exporta el laberinto dibujado en la vista y su última resolución (si la hay) a una imagen,
+     * en segundo plano. La imagen se genera por franjas en varios hilos con {@link MazeRasterExporter}.
+     *
+     * @param file El archivo de salida.
+     * @param format El formato de imagen.
+     * @param colourByOrder Si las celdas visitadas se colorean según su orden de visita.
+     */
+    public void exportImage(File file, RasterFormat format, boolean colourByOrder) {
+        boolean[][] grid = view.getGridState();
+        Cell start = view.getSelectedStartCell();
+        Cell end = view.getSelectedEndCell();
+        MazeResult result = lastResult;
+        new SwingWorker<Long, Void>() {
+            @Override
+            protected Long doInBackground() throws IOException {
+                long startTime = System.nanoTime();
+                MazeRasterExporter exporter = new MazeRasterExporter(EXPORT_CELL_SIZE, colourByOrder,
+                        Runtime.getRuntime().availableProcessors());
+                exporter.export(new BooleanMazeGrid(grid), start, end, result, file.toPath(), format);
+                return System.nanoTime() - startTime;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    showMessage("Imagen exportada en " + file.getName() + " en " + get() + " ns.", "Éxito", "INFORMATION");
+                } catch (InterruptedException | ExecutionException e) {
+                    System.err.println("Error al exportar la imagen: " + e.getMessage());
+                    showMessage("No se pudo exportar la imagen: " + e.getMessage(), "Error", "ERROR");
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Importa un laberinto dibujado como imagen (PNG u otro formato de imagen, según la extensión) o
+     * como texto ASCII. Las filas se vuelcan en streaming a una cuadrícula de un bit por celda.
+     *
+     * @param file El archivo a importar.
+     * @return El laberinto importado, o null si no se pudo leer (se informa al usuario).
+     */
+    public MazeInstance importMaze(File file) {
+        String name = file.getName().toLowerCase();
+        boolean image = name.endsWith(".png") || name.endsWith(".gif") || name.endsWith(".bmp") || name.endsWith(".jpg");
+        try {
+            long startTime = System.nanoTime();
+            MazeInstance instance = image ? PngMazeImporter.read(file.toPath()) : AsciiMazeImporter.read(file.toPath());
+            long endTime = System.nanoTime();
+            System.out.println("Laberinto importado en " + (endTime - startTime) + " ns: " + instance);
+            return instance;
+        } catch (IOException e) {
+            System.err.println("Error al importar el laberinto: " + e.getMessage());
+            showMessage("No se pudo importar el laberinto: " + e.getMessage(), "Error", "ERROR");
+            return null;
+        }
+    }
+
+    /**
+     * Carga en el modelo y en la vista un laberinto abierto desde archivo, incluidas sus celdas
+     * de inicio y fin. La cuadrícula de la vista debe tener las mismas dimensiones.
+     *
+     * @param instance El laberinto a cargar.
+     */
+    public void loadMaze(MazeInstance instance) {
+        resetMaze();
+        lastSeed = instance.getSeed();
+        maze.setGrid(instance.getGrid().toBooleanGrid());
+        view.loadGrid(maze.getGrid());
+        view.applyEndpoints(instance.getStart(), instance.getEnd());
+    }
+
+    /**
+     * Resuelve con BFS, en segundo plano y sin mostrarlo, un laberinto abierto demasiado grande para
+     * la vista. El modelo usa la cuadrícula del archivo como backend (mapeada, fuera del heap) y,
+     * por encima de {@link MazeSolverBFS#OFF_HEAP_THRESHOLD} celdas, el solver también reserva sus
+     * arreglos de trabajo fuera del heap; por encima de {@link ExternalMemoryBFS#THRESHOLD} celdas se usa
+     * el BFS en memoria externa, que guarda los niveles en disco. Solo se informa la longitud del camino y el tiempo.
+     *
+     * @param instance El laberinto abierto, con sus celdas de inicio y fin.
+     */
+    public void solveLargeMaze(MazeInstance instance) {
+        if (instance.getStart() == null || instance.getEnd() == null) {
+            showMessage("El laberinto no tiene celdas de inicio y fin guardadas.", "Advertencia", "WARNING");
+            return;
+        }
+        Maze largeMaze = new Maze(instance.getGrid());
+        long cells = (long) instance.getGrid().getRows() * instance.getGrid().getCols();
+        MazeSolver solver = cells > ExternalMemoryBFS.THRESHOLD ? new ExternalMemoryBFS() : new MazeSolverBFS();
+        new SwingWorker<MazeResult, Void>() {
+            private long elapsed;
+
+            @Override
+            protected MazeResult doInBackground() {
+                SolveEvent event = new SolveEvent();
+                event.begin();
+                long startTime = System.nanoTime();
+                MazeResult result = solver.getPath(largeMaze.getBackend(), instance.getStart(), instance.getEnd());
+                elapsed = System.nanoTime() - startTime;
+                event.finish(solver.getClass().getSimpleName(), largeMaze.getBackend().getRows(), largeMaze.getBackend().getCols(),
+                        result, solver.getThreadCount(), false);
+                return result;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    List<Cell> path = get().getPath();
+                    System.out.println("BFS sobre laberinto grande: camino de " + path.size() + " celdas en " + elapsed + " ns.");
+                    if (path.isEmpty()) {
+                        showMessage("No se encontró un camino (" + elapsed + " ns).", "Resultado", "INFORMATION");
+                    } else {
+                        showMessage("Camino de " + path.size() + " celdas encontrado en " + elapsed + " ns.", "Resultado", "INFORMATION");
+                    }
+                } catch (InterruptedException | ExecutionException e) {
+                    System.err.println("Error al resolver el laberinto grande: " + e.getMessage());
+                    showMessage("No se pudo resolver el laberinto: " + e.getMessage(), "Error", "ERROR");
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Genera un laberinto con el algoritmo de Eller y lo escribe directamente en un archivo de texto,
+     * fila a fila, sin mantenerlo en memoria. Se ejecuta en segundo plano para no bloquear la interfaz.
+     *
+     * @param rows El número de filas del laberinto.
+     * @param cols El número de columnas del laberinto.
+     * @param seed La semilla del generador.
+     * @param file El archivo de salida.
+     */
+    public void generateMazeToFile(int rows, int cols, long seed, File file) {
+        new SwingWorker<Long, Void>() {
+            @Override
+            protected Long doInBackground() throws IOException {
+                long startTime = System.nanoTime();
+                new EllerGenerator().generate(rows, cols, seed, new AsciiFileRowSink(file.toPath()));
+                return System.nanoTime() - startTime;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    showMessage("Laberinto de " + rows + "x" + cols + " escrito en " + file.getName() + " en " + get() + " ns.", "Éxito", "INFORMATION");
+                } catch (InterruptedException | ExecutionException e) {
+                    System.err.println("Error al generar el laberinto en archivo: " + e.getMessage());
+                    showMessage("No se pudo escribir el laberinto: " + e.getMessage(), "Error", "ERROR");
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Crea el generador correspondiente al nombre seleccionado en la vista.
+     *
+     * @param algorithmName El nombre del generador.
+     * @return El generador, o null si el nombre no es reconocido.
+     */
+    private MazeGenerator createGenerator(String algorithmName) {
+        return switch (algorithmName) {
+            case "Backtracking Recursivo" -> new RecursiveBacktrackerGenerator();
+            case "Kruskal" -> new KruskalGenerator();
+            case "Prim" -> new PrimGenerator();
+            case "Wilson" -> new WilsonGenerator();
+            case "Eller" -> new EllerGenerator();
+            case "Teselas en Paralelo" -> new TiledMazeGenerator();
+            default -> null;
+        };
+    }
+
     /**
      * Inicia el proceso de resolución del laberinto usando el algoritmo seleccionado.
      * Muestra el camino encontrado y las celdas visitadas.
@@ -110,66 +379,227 @@ public final class MazeController {
         }
 
         // Obtener el estado actual de los muros desde la vista
-        boolean[][] grid = view.getCellPanelsState();
+        boolean[][] grid = view.getGridState();
         maze.setGrid(grid); // Actualizar el grid del modelo con los muros de la vista
 
-        MazeSolver solver;
-        long startTime;
-        long endTime;
-        MazeResult result;
-
-        // Determinar el solver y ejecutar
-        switch (algorithmName) {
-            case "Metodo Recursivo" -> {
-                solver = new MazeSolverRecursive();
-                startTime = System.nanoTime();
-                result = solver.getPath(maze.getGrid(), startCell, endCell);
-                endTime = System.nanoTime();
-                processAndDisplayResults(result, "Metodo Recursivo", (endTime - startTime));
-            }
-            case "Metodo Recursivo Completo" -> {
-                solver = new MazeSolverRecursiveComplet();
-                startTime = System.nanoTime();
-                result = solver.getPath(maze.getGrid(), startCell, endCell);
-                endTime = System.nanoTime();
-                processAndDisplayResults(result, "Metodo Recursivo Completo", (endTime - startTime));
-            }
-            case "Metodo Recursivo Completo BT" -> {
-                solver = new MazeSolverRecursiveCompletBT();
-                startTime = System.nanoTime();
-                result = solver.getPath(maze.getGrid(), startCell, endCell);
-                endTime = System.nanoTime();
-                processAndDisplayResults(result, "Metodo Recursivo Completo BT", (endTime - startTime));
-            }
-            case "Metodo BFS" -> {
-                solver = new MazeSolverBFS();
-                startTime = System.nanoTime();
-                result = solver.getPath(maze.getGrid(), startCell, endCell);
-                endTime = System.nanoTime();
-                processAndDisplayResults(result, "Metodo BFS", (endTime - startTime));
+        MazeSolver solver = createSolver(algorithmName);
+        if (solver == null) {
+            showMessage("Algoritmo no reconocido.", "Error", "ERROR");
+            return;
+        }
+        String methodName = resultName(algorithmName);
+
+        if (view.isStatisticalTimingEnabled() || view.isMemoryProfilingEnabled()) {
+            // El perfilado fuerza recolecciones completas: también se hace en segundo plano
+            boolean statistical = view.isStatisticalTimingEnabled();
+            measureInBackground(solver, methodName, statistical ? view.getWarmupIterations() : 0,
+                    statistical ? view.getMeasuredIterations() : 1,
+                    view.isMemoryProfilingEnabled() ? () -> createSolver(algorithmName) : null);
+            return;
+        }
+
+        // Ejecutar el solver midiendo el tiempo (incluye la optimización del camino si está activa)
+        SolveEvent event = new SolveEvent();
+        event.begin();
+        long allocatedBefore = SearchMetrics.allocatedBytes();
+        long startTime = System.nanoTime();
+        MazeResult result = solver.getPath(maze.getGrid(), startCell, endCell);
+        long endTime = System.nanoTime();
+        SearchMetrics.complete(result, allocatedBefore);
+        event.finish(methodName, maze.getGrid().length, maze.getGrid()[0].length, result, solver.getThreadCount(), false);
+        logPortfolioWinner(result);
+        processAndDisplayResults(result, methodName, TimingStats.of(endTime - startTime), solver.getThreadCount(), null);
+    }
+
+    /**
+     * Resuelve el laberinto varias veces en segundo plano: primero unas rondas de calentamiento sin medir
+     * (carga de clases y compilación del JIT) y después las iteraciones medidas, de las que se informa la
+     * mediana y su dispersión en lugar de una sola medición en frío. Si se pide, después se perfila la
+     * memoria con un solver nuevo ({@link MemoryProfiler}), fuera de las iteraciones medidas. Al terminar
+     * se anima el resultado de la última iteración.
+     *
+     * @param solver El solver a medir; la misma instancia se usa en todas las iteraciones.
+     * @param methodName El nombre con el que se registra el resultado.
+     * @param warmup Las rondas de calentamiento.
+     * @param iterations Las iteraciones medidas (al menos 1).
+     * @param profiledSolver Crea el solver cuya memoria se perfila, o null para no perfilarla.
+     */
+    private void measureInBackground(MazeSolver solver, String methodName, int warmup, int iterations,
+                                     Supplier<MazeSolver> profiledSolver) {
+        boolean[][] grid = maze.getGrid();
+        Cell start = startCell;
+        Cell end = endCell;
+        System.out.println("Midiendo " + methodName + ": " + warmup + " rondas de calentamiento y " + iterations + " iteraciones...");
+        new SwingWorker<MazeResult, Void>() {
+            private TimingStats timing;
+            private MemoryProfiler.Footprint memory;
+
+            @Override
+            protected MazeResult doInBackground() {
+                for (int i = 0; i < warmup; i++) {
+                    SolveEvent event = new SolveEvent();
+                    event.begin();
+                    long allocatedBefore = SearchMetrics.allocatedBytes();
+                    MazeResult result = solver.getPath(grid, start, end);
+                    SearchMetrics.complete(result, allocatedBefore);
+                    event.finish(methodName, grid.length, grid[0].length, result, solver.getThreadCount(), true);
+                }
+                long[] samples = new long[Math.max(1, iterations)];
+                MazeResult result = null;
+                for (int i = 0; i < samples.length; i++) {
+                    SolveEvent event = new SolveEvent();
+                    event.begin();
+                    long allocatedBefore = SearchMetrics.allocatedBytes();
+                    long startTime = System.nanoTime();
+                    result = solver.getPath(grid, start, end);
+                    samples[i] = System.nanoTime() - startTime;
+                    // Las métricas se completan antes de cerrar el evento, que copia los bytes reservados
+                    SearchMetrics.complete(result, allocatedBefore);
+                    event.finish(methodName, grid.length, grid[0].length, result, solver.getThreadCount(), false);
+                }
+                timing = TimingStats.of(samples);
+                if (profiledSolver != null) {
+                    memory = MemoryProfiler.profile(profiledSolver, grid, start, end);
+                    System.out.println("Memoria de " + methodName + ": " + memory);
+                }
+                return result;
             }
-            case "Metodo DFS" -> {
-                solver = new MazeSolverDFS();
-                startTime = System.nanoTime();
-                result = solver.getPath(maze.getGrid(), startCell, endCell);
-                endTime = System.nanoTime();
-                processAndDisplayResults(result, "Metodo DFS", (endTime - startTime));
+
+            @Override
+            protected void done() {
+                try {
+                    MazeResult result = get();
+                    logPortfolioWinner(result);
+                    processAndDisplayResults(result, methodName, timing, solver.getThreadCount(), memory);
+                } catch (InterruptedException | ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    showMessage("Error al medir " + methodName + ": " + cause, "Error", "ERROR");
+                }
             }
-            default -> {
-                showMessage("Algoritmo no reconocido.", "Error", "ERROR");
+        }.execute();
+    }
+
+    /**
+     * Registra una resolución del laberinto del modelo sin bloquear el hilo de eventos: aquí solo se toman
+     * el laberinto, sus extremos y su semilla; la firma y la densidad de muros, que recorren todas las
+     * celdas, se calculan en segundo plano, y el resultado se deja en la cola del escritor de resultados.
+     *
+     * @param methodName El nombre con el que se registra el método.
+     * @param result El resultado del solver, con su camino y sus métricas de búsqueda.
+     * @param timing Las mediciones del tiempo de resolución.
+     * @param threads Los hilos que usó el solver.
+     * @param memory La huella de memoria de la resolución, o null si no se perfiló.
+     */
+    private void recordInBackground(String methodName, MazeResult result, TimingStats timing, int threads,
+                                    MemoryProfiler.Footprint memory) {
+        MazeGrid grid = maze.getBackend();
+        Cell start = startCell;
+        Cell end = endCell;
+        long seed = lastSeed;
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() {
+                view.addSolverResult(newResultRecord(grid, start, end, seed, methodName, result, timing, threads, memory));
+                return null;
             }
+        }.execute();
+    }
+
+    /**
+     * Construye el registro de una resolución, con la firma del laberinto (que agrupa las ejecuciones
+     * sobre el mismo laberinto), sus dimensiones, su densidad de muros, su semilla y el entorno. Recorre
+     * todas las celdas, así que no debe llamarse desde el hilo de eventos.
+     *
+     * @param grid El laberinto resuelto.
+     * @param start La celda de inicio.
+     * @param end La celda de fin.
+     * @param seed La semilla con que se generó el laberinto, o 0.
+     * @param methodName El nombre con el que se registra el método.
+     * @param result El resultado del solver, con su camino y sus métricas de búsqueda.
+     * @param timing Las mediciones del tiempo de resolución.
+     * @param threads Los hilos que usó el solver.
+     * @param memory La huella de memoria de la resolución, o null si no se perfiló.
+     * @return El resultado listo para registrar.
+     */
+    private static ResultRecord newResultRecord(MazeGrid grid, Cell start, Cell end, long seed, String methodName,
+                                                MazeResult result, TimingStats timing, int threads,
+                                                MemoryProfiler.Footprint memory) {
+        int pathLength = result.getPath() == null || result.getPath().isEmpty() ? -1 : result.getPath().size() - 1;
+        long cells = (long) grid.getRows() * grid.getCols();
+        float wallDensity = cells == 0 ? Float.NaN : (float) (cells - grid.countOpen()) / cells;
+        return ResultRecord.builder(methodName)
+                .timestamp(System.currentTimeMillis())
+                .pathLength(pathLength)
+                .timeNanos(timing.getMedian())
+                .mazeSignature(ResultsLog.signature(grid, start, end))
+                .dimensions(grid.getRows(), grid.getCols())
+                .wallDensity(wallDensity)
+                .seed(seed)
+                .jvm(ResultRecord.currentJvm())
+                .threads(threads)
+                .timing(timing.getIterations(), timing.getMedianAbsoluteDeviation())
+                .metrics(result.getMetrics())
+                .memory(memory)
+                .winningVariant(result instanceof PortfolioResult portfolio ? portfolio.getWinningVariant() : -1)
+                .build();
+    }
+
+    /**
+     * Crea el solver correspondiente al nombre del algoritmo seleccionado en la vista.
+     * Si la optimización de camino está activada en la vista, el solver se envuelve en un
+     * {OptimizedMazeSolver} para acortar el camino tras la resolución.
+     *
+     * @param algorithmName El nombre del algoritmo.
+     * @return El solver listo para usar, o null si el algoritmo no es reconocido.
+     */
+    private MazeSolver createSolver(String algorithmName) {
+        MazeSolver solver = switch (algorithmName) {
+            case "Metodo Recursivo" -> new MazeSolverRecursive();
+            case "Metodo Recursivo Completo" -> new MazeSolverRecursiveComplet();
+            case "Metodo Recursivo Completo BT" -> new MazeSolverRecursiveCompletBT();
+            case "Metodo BFS" -> new MazeSolverBFS();
+            case "Metodo DFS" -> new MazeSolverDFS();
+            case "Metodo DFS Portafolio" -> new MazeSolverDFSPortfolio();
+            // La vista anima las celdas visitadas: traza completa
+            case "Metodo Seguidor de Pared" -> new MazeSolverWallFollower(false, 1);
+            case "Metodo Tremaux" -> new MazeSolverTremaux(1);
+            case "Ruta con Puntos Intermedios" -> new MazeSolverWaypoints(waypoints);
+            default -> null;
+        };
+        if (solver != null && view.isPathOptimizationEnabled()) {
+            solver = new OptimizedMazeSolver(solver);
         }
+        return solver;
+    }
+
+    /**
+     * Devuelve el nombre con el que se registra un resultado, distinguiendo las ejecuciones
+     * con optimización de camino para poder comparar ambas estrategias.
+     *
+     * @param algorithmName El nombre del algoritmo.
+     * @return El nombre del resultado.
+     */
+    private String resultName(String algorithmName) {
+        return view.isPathOptimizationEnabled() ? algorithmName + " + Optimizado" : algorithmName;
     }
 
     /**
      * Procesa los resultados de un algoritmo de resolución y los muestra de forma animada.
-     * Este método ahora inicia un SwingWorker para la animación gradual.
+     * El resultado se registra antes de empezar la animación, de modo que no se pierde si la animación
+     * se cancela, se cierra la ventana o empieza otra resolución. Después se inicia un SwingWorker para la
+     * animación gradual, que dura como mucho {@code ANIMATION_PHASE_MS} por fase sea cual sea el tamaño
+     * del laberinto.
      *
      * @param result El MazeResult obtenido del solver.
      * @param methodName El nombre del método que generó el resultado.
-     * @param elapsedTime El tiempo que tardó el algoritmo en nanosegundos.
+     * @param timing Las mediciones del tiempo que tardó el algoritmo.
+     * @param threads Los hilos que usó el solver.
+     * @param memory La huella de memoria de la resolución, o null si no se perfiló.
      */
-    private void processAndDisplayResults(MazeResult result, String methodName, long elapsedTime) {
+    private void processAndDisplayResults(MazeResult result, String methodName, TimingStats timing, int threads,
+                                          MemoryProfiler.Footprint memory) {
+        recordInBackground(methodName, result, timing, threads, memory);
+
         // Si ya hay una animación corriendo, la detenemos o mostramos un mensaje
         if (isAnimationRunning) {
             showMessage("Ya hay una animación en curso. Deteniendo la animación anterior para iniciar una nueva.", "Advertencia", "WARNING");
@@ -179,6 +609,8 @@ public final class MazeController {
         }
 
         // Limpiar colores previos y reiniciar índices de animación para la nueva ejecución
+        ResultProcessingEvent processingEvent = new ResultProcessingEvent();
+        processingEvent.begin();
         resetPathColorsInView(); // Llama a MazeView para limpiar el panel
         resetAnimationIndices(); // Reinicia los índices y las listas para la animación manual, aunque no se usen aquí directamente
         isAnimationRunning = true; // Marcamos que una animación automática está activa
@@ -188,62 +620,86 @@ public final class MazeController {
         // Almacenar los resultados para que el SwingWorker los use.
         // Convertimos el Set<Cell> a List<Cell> para garantizar un orden de publicación predecible.
         // Asegúrate de que MazeResult.getVisited() devuelve Set<Cell>
+        this.lastResult = result;
         this.currentVisitedCellsAnimation = new ArrayList<>(result.getVisited());
         this.currentPathCellsAnimation = result.getPath();
+        int rows = maze.getGrid().length;
+        int cols = maze.getGrid()[0].length;
+        processingEvent.finish(methodName, rows, cols, currentVisitedCellsAnimation.size(),
+                currentPathCellsAnimation != null ? currentPathCellsAnimation.size() : 0);
 
         // Crear y ejecutar el SwingWorker para la animación
         animationWorker = new SwingWorker<Void, Cell>() {
             @Override
             protected Void doInBackground() throws Exception {
-                // 1. Animar PRIMERO todas las celdas visitadas
-                for (Cell cell : currentVisitedCellsAnimation) {
-                    if (isCancelled()) return null; // Salir si la animación se cancela
-                    // Publica la celda solo si no es inicio/fin o muro
-                    if (!cell.equals(startCell) && !cell.equals(endCell) && maze.getGrid()[cell.getRow()][cell.getCol()]) {
-                        publish(cell); // Envía la celda al método process (en el EDT)
-                    }
-                    Thread.sleep(ANIMATION_DELAY_MS); // Retardo para el efecto de animación
+                // 1. Animar PRIMERO todas las celdas visitadas (solo las que no son inicio/fin ni muro)
+                if (!animatePhase(currentVisitedCellsAnimation,
+                        cell -> !isMarkedCell(cell) && maze.getGrid()[cell.getRow()][cell.getCol()])) {
+                    return null; // Salir si la animación se cancela
                 }
 
-                if (!isCancelled()) {
-                    Thread.sleep(ANIMATION_DELAY_MS); // Por ejemplo, el triple del delay normal
-                    isAnimatingPathPhase = true; // Cambiamos a la fase de animación del camino
-                }
+                Thread.sleep(ANIMATION_DELAY_MS); // Pausa entre las dos fases
+                isAnimatingPathPhase = true; // Cambiamos a la fase de animación del camino
 
-                // 2. Animar LUEGO el camino final
+                // 2. Animar LUEGO el camino final (sin repintar inicio ni fin)
                 if (currentPathCellsAnimation != null && !currentPathCellsAnimation.isEmpty()) {
-                    for (Cell cell : currentPathCellsAnimation) {
-                        if (isCancelled()) return null; // Salir si la animación se cancela
-                        // Solo publica la celda del camino si no es inicio o fin
-                        if (!cell.equals(startCell) && !cell.equals(endCell)) {
-                            publish(cell); // Envía la celda al método process (en el EDT)
+                    animatePhase(currentPathCellsAnimation, cell -> !isMarkedCell(cell));
+                }
+                return null;
+            }
+
+            /**
+             * Publica las celdas de una fase en como mucho {@code ANIMATION_MAX_FRAMES} fotogramas: con
+             * pocas celdas, una por fotograma y {@code ANIMATION_DELAY_MS} entre ellas; con muchas, varias
+             * por fotograma y un retardo menor, de modo que la fase dura como mucho {@code ANIMATION_PHASE_MS}.
+             *
+             * @return false si la animación se canceló.
+             */
+            private boolean animatePhase(List<Cell> cells, Predicate<Cell> painted) throws InterruptedException {
+                int frames = Math.max(1, Math.min(cells.size(), ANIMATION_MAX_FRAMES));
+                int cellsPerFrame = (cells.size() + frames - 1) / frames;
+                long frameDelay = Math.min(ANIMATION_DELAY_MS, ANIMATION_PHASE_MS / frames);
+                List<Cell> frame = new ArrayList<>(cellsPerFrame);
+                for (int first = 0; first < cells.size(); first += cellsPerFrame) {
+                    if (isCancelled()) return false;
+                    frame.clear();
+                    for (Cell cell : cells.subList(first, Math.min(cells.size(), first + cellsPerFrame))) {
+                        if (painted.test(cell)) {
+                            frame.add(cell);
                         }
-                        Thread.sleep(ANIMATION_DELAY_MS); // Retardo para el efecto de animación
                     }
+                    if (!frame.isEmpty()) {
+                        publish(frame.toArray(new Cell[0])); // Envía el fotograma al método process (en el EDT)
+                    }
+                    Thread.sleep(frameDelay); // Retardo para el efecto de animación
                 }
-                return null;
+                return !isCancelled();
             }
 
             @Override
             protected void process(List<Cell> chunks) {
                 // Este método se ejecuta en el Event Dispatch Thread (EDT)
                 // Se encarga de actualizar la interfaz de usuario de forma segura.
+                AnimationFrameEvent frameEvent = new AnimationFrameEvent();
+                frameEvent.begin();
+                boolean pathPhase = isAnimatingPathPhase;
                 for (Cell cell : chunks) {
                     // Lógica modificada para pintar según la fase actual
                     if (isAnimatingPathPhase) { // Si estamos en la fase de pintar el camino
-                        if (!cell.equals(startCell) && !cell.equals(endCell)) {
+                        if (!isMarkedCell(cell)) {
                             view.updateCell(cell.getRow(), cell.getCol(), MazeView.PATH_COLOR);
                         }
                     } else { // Si estamos en la fase de pintar las celdas visitadas
                         // Solo pinta si no es inicio/fin y no es un muro
-                        if (!cell.equals(startCell) && !cell.equals(endCell) && maze.getGrid()[cell.getRow()][cell.getCol()]) {
+                        if (!isMarkedCell(cell) && maze.getGrid()[cell.getRow()][cell.getCol()]) {
                             view.updateCell(cell.getRow(), cell.getCol(), MazeView.VISITED_COLOR);
                         }
                     }
-                    // Asegurar que inicio y fin siempre mantengan sus colores correctos
-                    view.updateCell(startCell.getRow(), startCell.getCol(), MazeView.START_COLOR);
-                    view.updateCell(endCell.getRow(), endCell.getCol(), MazeView.END_COLOR);
                 }
+                // Asegurar que inicio y fin siempre mantengan sus colores correctos
+                view.updateCell(startCell.getRow(), startCell.getCol(), MazeView.START_COLOR);
+                view.updateCell(endCell.getRow(), endCell.getCol(), MazeView.END_COLOR);
+                frameEvent.finish(methodName, rows, cols, pathPhase, chunks.size());
             }
 
             @Override
@@ -259,13 +715,11 @@ public final class MazeController {
                 try {
                     // Llamar a get() para propagar cualquier excepción que haya ocurrido en doInBackground
                     get();
-                    // Mostrar el mensaje final y guardar los resultados SOLO UNA VEZ al final de la animación
+                    // Mostrar el mensaje final; el resultado ya se registró antes de animar
                     if (result.getPath() != null && !result.getPath().isEmpty()) {
-                        showMessage("Camino encontrado por " + methodName + " en " + elapsedTime + " ns. Longitud: " + (result.getPath().size() - 1) + " celdas.", "Éxito", "INFORMATION");
-                        view.addSolverResult(methodName, result.getPath().size() - 1, elapsedTime);
+                        showMessage("Camino encontrado por " + methodName + " en " + timing.describe() + ". Longitud: " + (result.getPath().size() - 1) + " celdas.", "Éxito", "INFORMATION");
                     } else {
-                        showMessage("No se encontró camino por " + methodName + " en " + elapsedTime + " ns.", "Sin Camino", "INFORMATION");
-                        view.addSolverResult(methodName, -1, elapsedTime);
+                        showMessage("No se encontró camino por " + methodName + " en " + timing.describe() + ".", "Sin Camino", "INFORMATION");
                     }
                 } catch (InterruptedException | ExecutionException e) { // Catch ambas excepciones
                     // Capturar y manejar excepciones del SwingWorker (ej. InterruptedException si se cancela)
@@ -295,30 +749,30 @@ public final class MazeController {
         if (!isAnimationRunning) { // Si es la primera ejecución paso a paso
             // Esto solo se ejecuta una vez al inicio de un nuevo "paso a paso"
             // Se debe obtener el resultado completo del solver para la animación
-            boolean[][] grid = view.getCellPanelsState();
+            boolean[][] grid = view.getGridState();
             maze.setGrid(grid);
 
-            MazeSolver solver;
-            switch (algorithmName) {
-                case "Metodo Recursivo" -> solver = new MazeSolverRecursive();
-                case "Metodo Recursivo Completo" -> solver = new MazeSolverRecursiveComplet();
-                case "Metodo Recursivo Completo BT" -> solver = new MazeSolverRecursiveCompletBT();
-                case "Metodo BFS" -> solver = new MazeSolverBFS();
-                case "Metodo DFS" -> solver = new MazeSolverDFS();
-                default -> {
-                    showMessage("Algoritmo no reconocido.", "Error", "ERROR"); return;
-                }
+            MazeSolver solver = createSolver(algorithmName);
+            if (solver == null) {
+                showMessage("Algoritmo no reconocido.", "Error", "ERROR"); return;
             }
 
+            SolveEvent event = new SolveEvent();
+            event.begin();
+            long allocatedBefore = SearchMetrics.allocatedBytes();
             long startTime = System.nanoTime();
             MazeResult result = solver.getPath(maze.getGrid(), startCell, endCell);
             long endTime = System.nanoTime();
+            SearchMetrics.complete(result, allocatedBefore);
+            event.finish(resultName(algorithmName), grid.length, grid[0].length, result, solver.getThreadCount(), false);
+            logPortfolioWinner(result);
 
+            lastResult = result;
             Set<Cell> visitedSet = result.getVisited();
             currentVisitedCellsAnimation = new ArrayList<>(visitedSet);
             currentPathCellsAnimation = result.getPath();
 
-            view.addSolverResult(algorithmName, (currentPathCellsAnimation != null ? currentPathCellsAnimation.size() -1 : -1), (endTime - startTime));
+            recordInBackground(resultName(algorithmName), result, TimingStats.of(endTime - startTime), solver.getThreadCount(), null);
 
             isAnimationRunning = true; // En modo "paso a paso", esta bandera podría indicar "animación inicializada"
             animationIndex.set(0);
@@ -331,6 +785,34 @@ public final class MazeController {
         animateNextStep();
     }
 
+    /**
+     * Registra en consola qué variante ganó la carrera cuando el resultado proviene de un
+     * solver de portafolio. El índice de la variante se guarda además con el resultado en el
+     * registro ({@link ResultRecord#getWinningVariant()}), para poder estudiar la varianza entre laberintos.
+     *
+     * @param result El resultado devuelto por el solver.
+     */
+    private void logPortfolioWinner(MazeResult result) {
+        if (result instanceof PortfolioResult portfolio) {
+            System.out.println("Portafolio DFS: ganó la variante " + portfolio.getWinningVariant()
+                    + " (" + portfolio.getWinningDescription() + ") de " + portfolio.getVariantCount() + ".");
+        } else if (result instanceof RouteResult route) {
+            System.out.println("Ruta: orden de puntos intermedios " + route.getWaypointOrder()
+                    + (route.isExactOrder() ? " (exacto)." : " (heurístico)."));
+        }
+    }
+
+    /**
+     * Indica si una celda tiene un papel fijo en el laberinto (inicio, fin o punto intermedio)
+     * y por tanto no debe repintarse durante la animación.
+     *
+     * @param cell La celda a comprobar.
+     * @return true si la celda es el inicio, el fin o un punto intermedio.
+     */
+    private boolean isMarkedCell(Cell cell) {
+        return cell.equals(startCell) || cell.equals(endCell) || waypoints.contains(cell);
+    }
+
     /** Muestra un mensaje al usuario. */
     public void showMessage(String message, String title, String type) {
         int messageType;
@@ -381,14 +863,11 @@ public final class MazeController {
         // Pinta celdas visitadas
         if (!isAnimatingPathPhase && visitedIndex.get() < currentVisitedCellsAnimation.size()) {
             Cell cellToAnimate = currentVisitedCellsAnimation.get(visitedIndex.get());
-            MazeCellPanel panel = view.getCellPanels()[cellToAnimate.getRow()][cellToAnimate.getCol()];
 
             // Solo pinta si no es inicio o fin, y no es un muro
-            if (!cellToAnimate.equals(startCell) && !cellToAnimate.equals(endCell) && maze.getGrid()[cellToAnimate.getRow()][cellToAnimate.getCol()]) {
-                panel.setBackground(MazeView.VISITED_COLOR);
+            if (!isMarkedCell(cellToAnimate) && maze.getGrid()[cellToAnimate.getRow()][cellToAnimate.getCol()]) {
+                view.getMazeCanvas().setCellColor(cellToAnimate.getRow(), cellToAnimate.getCol(), MazeView.VISITED_COLOR);
             }
-            panel.revalidate();
-            panel.repaint();
             visitedIndex.getAndIncrement();
 
             // Si terminamos de pintar las visitadas, cambiamos a la fase del camino
@@ -399,14 +878,11 @@ public final class MazeController {
         // Pinta celdas del camino (una vez que todas las visitadas han sido pintadas)
         else if (isAnimatingPathPhase && currentPathCellsAnimation != null && pathAnimationIndex.get() < currentPathCellsAnimation.size()) {
             Cell pathCell = currentPathCellsAnimation.get(pathAnimationIndex.get());
-            MazeCellPanel panel = view.getCellPanels()[pathCell.getRow()][pathCell.getCol()];
 
             // Solo pinta si no es inicio o fin
-            if (!pathCell.equals(startCell) && !pathCell.equals(endCell)) {
-                panel.setBackground(MazeView.PATH_COLOR);
+            if (!isMarkedCell(pathCell)) {
+                view.getMazeCanvas().setCellColor(pathCell.getRow(), pathCell.getCol(), MazeView.PATH_COLOR);
             }
-            panel.revalidate();
-            panel.repaint();
             pathAnimationIndex.getAndIncrement();
         }
         // Animación terminada
@@ -463,6 +939,8 @@ public final class MazeController {
 
         startCell = null;
         endCell = null;
+        lastResult = null;
+        waypoints.clear();
         if(view != null) {
             view.resetSelectedCells();
         }
@@ -477,29 +955,20 @@ public final class MazeController {
     public void resetPathColorsInView() {
         stopAnimation();
         if (view == null) return;
-        MazeCellPanel[][] panels = view.getCellPanels();
-        if (panels == null) return;
-
-        for (int i = 0; i < panels.length; i++) {
-            for (int j = 0; j < panels[0].length; j++) {
-                MazeCellPanel cellPanel = panels[i][j];
-
-                // Prioridad: inicio/fin, luego obstáculos, luego caminos normales
-                if (view.getSelectedStartCell() != null && i == view.getSelectedStartCell().getRow() && j == view.getSelectedStartCell().getCol()) {
-                    cellPanel.setBackground(MazeView.START_COLOR);
-                } else if (view.getSelectedEndCell() != null && i == view.getSelectedEndCell().getRow() && j == view.getSelectedEndCell().getCol()) {
-                    cellPanel.setBackground(MazeView.END_COLOR);
-                }
-                else if (cellPanel.isObstacle()) {
-                    cellPanel.setBackground(MazeView.WALL_COLOR);
-                }
-                // Si no es ninguno de los anteriores, es un camino normal, píntalo de blanco
-                else {
-                    cellPanel.setBackground(MazeView.DEFAULT_CELL_COLOR);
-                }
-                cellPanel.revalidate();
-                cellPanel.repaint();
-            }
+        MazeCanvas canvas = view.getMazeCanvas();
+
+        // Muros y caminos en una sola pasada sobre el lienzo; después las celdas marcadas, con prioridad a inicio y fin
+        canvas.resetColors();
+        for (Cell waypoint : waypoints) {
+            canvas.setCellColor(waypoint.getRow(), waypoint.getCol(), MazeView.WAYPOINT_COLOR);
+        }
+        Cell start = view.getSelectedStartCell();
+        if (start != null) {
+            canvas.setCellColor(start.getRow(), start.getCol(), MazeView.START_COLOR);
+        }
+        Cell end = view.getSelectedEndCell();
+        if (end != null) {
+            canvas.setCellColor(end.getRow(), end.getCol(), MazeView.END_COLOR);
         }
         isAnimatingPathPhase = false;
     }
@@ -511,7 +980,7 @@ public final class MazeController {
      * tal como el usuario lo ha dibujado en la interfaz.
      */
     public void syncViewToModelWalls() {
-        boolean[][] currentViewGrid = view.getCellPanelsState();
+        boolean[][] currentViewGrid = view.getGridState();
         if (currentViewGrid != null) {
             this.maze.setGrid(currentViewGrid);
             System.out.println("Modelo de laberinto actualizado con las paredes de la vista.");
@@ -556,6 +1025,42 @@ public final class MazeController {
         System.out.println("Controlador: Celda de fin fijada a " + endCell);
     }
 
+    /**
+     * Añade un punto intermedio que la ruta debe visitar entre el inicio y el fin.
+     * Si la celda ya es un punto intermedio, no se añade de nuevo.
+     *
+     * @param waypoint La celda a añadir como punto intermedio.
+     */
+    public void addWaypoint(Cell waypoint) {
+        if (!waypoints.contains(waypoint)) {
+            waypoints.add(waypoint);
+            System.out.println("Controlador: Punto intermedio añadido en " + waypoint);
+        }
+    }
+
+    /**
+     * Elimina un punto intermedio de la ruta.
+     *
+     * @param waypoint La celda a eliminar.
+     * @return true si la celda era un punto intermedio, false en caso contrario.
+     */
+    public boolean removeWaypoint(Cell waypoint) {
+        boolean removed = waypoints.remove(waypoint);
+        if (removed) {
+            System.out.println("Controlador: Punto intermedio eliminado en " + waypoint);
+        }
+        return removed;
+    }
+
+    /**
+     * Obtiene los puntos intermedios seleccionados, en el orden en que se añadieron.
+     *
+     * @return La lista de puntos intermedios.
+     */
+    public List<Cell> getWaypoints() {
+        return waypoints;
+    }
+
     /**
      * Obtiene el objeto {Maze} actualmente gestionado por el controlador.
      *
@@ -0,0 +1,53 @@
+package org.example.generator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Destino que escribe el laberinto en un archivo de texto, una línea por fila:
+ * {@code '#'} para los muros y {@code '.'} para los caminos.
+ * Solo mantiene en memoria el búfer de escritura, así que sirve para laberintos de cualquier tamaño.
+ */
+public class AsciiFileRowSink implements MazeRowSink {
+    public static final char WALL = '#';
+    public static final char OPEN = '.';
+
+    private final Path file;
+    private BufferedWriter writer;
+    private char[] line;
+
+    /**
+     * Construye un destino que escribirá en el archivo indicado (se sobrescribe si existe).
+     *
+     * @param file La ruta del archivo de salida.
+     */
+    public AsciiFileRowSink(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void begin(int rows, int cols) throws IOException {
+        writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII);
+        line = new char[cols];
+    }
+
+    @Override
+    public void writeRow(int row, boolean[] cells) throws IOException {
+        for (int j = 0; j < cells.length; j++) {
+            line[j] = cells[j] ? OPEN : WALL;
+        }
+        writer.write(line);
+        writer.newLine();
+    }
+
+    @Override
+    public void end() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.example.model.BitPackedGrid;
+
+/**
+ * Generador por el algoritmo de Eller, que construye el laberinto fila a fila.
+ * Solo guarda el conjunto (componente conexa) de cada sala de la fila actual, así que la memoria
+ * es O(columnas) independientemente del número de filas, y cada fila se vuelca a un
+ * {@link MazeRowSink} en cuanto está terminada. Es el generador indicado para laberintos enormes:
+ * puede escribirlos directamente en una {@link BitPackedGrid} o en un archivo.
+ * <p>Por cada fila de salas:</p>
+ * <ol>
+ * <li>Las salas sin conjunto reciben uno nuevo.</li>
+ * <li>Se unen al azar salas vecinas de conjuntos distintos (en la última fila, todas).</li>
+ * <li>Cada conjunto baja al menos una vez a la fila siguiente; las salas que no bajan empiezan
+ * la fila siguiente sin conjunto.</li>
+ * </ol>
+ * Los conjuntos se gestionan con union-find sobre etiquetas que se renumeran en cada fila,
+ * para que nunca haya más de 2 · columnas etiquetas vivas.
+ */
+public class EllerGenerator implements MazeGenerator {
+
+    /**
+     * Genera un laberinto sobre la cuadrícula indicada escribiendo sus filas directamente en ella.
+     *
+     * @param grid La cuadrícula donde tallar el laberinto (al menos 3x3).
+     * @param seed La semilla del generador de números aleatorios.
+     */
+    @Override
+    public void generate(BitPackedGrid grid, long seed) {
+        try {
+            generate(grid.getRows(), grid.getCols(), seed, new GridRowSink(grid));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // La cuadrícula en memoria no lanza IOException
+        }
+    }
+
+    /**
+     * Genera un laberinto de las dimensiones indicadas y lo vuelca fila a fila en un destino.
+     *
+     * @param rows El número de filas de celdas (al menos 3).
+     * @param cols El número de columnas de celdas (al menos 3).
+     * @param seed La semilla del generador de números aleatorios.
+     * @param sink El destino de las filas.
+     * @throws IOException Si el destino falla al escribir.
+     */
+    public void generate(int rows, int cols, long seed, MazeRowSink sink) throws IOException {
+        if (rows < 3 || cols < 3) {
+            throw new IllegalArgumentException("La cuadrícula debe ser de al menos 3x3 para generar un laberinto.");
+        }
+        int roomRows = (rows - 1) / 2;
+        int roomCols = (cols - 1) / 2;
+        Random random = new Random(seed);
+
+        int labelCount = 2 * roomCols + 1; // La etiqueta 0 significa "sin conjunto"
+        int[] set = new int[roomCols];
+        int[] parent = new int[labelCount];
+        int[] members = new int[labelCount];
+        int[] chosen = new int[labelCount];
+        int[] relabel = new int[labelCount];
+        boolean[] right = new boolean[roomCols];
+        boolean[] down = new boolean[roomCols];
+        boolean[] line = new boolean[cols];
+
+        sink.begin(rows, cols);
+        sink.writeRow(0, line); // Borde superior
+        int nextLabel = 1;
+        for (int r = 0; r < roomRows; r++) {
+            boolean lastRow = r == roomRows - 1;
+
+            // 1. Conjuntos nuevos para las salas que no vienen de arriba
+            for (int j = 0; j < roomCols; j++) {
+                if (set[j] == 0) {
+                    set[j] = nextLabel;
+                    parent[nextLabel] = nextLabel;
+                    nextLabel++;
+                }
+            }
+
+            // 2. Uniones horizontales
+            for (int j = 0; j < roomCols - 1; j++) {
+                int a = find(parent, set[j]);
+                int b = find(parent, set[j + 1]);
+                right[j] = a != b && (lastRow || random.nextBoolean());
+                if (right[j]) {
+                    parent[b] = a;
+                }
+            }
+            right[roomCols - 1] = false;
+
+            // 3. Bajadas: al menos una por conjunto, elegida por muestreo de reserva
+            if (lastRow) {
+                Arrays.fill(down, false);
+            } else {
+                for (int j = 0; j < roomCols; j++) {
+                    members[find(parent, set[j])] = 0;
+                }
+                for (int j = 0; j < roomCols; j++) {
+                    int root = find(parent, set[j]);
+                    if (random.nextInt(++members[root]) == 0) {
+                        chosen[root] = j;
+                    }
+                }
+                for (int j = 0; j < roomCols; j++) {
+                    down[j] = chosen[find(parent, set[j])] == j || random.nextBoolean();
+                }
+            }
+
+            // Volcar la fila de salas y la fila de muros inferior
+            Arrays.fill(line, false);
+            for (int j = 0; j < roomCols; j++) {
+                line[2 * j + 1] = true;
+                line[2 * j + 2] = right[j];
+            }
+            sink.writeRow(2 * r + 1, line);
+            Arrays.fill(line, false);
+            for (int j = 0; j < roomCols; j++) {
+                line[2 * j + 1] = down[j];
+            }
+            sink.writeRow(2 * r + 2, line);
+
+            // 4. Preparar la fila siguiente: conservar el conjunto de las salas que bajan y renumerar
+            if (!lastRow) {
+                for (int j = 0; j < roomCols; j++) {
+                    set[j] = down[j] ? find(parent, set[j]) : 0;
+                    if (set[j] != 0) {
+                        relabel[set[j]] = 0;
+                    }
+                }
+                nextLabel = 1;
+                for (int j = 0; j < roomCols; j++) {
+                    if (set[j] != 0) {
+                        if (relabel[set[j]] == 0) {
+                            relabel[set[j]] = nextLabel++;
+                        }
+                        set[j] = relabel[set[j]];
+                    }
+                }
+                for (int label = 1; label < nextLabel; label++) {
+                    parent[label] = label;
+                }
+            }
+        }
+
+        // Filas sobrantes (cuadrícula con número par de filas) y cierre
+        Arrays.fill(line, false);
+        for (int row = 2 * roomRows + 1; row < rows; row++) {
+            sink.writeRow(row, line);
+        }
+        sink.end();
+    }
+
+    /** Busca la raíz de una etiqueta comprimiendo el camino a la mitad. */
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
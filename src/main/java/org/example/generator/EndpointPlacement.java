@@ -0,0 +1,20 @@
+package org.example.generator;
+
+/**
+ * Reglas para colocar las celdas de inicio y fin en los laberintos del {@link WorkloadGenerator}.
+ */
+public enum EndpointPlacement {
+    /**
+     * Inicio en la primera celda abierta desde la esquina superior izquierda y fin en la primera
+     * desde la esquina inferior derecha.
+     */
+    CORNERS,
+    /**
+     * El par de celdas más alejadas (aproximado con dos BFS) dentro de la componente abierta más grande encontrada.
+     */
+    FARTHEST_PAIR,
+    /**
+     * Dos celdas abiertas elegidas al azar con la semilla del laberinto.
+     */
+    RANDOM
+}
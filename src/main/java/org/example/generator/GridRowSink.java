@@ -0,0 +1,39 @@
+package org.example.generator;
+
+import org.example.model.BitPackedGrid;
+
+/**
+ * Destino que escribe las filas generadas directamente en una {@link BitPackedGrid},
+ * de modo que el laberinto solo existe una vez en memoria, a un bit por celda.
+ */
+public class GridRowSink implements MazeRowSink {
+    private final BitPackedGrid grid;
+
+    /**
+     * Construye un destino sobre una cuadrícula existente.
+     *
+     * @param grid La cuadrícula donde escribir las filas; debe tener las dimensiones del laberinto.
+     */
+    public GridRowSink(BitPackedGrid grid) {
+        this.grid = grid;
+    }
+
+    @Override
+    public void begin(int rows, int cols) {
+        if (rows != grid.getRows() || cols != grid.getCols()) {
+            throw new IllegalArgumentException("Dimensiones distintas a las de la cuadrícula: " + rows + "x" + cols);
+        }
+    }
+
+    @Override
+    public void writeRow(int row, boolean[] cells) {
+        for (int j = 0; j < cells.length; j++) {
+            grid.setOpen(row, j, cells[j]);
+        }
+    }
+
+    @Override
+    public void end() {
+        // Nada que cerrar: la cuadrícula queda en memoria
+    }
+}
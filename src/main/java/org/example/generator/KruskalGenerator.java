@@ -0,0 +1,68 @@
+package org.example.generator;
+
+import java.util.Random;
+
+import org.example.model.BitPackedGrid;
+
+/**
+ * Generador por el algoritmo de Kruskal aleatorio.
+ * Baraja todos los muros internos entre salas y derriba cada uno si separa dos componentes distintas,
+ * usando una estructura union-find (con compresión de caminos y unión por tamaño) sobre arreglos de enteros.
+ * <p>Produce laberintos perfectos con muchas ramas cortas. Necesita memoria proporcional al número
+ * de salas; para laberintos enormes es preferible {@link EllerGenerator}.</p>
+ */
+public class KruskalGenerator extends RoomMazeGenerator {
+
+    @Override
+    protected void carve(BitPackedGrid grid, int roomRows, int roomCols, Random random) {
+        int roomCount = roomRows * roomCols;
+        // Muro codificado como sala * 2 + orientación (0 = con la sala de la derecha, 1 = con la de abajo)
+        int[] walls = new int[2 * roomCount];
+        int wallCount = 0;
+        for (int room = 0; room < roomCount; room++) {
+            openRoom(grid, room, roomCols);
+            if (room % roomCols < roomCols - 1) walls[wallCount++] = room * 2;
+            if (room / roomCols < roomRows - 1) walls[wallCount++] = room * 2 + 1;
+        }
+        for (int i = wallCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = walls[i];
+            walls[i] = walls[j];
+            walls[j] = tmp;
+        }
+
+        int[] parent = new int[roomCount];
+        int[] size = new int[roomCount];
+        for (int i = 0; i < roomCount; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        int components = roomCount;
+        for (int i = 0; i < wallCount && components > 1; i++) {
+            int a = walls[i] >>> 1;
+            int b = (walls[i] & 1) == 0 ? a + 1 : a + roomCols;
+            int rootA = find(parent, a);
+            int rootB = find(parent, b);
+            if (rootA != rootB) {
+                if (size[rootA] < size[rootB]) {
+                    int tmp = rootA;
+                    rootA = rootB;
+                    rootB = tmp;
+                }
+                parent[rootB] = rootA;
+                size[rootA] += size[rootB];
+                components--;
+                connect(grid, a, b, roomCols);
+            }
+        }
+    }
+
+    /** Busca la raíz de un elemento comprimiendo el camino a la mitad. */
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.generator;
+
+import org.example.model.BitPackedGrid;
+
+/**
+ * Define el contrato para cualquier algoritmo capaz de generar un laberinto.
+ * Los generadores tallan los caminos directamente sobre una {@link BitPackedGrid}: las salas
+ * ocupan las celdas de fila y columna impares, y entre dos salas contiguas hay una celda de muro
+ * que se abre para conectarlas. El borde exterior queda siempre como muro.
+ * <p>Con la misma semilla y las mismas dimensiones, un generador produce siempre el mismo laberinto.</p>
+ */
+public interface MazeGenerator {
+    /**
+     * Genera un laberinto sobre la cuadrícula indicada, sobrescribiendo su contenido.
+     *
+     * @param grid La cuadrícula donde tallar el laberinto (al menos 3x3).
+     * @param seed La semilla del generador de números aleatorios.
+     */
+    void generate(BitPackedGrid grid, long seed);
+}
@@ -0,0 +1,37 @@
+package org.example.generator;
+
+import java.io.IOException;
+
+/**
+ * Destino de un laberinto generado fila a fila. Permite a los generadores en streaming
+ * (como {@link EllerGenerator}) volcar cada fila en cuanto está lista, sin guardar el laberinto
+ * completo en memoria.
+ * <p>Las filas llegan en orden, desde la 0 hasta {@code rows - 1}, y el arreglo recibido se
+ * reutiliza en la siguiente llamada, así que el destino debe copiar lo que necesite.</p>
+ */
+public interface MazeRowSink {
+    /**
+     * Se llama una vez antes de la primera fila.
+     *
+     * @param rows El número total de filas del laberinto.
+     * @param cols El número de columnas del laberinto.
+     * @throws IOException Si el destino no se puede preparar.
+     */
+    void begin(int rows, int cols) throws IOException;
+
+    /**
+     * Recibe una fila del laberinto.
+     *
+     * @param row El índice de la fila.
+     * @param cells Las celdas de la fila, donde 'true' es camino y 'false' es muro.
+     * @throws IOException Si la fila no se puede escribir.
+     */
+    void writeRow(int row, boolean[] cells) throws IOException;
+
+    /**
+     * Se llama una vez después de la última fila.
+     *
+     * @throws IOException Si el destino no se puede cerrar correctamente.
+     */
+    void end() throws IOException;
+}
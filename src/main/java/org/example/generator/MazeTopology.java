@@ -0,0 +1,25 @@
+package org.example.generator;
+
+/**
+ * Tipos de laberinto que puede producir el {@link WorkloadGenerator} para los bancos de pruebas.
+ */
+public enum MazeTopology {
+    /**
+     * Laberinto perfecto (un único camino entre cada par de celdas). La densidad no se usa.
+     */
+    PERFECT,
+    /**
+     * Salas abiertas separadas por tabiques con puertas; la densidad es la probabilidad de
+     * columna (muro suelto) dentro de cada sala.
+     */
+    OPEN_ROOMS,
+    /**
+     * Ruido aleatorio: cada celda es muro con probabilidad igual a la densidad.
+     */
+    RANDOM_NOISE,
+    /**
+     * Ruido aleatorio con el destino encerrado por muros, de modo que no hay camino y los
+     * solvers deben agotar toda la componente del inicio.
+     */
+    UNREACHABLE
+}
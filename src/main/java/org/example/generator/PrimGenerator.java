@@ -0,0 +1,59 @@
+package org.example.generator;
+
+import java.util.Random;
+
+import org.example.model.BitPackedGrid;
+
+/**
+ * Generador por el algoritmo de Prim aleatorio.
+ * Mantiene una frontera de salas vecinas al laberinto ya tallado; en cada paso saca una sala
+ * al azar de la frontera (intercambiándola con la última, en tiempo constante), la conecta con una
+ * vecina aleatoria que ya forma parte del laberinto y añade a la frontera sus vecinas nuevas.
+ * <p>Produce laberintos perfectos con muchas ramas cortas que irradian desde el punto inicial.</p>
+ */
+public class PrimGenerator extends RoomMazeGenerator {
+
+    @Override
+    protected void carve(BitPackedGrid grid, int roomRows, int roomCols, Random random) {
+        int roomCount = roomRows * roomCols;
+        int[] frontier = new int[roomCount];
+        boolean[] inFrontier = new boolean[roomCount];
+        int frontierSize = 0;
+        int[] candidates = new int[4];
+        int[] options = new int[4];
+
+        int first = random.nextInt(roomCount);
+        openRoom(grid, first, roomCols);
+        frontierSize = expand(grid, first, roomRows, roomCols, frontier, inFrontier, frontierSize, candidates);
+
+        while (frontierSize > 0) {
+            int pick = random.nextInt(frontierSize);
+            int room = frontier[pick];
+            frontier[pick] = frontier[--frontierSize];
+
+            int n = neighbours(room, roomRows, roomCols, candidates);
+            int inMaze = 0;
+            for (int i = 0; i < n; i++) {
+                if (isRoomOpen(grid, candidates[i], roomCols)) {
+                    options[inMaze++] = candidates[i];
+                }
+            }
+            connect(grid, room, options[random.nextInt(inMaze)], roomCols);
+            frontierSize = expand(grid, room, roomRows, roomCols, frontier, inFrontier, frontierSize, candidates);
+        }
+    }
+
+    /** Añade a la frontera las vecinas de una sala que aún no están en el laberinto ni en la frontera. */
+    private static int expand(BitPackedGrid grid, int room, int roomRows, int roomCols,
+                              int[] frontier, boolean[] inFrontier, int frontierSize, int[] candidates) {
+        int n = neighbours(room, roomRows, roomCols, candidates);
+        for (int i = 0; i < n; i++) {
+            int next = candidates[i];
+            if (!inFrontier[next] && !isRoomOpen(grid, next, roomCols)) {
+                inFrontier[next] = true;
+                frontier[frontierSize++] = next;
+            }
+        }
+        return frontierSize;
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.generator;
+
+import java.util.Random;
+
+import org.example.model.BitPackedGrid;
+
+/**
+ * Generador por backtracking recursivo (DFS aleatorio), implementado de forma iterativa.
+ * En lugar de una pila de llamadas o de salas, cada sala guarda en un byte la dirección por la que
+ * se llegó a ella, y el retroceso sigue esas direcciones; así no hay riesgo de desbordar la pila
+ * y la memoria extra es de un byte por sala.
+ * <p>Produce laberintos perfectos con pasillos largos y pocas bifurcaciones.</p>
+ */
+public class RecursiveBacktrackerGenerator extends RoomMazeGenerator {
+
+    @Override
+    protected void carve(BitPackedGrid grid, int roomRows, int roomCols, Random random) {
+        int roomCount = roomRows * roomCols;
+        // Dirección hacia la sala padre: 0 = raíz, 1 = arriba, 2 = derecha, 3 = abajo, 4 = izquierda
+        byte[] parent = new byte[roomCount];
+        int[] candidates = new int[4];
+        int[] options = new int[4];
+
+        int current = random.nextInt(roomCount);
+        openRoom(grid, current, roomCols);
+        while (true) {
+            int n = neighbours(current, roomRows, roomCols, candidates);
+            int unvisited = 0;
+            for (int i = 0; i < n; i++) {
+                if (!isRoomOpen(grid, candidates[i], roomCols)) {
+                    options[unvisited++] = candidates[i];
+                }
+            }
+            if (unvisited > 0) {
+                int next = options[random.nextInt(unvisited)];
+                connect(grid, current, next, roomCols);
+                parent[next] = directionTo(next, current, roomCols);
+                current = next;
+            } else if (parent[current] == 0) {
+                return; // De vuelta en la raíz: todas las salas visitadas
+            } else {
+                current = step(current, parent[current], roomCols);
+            }
+        }
+    }
+
+    /** Codifica la dirección que lleva de la sala {@code from} a su vecina {@code to}. */
+    private static byte directionTo(int from, int to, int roomCols) {
+        if (to == from - roomCols) return 1;
+        if (to == from + 1) return 2;
+        if (to == from + roomCols) return 3;
+        return 4;
+    }
+
+    /** Devuelve la sala vecina en la dirección codificada. */
+    private static int step(int room, byte direction, int roomCols) {
+        return switch (direction) {
+            case 1 -> room - roomCols;
+            case 2 -> room + 1;
+            case 3 -> room + roomCols;
+            default -> room - 1;
+        };
+    }
+}
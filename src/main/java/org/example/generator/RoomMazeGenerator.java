@@ -0,0 +1,76 @@
+package org.example.generator;
+
+import java.util.Random;
+
+import org.example.model.BitPackedGrid;
+
+/**
+ * Base común de los generadores que trabajan sobre salas: traduce la cuadrícula de celdas a una
+ * cuadrícula de salas ({@code (filas - 1) / 2} x {@code (columnas - 1) / 2}) numeradas por filas,
+ * y ofrece las operaciones para abrir una sala y derribar el muro entre dos salas vecinas.
+ * Si la cuadrícula tiene un número par de filas o columnas, la última fila o columna queda como muro.
+ */
+public abstract class RoomMazeGenerator implements MazeGenerator {
+
+    /**
+     * Prepara la cuadrícula (todo muro) y delega en {@link #carve} el tallado de los pasajes.
+     *
+     * @param grid La cuadrícula donde tallar el laberinto (al menos 3x3).
+     * @param seed La semilla del generador de números aleatorios.
+     */
+    @Override
+    public void generate(BitPackedGrid grid, long seed) {
+        if (grid.getRows() < 3 || grid.getCols() < 3) {
+            throw new IllegalArgumentException("La cuadrícula debe ser de al menos 3x3 para generar un laberinto.");
+        }
+        grid.fill(false);
+        carve(grid, (grid.getRows() - 1) / 2, (grid.getCols() - 1) / 2, new Random(seed));
+    }
+
+    /**
+     * Talla los pasajes del laberinto. La cuadrícula llega completamente en muro.
+     *
+     * @param grid La cuadrícula donde tallar.
+     * @param roomRows El número de filas de salas.
+     * @param roomCols El número de columnas de salas.
+     * @param random El generador de números aleatorios sembrado.
+     */
+    protected abstract void carve(BitPackedGrid grid, int roomRows, int roomCols, Random random);
+
+    /** Abre la celda de una sala. */
+    protected static void openRoom(BitPackedGrid grid, int room, int roomCols) {
+        grid.setOpen(2 * (room / roomCols) + 1, 2 * (room % roomCols) + 1, true);
+    }
+
+    /** Indica si una sala ya forma parte del laberinto (su celda está abierta). */
+    protected static boolean isRoomOpen(BitPackedGrid grid, int room, int roomCols) {
+        return grid.isOpen(2 * (room / roomCols) + 1, 2 * (room % roomCols) + 1);
+    }
+
+    /** Abre dos salas vecinas y el muro que las separa. */
+    protected static void connect(BitPackedGrid grid, int a, int b, int roomCols) {
+        int rowA = 2 * (a / roomCols) + 1;
+        int colA = 2 * (a % roomCols) + 1;
+        int rowB = 2 * (b / roomCols) + 1;
+        int colB = 2 * (b % roomCols) + 1;
+        grid.setOpen(rowA, colA, true);
+        grid.setOpen(rowB, colB, true);
+        grid.setOpen((rowA + rowB) / 2, (colA + colB) / 2, true);
+    }
+
+    /**
+     * Escribe en {@code out} las salas vecinas de una sala y devuelve cuántas hay.
+     *
+     * @param out Arreglo de al menos 4 posiciones.
+     */
+    protected static int neighbours(int room, int roomRows, int roomCols, int[] out) {
+        int r = room / roomCols;
+        int c = room % roomCols;
+        int n = 0;
+        if (r > 0) out[n++] = room - roomCols;
+        if (c < roomCols - 1) out[n++] = room + 1;
+        if (r < roomRows - 1) out[n++] = room + roomCols;
+        if (c > 0) out[n++] = room - 1;
+        return n;
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.example.model.BitPackedGrid;
+
+/**
+ * Generador paralelo por teselas para laberintos muy grandes.
+ * La cuadrícula de salas se divide en teselas cuadradas; cada tesela se genera como un laberinto
+ * perfecto independiente con otro generador, en su propio hilo y sobre una cuadrícula pequeña,
+ * y se copia a la cuadrícula final. Después, un Kruskal sembrado sobre el grafo de teselas elige
+ * qué teselas vecinas se conectan y abre una única puerta en cada frontera elegida: un árbol de
+ * árboles sigue siendo un árbol, así que el resultado es un laberinto perfecto.
+ * <p>Cada tesela usa una semilla derivada de la semilla global y de su índice, y el cosido es
+ * secuencial, de modo que el laberinto es idéntico para una semilla dada sea cual sea el número de hilos.</p>
+ */
+public class TiledMazeGenerator implements MazeGenerator {
+    private final MazeGenerator tileGenerator;
+    private final int tileRooms;
+    private final int threads;
+
+    /**
+     * Construye un generador por teselas con backtracking recursivo en cada tesela,
+     * teselas de 256x256 salas y un hilo por procesador disponible.
+     */
+    public TiledMazeGenerator() {
+        this(new RecursiveBacktrackerGenerator(), 256, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construye un generador por teselas.
+     *
+     * @param tileGenerator El generador usado dentro de cada tesela (debe poder usarse desde varios hilos).
+     * @param tileRooms El lado de cada tesela, en salas.
+     * @param threads El número de hilos; no afecta al laberinto generado.
+     */
+    public TiledMazeGenerator(MazeGenerator tileGenerator, int tileRooms, int threads) {
+        if (tileRooms < 1 || threads < 1) {
+            throw new IllegalArgumentException("El tamaño de tesela y el número de hilos deben ser positivos.");
+        }
+        this.tileGenerator = tileGenerator;
+        this.tileRooms = tileRooms;
+        this.threads = threads;
+    }
+
+    /**
+     * Genera un laberinto perfecto sobre la cuadrícula indicada, tesela a tesela en paralelo.
+     *
+     * @param grid La cuadrícula donde tallar el laberinto (al menos 3x3).
+     * @param seed La semilla global del generador.
+     */
+    @Override
+    public void generate(BitPackedGrid grid, long seed) {
+        if (grid.getRows() < 3 || grid.getCols() < 3) {
+            throw new IllegalArgumentException("La cuadrícula debe ser de al menos 3x3 para generar un laberinto.");
+        }
+        grid.fill(false);
+        int roomRows = (grid.getRows() - 1) / 2;
+        int roomCols = (grid.getCols() - 1) / 2;
+        int tileRows = (roomRows + tileRooms - 1) / tileRooms;
+        int tileCols = (roomCols + tileRooms - 1) / tileRooms;
+
+        List<Callable<Void>> tasks = new ArrayList<>(tileRows * tileCols);
+        for (int tr = 0; tr < tileRows; tr++) {
+            for (int tc = 0; tc < tileCols; tc++) {
+                int tileRow = tr;
+                int tileCol = tc;
+                tasks.add(() -> {
+                    generateTile(grid, tileRow, tileCol, roomRows, roomCols, tileSeed(seed, tileRow * tileCols + tileCol));
+                    return null;
+                });
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tasks.size()));
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Generación por teselas interrumpida.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error al generar una tesela: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        stitch(grid, tileRows, tileCols, roomRows, roomCols, new Random(seed));
+    }
+
+    /**
+     * Genera una tesela en una cuadrícula propia y copia su interior a la cuadrícula final, fila a fila
+     * y por palabras de 64 celdas. Teselas vecinas solo comparten las palabras de los extremos de cada
+     * fila, que {@link BitPackedGrid#orRange} combina con un OR atómico, así que la copia no se bloquea.
+     */
+    private void generateTile(BitPackedGrid grid, int tileRow, int tileCol, int roomRows, int roomCols, long seed) {
+        int height = Math.min(tileRooms, roomRows - tileRow * tileRooms);
+        int width = Math.min(tileRooms, roomCols - tileCol * tileRooms);
+        BitPackedGrid tile = new BitPackedGrid(2 * height + 1, 2 * width + 1);
+        tileGenerator.generate(tile, seed);
+
+        int rowOffset = 2 * tileRow * tileRooms;
+        int colOffset = 2 * tileCol * tileRooms;
+        for (int r = 1; r < 2 * height; r++) {
+            grid.orRange(tile, (long) r * tile.getCols() + 1, (long) (rowOffset + r) * grid.getCols() + colOffset + 1,
+                    2L * width - 1);
+        }
+    }
+
+    /**
+     * Conecta las teselas con un árbol de expansión aleatorio (Kruskal sembrado) abriendo
+     * una puerta en una posición aleatoria de cada frontera elegida.
+     */
+    private void stitch(BitPackedGrid grid, int tileRows, int tileCols, int roomRows, int roomCols, Random random) {
+        int tileCount = tileRows * tileCols;
+        // Frontera codificada como tesela * 2 + orientación (0 = con la de la derecha, 1 = con la de abajo)
+        int[] borders = new int[2 * tileCount];
+        int borderCount = 0;
+        for (int tile = 0; tile < tileCount; tile++) {
+            if (tile % tileCols < tileCols - 1) borders[borderCount++] = tile * 2;
+            if (tile / tileCols < tileRows - 1) borders[borderCount++] = tile * 2 + 1;
+        }
+        for (int i = borderCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = borders[i];
+            borders[i] = borders[j];
+            borders[j] = tmp;
+        }
+
+        int[] parent = new int[tileCount];
+        for (int i = 0; i < tileCount; i++) {
+            parent[i] = i;
+        }
+        for (int i = 0; i < borderCount; i++) {
+            int tile = borders[i] >>> 1;
+            boolean horizontal = (borders[i] & 1) == 0;
+            int other = horizontal ? tile + 1 : tile + tileCols;
+            int rootA = find(parent, tile);
+            int rootB = find(parent, other);
+            if (rootA == rootB) {
+                continue;
+            }
+            parent[rootB] = rootA;
+
+            int tileRow = tile / tileCols;
+            int tileCol = tile % tileCols;
+            if (horizontal) {
+                // Puerta en la columna de muro entre las dos teselas, en una fila de salas aleatoria
+                int rows = Math.min(tileRooms, roomRows - tileRow * tileRooms);
+                int roomRow = tileRow * tileRooms + random.nextInt(rows);
+                grid.setOpen(2 * roomRow + 1, 2 * (tileCol + 1) * tileRooms, true);
+            } else {
+                int cols = Math.min(tileRooms, roomCols - tileCol * tileRooms);
+                int roomCol = tileCol * tileRooms + random.nextInt(cols);
+                grid.setOpen(2 * (tileRow + 1) * tileRooms, 2 * roomCol + 1, true);
+            }
+        }
+    }
+
+    /** Deriva la semilla de una tesela mezclando la semilla global con su índice (SplitMix64). */
+    private static long tileSeed(long seed, int tileIndex) {
+        long z = seed + (tileIndex + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Busca la raíz de una tesela comprimiendo el camino a la mitad. */
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.generator;
+
+import java.util.Random;
+
+import org.example.model.BitPackedGrid;
+
+/**
+ * Generador por el algoritmo de Wilson (paseos aleatorios con borrado de bucles).
+ * Desde cada sala que aún no está en el laberinto se hace un paseo aleatorio hasta tocar el laberinto,
+ * guardando en cada sala solo la última dirección tomada; al rehacer el paseo siguiendo esas
+ * direcciones los bucles quedan borrados de forma implícita.
+ * <p>Genera un árbol de expansión uniforme: todos los laberintos perfectos posibles son igual de
+ * probables, sin el sesgo de los demás algoritmos. Es más lento al principio, cuando el laberinto es pequeño.</p>
+ */
+public class WilsonGenerator extends RoomMazeGenerator {
+
+    @Override
+    protected void carve(BitPackedGrid grid, int roomRows, int roomCols, Random random) {
+        int roomCount = roomRows * roomCols;
+        int[] next = new int[roomCount];
+        int[] candidates = new int[4];
+
+        openRoom(grid, random.nextInt(roomCount), roomCols);
+        for (int origin = 0; origin < roomCount; origin++) {
+            if (isRoomOpen(grid, origin, roomCols)) {
+                continue;
+            }
+            // Paseo aleatorio hasta tocar el laberinto, recordando la última salida de cada sala
+            int room = origin;
+            while (!isRoomOpen(grid, room, roomCols)) {
+                int n = neighbours(room, roomRows, roomCols, candidates);
+                next[room] = candidates[random.nextInt(n)];
+                room = next[room];
+            }
+            // Rehacer el paseo sin bucles y tallarlo
+            int target = room;
+            room = origin;
+            while (room != target) {
+                connect(grid, room, next[room], roomCols);
+                room = next[room];
+            }
+        }
+    }
+}
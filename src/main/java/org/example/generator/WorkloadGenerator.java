@@ -0,0 +1,309 @@
+package org.example.generator;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.example.io.MazeFileFormat;
+import org.example.model.BitPackedGrid;
+import org.example.model.Cell;
+import org.example.model.MazeInstance;
+
+/**
+ * Generador de corpus de laberintos para comparar los solvers con entradas reproducibles.
+ * A partir de una {@link WorkloadSpec} (tamaño, topología, densidad, regla de colocación y semilla)
+ * produce siempre el mismo laberinto con las mismas celdas de inicio y fin, y puede escribir un
+ * corpus completo en formato {@link MazeFileFormat} junto con un manifiesto CSV que lo describe.
+ * <p>Se puede ejecutar como programa: {@code WorkloadGenerator [directorio] [semilla]} escribe el
+ * corpus estándar ({@link #standardCorpus(long)}) en el directorio indicado.</p>
+ */
+public class WorkloadGenerator {
+    public static final String MANIFEST_FILE = "manifest.csv";
+
+    private static final int ROOM_SIZE = 8;
+    private static final long TILED_ROOM_THRESHOLD = 4_000_000L;
+    private static final int FARTHEST_PAIR_PROBES = 4;
+
+    /**
+     * Genera el laberinto descrito por una especificación.
+     *
+     * @param spec La especificación del laberinto.
+     * @return El laberinto con sus celdas de inicio y fin.
+     */
+    public MazeInstance generate(WorkloadSpec spec) {
+        BitPackedGrid grid = new BitPackedGrid(spec.getRows(), spec.getCols());
+        Random random = new Random(spec.getSeed());
+        switch (spec.getTopology()) {
+            case PERFECT -> perfect(grid, spec.getSeed());
+            case OPEN_ROOMS -> openRooms(grid, spec.getDensity(), random);
+            case RANDOM_NOISE, UNREACHABLE -> noise(grid, spec.getDensity(), random);
+        }
+
+        Cell[] endpoints = place(grid, spec.getPlacement(), random);
+        if (spec.getTopology() == MazeTopology.UNREACHABLE) {
+            endpoints[0] = seal(grid, endpoints[0], endpoints[1]);
+        }
+        return new MazeInstance(grid, endpoints[0], endpoints[1], spec.getSeed());
+    }
+
+    /**
+     * Genera y escribe un corpus de laberintos en un directorio, un archivo {@code .maze} por
+     * especificación, más el manifiesto {@value #MANIFEST_FILE} con una fila por laberinto.
+     *
+     * @param specs Las especificaciones del corpus.
+     * @param directory El directorio de salida (se crea si no existe).
+     * @throws IOException Si algún archivo no se puede escribir.
+     */
+    public void writeCorpus(List<WorkloadSpec> specs, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintWriter manifest = new PrintWriter(Files.newBufferedWriter(directory.resolve(MANIFEST_FILE)))) {
+            manifest.println("label,rows,cols,topology,density,placement,seed,startRow,startCol,endRow,endCol,openCells,file");
+            for (WorkloadSpec spec : specs) {
+                MazeInstance maze = generate(spec);
+                String fileName = spec.getLabel() + MazeFileFormat.EXTENSION;
+                MazeFileFormat.write(directory.resolve(fileName), maze);
+                manifest.println(String.format(Locale.ROOT, "%s,%d,%d,%s,%.4f,%s,%d,%d,%d,%d,%d,%d,%s",
+                        spec.getLabel(), spec.getRows(), spec.getCols(), spec.getTopology(), spec.getDensity(),
+                        spec.getPlacement(), spec.getSeed(),
+                        maze.getStart().getRow(), maze.getStart().getCol(), maze.getEnd().getRow(), maze.getEnd().getCol(),
+                        maze.getGrid().countOpen(), fileName));
+                System.out.println("Corpus: escrito " + fileName);
+            }
+        }
+    }
+
+    /**
+     * Devuelve el corpus estándar de pruebas: tres tamaños, las cuatro topologías (el ruido con dos
+     * densidades) y las tres reglas de colocación, con semillas derivadas de la semilla base.
+     *
+     * @param baseSeed La semilla base del corpus.
+     * @return La lista de especificaciones.
+     */
+    public static List<WorkloadSpec> standardCorpus(long baseSeed) {
+        int[] sizes = {65, 257, 1025};
+        List<WorkloadSpec> specs = new ArrayList<>();
+        long seed = baseSeed;
+        for (int size : sizes) {
+            for (EndpointPlacement placement : EndpointPlacement.values()) {
+                specs.add(new WorkloadSpec(size, size, MazeTopology.PERFECT, 0.0, placement, seed++));
+                specs.add(new WorkloadSpec(size, size, MazeTopology.OPEN_ROOMS, 0.05, placement, seed++));
+                specs.add(new WorkloadSpec(size, size, MazeTopology.RANDOM_NOISE, 0.10, placement, seed++));
+                specs.add(new WorkloadSpec(size, size, MazeTopology.RANDOM_NOISE, 0.30, placement, seed++));
+                specs.add(new WorkloadSpec(size, size, MazeTopology.UNREACHABLE, 0.20, placement, seed++));
+            }
+        }
+        return specs;
+    }
+
+    /**
+     * Escribe el corpus estándar.
+     *
+     * @param args Directorio de salida (por defecto {@code workloads}) y semilla base (por defecto 42).
+     */
+    public static void main(String[] args) {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "workloads");
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        try {
+            new WorkloadGenerator().writeCorpus(standardCorpus(seed), directory);
+            System.out.println("Corpus escrito en " + directory.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Error al escribir el corpus: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /** Laberinto perfecto; los muy grandes se generan por teselas, que es igual de determinista. */
+    private void perfect(BitPackedGrid grid, long seed) {
+        long rooms = (long) ((grid.getRows() - 1) / 2) * ((grid.getCols() - 1) / 2);
+        MazeGenerator generator = rooms > TILED_ROOM_THRESHOLD ? new TiledMazeGenerator() : new KruskalGenerator();
+        generator.generate(grid, seed);
+    }
+
+    /**
+     * Salas abiertas de {@value #ROOM_SIZE} celdas separadas por tabiques; cada tabique entre dos salas
+     * vecinas tiene una puerta en una posición aleatoria, y dentro de las salas hay columnas sueltas
+     * con probabilidad {@code density}.
+     */
+    private void openRooms(BitPackedGrid grid, double density, Random random) {
+        int rows = grid.getRows();
+        int cols = grid.getCols();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                boolean partition = i % ROOM_SIZE == 0 || j % ROOM_SIZE == 0;
+                grid.setOpen(i, j, !partition && random.nextDouble() >= density);
+            }
+        }
+        // Puertas en los tabiques horizontales y verticales de cada sala
+        for (int top = 0; top < rows; top += ROOM_SIZE) {
+            for (int left = 0; left < cols; left += ROOM_SIZE) {
+                int height = Math.min(ROOM_SIZE - 1, rows - top - 1);
+                int width = Math.min(ROOM_SIZE - 1, cols - left - 1);
+                if (top > 0 && width > 0) {
+                    grid.setOpen(top, left + 1 + random.nextInt(width), true);
+                }
+                if (left > 0 && height > 0) {
+                    grid.setOpen(top + 1 + random.nextInt(height), left, true);
+                }
+            }
+        }
+    }
+
+    /** Cada celda es muro con probabilidad {@code density}. */
+    private void noise(BitPackedGrid grid, double density, Random random) {
+        for (int i = 0; i < grid.getRows(); i++) {
+            for (int j = 0; j < grid.getCols(); j++) {
+                grid.setOpen(i, j, random.nextDouble() >= density);
+            }
+        }
+    }
+
+    /**
+     * Coloca inicio y fin según la regla indicada. Si el laberinto no tiene al menos dos celdas
+     * abiertas, se abren las esquinas.
+     *
+     * @return Un arreglo {inicio, fin}.
+     */
+    private Cell[] place(BitPackedGrid grid, EndpointPlacement placement, Random random) {
+        int rows = grid.getRows();
+        int cols = grid.getCols();
+        if (grid.countOpen() < 2) {
+            grid.setOpen(0, 0, true);
+            grid.setOpen(rows - 1, cols - 1, true);
+            return new Cell[]{new Cell(0, 0), new Cell(rows - 1, cols - 1)};
+        }
+        return switch (placement) {
+            case CORNERS -> new Cell[]{firstOpen(grid, false), firstOpen(grid, true)};
+            case FARTHEST_PAIR -> farthestPair(grid, random);
+            case RANDOM -> {
+                Cell start = randomOpen(grid, random);
+                Cell end = randomOpen(grid, random);
+                while (end.equals(start)) {
+                    end = randomOpen(grid, random);
+                }
+                yield new Cell[]{start, end};
+            }
+        };
+    }
+
+    /** Primera celda abierta recorriendo por filas desde una esquina. */
+    private static Cell firstOpen(BitPackedGrid grid, boolean fromEnd) {
+        long cells = (long) grid.getRows() * grid.getCols();
+        for (long k = 0; k < cells; k++) {
+            long index = fromEnd ? cells - 1 - k : k;
+            int row = (int) (index / grid.getCols());
+            int col = (int) (index % grid.getCols());
+            if (grid.isOpen(row, col)) {
+                return new Cell(row, col);
+            }
+        }
+        throw new IllegalStateException("El laberinto no tiene celdas abiertas.");
+    }
+
+    /** Celda abierta aleatoria por muestreo de rechazo. */
+    private static Cell randomOpen(BitPackedGrid grid, Random random) {
+        while (true) {
+            int row = random.nextInt(grid.getRows());
+            int col = random.nextInt(grid.getCols());
+            if (grid.isOpen(row, col)) {
+                return new Cell(row, col);
+            }
+        }
+    }
+
+    /**
+     * Aproxima el par más alejado con el método de los dos BFS: desde varias celdas aleatorias se
+     * elige la que está en la componente más grande, se busca la celda más lejana a ella y después
+     * la más lejana a esa. En un laberinto perfecto (un árbol) el resultado es exacto.
+     */
+    private static Cell[] farthestPair(BitPackedGrid grid, Random random) {
+        int cols = grid.getCols();
+        long[] best = null;
+        for (int probe = 0; probe < FARTHEST_PAIR_PROBES; probe++) {
+            Cell seed = randomOpen(grid, random);
+            long[] result = bfsFarthest(grid, seed.getRow() * cols + seed.getCol());
+            if (best == null || result[1] > best[1]) {
+                best = result;
+            }
+        }
+        int first = (int) best[0];
+        int second = (int) bfsFarthest(grid, first)[0];
+        if (first == second) {
+            return new Cell[]{new Cell(first / cols, first % cols), randomOpen(grid, random)};
+        }
+        return new Cell[]{new Cell(first / cols, first % cols), new Cell(second / cols, second % cols)};
+    }
+
+    /**
+     * BFS desde una celda sobre índices planos.
+     *
+     * @return {índice de la última celda alcanzada (la más lejana), tamaño de la componente}.
+     */
+    private static long[] bfsFarthest(BitPackedGrid grid, int source) {
+        int rows = grid.getRows();
+        int cols = grid.getCols();
+        BitSet seen = new BitSet(rows * cols);
+        int[] queue = new int[16];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        seen.set(source);
+        int[] dr = {-1, 1, 0, 0};
+        int[] dc = {0, 0, -1, 1};
+        while (head < tail) {
+            int cell = queue[head++];
+            int row = cell / cols;
+            int col = cell % cols;
+            for (int d = 0; d < 4; d++) {
+                int r = row + dr[d];
+                int c = col + dc[d];
+                int next = r * cols + c;
+                if (grid.isOpen(r, c) && !seen.get(next)) {
+                    seen.set(next);
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, queue.length * 2);
+                    }
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return new long[]{queue[tail - 1], tail};
+    }
+
+    /**
+     * Encierra la celda de fin tapiando sus cuatro vecinas. Si el inicio era una de ellas,
+     * se mueve a otra celda abierta.
+     *
+     * @return La celda de inicio (la original o la nueva).
+     */
+    private static Cell seal(BitPackedGrid grid, Cell start, Cell end) {
+        int[] dr = {-1, 1, 0, 0};
+        int[] dc = {0, 0, -1, 1};
+        for (int d = 0; d < 4; d++) {
+            int r = end.getRow() + dr[d];
+            int c = end.getCol() + dc[d];
+            if (r >= 0 && r < grid.getRows() && c >= 0 && c < grid.getCols()) {
+                grid.setOpen(r, c, false);
+            }
+        }
+        if (grid.isOpen(start.getRow(), start.getCol())) {
+            return start;
+        }
+        long cells = (long) grid.getRows() * grid.getCols();
+        for (long index = 0; index < cells; index++) {
+            int row = (int) (index / grid.getCols());
+            int col = (int) (index % grid.getCols());
+            if (grid.isOpen(row, col) && !(row == end.getRow() && col == end.getCol())) {
+                return new Cell(row, col);
+            }
+        }
+        return start;
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.generator;
+
+import java.util.Locale;
+
+/**
+ * Descripción de un laberinto de prueba: con la misma especificación, el {@link WorkloadGenerator}
+ * produce siempre el mismo laberinto con las mismas celdas de inicio y fin.
+ */
+public class WorkloadSpec {
+    private final int rows;
+    private final int cols;
+    private final MazeTopology topology;
+    private final double density;
+    private final EndpointPlacement placement;
+    private final long seed;
+
+    /**
+     * Construye una especificación de laberinto de prueba.
+     *
+     * @param rows El número de filas (al menos 3).
+     * @param cols El número de columnas (al menos 3).
+     * @param topology El tipo de laberinto.
+     * @param density La densidad de muros, entre 0 y 1 (su significado depende de la topología).
+     * @param placement La regla para colocar inicio y fin.
+     * @param seed La semilla del laberinto.
+     */
+    public WorkloadSpec(int rows, int cols, MazeTopology topology, double density, EndpointPlacement placement, long seed) {
+        if (rows < 3 || cols < 3) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + rows + "x" + cols);
+        }
+        if (density < 0 || density > 1) {
+            throw new IllegalArgumentException("La densidad debe estar entre 0 y 1: " + density);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.topology = topology;
+        this.density = density;
+        this.placement = placement;
+        this.seed = seed;
+    }
+
+    /**
+     * Devuelve una etiqueta única y legible para la especificación, usada como nombre de archivo.
+     *
+     * @return La etiqueta, por ejemplo {@code random_noise_257x257_d0.30_farthest_pair_s42}.
+     */
+    public String getLabel() {
+        return String.format(Locale.ROOT, "%s_%dx%d_d%.2f_%s_s%d",
+                topology.name().toLowerCase(Locale.ROOT), rows, cols, density,
+                placement.name().toLowerCase(Locale.ROOT), seed);
+    }
+
+    /**
+     * Devuelve el número de filas.
+     *
+     * @return El número de filas.
+     */
+    public int getRows() {return rows;}
+
+    /**
+     * Devuelve el número de columnas.
+     *
+     * @return El número de columnas.
+     */
+    public int getCols() {return cols;}
+
+    /**
+     * Devuelve el tipo de laberinto.
+     *
+     * @return La topología.
+     */
+    public MazeTopology getTopology() {return topology;}
+
+    /**
+     * Devuelve la densidad de muros.
+     *
+     * @return La densidad, entre 0 y 1.
+     */
+    public double getDensity() {return density;}
+
+    /**
+     * Devuelve la regla de colocación de inicio y fin.
+     *
+     * @return La regla de colocación.
+     */
+    public EndpointPlacement getPlacement() {return placement;}
+
+    /**
+     * Devuelve la semilla del laberinto.
+     *
+     * @return La semilla.
+     */
+    public long getSeed() {return seed;}
+
+    @Override
+    public String toString() {
+        return getLabel();
+    }
+}
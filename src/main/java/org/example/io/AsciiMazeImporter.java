@@ -0,0 +1,132 @@
+package org.example.io;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.example.generator.AsciiFileRowSink;
+import org.example.generator.GridRowSink;
+import org.example.generator.MazeRowSink;
+import org.example.model.BitPackedGrid;
+import org.example.model.Cell;
+import org.example.model.MazeInstance;
+
+/**
+ * Importa laberintos dibujados como texto ASCII, una línea por fila: {@code '#'} es muro y cualquier
+ * otro carácter es camino. Es el mismo formato que escribe {@link AsciiFileRowSink}.
+ * Las letras {@code 'S'} y {@code 'E'} marcan además las celdas de inicio y fin; las líneas más cortas
+ * que la más larga se completan con muros.
+ * <p>El archivo se lee dos veces en streaming (una para medirlo y otra para volcar las filas), así
+ * que en memoria solo hay una fila además del destino.</p>
+ */
+public final class AsciiMazeImporter {
+    public static final char START = 'S';
+    public static final char END = 'E';
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private AsciiMazeImporter() {
+    }
+
+    /**
+     * Importa un archivo ASCII a una cuadrícula de un bit por celda.
+     *
+     * @param file La ruta del archivo.
+     * @return El laberinto, con las celdas de inicio y fin si estaban marcadas.
+     * @throws IOException Si el archivo no se puede leer o está vacío.
+     */
+    public static MazeInstance read(Path file) throws IOException {
+        int[] size = measure(file);
+        BitPackedGrid grid = new BitPackedGrid(size[0], size[1]);
+        Cell[] endpoints = stream(file, size[0], size[1], new GridRowSink(grid));
+        return new MazeInstance(grid, endpoints[0], endpoints[1], 0);
+    }
+
+    /**
+     * Importa un archivo ASCII volcando sus filas en un destino, sin guardar el laberinto completo.
+     *
+     * @param file La ruta del archivo.
+     * @param sink El destino de las filas.
+     * @throws IOException Si el archivo no se puede leer o el destino no se puede escribir.
+     */
+    public static void importTo(Path file, MazeRowSink sink) throws IOException {
+        int[] size = measure(file);
+        stream(file, size[0], size[1], sink);
+    }
+
+    /** Cuenta las filas y la longitud de la fila más larga. */
+    private static int[] measure(Path file) throws IOException {
+        long rows = 0;
+        long cols = 0;
+        long length = 0;
+        boolean pending = false;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE)) {
+            byte[] chunk = new byte[BUFFER_SIZE];
+            for (int read; (read = in.read(chunk)) > 0; ) {
+                for (int i = 0; i < read; i++) {
+                    byte b = chunk[i];
+                    if (b == '\n') {
+                        rows++;
+                        cols = Math.max(cols, length);
+                        length = 0;
+                        pending = false;
+                    } else if (b != '\r') {
+                        length++;
+                        pending = true;
+                    }
+                }
+            }
+        }
+        if (pending) {
+            rows++;
+            cols = Math.max(cols, length);
+        }
+        if (rows == 0 || cols == 0) {
+            throw new IOException("El archivo no contiene un laberinto: " + file);
+        }
+        if (rows > Integer.MAX_VALUE || cols > Integer.MAX_VALUE) {
+            throw new IOException("Laberinto ASCII demasiado grande: " + rows + "x" + cols);
+        }
+        return new int[] {(int) rows, (int) cols};
+    }
+
+    /** Vuelca las filas al destino y devuelve las celdas marcadas como inicio y fin (o null). */
+    private static Cell[] stream(Path file, int rows, int cols, MazeRowSink sink) throws IOException {
+        Cell[] endpoints = new Cell[2];
+        boolean[] cells = new boolean[cols];
+        int row = 0;
+        int col = 0;
+        sink.begin(rows, cols);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE)) {
+            byte[] chunk = new byte[BUFFER_SIZE];
+            for (int read; (read = in.read(chunk)) > 0; ) {
+                for (int i = 0; i < read; i++) {
+                    byte b = chunk[i];
+                    if ((b == '\n' && row == rows) || (b != '\n' && b != '\r' && col == cols)) {
+                        throw new IOException("El archivo cambió mientras se importaba: " + file);
+                    }
+                    if (b == '\n') {
+                        sink.writeRow(row++, cells);
+                        Arrays.fill(cells, false);
+                        col = 0;
+                    } else if (b != '\r') {
+                        if (b == START) {
+                            endpoints[0] = new Cell(row, col);
+                        } else if (b == END) {
+                            endpoints[1] = new Cell(row, col);
+                        }
+                        cells[col++] = b != AsciiFileRowSink.WALL;
+                    }
+                }
+            }
+        }
+        if (row < rows) {
+            sink.writeRow(row, cells);
+        }
+        sink.end();
+        return endpoints;
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.io;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.example.model.MazeGrid;
+
+/**
+ * Cuadrícula de laberinto de solo lectura respaldada por un archivo mapeado en memoria con
+ * {@link FileChannel#map}. Los muros se leen directamente de las páginas del archivo, sin copiarlos
+ * al heap: abrir un laberinto de varios gigabytes es inmediato y el sistema operativo carga solo
+ * las páginas que la búsqueda realmente toca.
+ * <p>Como un {@link MappedByteBuffer} no puede superar 2 GB, el cuerpo se mapea en bloques de
+ * {@value #CHUNK_BYTES} bytes. El mapeo sigue siendo válido después de cerrar el canal.</p>
+ */
+public class MappedMazeGrid implements MazeGrid {
+    static final int CHUNK_BYTES = 1 << 30;
+    private static final int CHUNK_SHIFT = 30;
+
+    private final int rows;
+    private final int cols;
+    private final MappedByteBuffer[] chunks;
+
+    /**
+     * Mapea el cuerpo de bits de un archivo de laberinto sin comprimir.
+     *
+     * @param channel El canal abierto del archivo.
+     * @param offset La posición del cuerpo dentro del archivo (múltiplo de 8).
+     * @param rows El número de filas del laberinto.
+     * @param cols El número de columnas del laberinto.
+     * @throws IOException Si el archivo es más corto que el cuerpo esperado o no se puede mapear.
+     */
+    public MappedMazeGrid(FileChannel channel, long offset, int rows, int cols) throws IOException {
+        this.rows = rows;
+        this.cols = cols;
+        long bodyBytes = (((long) rows * cols + 63) / 64) * Long.BYTES;
+        if (channel.size() < offset + bodyBytes) {
+            throw new IOException("Archivo de laberinto truncado: faltan " + (offset + bodyBytes - channel.size()) + " bytes.");
+        }
+        int count = (int) ((bodyBytes + CHUNK_BYTES - 1) / CHUNK_BYTES);
+        this.chunks = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = (long) i * CHUNK_BYTES;
+            long size = Math.min(CHUNK_BYTES, bodyBytes - start);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + start, size);
+            chunks[i].order(ByteOrder.BIG_ENDIAN);
+        }
+    }
+
+    @Override
+    public boolean isOpen(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return false;
+        }
+        long index = (long) row * cols + col;
+        return (getWord(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Devuelve una palabra de 64 celdas consecutivas directamente del archivo mapeado.
+     *
+     * @param wordIndex El índice de la palabra.
+     * @return Los bits de la palabra.
+     */
+    public long getWord(long wordIndex) {
+        long byteOffset = wordIndex * Long.BYTES;
+        return chunks[(int) (byteOffset >>> CHUNK_SHIFT)].getLong((int) (byteOffset & (CHUNK_BYTES - 1)));
+    }
+
+    @Override
+    public long countOpen() {
+        long cells = (long) rows * cols;
+        long words = (cells + 63) / 64;
+        long total = 0;
+        for (long w = 0; w < words; w++) {
+            long word = getWord(w);
+            long remaining = cells - w * 64;
+            if (remaining < 64) {
+                word &= (1L << remaining) - 1;
+            }
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    @Override
+    public int getRows() {return rows;}
+
+    @Override
+    public int getCols() {return cols;}
+}
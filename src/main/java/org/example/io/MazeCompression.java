@@ -0,0 +1,21 @@
+package org.example.io;
+
+/**
+ * Compresión del cuerpo de un archivo de laberinto ({@link MazeFileFormat}).
+ */
+public enum MazeCompression {
+    /**
+     * Sin compresión: las palabras de bits tal cual. Es la única que se puede mapear en memoria
+     * y leer sin copia.
+     */
+    NONE,
+    /**
+     * Codificación por longitud de rachas: longitudes alternas de muros y caminos (empezando por muros)
+     * como enteros variables. Muy compacta para laberintos con grandes zonas abiertas o cerradas.
+     */
+    RLE,
+    /**
+     * Las palabras de bits comprimidas con DEFLATE ({@link java.util.zip.Deflater}).
+     */
+    DEFLATE
+}
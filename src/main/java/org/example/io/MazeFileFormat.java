@@ -0,0 +1,312 @@
+package org.example.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.example.model.BitPackedGrid;
+import org.example.model.Cell;
+import org.example.model.MazeGrid;
+import org.example.model.MazeInstance;
+
+/**
+ * Formato binario compacto y versionado para guardar y cargar laberintos ({@code .maze}).
+ * <p>Versión 1, con enteros en big-endian:</p>
+ * <ul>
+ * <li>Cabecera de {@value #HEADER_BYTES} bytes: firma {@code "MAZE"} (int), versión (short),
+ * compresión (byte, ordinal de {@link MazeCompression}), un byte reservado, filas y columnas (int),
+ * fila y columna de inicio y de fin (int, -1 si no están definidas), semilla (long) y longitud del cuerpo (long).</li>
+ * <li>Cuerpo: las palabras de bits de la cuadrícula (long, un bit por celda en orden de filas),
+ * tal cual o comprimidas. Sin compresión empieza alineado a 8 bytes, así que se puede mapear.</li>
+ * </ul>
+ */
+public final class MazeFileFormat {
+    public static final int MAGIC = 0x4D415A45; // "MAZE"
+    public static final short VERSION = 1;
+    public static final String EXTENSION = ".maze";
+    public static final int HEADER_BYTES = 48;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private MazeFileFormat() {
+    }
+
+    /**
+     * Escribe un laberinto sin comprimir (se sobrescribe si existe).
+     *
+     * @param file La ruta del archivo de salida.
+     * @param maze El laberinto a guardar.
+     * @throws IOException Si el archivo no se puede escribir.
+     */
+    public static void write(Path file, MazeInstance maze) throws IOException {
+        write(file, maze, MazeCompression.NONE);
+    }
+
+    /**
+     * Escribe un laberinto con la compresión indicada (se sobrescribe si existe).
+     * El cuerpo se escribe primero y la cabecera al final, cuando ya se conoce su longitud.
+     *
+     * @param file La ruta del archivo de salida.
+     * @param maze El laberinto a guardar.
+     * @param compression La compresión del cuerpo.
+     * @throws IOException Si el archivo no se puede escribir.
+     */
+    public static void write(Path file, MazeInstance maze, MazeCompression compression) throws IOException {
+        MazeGrid grid = maze.getGrid();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_BYTES);
+            // El flujo no se cierra aquí: cerrarlo cerraría también el canal antes de escribir la cabecera
+            OutputStream body = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            switch (compression) {
+                case NONE -> writeWords(new DataOutputStream(body), grid);
+                case DEFLATE -> {
+                    // Un Deflater propio no lo libera el flujo: se termina a mano para soltar su memoria nativa
+                    Deflater deflater = new Deflater();
+                    try {
+                        DeflaterOutputStream compressed = new DeflaterOutputStream(body, deflater, BUFFER_SIZE);
+                        writeWords(new DataOutputStream(compressed), grid);
+                        compressed.finish();
+                    } finally {
+                        deflater.end();
+                    }
+                }
+                case RLE -> writeRuns(body, grid);
+            }
+            body.flush();
+            long bodyLength = channel.position() - HEADER_BYTES;
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putShort(VERSION).put((byte) compression.ordinal()).put((byte) 0);
+            header.putInt(grid.getRows()).putInt(grid.getCols());
+            putCell(header, maze.getStart());
+            putCell(header, maze.getEnd());
+            header.putLong(maze.getSeed()).putLong(bodyLength);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    /**
+     * Lee un laberinto completo al heap, descomprimiéndolo si hace falta.
+     *
+     * @param file La ruta del archivo.
+     * @return El laberinto leído, con una {@link BitPackedGrid}.
+     * @throws IOException Si el archivo no existe, no es un laberinto o su versión no está soportada.
+     */
+    public static MazeInstance read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+            Header header = readHeader(in, file);
+            BitPackedGrid grid = new BitPackedGrid(header.rows, header.cols);
+            switch (header.compression) {
+                case NONE -> readWords(in, grid);
+                case DEFLATE -> {
+                    // Igual que al escribir: cerrar el flujo no termina un Inflater que no creó él
+                    Inflater inflater = new Inflater();
+                    try {
+                        readWords(new DataInputStream(new InflaterInputStream(in, inflater, BUFFER_SIZE)), grid);
+                    } finally {
+                        inflater.end();
+                    }
+                }
+                case RLE -> readRuns(in, grid);
+            }
+            return new MazeInstance(grid, header.start, header.end, header.seed);
+        }
+    }
+
+    /**
+     * Abre un laberinto mapeando su cuerpo en memoria, sin copiarlo al heap. Solo los archivos sin
+     * comprimir se pueden mapear; los demás se leen con {@link #read(Path)}.
+     *
+     * @param file La ruta del archivo.
+     * @return El laberinto, con una {@link MappedMazeGrid} si el archivo se pudo mapear.
+     * @throws IOException Si el archivo no existe, no es un laberinto o no se puede mapear.
+     */
+    public static MazeInstance map(Path file) throws IOException {
+        Header header;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer bytes = ByteBuffer.allocate((int) Math.min(HEADER_BYTES, channel.size()));
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, bytes.position()) < 0) {
+                    break;
+                }
+            }
+            header = readHeader(new DataInputStream(new ByteArrayInputStream(bytes.array(), 0, bytes.position())), file);
+            if (header.compression == MazeCompression.NONE) {
+                MappedMazeGrid grid = new MappedMazeGrid(channel, HEADER_BYTES, header.rows, header.cols);
+                return new MazeInstance(grid, header.start, header.end, header.seed);
+            }
+        }
+        return read(file);
+    }
+
+    /** Cabecera leída de un archivo de laberinto. */
+    private static final class Header {
+        MazeCompression compression;
+        int rows;
+        int cols;
+        Cell start;
+        Cell end;
+        long seed;
+    }
+
+    /** Lee y valida la cabecera, dejando el flujo al principio del cuerpo. */
+    private static Header readHeader(DataInput in, Path file) throws IOException {
+        Header header = new Header();
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("El archivo no es un laberinto: " + file);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Versión de laberinto no soportada: " + version);
+            }
+            int compression = in.readUnsignedByte();
+            if (compression >= MazeCompression.values().length) {
+                throw new IOException("Compresión de laberinto desconocida: " + compression);
+            }
+            header.compression = MazeCompression.values()[compression];
+            in.readUnsignedByte(); // Reservado
+            header.rows = in.readInt();
+            header.cols = in.readInt();
+            header.start = readCell(in);
+            header.end = readCell(in);
+            header.seed = in.readLong();
+            in.readLong(); // Longitud del cuerpo
+        } catch (EOFException e) {
+            throw new IOException("Cabecera de laberinto incompleta: " + file, e);
+        }
+        if (header.rows <= 0 || header.cols <= 0) {
+            throw new IOException("Dimensiones de laberinto inválidas: " + header.rows + "x" + header.cols);
+        }
+        return header;
+    }
+
+    /** Escribe las palabras de bits de la cuadrícula. */
+    private static void writeWords(DataOutputStream out, MazeGrid grid) throws IOException {
+        long words = ((long) grid.getRows() * grid.getCols() + 63) / 64;
+        for (long w = 0; w < words; w++) {
+            out.writeLong(wordAt(grid, w));
+        }
+        out.flush();
+    }
+
+    private static void readWords(DataInputStream in, BitPackedGrid grid) throws IOException {
+        for (int w = 0; w < grid.getWordCount(); w++) {
+            grid.setWord(w, in.readLong());
+        }
+    }
+
+    /** Escribe las longitudes alternas de rachas de muros y caminos, empezando por muros. */
+    private static void writeRuns(OutputStream out, MazeGrid grid) throws IOException {
+        int cols = grid.getCols();
+        long cells = (long) grid.getRows() * cols;
+        boolean current = false;
+        long run = 0;
+        for (long index = 0; index < cells; index++) {
+            boolean open = grid.isOpen((int) (index / cols), (int) (index % cols));
+            if (open != current) {
+                writeVarLong(out, run);
+                current = open;
+                run = 0;
+            }
+            run++;
+        }
+        writeVarLong(out, run);
+    }
+
+    private static void readRuns(InputStream in, BitPackedGrid grid) throws IOException {
+        int cols = grid.getCols();
+        long cells = (long) grid.getRows() * cols;
+        long index = 0;
+        boolean open = false;
+        while (index < cells) {
+            long run = readVarLong(in);
+            if (run > cells - index) {
+                throw new IOException("Racha de laberinto fuera de rango.");
+            }
+            if (open) {
+                for (long k = index; k < index + run; k++) {
+                    grid.setOpen((int) (k / cols), (int) (k % cols), true);
+                }
+            }
+            index += run;
+            open = !open;
+        }
+    }
+
+    /** Entero sin signo de longitud variable: 7 bits por byte, el bit alto indica que sigue otro byte. */
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Cuerpo de laberinto incompleto.");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Entero variable demasiado largo en el cuerpo del laberinto.");
+    }
+
+    /** Devuelve la palabra de 64 celdas de cualquier cuadrícula, sin recorrer celda a celda si es posible. */
+    private static long wordAt(MazeGrid grid, long wordIndex) {
+        if (grid instanceof BitPackedGrid packed) {
+            return packed.getWord((int) wordIndex);
+        }
+        if (grid instanceof MappedMazeGrid mapped) {
+            return mapped.getWord(wordIndex);
+        }
+        int cols = grid.getCols();
+        long cells = (long) grid.getRows() * cols;
+        long word = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            long index = wordIndex * 64 + bit;
+            if (index < cells && grid.isOpen((int) (index / cols), (int) (index % cols))) {
+                word |= 1L << bit;
+            }
+        }
+        return word;
+    }
+
+    private static void putCell(ByteBuffer buffer, Cell cell) {
+        buffer.putInt(cell != null ? cell.getRow() : -1);
+        buffer.putInt(cell != null ? cell.getCol() : -1);
+    }
+
+    private static Cell readCell(DataInput in) throws IOException {
+        int row = in.readInt();
+        int col = in.readInt();
+        return row >= 0 && col >= 0 ? new Cell(row, col) : null;
+    }
+}
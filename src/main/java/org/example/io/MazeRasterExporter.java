@@ -0,0 +1,358 @@
+package org.example.io;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.example.model.Cell;
+import org.example.model.MazeGrid;
+import org.example.model.MazeResult;
+
+/**
+ * Exporta un laberinto resuelto directamente a una imagen PNG o PPM, sin pasar por la vista ni por
+ * un {@link java.awt.image.BufferedImage}: muros, celdas visitadas (opcionalmente coloreadas según el
+ * orden de visita) y el camino, con los mismos colores que la vista.
+ * <p>La imagen se dibuja por franjas horizontales en varios hilos y se escribe en orden a medida que
+ * las franjas están listas, con un número acotado de franjas en memoria a la vez; un laberinto de
+ * 20000x20000 celdas se exporta con unas decenas de megabytes en lugar de los 1,6 GB de la imagen completa.
+ * En PNG cada fila se filtra con el filtro "arriba" antes de comprimirla, de modo que las filas repetidas
+ * de las celdas de varios píxeles apenas ocupan.</p>
+ */
+public class MazeRasterExporter {
+    private static final int WALL = 0x000000;
+    private static final int OPEN = 0xFFFFFF;
+    private static final int VISITED = 0xE6E6E6;
+    private static final int PATH = 0x0000FF;
+    private static final int START = 0x00FF00;
+    private static final int END = 0xFF0000;
+    private static final int FIRST_VISITED = 0xFFF0B4; // Primeras visitadas: amarillo claro
+    private static final int LAST_VISITED = 0x78AAFF;  // Últimas visitadas: azul claro
+    private static final int BAND_BYTES = 8 << 20;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final int cellSize;
+    private final boolean colourByOrder;
+    private final int threads;
+
+    /**
+     * Construye un exportador de un píxel por celda, sin gradiente de visita y con un hilo por procesador.
+     */
+    public MazeRasterExporter() {
+        this(1, false, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construye un exportador.
+     *
+     * @param cellSize El lado en píxeles de cada celda.
+     * @param colourByOrder Si las celdas visitadas se colorean con un gradiente según su orden de visita.
+     * @param threads El número de hilos que dibujan franjas.
+     */
+    public MazeRasterExporter(int cellSize, boolean colourByOrder, int threads) {
+        if (cellSize < 1 || threads < 1) {
+            throw new IllegalArgumentException("Tamaño de celda e hilos deben ser al menos 1: " + cellSize + ", " + threads);
+        }
+        this.cellSize = cellSize;
+        this.colourByOrder = colourByOrder;
+        this.threads = threads;
+    }
+
+    /**
+     * Escribe la imagen de un laberinto y, si se indica, de su resolución. El inicio y el fin se
+     * reciben aparte del resultado porque una resolución sin camino no los indica.
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param start La celda de inicio, o null si no está definida.
+     * @param end La celda de fin, o null si no está definida.
+     * @param result El resultado de un solver, o null para exportar solo los muros y los extremos.
+     * @param file El archivo de salida (se sobrescribe si existe).
+     * @param format El formato de imagen.
+     * @throws IOException Si el archivo no se puede escribir.
+     */
+    public void export(MazeGrid grid, Cell start, Cell end, MazeResult result, Path file, RasterFormat format) throws IOException {
+        int rows = grid.getRows();
+        int cols = grid.getCols();
+        if ((long) rows * cols > Integer.MAX_VALUE || (long) cols * cellSize * 3 > Integer.MAX_VALUE - 1
+                || (long) rows * cellSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Imagen demasiado grande: " + rows + "x" + cols + " celdas de " + cellSize + " píxeles");
+        }
+        Overlay overlay = new Overlay(result, start, end, cols);
+        int width = cols * cellSize;
+        int height = rows * cellSize;
+        int rowBytes = width * 3;
+        int bandRows = (int) Math.max(1, Math.min(rows, BAND_BYTES / ((long) rowBytes * cellSize)));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)) {
+            RowWriter writer = format == RasterFormat.PNG ? new PngRowWriter(out, width, height) : new PpmRowWriter(out, width, height);
+            Deque<Future<byte[]>> pending = new ArrayDeque<>();
+            int nextBand = 0;
+            for (int top = 0; top < rows; top += bandRows) {
+                // Como mucho dos franjas por hilo en memoria, para que la escritura marque el ritmo
+                while (nextBand < rows && pending.size() < 2 * threads) {
+                    int first = nextBand;
+                    int last = Math.min(rows, first + bandRows);
+                    pending.add(pool.submit(() -> renderBand(grid, overlay, first, last)));
+                    nextBand = last;
+                }
+                byte[] band = pending.poll().get();
+                for (int offset = 0; offset < band.length; offset += rowBytes) {
+                    writer.writeRow(band, offset);
+                }
+            }
+            writer.finish();
+        } catch (ExecutionException e) {
+            throw new IOException("No se pudo dibujar la imagen: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Exportación interrumpida.", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Dibuja las filas de celdas {@code [first, last)} como filas de píxeles RGB consecutivas. */
+    private byte[] renderBand(MazeGrid grid, Overlay overlay, int first, int last) {
+        int cols = grid.getCols();
+        int rowBytes = cols * cellSize * 3;
+        byte[] band = new byte[(last - first) * cellSize * rowBytes];
+        int offset = 0;
+        for (int row = first; row < last; row++) {
+            int pixel = offset;
+            for (int col = 0; col < cols; col++) {
+                int color = grid.isOpen(row, col) ? overlay.color((long) row * cols + col) : WALL;
+                for (int k = 0; k < cellSize; k++) {
+                    band[pixel++] = (byte) (color >> 16);
+                    band[pixel++] = (byte) (color >> 8);
+                    band[pixel++] = (byte) color;
+                }
+            }
+            for (int k = 1; k < cellSize; k++) {
+                System.arraycopy(band, offset, band, offset + k * rowBytes, rowBytes);
+            }
+            offset += cellSize * rowBytes;
+        }
+        return band;
+    }
+
+    /** Celdas del resultado en estructuras compactas: bits para el camino y las visitadas, o un byte de orden por celda. */
+    private final class Overlay {
+        private final BitSet path = new BitSet();
+        private final BitSet visited = new BitSet();
+        private final byte[] order;
+        private final long start;
+        private final long end;
+
+        Overlay(MazeResult result, Cell startCell, Cell endCell, int cols) {
+            List<Cell> cells = result != null && result.getPath() != null ? result.getPath() : List.of();
+            for (Cell cell : cells) {
+                path.set(cell.getRow() * cols + cell.getCol());
+            }
+            start = startCell == null ? -1 : index(startCell, cols);
+            end = endCell == null ? -1 : index(endCell, cols);
+
+            int total = result != null && result.getVisited() != null ? result.getVisited().size() : 0;
+            order = colourByOrder && total > 0 ? new byte[(int) visitedLimit(result, cols)] : null;
+            int i = 0;
+            if (total > 0) {
+                for (Cell cell : result.getVisited()) {
+                    int index = cell.getRow() * cols + cell.getCol();
+                    if (order != null) {
+                        order[index] = (byte) (1 + (total > 1 ? (long) i * 254 / (total - 1) : 0));
+                    } else {
+                        visited.set(index);
+                    }
+                    i++;
+                }
+            }
+        }
+
+        /** Color de una celda abierta. */
+        int color(long index) {
+            if (index == start) {
+                return START;
+            }
+            if (index == end) {
+                return END;
+            }
+            if (path.get((int) index)) {
+                return PATH;
+            }
+            if (order != null) {
+                int step = index < order.length ? order[(int) index] & 0xFF : 0;
+                return step == 0 ? OPEN : blend(FIRST_VISITED, LAST_VISITED, step - 1);
+            }
+            return visited.get((int) index) ? VISITED : OPEN;
+        }
+
+        private long index(Cell cell, int cols) {
+            return (long) cell.getRow() * cols + cell.getCol();
+        }
+
+        /** El arreglo de orden solo necesita llegar hasta la última celda visitada. */
+        private long visitedLimit(MazeResult result, int cols) {
+            long max = 0;
+            for (Cell cell : result.getVisited()) {
+                max = Math.max(max, index(cell, cols) + 1);
+            }
+            return max;
+        }
+    }
+
+    /** Interpola linealmente dos colores RGB; {@code step} va de 0 a 254. */
+    private static int blend(int from, int to, int step) {
+        int color = 0;
+        for (int shift = 0; shift <= 16; shift += 8) {
+            int a = (from >> shift) & 0xFF;
+            int b = (to >> shift) & 0xFF;
+            color |= (a + (b - a) * step / 254) << shift;
+        }
+        return color;
+    }
+
+    /** Codificador de filas de píxeles RGB hacia un formato de imagen. */
+    private interface RowWriter {
+        void writeRow(byte[] data, int offset) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class PpmRowWriter implements RowWriter {
+        private final OutputStream out;
+        private final int rowBytes;
+
+        PpmRowWriter(OutputStream out, int width, int height) throws IOException {
+            this.out = out;
+            this.rowBytes = width * 3;
+            out.write(("P6\n" + width + " " + height + "\n255\n").getBytes(StandardCharsets.US_ASCII));
+        }
+
+        @Override
+        public void writeRow(byte[] data, int offset) throws IOException {
+            out.write(data, offset, rowBytes);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            out.flush();
+        }
+    }
+
+    private static final class PngRowWriter implements RowWriter {
+        private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+        private final DataOutputStream out;
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final DeflaterOutputStream pixels;
+        private final byte[] previous;
+        private final byte[] filtered;
+
+        PngRowWriter(OutputStream stream, int width, int height) throws IOException {
+            this.out = new DataOutputStream(stream);
+            this.previous = new byte[width * 3];
+            this.filtered = new byte[width * 3 + 1];
+            out.write(SIGNATURE);
+            DataChunkStream header = new DataChunkStream(out, "IHDR");
+            DataOutputStream fields = new DataOutputStream(header);
+            fields.writeInt(width);
+            fields.writeInt(height);
+            fields.write(new byte[] {8, 2, 0, 0, 0}); // 8 bits, RGB, DEFLATE, filtros estándar, sin entrelazar
+            header.flushChunk();
+            this.pixels = new DeflaterOutputStream(new DataChunkStream(out, "IDAT"), deflater, BUFFER_SIZE);
+        }
+
+        @Override
+        public void writeRow(byte[] data, int offset) throws IOException {
+            filtered[0] = 2; // Filtro "arriba": diferencia con la fila anterior
+            for (int i = 0; i < previous.length; i++) {
+                byte value = data[offset + i];
+                filtered[i + 1] = (byte) (value - previous[i]);
+                previous[i] = value;
+            }
+            pixels.write(filtered);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            pixels.close(); // Termina DEFLATE y vacía el último bloque IDAT, sin cerrar el archivo
+            deflater.end();
+            new DataChunkStream(out, "IEND").flushChunk();
+            out.flush();
+        }
+    }
+
+    /**
+     * Agrupa lo que se escribe en bloques PNG de un tipo, con su longitud y CRC. Cerrarlo vacía el
+     * último bloque pero no cierra el flujo de debajo.
+     */
+    private static final class DataChunkStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte[] type;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int length;
+        private boolean written;
+
+        DataChunkStream(DataOutputStream out, String type) {
+            this.out = out;
+            this.type = type.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (length == buffer.length) {
+                flushChunk();
+            }
+            buffer[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int count) throws IOException {
+            while (count > 0) {
+                if (length == buffer.length) {
+                    flushChunk();
+                }
+                int n = Math.min(count, buffer.length - length);
+                System.arraycopy(data, offset, buffer, length, n);
+                length += n;
+                offset += n;
+                count -= n;
+            }
+        }
+
+        /** Escribe lo acumulado como un bloque; un bloque vacío solo se escribe si no hubo ninguno. */
+        void flushChunk() throws IOException {
+            if (length == 0 && written) {
+                return;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(type);
+            crc.update(buffer, 0, length);
+            out.writeInt(length);
+            out.write(type);
+            out.write(buffer, 0, length);
+            out.writeInt((int) crc.getValue());
+            length = 0;
+            written = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            flushChunk();
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package org.example.io;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.example.generator.GridRowSink;
+import org.example.generator.MazeRowSink;
+import org.example.model.BitPackedGrid;
+import org.example.model.MazeInstance;
+
+/**
+ * Importa laberintos dibujados como imágenes en blanco y negro: los píxeles claros (luminancia igual o
+ * mayor que el umbral) y los transparentes son camino, los oscuros son muro.
+ * <p>Los PNG no entrelazados se decodifican en streaming con un lector propio: se recorren los
+ * bloques del archivo, se descomprimen los datos de imagen con {@link Inflater} y cada fila se
+ * reconstruye (deshaciendo su filtro con la fila anterior) y se vuelca al destino. Nunca se construye
+ * un {@link BufferedImage}, así que la memoria es de dos filas de píxeles aunque el mapa tenga cientos
+ * de megapíxeles. Los PNG entrelazados y los demás formatos que entiende {@link ImageIO} se leen por
+ * franjas de {@value #STRIP_ROWS} filas con una región de lectura.</p>
+ */
+public final class PngMazeImporter {
+    public static final int DEFAULT_THRESHOLD = 128;
+
+    private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+    private static final int STRIP_ROWS = 256;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private PngMazeImporter() {
+    }
+
+    /**
+     * Importa una imagen a una cuadrícula de un bit por celda con el umbral por defecto.
+     *
+     * @param file La ruta de la imagen.
+     * @return El laberinto, sin celdas de inicio ni fin.
+     * @throws IOException Si la imagen no se puede leer o su formato no está soportado.
+     */
+    public static MazeInstance read(Path file) throws IOException {
+        BitPackedGrid[] grid = new BitPackedGrid[1];
+        importTo(file, DEFAULT_THRESHOLD, new MazeRowSink() {
+            private GridRowSink target;
+
+            @Override
+            public void begin(int rows, int cols) {
+                grid[0] = new BitPackedGrid(rows, cols);
+                target = new GridRowSink(grid[0]);
+            }
+
+            @Override
+            public void writeRow(int row, boolean[] cells) {
+                target.writeRow(row, cells);
+            }
+
+            @Override
+            public void end() {
+                // La cuadrícula queda en memoria
+            }
+        });
+        return new MazeInstance(grid[0], null, null, 0);
+    }
+
+    /**
+     * Importa una imagen volcando sus filas en un destino, sin guardar la imagen completa.
+     *
+     * @param file La ruta de la imagen.
+     * @param threshold La luminancia mínima (0-255) de un píxel de camino.
+     * @param sink El destino de las filas.
+     * @throws IOException Si la imagen no se puede leer o el destino no se puede escribir.
+     */
+    public static void importTo(Path file, int threshold, MazeRowSink sink) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+            boolean png;
+            try {
+                png = in.readLong() == PNG_SIGNATURE;
+            } catch (EOFException e) {
+                png = false;
+            }
+            if (png && new PngStream(in, threshold).decode(sink)) {
+                return;
+            }
+        }
+        importStrips(file, threshold, sink);
+    }
+
+    /** Lectura por franjas con ImageIO, para PNG entrelazados y otros formatos. */
+    private static void importStrips(Path file, int threshold, MazeRowSink sink) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Formato de imagen no soportado: " + file);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int[] argb = new int[width];
+                boolean[] cells = new boolean[width];
+                ImageReadParam param = reader.getDefaultReadParam();
+                sink.begin(height, width);
+                for (int top = 0; top < height; top += STRIP_ROWS) {
+                    int rows = Math.min(STRIP_ROWS, height - top);
+                    param.setSourceRegion(new Rectangle(0, top, width, rows));
+                    BufferedImage strip = reader.read(0, param);
+                    for (int y = 0; y < rows; y++) {
+                        strip.getRGB(0, y, width, 1, argb, 0, width);
+                        for (int x = 0; x < width; x++) {
+                            int pixel = argb[x];
+                            cells[x] = isOpen((pixel >> 16) & 0xFF, (pixel >> 8) & 0xFF, pixel & 0xFF, pixel >>> 24, threshold);
+                        }
+                        sink.writeRow(top + y, cells);
+                    }
+                }
+                sink.end();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** Un píxel es camino si es claro o casi transparente. */
+    private static boolean isOpen(int red, int green, int blue, int alpha, int threshold) {
+        return alpha < 128 || (red * 299 + green * 587 + blue * 114) / 1000 >= threshold;
+    }
+
+    /** Decodificador en streaming de un PNG no entrelazado, posicionado justo después de la firma. */
+    private static final class PngStream extends InputStream {
+        private final DataInputStream in;
+        private final int threshold;
+        private int width;
+        private int height;
+        private int bitDepth;
+        private int colorType;
+        private int[] palette = new int[0];
+        private long chunkRemaining;
+        private boolean dataEnded;
+
+        PngStream(DataInputStream in, int threshold) {
+            this.in = in;
+            this.threshold = threshold;
+        }
+
+        /**
+         * Decodifica la imagen fila a fila hacia el destino.
+         *
+         * @return false si la imagen es entrelazada y hay que leerla por otra vía.
+         */
+        boolean decode(MazeRowSink sink) throws IOException {
+            int type = nextChunk();
+            if (type != chunkType("IHDR")) {
+                throw new IOException("PNG sin cabecera IHDR.");
+            }
+            width = in.readInt();
+            height = in.readInt();
+            bitDepth = in.readUnsignedByte();
+            colorType = in.readUnsignedByte();
+            in.readUnsignedByte(); // Compresión
+            in.readUnsignedByte(); // Filtro
+            int interlace = in.readUnsignedByte();
+            in.readInt(); // CRC
+            if (width <= 0 || height <= 0) {
+                throw new IOException("Dimensiones de imagen inválidas: " + width + "x" + height);
+            }
+            if (interlace != 0) {
+                return false;
+            }
+            int channels = switch (colorType) {
+                case 0, 3 -> 1;
+                case 2 -> 3;
+                case 4 -> 2;
+                case 6 -> 4;
+                default -> throw new IOException("Tipo de color PNG no soportado: " + colorType);
+            };
+
+            // Bloques auxiliares hasta el primer IDAT; solo interesan la paleta y su transparencia
+            while ((type = nextChunk()) != chunkType("IDAT")) {
+                if (type == chunkType("IEND")) {
+                    throw new IOException("PNG sin datos de imagen.");
+                } else if (type == chunkType("PLTE")) {
+                    palette = new int[(int) (chunkRemaining / 3)];
+                    for (int i = 0; i < palette.length; i++) {
+                        palette[i] = 0xFF000000 | in.readUnsignedByte() << 16 | in.readUnsignedByte() << 8 | in.readUnsignedByte();
+                    }
+                    chunkRemaining -= 3L * palette.length;
+                } else if (type == chunkType("tRNS") && colorType == 3) {
+                    for (int i = 0; chunkRemaining > 0; i++, chunkRemaining--) {
+                        int alpha = in.readUnsignedByte();
+                        if (i < palette.length) {
+                            palette[i] = (palette[i] & 0xFFFFFF) | alpha << 24;
+                        }
+                    }
+                }
+                in.skipNBytes(chunkRemaining + 4); // Resto del bloque y CRC
+            }
+
+            int bitsPerPixel = channels * bitDepth;
+            int bytesPerPixel = Math.max(1, bitsPerPixel / 8);
+            int rowBytes = (int) (((long) width * bitsPerPixel + 7) / 8);
+            byte[] previous = new byte[rowBytes];
+            byte[] current = new byte[rowBytes];
+            boolean[] cells = new boolean[width];
+            DataInputStream pixels = new DataInputStream(new InflaterInputStream(this, new Inflater(), BUFFER_SIZE));
+            sink.begin(height, width);
+            for (int y = 0; y < height; y++) {
+                int filter = pixels.readUnsignedByte();
+                pixels.readFully(current);
+                unfilter(filter, current, previous, bytesPerPixel);
+                convertRow(current, cells);
+                sink.writeRow(y, cells);
+                byte[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+            sink.end();
+            return true;
+        }
+
+        /** Deshace el filtro PNG de una fila usando la fila anterior ya reconstruida. */
+        private static void unfilter(int filter, byte[] row, byte[] previous, int bpp) throws IOException {
+            switch (filter) {
+                case 0 -> {
+                }
+                case 1 -> {
+                    for (int i = bpp; i < row.length; i++) {
+                        row[i] += row[i - bpp];
+                    }
+                }
+                case 2 -> {
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] += previous[i];
+                    }
+                }
+                case 3 -> {
+                    for (int i = 0; i < row.length; i++) {
+                        int left = i >= bpp ? row[i - bpp] & 0xFF : 0;
+                        row[i] += (byte) ((left + (previous[i] & 0xFF)) >>> 1);
+                    }
+                }
+                case 4 -> {
+                    for (int i = 0; i < row.length; i++) {
+                        int a = i >= bpp ? row[i - bpp] & 0xFF : 0;
+                        int b = previous[i] & 0xFF;
+                        int c = i >= bpp ? previous[i - bpp] & 0xFF : 0;
+                        int p = a + b - c;
+                        int pa = Math.abs(p - a);
+                        int pb = Math.abs(p - b);
+                        int pc = Math.abs(p - c);
+                        row[i] += (byte) (pa <= pb && pa <= pc ? a : pb <= pc ? b : c);
+                    }
+                }
+                default -> throw new IOException("Filtro PNG desconocido: " + filter);
+            }
+        }
+
+        /** Convierte una fila reconstruida en celdas de camino o muro. */
+        private void convertRow(byte[] row, boolean[] cells) {
+            int step = bitDepth == 16 ? 2 : 1; // De las muestras de 16 bits basta el byte alto
+            for (int x = 0; x < width; x++) {
+                switch (colorType) {
+                    case 0 -> {
+                        int gray = sample(row, x) * 255 / ((1 << bitDepth) - 1);
+                        cells[x] = gray >= threshold;
+                    }
+                    case 3 -> {
+                        int index = sample(row, x);
+                        int color = index < palette.length ? palette[index] : 0xFF000000;
+                        cells[x] = isOpen((color >> 16) & 0xFF, (color >> 8) & 0xFF, color & 0xFF, color >>> 24, threshold);
+                    }
+                    case 4 -> {
+                        int offset = x * 2 * step;
+                        int gray = row[offset] & 0xFF;
+                        cells[x] = isOpen(gray, gray, gray, row[offset + step] & 0xFF, threshold);
+                    }
+                    case 2 -> {
+                        int offset = x * 3 * step;
+                        cells[x] = isOpen(row[offset] & 0xFF, row[offset + step] & 0xFF, row[offset + 2 * step] & 0xFF, 255, threshold);
+                    }
+                    default -> {
+                        int offset = x * 4 * step;
+                        cells[x] = isOpen(row[offset] & 0xFF, row[offset + step] & 0xFF, row[offset + 2 * step] & 0xFF,
+                                row[offset + 3 * step] & 0xFF, threshold);
+                    }
+                }
+            }
+        }
+
+        /** Lee la muestra de un canal (escala de grises o índice de paleta) de 1 a 16 bits. */
+        private int sample(byte[] row, int x) {
+            if (bitDepth == 16) {
+                return (row[2 * x] & 0xFF) << 8 | (row[2 * x + 1] & 0xFF);
+            }
+            if (bitDepth == 8) {
+                return row[x] & 0xFF;
+            }
+            int bit = x * bitDepth;
+            int shift = 8 - bitDepth - (bit & 7);
+            return ((row[bit >>> 3] & 0xFF) >>> shift) & ((1 << bitDepth) - 1);
+        }
+
+        /** Lee la longitud y el tipo del siguiente bloque, dejando el flujo al principio de sus datos. */
+        private int nextChunk() throws IOException {
+            chunkRemaining = in.readInt() & 0xFFFFFFFFL;
+            return in.readInt();
+        }
+
+        private static int chunkType(String name) {
+            return name.charAt(0) << 24 | name.charAt(1) << 16 | name.charAt(2) << 8 | name.charAt(3);
+        }
+
+        /** Flujo comprimido: los datos de los bloques IDAT consecutivos, uno tras otro. */
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            while (chunkRemaining == 0) {
+                if (dataEnded) {
+                    return -1;
+                }
+                in.readInt(); // CRC del bloque anterior
+                if (nextChunk() != chunkType("IDAT")) {
+                    dataEnded = true;
+                    in.skipNBytes(chunkRemaining);
+                    chunkRemaining = 0;
+                }
+            }
+            int read = in.read(buffer, offset, (int) Math.min(length, chunkRemaining));
+            if (read < 0) {
+                throw new EOFException("PNG truncado.");
+            }
+            chunkRemaining -= read;
+            return read;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+    }
+}
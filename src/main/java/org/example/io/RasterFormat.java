@@ -0,0 +1,29 @@
+package org.example.io;
+
+/**
+ * Formato de imagen de {@link MazeRasterExporter}.
+ */
+public enum RasterFormat {
+    /**
+     * PNG de 24 bits (RGB), comprimido con DEFLATE mientras se escribe.
+     */
+    PNG(".png"),
+    /**
+     * PPM binario ({@code P6}): cabecera de texto y los píxeles RGB sin comprimir. Es el más rápido
+     * de escribir y lo leen la mayoría de herramientas de imagen.
+     */
+    PPM(".ppm");
+
+    private final String extension;
+
+    RasterFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Devuelve la extensión habitual de los archivos de este formato.
+     *
+     * @return La extensión, con el punto.
+     */
+    public String getExtension() {return extension;}
+}
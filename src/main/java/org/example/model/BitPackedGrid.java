@@ -0,0 +1,232 @@
+package org.example.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Cuadrícula de laberinto empaquetada a un bit por celda (1 = camino, 0 = muro), 64 celdas por {@code long}.
+ * Ocupa ocho veces menos que un {@code boolean[][]} y no crea un objeto por fila, por lo que permite
+ * trabajar con laberintos de cientos de millones de celdas que no cabrían como matriz booleana.
+ * <p>Las celdas se numeran por filas: el índice plano de [fila, columna] es {@code fila * columnas + columna}.</p>
+ */
+public class BitPackedGrid implements MazeGrid {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int rows;
+    private final int cols;
+    private final long[] bits;
+
+    /**
+     * Construye una cuadrícula con todas las celdas como muro.
+     *
+     * @param rows El número de filas.
+     * @param cols El número de columnas.
+     */
+    public BitPackedGrid(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + rows + "x" + cols);
+        }
+        long words = ((long) rows * cols + 63) / 64;
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Laberinto demasiado grande: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.bits = new long[(int) words];
+    }
+
+    /**
+     * Crea una cuadrícula empaquetada a partir de una matriz booleana.
+     *
+     * @param grid La cuadrícula booleana, donde 'true' es camino y 'false' es muro.
+     * @return La cuadrícula empaquetada equivalente.
+     */
+    public static BitPackedGrid fromBooleanGrid(boolean[][] grid) {
+        BitPackedGrid packed = new BitPackedGrid(grid.length, grid[0].length);
+        for (int i = 0; i < grid.length; i++) {
+            for (int j = 0; j < grid[i].length; j++) {
+                if (grid[i][j]) {
+                    packed.setOpen(i, j, true);
+                }
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Indica si una celda es camino. Las celdas fuera de la cuadrícula se consideran muro.
+     *
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @return true si la celda está dentro de la cuadrícula y es camino.
+     */
+    @Override
+    public boolean isOpen(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return false;
+        }
+        long index = (long) row * cols + col;
+        return (bits[(int) (index >>> 6)] & (1L << index)) != 0;
+    }
+
+    /**
+     * Marca una celda como camino o como muro.
+     *
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @param open true para camino, false para muro.
+     */
+    public void setOpen(int row, int col, boolean open) {
+        long index = (long) row * cols + col;
+        int word = (int) (index >>> 6);
+        if (open) {
+            bits[word] |= 1L << index;
+        } else {
+            bits[word] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Marca todas las celdas como camino o como muro.
+     *
+     * @param open true para camino, false para muro.
+     */
+    public void fill(boolean open) {
+        Arrays.fill(bits, open ? -1L : 0L);
+    }
+
+    /**
+     * Cuenta las celdas que son camino.
+     *
+     * @return El número de celdas transitables.
+     */
+    @Override
+    public long countOpen() {
+        long total = 0;
+        long cells = (long) rows * cols;
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            long remaining = cells - (long) w * 64;
+            if (remaining < 64) {
+                word &= (1L << remaining) - 1;
+            }
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    /**
+     * Convierte la cuadrícula en una matriz booleana, por ejemplo para mostrarla en la vista
+     * o pasarla a los solvers. Solo tiene sentido para laberintos que caben en memoria como matriz.
+     *
+     * @return La cuadrícula booleana, donde 'true' es camino y 'false' es muro.
+     */
+    @Override
+    public boolean[][] toBooleanGrid() {
+        boolean[][] grid = new boolean[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                grid[i][j] = isOpen(i, j);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Devuelve el número de palabras de 64 bits que forman la cuadrícula.
+     *
+     * @return El número de palabras.
+     */
+    public int getWordCount() {
+        return bits.length;
+    }
+
+    /**
+     * Devuelve una palabra de 64 celdas consecutivas (bit i = celda de índice plano {@code 64 * index + i}).
+     * Permite volcar o cargar la cuadrícula sin recorrerla celda a celda.
+     *
+     * @param index El índice de la palabra.
+     * @return Los bits de la palabra.
+     */
+    public long getWord(int index) {
+        return bits[index];
+    }
+
+    /**
+     * Sobrescribe una palabra de 64 celdas consecutivas.
+     *
+     * @param index El índice de la palabra.
+     * @param value Los nuevos bits de la palabra.
+     */
+    public void setWord(int index, long value) {
+        bits[index] = value;
+    }
+
+    /**
+     * Abre en esta cuadrícula las celdas que son camino en un tramo de otra: {@code length} celdas
+     * consecutivas desde el índice plano {@code srcIndex} de {@code source} se combinan con OR a partir
+     * del índice plano {@code dstIndex} de esta (las celdas de muro no se tocan).
+     * <p>Copia palabra a palabra. Las palabras de destino que el tramo cubre por completo solo las escribe
+     * quien copia el tramo y se escriben directamente; las de los extremos pueden compartirse con celdas
+     * vecinas y se combinan con un OR atómico. Así varios hilos pueden copiar tramos disjuntos a la vez
+     * sin bloqueos.</p>
+     *
+     * @param source La cuadrícula de origen.
+     * @param srcIndex El índice plano de la primera celda del tramo en el origen.
+     * @param dstIndex El índice plano de la primera celda del tramo en esta cuadrícula.
+     * @param length El número de celdas del tramo.
+     */
+    public void orRange(BitPackedGrid source, long srcIndex, long dstIndex, long length) {
+        long done = 0;
+        while (done < length) {
+            long position = dstIndex + done;
+            int word = (int) (position >>> 6);
+            int offset = (int) (position & 63);
+            int count = (int) Math.min(64 - offset, length - done);
+            long value = source.readBits(srcIndex + done, count) << offset;
+            if (count == 64) {
+                bits[word] |= value;
+            } else if (value != 0) {
+                WORDS.getAndBitwiseOr(bits, word, value);
+            }
+            done += count;
+        }
+    }
+
+    /** Lee {@code count} celdas consecutivas (1 a 64) desde un índice plano, en los bits bajos del resultado. */
+    private long readBits(long index, int count) {
+        int word = (int) (index >>> 6);
+        int offset = (int) (index & 63);
+        long value = bits[word] >>> offset;
+        if (offset + count > 64) {
+            value |= bits[word + 1] << (64 - offset);
+        }
+        return count == 64 ? value : value & ((1L << count) - 1);
+    }
+
+    /**
+     * Devuelve el número de filas de la cuadrícula.
+     *
+     * @return El número de filas.
+     */
+    @Override
+    public int getRows() {return rows;}
+
+    /**
+     * Devuelve el número de columnas de la cuadrícula.
+     *
+     * @return El número de columnas.
+     */
+    @Override
+    public int getCols() {return cols;}
+
+    /**
+     * Devuelve los bytes que ocupan las celdas en memoria (sin contar la cabecera del objeto).
+     *
+     * @return El tamaño en bytes del arreglo de palabras.
+     */
+    public long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+}
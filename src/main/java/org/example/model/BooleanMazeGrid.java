@@ -0,0 +1,39 @@
+package org.example.model;
+
+/**
+ * Adaptador de una cuadrícula booleana clásica ({@code boolean[][]}) a la interfaz {@link MazeGrid},
+ * sin copiarla. Es el backend en el heap de {@link Maze}.
+ */
+public class BooleanMazeGrid implements MazeGrid {
+    private final boolean[][] grid;
+
+    /**
+     * Construye el adaptador sobre una cuadrícula existente.
+     *
+     * @param grid La cuadrícula booleana, donde 'true' es camino y 'false' es muro.
+     */
+    public BooleanMazeGrid(boolean[][] grid) {
+        this.grid = grid;
+    }
+
+    @Override
+    public int getRows() {return grid.length;}
+
+    @Override
+    public int getCols() {return grid.length == 0 ? 0 : grid[0].length;}
+
+    @Override
+    public boolean isOpen(int row, int col) {
+        return row >= 0 && row < grid.length && col >= 0 && col < grid[0].length && grid[row][col];
+    }
+
+    /**
+     * Devuelve la cuadrícula original, sin copiarla.
+     *
+     * @return La cuadrícula booleana adaptada.
+     */
+    @Override
+    public boolean[][] toBooleanGrid() {
+        return grid;
+    }
+}
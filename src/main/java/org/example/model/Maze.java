@@ -4,9 +4,13 @@ package org.example.model;
  * Representa la estructura de un laberinto como una cuadrícula booleana.
  * En esta cuadrícula, {true} indica una celda transitable (camino)
  * y {false} indica una celda bloqueada (muro).
+ * <p>Para laberintos más grandes que el heap, el laberinto puede tener en su lugar un backend
+ * {@link MazeGrid} cuyas celdas viven fuera del heap (por ejemplo un archivo mapeado en memoria);
+ * en ese caso no hay matriz booleana y los solvers acceden a los muros a través del backend.</p>
  */
 public class Maze {
     private boolean[][] grid;
+    private MazeGrid backend;
 
     /**
      * Construye una nueva instancia de Maze con la cuadrícula especificada.
@@ -17,21 +21,66 @@ public class Maze {
         this.grid = grid;
     }
 
+    /**
+     * Construye una nueva instancia de Maze respaldada por un backend de celdas, normalmente
+     * fuera del heap. La cuadrícula booleana no se materializa.
+     *
+     * @param backend El backend que proporciona los muros del laberinto.
+     */
+    public Maze(MazeGrid backend) {
+        setBackend(backend);
+    }
+
     /**
      * Establece una nueva cuadrícula para el laberinto.
+     * Sustituye también a cualquier backend anterior.
      *
      * @param grid La nueva cuadrícula booleana que define el laberinto.
      */
     public void setGrid(boolean[][] grid) {
         this.grid = grid;
+        this.backend = null;
     }
 
     /**
      * Devuelve la cuadrícula booleana actual del laberinto.
      *
-     * @return La cuadrícula booleana que representa el laberinto.
+     * @return La cuadrícula booleana que representa el laberinto, o null si el laberinto
+     * está respaldado por un backend fuera del heap.
      */
     public boolean[][] getGrid() {
         return grid;
     }
+
+    /**
+     * Establece un backend de celdas para el laberinto, descartando la cuadrícula booleana.
+     *
+     * @param backend El backend que proporciona los muros del laberinto.
+     */
+    public void setBackend(MazeGrid backend) {
+        this.backend = backend;
+        this.grid = backend instanceof BooleanMazeGrid booleanGrid ? booleanGrid.toBooleanGrid() : null;
+    }
+
+    /**
+     * Devuelve el acceso a los muros del laberinto a través de la interfaz común {@link MazeGrid}:
+     * el backend si lo hay, o un adaptador sin copia sobre la cuadrícula booleana.
+     *
+     * @return El acceso a la cuadrícula del laberinto.
+     */
+    public MazeGrid getBackend() {
+        if (backend == null) {
+            backend = new BooleanMazeGrid(grid);
+        }
+        return backend;
+    }
+
+    /**
+     * Indica si las celdas del laberinto viven fuera del heap (no hay cuadrícula booleana).
+     *
+     * @return true si el laberinto está respaldado por un backend fuera del heap.
+     */
+    public boolean isOffHeap() {
+        return grid == null && backend != null;
+    }
 }
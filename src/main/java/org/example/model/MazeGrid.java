@@ -0,0 +1,64 @@
+package org.example.model;
+
+/**
+ * Acceso de solo lectura a los muros de un laberinto, independiente de cómo se almacenen
+ * (matriz booleana, bits empaquetados en memoria o un archivo mapeado fuera del heap).
+ * Las celdas fuera de la cuadrícula se consideran muro.
+ */
+public interface MazeGrid {
+    /**
+     * Devuelve el número de filas de la cuadrícula.
+     *
+     * @return El número de filas.
+     */
+    int getRows();
+
+    /**
+     * Devuelve el número de columnas de la cuadrícula.
+     *
+     * @return El número de columnas.
+     */
+    int getCols();
+
+    /**
+     * Indica si una celda es camino.
+     *
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @return true si la celda está dentro de la cuadrícula y es camino.
+     */
+    boolean isOpen(int row, int col);
+
+    /**
+     * Cuenta las celdas que son camino.
+     *
+     * @return El número de celdas transitables.
+     */
+    default long countOpen() {
+        long total = 0;
+        for (int i = 0; i < getRows(); i++) {
+            for (int j = 0; j < getCols(); j++) {
+                if (isOpen(i, j)) {
+                    total++;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Copia la cuadrícula en una matriz booleana, por ejemplo para mostrarla en la vista o pasarla
+     * a los solvers clásicos. Solo tiene sentido para laberintos que caben en memoria como matriz.
+     *
+     * @return La cuadrícula booleana, donde 'true' es camino y 'false' es muro.
+     */
+    default boolean[][] toBooleanGrid() {
+        boolean[][] grid = new boolean[getRows()][getCols()];
+        for (int i = 0; i < grid.length; i++) {
+            for (int j = 0; j < grid[i].length; j++) {
+                grid[i][j] = isOpen(i, j);
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.model;
+
+/**
+ * Un laberinto completo listo para resolver: la cuadrícula (en memoria o mapeada desde un archivo),
+ * las celdas de inicio y fin, y la semilla con la que se generó (para poder reproducirlo).
+ */
+public class MazeInstance {
+    private final MazeGrid grid;
+    private final Cell start;
+    private final Cell end;
+    private final long seed;
+
+    /**
+     * Construye una instancia de laberinto.
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param start La celda de inicio, o null si no está definida.
+     * @param end La celda de fin, o null si no está definida.
+     * @param seed La semilla con la que se generó (0 si se dibujó a mano).
+     */
+    public MazeInstance(MazeGrid grid, Cell start, Cell end, long seed) {
+        this.grid = grid;
+        this.start = start;
+        this.end = end;
+        this.seed = seed;
+    }
+
+    /**
+     * Devuelve la cuadrícula del laberinto.
+     *
+     * @return La cuadrícula.
+     */
+    public MazeGrid getGrid() {return grid;}
+
+    /**
+     * Devuelve la celda de inicio.
+     *
+     * @return La celda de inicio, o null si no está definida.
+     */
+    public Cell getStart() {return start;}
+
+    /**
+     * Devuelve la celda de fin.
+     *
+     * @return La celda de fin, o null si no está definida.
+     */
+    public Cell getEnd() {return end;}
+
+    /**
+     * Devuelve la semilla con la que se generó el laberinto.
+     *
+     * @return La semilla.
+     */
+    public long getSeed() {return seed;}
+
+    @Override
+    public String toString() {
+        return "MazeInstance{" + grid.getRows() + "x" + grid.getCols() + ", start=" + start + ", end=" + end + ", seed=" + seed + "}";
+    }
+}
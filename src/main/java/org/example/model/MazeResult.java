@@ -6,11 +6,12 @@ import java.util.Set;
 /**
  * Encapsula los resultados de un algoritmo de resolución de laberintos.
  * Contiene el camino encontrado (si existe) y el conjunto de todas las celdas visitadas
- * durante el proceso de búsqueda.
+ * durante el proceso de búsqueda, y opcionalmente las métricas de la búsqueda ({@link SearchMetrics}).
  */
 public class MazeResult {
     private List<Cell> path;
     private Set<Cell> visited;
+    private SearchMetrics metrics;
 
     /**
      * Construye una nueva instancia de MazeResult con el camino y las celdas visitadas especificadas.
@@ -52,6 +53,20 @@ public class MazeResult {
      */
     public void setVisited(Set<Cell> visited) {this.visited = visited;}
 
+    /**
+     * Devuelve las métricas de la búsqueda que produjo este resultado.
+     *
+     * @return Las métricas, o null si están desactivadas ({@link SearchMetrics#ENABLED}).
+     */
+    public SearchMetrics getMetrics() {return metrics;}
+
+    /**
+     * Establece las métricas de la búsqueda.
+     *
+     * @param metrics Las métricas, o null.
+     */
+    public void setMetrics(SearchMetrics metrics) {this.metrics = metrics;}
+
     /**
      * Devuelve una representación en cadena de los resultados del laberinto,
      * incluyendo el camino y las celdas visitadas.
@@ -18,4 +18,29 @@ public interface MazeSolver {
      * @return Un objeto MazeResult que contiene la lista del camino y el conjunto de celdas visitadas.
      */
     MazeResult getPath(boolean[][] grid,Cell star, Cell end);
+
+    /**
+     * Calcula el resultado de la resolución sobre cualquier backend de cuadrícula ({@link MazeGrid}),
+     * incluidos los que viven fuera del heap.
+     * La implementación por defecto materializa la cuadrícula como matriz booleana (sin copia si el
+     * backend ya es una) y delega en {@link #getPath(boolean[][], Cell, Cell)}; los solvers preparados
+     * para laberintos más grandes que el heap la sobrescriben para leer los muros directamente del backend.
+     *
+     * @param grid El acceso a los muros del laberinto.
+     * @param start La celda de inicio desde la cual comenzar la búsqueda.
+     * @param end La celda de destino a la que se debe llegar.
+     * @return Un objeto MazeResult que contiene la lista del camino y el conjunto de celdas visitadas.
+     */
+    default MazeResult getPath(MazeGrid grid, Cell start, Cell end) {
+        return getPath(grid.toBooleanGrid(), start, end);
+    }
+
+    /**
+     * Devuelve el número de hilos que usa el solver en una resolución, para registrarlo junto a sus tiempos.
+     *
+     * @return El número de hilos; 1 para los solvers secuenciales.
+     */
+    default int getThreadCount() {
+        return 1;
+    }
 }
@@ -0,0 +1,221 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Capa de obstáculos móviles por tick que se superpone a la cuadrícula base de un {@link Maze}.
+ * Cada tick guarda únicamente la lista ordenada de celdas bloqueadas en ese instante
+ * (índice plano fila * columnas + columna), de modo que el coste en memoria depende del número
+ * de obstáculos y no del área del laberinto.
+ * <p>El horario puede ser cíclico (los obstáculos repiten su recorrido cada {@code period} ticks)
+ * o finito (a partir del último tick los obstáculos se quedan quietos en su última posición).</p>
+ */
+public class ObstacleSchedule {
+    private final int rows;
+    private final int cols;
+    private final int period;
+    private final boolean cyclic;
+
+    private final int[][] blockedByTick;
+    private final int[] sizes;
+    private int[] dynamicCells = new int[0];
+    private volatile boolean dirty = false;
+
+    /**
+     * Construye un horario vacío de obstáculos.
+     *
+     * @param rows El número de filas del laberinto.
+     * @param cols El número de columnas del laberinto.
+     * @param period El número de ticks que describe el horario (mínimo 1).
+     * @param cyclic true si el horario se repite cada {@code period} ticks, false si los obstáculos
+     * se quedan en su última posición.
+     */
+    public ObstacleSchedule(int rows, int cols, int period, boolean cyclic) {
+        this.rows = rows;
+        this.cols = cols;
+        this.period = Math.max(1, period);
+        this.cyclic = cyclic;
+        this.blockedByTick = new int[this.period][];
+        this.sizes = new int[this.period];
+        for (int t = 0; t < this.period; t++) {
+            blockedByTick[t] = new int[4];
+        }
+    }
+
+    /**
+     * Marca una celda como bloqueada en un tick del horario.
+     *
+     * @param tick El tick (entre 0 y period - 1).
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     */
+    public void addBlocked(int tick, int row, int col) {
+        if (tick < 0 || tick >= period || row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IllegalArgumentException("Tick o celda fuera del horario: " + tick + " [" + row + " , " + col + "]");
+        }
+        int[] cells = blockedByTick[tick];
+        if (sizes[tick] == cells.length) {
+            cells = Arrays.copyOf(cells, cells.length * 2);
+            blockedByTick[tick] = cells;
+        }
+        cells[sizes[tick]++] = row * cols + col;
+        dirty = true;
+    }
+
+    /**
+     * Añade un obstáculo que recorre la trayectoria indicada, avanzando una celda por tick
+     * y volviendo al principio de la trayectoria cuando la termina.
+     *
+     * @param trajectory Las celdas que ocupa el obstáculo en los ticks 0, 1, 2, ...
+     */
+    public void addMovingObstacle(List<Cell> trajectory) {
+        if (trajectory == null || trajectory.isEmpty()) {
+            return;
+        }
+        for (int t = 0; t < period; t++) {
+            Cell cell = trajectory.get(t % trajectory.size());
+            addBlocked(t, cell.getRow(), cell.getCol());
+        }
+    }
+
+    /**
+     * Indica si una celda está ocupada por un obstáculo móvil en un tick dado.
+     * No tiene en cuenta los muros de la cuadrícula base.
+     *
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @param tick El tick (cualquier valor no negativo).
+     * @return true si un obstáculo ocupa la celda en ese tick.
+     */
+    public boolean isBlocked(int row, int col, int tick) {
+        freeze();
+        int phase = phase(tick);
+        return Arrays.binarySearch(blockedByTick[phase], 0, sizes[phase], row * cols + col) >= 0;
+    }
+
+    /**
+     * Indica si una celda es transitable en un tick dado, combinando la cuadrícula base y los obstáculos.
+     *
+     * @param base La cuadrícula base del laberinto, donde 'true' es camino y 'false' es muro.
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @param tick El tick.
+     * @return true si la celda está dentro de la cuadrícula, no es muro y no está ocupada.
+     */
+    public boolean isOpen(boolean[][] base, int row, int col, int tick) {
+        if (row < 0 || row >= base.length || col < 0 || col >= base[0].length || !base[row][col]) {
+            return false;
+        }
+        return dynamicIndex(row, col) < 0 || !isBlocked(row, col, tick);
+    }
+
+    /**
+     * Convierte un tick absoluto en la fase del horario: el resto de la división si es cíclico,
+     * o el último tick del horario si este ya ha terminado.
+     *
+     * @param tick El tick absoluto.
+     * @return La fase, entre 0 y period - 1.
+     */
+    public int phase(int tick) {
+        return cyclic ? tick % period : Math.min(tick, period - 1);
+    }
+
+    /**
+     * Devuelve el índice de una celda dentro del conjunto de celdas que algún obstáculo llega a ocupar.
+     * Las celdas que nunca se bloquean son estáticas y devuelven -1.
+     *
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @return El índice de la celda dinámica, o -1 si la celda es estática.
+     */
+    public int dynamicIndex(int row, int col) {
+        freeze();
+        int index = Arrays.binarySearch(dynamicCells, row * cols + col);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Devuelve el número de celdas distintas que algún obstáculo ocupa en algún tick.
+     *
+     * @return El número de celdas dinámicas.
+     */
+    public int getDynamicCellCount() {
+        freeze();
+        return dynamicCells.length;
+    }
+
+    /**
+     * Devuelve el número de ticks del horario.
+     *
+     * @return El periodo del horario.
+     */
+    public int getPeriod() {return period;}
+
+    /**
+     * Indica si el horario se repite cíclicamente.
+     *
+     * @return true si es cíclico.
+     */
+    public boolean isCyclic() {return cyclic;}
+
+    /**
+     * Devuelve el número de filas del laberinto al que se aplica el horario.
+     *
+     * @return El número de filas.
+     */
+    public int getRows() {return rows;}
+
+    /**
+     * Devuelve el número de columnas del laberinto al que se aplica el horario.
+     *
+     * @return El número de columnas.
+     */
+    public int getCols() {return cols;}
+
+    /**
+     * Ordena y elimina duplicados de cada tick y recalcula el conjunto de celdas dinámicas.
+     * Se ejecuta de forma perezosa tras la última modificación.
+     */
+    private void freeze() {
+        if (dirty) {
+            rebuild();
+        }
+    }
+
+    /** Reconstruye los arreglos ordenados; sincronizado para permitir consultas desde varios hilos. */
+    private synchronized void rebuild() {
+        if (!dirty) {
+            return;
+        }
+        int total = 0;
+        for (int t = 0; t < period; t++) {
+            int[] cells = blockedByTick[t];
+            Arrays.sort(cells, 0, sizes[t]);
+            int unique = 0;
+            for (int i = 0; i < sizes[t]; i++) {
+                if (unique == 0 || cells[unique - 1] != cells[i]) {
+                    cells[unique++] = cells[i];
+                }
+            }
+            sizes[t] = unique;
+            total += unique;
+        }
+
+        int[] all = new int[total];
+        int pos = 0;
+        for (int t = 0; t < period; t++) {
+            System.arraycopy(blockedByTick[t], 0, all, pos, sizes[t]);
+            pos += sizes[t];
+        }
+        Arrays.sort(all);
+        int unique = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (unique == 0 || all[unique - 1] != all[i]) {
+                all[unique++] = all[i];
+            }
+        }
+        dynamicCells = Arrays.copyOf(all, unique);
+        dirty = false;
+    }
+}
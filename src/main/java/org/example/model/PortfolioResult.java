@@ -0,0 +1,63 @@
+package org.example.model;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resultado de un solver de portafolio, que lanza varias variantes de un mismo algoritmo
+ * en paralelo y se queda con la primera que llega al destino.
+ * Además del camino y las celdas visitadas, registra qué variante ganó la carrera,
+ * para poder estudiar la varianza entre laberintos.
+ */
+public class PortfolioResult extends MazeResult {
+    private final int winningVariant;
+    private final String winningDescription;
+    private final int variantCount;
+
+    /**
+     * Construye un nuevo resultado de portafolio.
+     *
+     * @param path El camino encontrado por la variante ganadora (vacío si ninguna llegó al destino).
+     * @param visited Las celdas visitadas por la variante ganadora.
+     * @param winningVariant El índice de la variante ganadora, o -1 si ninguna encontró camino.
+     * @param winningDescription Descripción legible de la variante ganadora (orden de vecinos o semilla).
+     * @param variantCount El número total de variantes lanzadas.
+     */
+    public PortfolioResult(List<Cell> path, Set<Cell> visited, int winningVariant, String winningDescription, int variantCount) {
+        super(path, visited);
+        this.winningVariant = winningVariant;
+        this.winningDescription = winningDescription;
+        this.variantCount = variantCount;
+    }
+
+    /**
+     * Devuelve el índice de la variante que llegó primero al destino.
+     *
+     * @return El índice de la variante ganadora, o -1 si no se encontró camino.
+     */
+    public int getWinningVariant() {return winningVariant;}
+
+    /**
+     * Devuelve la descripción de la variante ganadora.
+     *
+     * @return La descripción de la variante (por ejemplo, "orden Abajo-Derecha-Arriba-Izquierda" o "semilla 42").
+     */
+    public String getWinningDescription() {return winningDescription;}
+
+    /**
+     * Devuelve el número de variantes que participaron en la carrera.
+     *
+     * @return El número de variantes lanzadas.
+     */
+    public int getVariantCount() {return variantCount;}
+
+    /**
+     * Devuelve una representación en cadena del resultado, incluyendo la variante ganadora.
+     *
+     * @return Una cadena que describe el camino, las celdas visitadas y la variante ganadora.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "\nWinner=" + winningVariant + " (" + winningDescription + ") of " + variantCount;
+    }
+}
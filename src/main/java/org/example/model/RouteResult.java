@@ -0,0 +1,52 @@
+package org.example.model;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resultado de una ruta con puntos intermedios entre la celda de inicio y la de fin.
+ * Además del camino completo (los tramos ya unidos) y las celdas exploradas,
+ * registra el orden en que se visitan los puntos intermedios y si ese orden es óptimo.
+ */
+public class RouteResult extends MazeResult {
+    private final List<Cell> waypointOrder;
+    private final boolean exactOrder;
+
+    /**
+     * Construye un nuevo resultado de ruta.
+     *
+     * @param path El camino completo desde el inicio hasta el fin pasando por todos los puntos intermedios.
+     * @param visited Las celdas exploradas por las búsquedas BFS de cada punto.
+     * @param waypointOrder Los puntos intermedios en el orden en que los recorre la ruta.
+     * @param exactOrder true si el orden se calculó con programación dinámica exacta, false si es heurístico.
+     */
+    public RouteResult(List<Cell> path, Set<Cell> visited, List<Cell> waypointOrder, boolean exactOrder) {
+        super(path, visited);
+        this.waypointOrder = waypointOrder;
+        this.exactOrder = exactOrder;
+    }
+
+    /**
+     * Devuelve los puntos intermedios en el orden de visita elegido.
+     *
+     * @return La lista ordenada de puntos intermedios.
+     */
+    public List<Cell> getWaypointOrder() {return waypointOrder;}
+
+    /**
+     * Indica si el orden de visita es óptimo (programación dinámica) o heurístico.
+     *
+     * @return true si el orden es exacto, false si es heurístico.
+     */
+    public boolean isExactOrder() {return exactOrder;}
+
+    /**
+     * Devuelve una representación en cadena del resultado, incluyendo el orden de los puntos intermedios.
+     *
+     * @return Una cadena que describe el camino, las celdas visitadas y el orden de visita.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "\nWaypoints=" + waypointOrder + (exactOrder ? " (exacto)" : " (heurístico)");
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.model;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Métricas de búsqueda de una resolución: nodos expandidos (celdas sacadas de la frontera y exploradas),
+ * nodos generados (celdas añadidas a la frontera), tamaño máximo de la frontera (cola, pila o
+ * profundidad de recursión), coste del camino y bytes reservados en el heap por los hilos que resolvieron.
+ * <p>Los solvers acumulan los contadores con {@link #expand()}, {@link #generate()} y {@link #frontier(long)}
+ * y los adjuntan al {@link MazeResult} con {@link #attachTo(MazeResult)}; quien llama al solver completa
+ * el coste del camino y los bytes reservados con {@link #allocatedBytes()} y
+ * {@link #complete(MazeResult, long)}. Los solvers que reparten la búsqueda entre varios hilos (el portafolio
+ * y el de rutas) llevan unas métricas por hilo, las suman con {@link #add(SearchMetrics)} y anotan lo que
+ * reservó cada hilo auxiliar con {@link #addWorkerAllocation(long)}. Un solver que no adjunte métricas
+ * propias recibe solo el número de celdas visitadas como expandidas. Un valor -1 indica una métrica no
+ * informada.</p>
+ * <p>Se desactivan con la propiedad del sistema {@code maze.metrics=false} (por ejemplo en los
+ * benchmarks): como {@link #ENABLED} es constante, el JIT elimina los contadores y
+ * {@link MazeResult#getMetrics()} devuelve null.</p>
+ */
+public class SearchMetrics {
+    /** Si las métricas están activas; se lee una vez de la propiedad {@code maze.metrics} (por defecto true). */
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("maze.metrics", "true"));
+
+    private static final com.sun.management.ThreadMXBean THREADS = ENABLED ? allocationBean() : null;
+
+    private long nodesExpanded;
+    private long nodesGenerated;
+    private long peakFrontier;
+    private long pathCost = -1;
+    private long allocatedBytes = -1;
+    private long workerAllocatedBytes;
+
+    /**
+     * Crea unas métricas con los contadores a cero, para que un solver las vaya acumulando.
+     */
+    public SearchMetrics() {
+    }
+
+    /**
+     * Crea unas métricas con valores conocidos (por ejemplo, leídas del registro de resultados).
+     *
+     * @param nodesExpanded Los nodos expandidos, o -1.
+     * @param nodesGenerated Los nodos generados, o -1.
+     * @param peakFrontier El tamaño máximo de la frontera, o -1.
+     * @param pathCost El coste del camino en pasos, o -1 si no se encontró.
+     * @param allocatedBytes Los bytes reservados durante la resolución, o -1.
+     */
+    public SearchMetrics(long nodesExpanded, long nodesGenerated, long peakFrontier, long pathCost, long allocatedBytes) {
+        this.nodesExpanded = nodesExpanded;
+        this.nodesGenerated = nodesGenerated;
+        this.peakFrontier = peakFrontier;
+        this.pathCost = pathCost;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /** Cuenta un nodo expandido. */
+    public void expand() {
+        if (ENABLED) {
+            nodesExpanded++;
+        }
+    }
+
+    /** Cuenta un nodo generado. */
+    public void generate() {
+        if (ENABLED) {
+            nodesGenerated++;
+        }
+    }
+
+    /**
+     * Registra el tamaño actual de la frontera, conservando el máximo.
+     *
+     * @param size El número de nodos en la cola o la pila, o la profundidad de la recursión.
+     */
+    public void frontier(long size) {
+        if (ENABLED && size > peakFrontier) {
+            peakFrontier = size;
+        }
+    }
+
+    /**
+     * Suma las métricas de otra búsqueda, por ejemplo la de un hilo auxiliar: los nodos expandidos y
+     * generados y los bytes reservados por hilos auxiliares se suman, y la frontera máxima es la mayor.
+     *
+     * @param other Las métricas de la otra búsqueda.
+     */
+    public void add(SearchMetrics other) {
+        if (ENABLED) {
+            nodesExpanded += other.nodesExpanded;
+            nodesGenerated += other.nodesGenerated;
+            peakFrontier = Math.max(peakFrontier, other.peakFrontier);
+            workerAllocatedBytes += other.workerAllocatedBytes;
+        }
+    }
+
+    /**
+     * Anota los bytes que ha reservado el hilo actual, un hilo auxiliar de la resolución, desde
+     * {@code allocatedBefore}; {@link #complete(MazeResult, long)} los suma a los del hilo que llamó al solver.
+     *
+     * @param allocatedBefore El valor de {@link #allocatedBytes()} en este hilo antes de su parte de la búsqueda.
+     */
+    public void addWorkerAllocation(long allocatedBefore) {
+        long allocatedAfter = allocatedBytes();
+        if (ENABLED && allocatedBefore >= 0 && allocatedAfter >= 0) {
+            workerAllocatedBytes += allocatedAfter - allocatedBefore;
+        }
+    }
+
+    /**
+     * Adjunta estas métricas a un resultado si están activas.
+     *
+     * @param result El resultado del solver.
+     * @return El mismo resultado, para encadenar con el {@code return} del solver.
+     */
+    public MazeResult attachTo(MazeResult result) {
+        if (ENABLED) {
+            result.setMetrics(this);
+        }
+        return result;
+    }
+
+    /**
+     * Devuelve los bytes reservados hasta ahora por el hilo actual, para restarlos tras la resolución.
+     *
+     * @return Los bytes, o -1 si las métricas están desactivadas o la JVM no los mide.
+     */
+    public static long allocatedBytes() {
+        return ENABLED && THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Completa las métricas de un resultado tras la resolución: el coste del camino y los bytes reservados
+     * desde {@code allocatedBefore}, más los que anotaron los hilos auxiliares. Si el solver no adjuntó métricas propias, se crean con las celdas
+     * visitadas como nodos expandidos.
+     *
+     * @param result El resultado del solver.
+     * @param allocatedBefore El valor de {@link #allocatedBytes()} antes de llamar al solver.
+     */
+    public static void complete(MazeResult result, long allocatedBefore) {
+        long allocatedAfter = allocatedBytes();
+        if (!ENABLED || result == null) {
+            return;
+        }
+        SearchMetrics metrics = result.getMetrics();
+        if (metrics == null) {
+            // Los solvers fuera del heap no devuelven visitadas: entonces no se sabe cuántas expandieron
+            Set<?> visited = result.getVisited();
+            metrics = new SearchMetrics(visited == null || visited.isEmpty() ? -1 : visited.size(), -1, -1, -1, -1);
+            result.setMetrics(metrics);
+        }
+        List<?> path = result.getPath();
+        metrics.pathCost = path == null || path.isEmpty() ? -1 : path.size() - 1;
+        metrics.allocatedBytes = allocatedBefore < 0 || allocatedAfter < 0
+                ? -1 : allocatedAfter - allocatedBefore + metrics.workerAllocatedBytes;
+    }
+
+    /**
+     * Devuelve los nodos expandidos.
+     *
+     * @return Las celdas sacadas de la frontera y exploradas, o -1.
+     */
+    public long getNodesExpanded() {return nodesExpanded;}
+
+    /**
+     * Devuelve los nodos generados.
+     *
+     * @return Las celdas añadidas a la frontera, o -1.
+     */
+    public long getNodesGenerated() {return nodesGenerated;}
+
+    /**
+     * Devuelve el tamaño máximo de la frontera.
+     *
+     * @return El máximo de la cola, la pila o la profundidad de recursión, o -1.
+     */
+    public long getPeakFrontier() {return peakFrontier;}
+
+    /**
+     * Devuelve el coste del camino encontrado.
+     *
+     * @return Los pasos del camino, o -1 si no se encontró.
+     */
+    public long getPathCost() {return pathCost;}
+
+    /**
+     * Devuelve los bytes reservados en el heap durante la resolución por el hilo que la ejecutó y por los
+     * hilos auxiliares que anotó el solver. No incluye la memoria fuera del heap.
+     *
+     * @return Los bytes, o -1 si no se midieron.
+     */
+    public long getAllocatedBytes() {return allocatedBytes;}
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchMetrics{expandidos=" + nodesExpanded + ", generados=" + nodesGenerated + ", frontera="
+                + peakFrontier + ", coste=" + pathCost + ", bytes=" + allocatedBytes + "}";
+    }
+}
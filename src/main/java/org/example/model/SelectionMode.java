@@ -20,5 +20,9 @@ public enum SelectionMode {
     /**
      * Modo para seleccionar celdas y convertirlas en obstáculos (muros) o eliminarlos.
      */
-    OBSTACLE_CELL
+    OBSTACLE_CELL,
+    /**
+     * Modo para seleccionar celdas como puntos intermedios que la ruta debe visitar, o quitarlas.
+     */
+    WAYPOINT_CELL
 }
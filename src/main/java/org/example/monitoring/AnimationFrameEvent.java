@@ -0,0 +1,59 @@
+package org.example.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Java Flight Recorder que cubre un fotograma de la animación: el repintado en el hilo de
+ * eventos de Swing de las celdas que el {@code SwingWorker} de la animación publicó desde el fotograma
+ * anterior. Un fotograma largo, o muchos seguidos, indica que el EDT no da abasto. Ver {@link SolveEvent}.
+ */
+@Name("org.example.AnimationFrame")
+@Label("Fotograma de animación")
+@Description("Repintado en el EDT de un lote de celdas de la animación")
+@Category({"Laberinto", "Interfaz"})
+@StackTrace(false)
+public class AnimationFrameEvent extends Event {
+    @Label("Algoritmo")
+    String algorithm;
+
+    @Label("Filas")
+    int rows;
+
+    @Label("Columnas")
+    int cols;
+
+    @Label("Fase")
+    @Description("\"visitadas\" o \"camino\"")
+    String phase;
+
+    @Label("Celdas")
+    @Description("Celdas repintadas en este fotograma")
+    int cells;
+
+    /**
+     * Termina el evento y, si se está grabando, lo rellena y lo guarda.
+     *
+     * @param algorithm El nombre del algoritmo animado.
+     * @param rows Las filas del laberinto.
+     * @param cols Las columnas del laberinto.
+     * @param pathPhase true si se está animando el camino, false si las celdas visitadas.
+     * @param cells Las celdas repintadas.
+     */
+    public void finish(String algorithm, int rows, int cols, boolean pathPhase, int cells) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.algorithm = algorithm;
+        this.rows = rows;
+        this.cols = cols;
+        this.phase = pathPhase ? "camino" : "visitadas";
+        this.cells = cells;
+        commit();
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Java Flight Recorder que cubre la preparación de un resultado para mostrarlo: copiar las
+ * celdas visitadas y el camino a las listas de la animación y limpiar la vista anterior
+ * ({@code MazeController.processAndDisplayResults}). Ver {@link SolveEvent}.
+ */
+@Name("org.example.ResultProcessing")
+@Label("Preparación del resultado")
+@Description("Conversión del resultado del solver en las listas de la animación")
+@Category({"Laberinto", "Interfaz"})
+@StackTrace(false)
+public class ResultProcessingEvent extends Event {
+    @Label("Algoritmo")
+    String algorithm;
+
+    @Label("Filas")
+    int rows;
+
+    @Label("Columnas")
+    int cols;
+
+    @Label("Celdas visitadas")
+    int visitedCells;
+
+    @Label("Longitud del camino")
+    int pathLength;
+
+    /**
+     * Termina el evento y, si se está grabando, lo rellena y lo guarda.
+     *
+     * @param algorithm El nombre del algoritmo.
+     * @param rows Las filas del laberinto.
+     * @param cols Las columnas del laberinto.
+     * @param visitedCells Las celdas visitadas a animar.
+     * @param pathLength Las celdas del camino a animar.
+     */
+    public void finish(String algorithm, int rows, int cols, int visitedCells, int pathLength) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.algorithm = algorithm;
+        this.rows = rows;
+        this.cols = cols;
+        this.visitedCells = visitedCells;
+        this.pathLength = pathLength;
+        commit();
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.monitoring;
+
+import java.util.List;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.example.results.ResultRecord;
+
+/**
+ * Evento de Java Flight Recorder que cubre la escritura de un lote de resultados en el registro de
+ * resultados, forzado a disco incluido (sustituye al antiguo guardado del CSV completo). Ver {@link SolveEvent}.
+ */
+@Name("org.example.ResultsWrite")
+@Label("Escritura de resultados")
+@Description("Un lote de resultados añadido al registro y forzado a disco")
+@Category({"Laberinto", "Persistencia"})
+@StackTrace(false)
+public class ResultsWriteEvent extends Event {
+    @Label("Archivo")
+    String file;
+
+    @Label("Algoritmo")
+    @Description("El algoritmo de los resultados, o \"varios\" si el lote mezcla algoritmos")
+    String algorithm;
+
+    @Label("Celdas")
+    @Description("Celdas del laberinto del último resultado del lote")
+    long cells;
+
+    @Label("Resultados")
+    int records;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Termina el evento y, si se está grabando, lo rellena y lo guarda.
+     *
+     * @param file El archivo del registro.
+     * @param batch Los resultados escritos.
+     * @param bytes Los bytes escritos.
+     */
+    public void finish(String file, List<ResultRecord> batch, long bytes) {
+        end();
+        if (!shouldCommit() || batch.isEmpty()) {
+            return;
+        }
+        String first = batch.get(0).getAlgorithm();
+        boolean mixed = false;
+        for (ResultRecord record : batch) {
+            mixed |= !record.getAlgorithm().equals(first);
+        }
+        this.file = file;
+        this.algorithm = mixed ? "varios" : first;
+        this.cells = batch.get(batch.size() - 1).getCells();
+        this.records = batch.size();
+        this.bytes = bytes;
+        commit();
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.example.model.MazeResult;
+import org.example.model.SearchMetrics;
+
+/**
+ * Evento de Java Flight Recorder que cubre una llamada a {@code MazeSolver.getPath}: el algoritmo, el
+ * tamaño del laberinto y lo que devolvió el solver.
+ * <p>Junto con {@link ResultProcessingEvent}, {@link AnimationFrameEvent} y {@link ResultsWriteEvent}
+ * permite ver en JDK Mission Control si una resolución lenta se fue en el solver, en preparar el
+ * resultado, en la animación o en guardar los resultados. Para grabar basta con arrancar la aplicación con
+ * {@code -XX:StartFlightRecording=filename=laberinto.jfr}. Sin grabación, o con el evento desactivado, el
+ * JIT reduce {@code begin()} y {@link #finish} a nada.</p>
+ * <p>Uso:</p>
+ * <pre>
+ * SolveEvent event = new SolveEvent();
+ * event.begin();
+ * MazeResult result = solver.getPath(grid, start, end);
+ * event.finish(algorithm, rows, cols, result, solver.getThreadCount(), false);
+ * </pre>
+ */
+@Name("org.example.Solve")
+@Label("Resolución de laberinto")
+@Description("Una llamada a MazeSolver.getPath")
+@Category({"Laberinto", "Solver"})
+@StackTrace(false)
+public class SolveEvent extends Event {
+    @Label("Algoritmo")
+    String algorithm;
+
+    @Label("Filas")
+    int rows;
+
+    @Label("Columnas")
+    int cols;
+
+    @Label("Longitud del camino")
+    @Description("Pasos del camino encontrado, o -1 si no se encontró")
+    int pathLength;
+
+    @Label("Celdas visitadas")
+    int visitedCells;
+
+    @Label("Nodos expandidos")
+    @Description("Según las métricas de búsqueda, o -1 si no se informaron")
+    long nodesExpanded;
+
+    @Label("Bytes reservados")
+    @DataAmount
+    long allocatedBytes;
+
+    @Label("Hilos")
+    int threads;
+
+    @Label("Calentamiento")
+    @Description("Si la resolución era una ronda de calentamiento sin medir")
+    boolean warmup;
+
+    /**
+     * Termina el evento y, si se está grabando, lo rellena y lo guarda.
+     *
+     * @param algorithm El nombre del algoritmo.
+     * @param rows Las filas del laberinto.
+     * @param cols Las columnas del laberinto.
+     * @param result El resultado del solver (puede ser null si falló).
+     * @param threads Los hilos que usó el solver.
+     * @param warmup Si era una ronda de calentamiento.
+     */
+    public void finish(String algorithm, int rows, int cols, MazeResult result, int threads, boolean warmup) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.algorithm = algorithm;
+        this.rows = rows;
+        this.cols = cols;
+        this.pathLength = result == null || result.getPath() == null || result.getPath().isEmpty() ? -1 : result.getPath().size() - 1;
+        this.visitedCells = result == null || result.getVisited() == null ? 0 : result.getVisited().size();
+        SearchMetrics metrics = result != null ? result.getMetrics() : null;
+        this.nodesExpanded = metrics != null ? metrics.getNodesExpanded() : -1;
+        this.allocatedBytes = metrics != null ? metrics.getAllocatedBytes() : -1;
+        this.threads = threads;
+        this.warmup = warmup;
+        commit();
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.results;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.example.model.Cell;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+
+/**
+ * Perfilador de memoria de los solvers: mide cuánto heap retiene el estado de trabajo de un solver y el
+ * {@link MazeResult} que devuelve, y el pico de heap durante la resolución.
+ * <p>El tamaño retenido se mide por diferencia del heap ocupado tras una recolección completa
+ * ({@code System.gc()}): antes de crear el solver, tras resolver con el resultado aún alcanzable y tras
+ * soltar el resultado con el solver aún vivo. Lo que queda en esta última lectura es lo que el solver
+ * conserva después de resolver (sus conjuntos de visitadas, sus mapas de padres), no solo el objeto recién
+ * creado; si el solver comparte una estructura con el resultado, cuenta como del solver. Así se cuenta todo lo que el solver y el resultado mantienen vivo (los conjuntos de {@link Cell}, los
+ * mapas de padres, los arreglos preparados por {@code SolverFactory}) sin recorrer el grafo de objetos.
+ * El pico es la suma de los picos de las zonas del heap, que se reinician justo antes de resolver, menos
+ * el heap ocupado en ese momento; incluye la basura temporal que el GC aún no había recogido, y como las
+ * zonas pueden alcanzar su pico en instantes distintos es una cota superior. Las zonas se contabilizan
+ * por regiones, así que en laberintos pequeños el pico se queda en lo que retiene el resultado.</p>
+ * <p>Las recolecciones forzadas distorsionan los tiempos, así que el perfilado se hace en una resolución
+ * aparte de las medidas. No mide la memoria fuera del heap (el BFS externo y los arreglos fuera del
+ * heap) ni funciona con {@code -XX:+DisableExplicitGC}: entonces las diferencias son ruido.</p>
+ */
+public class MemoryProfiler {
+    /** Recolecciones seguidas para que el heap ocupado se estabilice antes de leerlo. */
+    private static final int SETTLE_GCS = 2;
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = heapPools();
+
+    /** La huella de memoria de una resolución. */
+    public static class Footprint {
+        private final long solverBytes;
+        private final long resultBytes;
+        private final long peakHeapBytes;
+
+        /**
+         * Crea una huella con valores conocidos (por ejemplo, leídos del registro de resultados).
+         *
+         * @param solverBytes Los bytes retenidos por el estado del solver, o -1.
+         * @param resultBytes Los bytes retenidos por el resultado, o -1.
+         * @param peakHeapBytes El pico de heap durante la resolución sobre el heap previo, o -1.
+         */
+        public Footprint(long solverBytes, long resultBytes, long peakHeapBytes) {
+            this.solverBytes = solverBytes;
+            this.resultBytes = resultBytes;
+            this.peakHeapBytes = peakHeapBytes;
+        }
+
+        /**
+         * Devuelve los bytes que retiene el estado de trabajo del solver entre resoluciones.
+         *
+         * @return Los bytes, o -1 si no se midieron.
+         */
+        public long getSolverBytes() {return solverBytes;}
+
+        /**
+         * Devuelve los bytes que retiene el resultado (camino y celdas visitadas).
+         *
+         * @return Los bytes, o -1 si no se midieron.
+         */
+        public long getResultBytes() {return resultBytes;}
+
+        /**
+         * Devuelve el pico de heap durante la resolución, por encima del heap ocupado antes de resolver.
+         *
+         * @return Los bytes, o -1 si no se midieron.
+         */
+        public long getPeakHeapBytes() {return peakHeapBytes;}
+
+        /**
+         * Devuelve lo que retienen el solver y el resultado juntos.
+         *
+         * @return La suma de los bytes conocidos, o -1 si no se midió ninguno.
+         */
+        public long getRetainedBytes() {
+            if (solverBytes < 0 && resultBytes < 0) {
+                return -1;
+            }
+            return Math.max(0, solverBytes) + Math.max(0, resultBytes);
+        }
+
+        @Override
+        public String toString() {
+            return "Footprint{solver=" + solverBytes + ", resultado=" + resultBytes + ", pico=" + peakHeapBytes + "}";
+        }
+    }
+
+    private MemoryProfiler() {
+    }
+
+    /**
+     * Perfila una resolución: crea el solver, resuelve el laberinto una vez y mide su huella. Fuerza
+     * varias recolecciones completas, así que no debe mezclarse con las resoluciones medidas.
+     *
+     * @param factory Crea el solver a perfilar (por ejemplo con {@code SolverFactory.create}).
+     * @param grid El laberinto, que ya debe existir para que no cuente en la huella.
+     * @param start La celda de inicio.
+     * @param end La celda de fin.
+     * @return La huella, o null si la resolución desbordó la pila o el heap.
+     */
+    public static Footprint profile(Supplier<MazeSolver> factory, boolean[][] grid, Cell start, Cell end) {
+        MazeSolver solver = null;
+        MazeResult result = null;
+        try {
+            long empty = settledHeap();
+            solver = factory.get();
+            settledHeap();
+            resetPeaks();
+            long beforeSolve = MEMORY.getHeapMemoryUsage().getUsed();
+            result = solver.getPath(grid, start, end);
+            long peak = peakHeap();
+            long withResult = settledHeap();
+            Reference.reachabilityFence(result); // El resultado debe seguir vivo en la lectura anterior
+            result = null;
+            long withoutResult = settledHeap(); // Solo el solver, con el estado que conserva tras resolver
+            long solverBytes = Math.max(0, withoutResult - empty);
+            long resultBytes = Math.max(0, withResult - withoutResult);
+            // El resultado y el estado del solver se reservaron durante la resolución: el pico no puede ser menor
+            return new Footprint(solverBytes, resultBytes,
+                    peak < 0 ? -1 : Math.max(resultBytes, peak - beforeSolve));
+        } catch (StackOverflowError | OutOfMemoryError e) {
+            System.err.println("No se pudo perfilar la memoria del solver: " + e.getClass().getSimpleName());
+            return null;
+        } finally {
+            // El solver debe seguir vivo hasta la última medición
+            Reference.reachabilityFence(solver);
+        }
+    }
+
+    /** Fuerza recolecciones completas y devuelve el heap ocupado que queda. */
+    private static long settledHeap() {
+        for (int i = 0; i < SETTLE_GCS; i++) {
+            System.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void resetPeaks() {
+        for (MemoryPoolMXBean pool : HEAP_POOLS) {
+            pool.resetPeakUsage();
+        }
+    }
+
+    /** Suma los picos de las zonas del heap desde el último reinicio, o -1 si la JVM no los informa. */
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : HEAP_POOLS) {
+            if (pool.getPeakUsage() == null) {
+                return -1;
+            }
+            peak += pool.getPeakUsage().getUsed();
+        }
+        return HEAP_POOLS.isEmpty() ? -1 : peak;
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        List<MemoryPoolMXBean> pools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pools.add(pool);
+            }
+        }
+        return pools;
+    }
+}
@@ -0,0 +1,427 @@
+package org.example.results;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Informe de regresiones: compara los tiempos de una ejecución nueva con los de una línea base, ambos
+ * leídos de un {@link ResultsLog}, por solver y clase de laberinto, y decide si cada solver se ha vuelto
+ * más lento, más rápido o sigue igual.
+ * <p>La clase de laberinto es la firma del laberinto ({@link ResultsLog#signature}): los laberintos de
+ * prueba generados con la misma especificación tienen la misma firma en ambas ejecuciones. Los resultados
+ * sin firma (importados del CSV antiguo) se agrupan por su tamaño ({@link ResultsStats#sizeBucket}).</p>
+ * <p>Cada resultado es una muestra del tiempo. Como los tiempos son asimétricos (las pausas del GC solo los
+ * alargan), la prueba t de Welch se aplica a sus logaritmos: el cambio se informa como la razón entre las
+ * medias geométricas, con su intervalo de confianza. Una diferencia solo cuenta si es significativa al
+ * nivel {@code alpha} y además supera el umbral de cambio relativo; así el ruido de la máquina no se
+ * informa como regresión ni las diferencias significativas pero irrelevantes (un 1 %) tampoco.</p>
+ */
+public class RegressionReport {
+    public static final double DEFAULT_ALPHA = 0.05;
+    public static final double DEFAULT_THRESHOLD = 0.05;
+
+    /** El veredicto de una comparación. */
+    public enum Verdict {
+        /** El solver es significativamente más lento que en la línea base. */
+        REGRESION,
+        /** El solver es significativamente más rápido que en la línea base. */
+        MEJORA,
+        /** No hay una diferencia significativa y relevante. */
+        SIN_CAMBIOS,
+        /** Falta alguna de las dos ejecuciones o tiene menos de dos muestras. */
+        DATOS_INSUFICIENTES
+    }
+
+    /** La comparación de un solver sobre una clase de laberinto. */
+    public static class Comparison {
+        private final String algorithm;
+        private final String mazeClass;
+        private final int baselineCount;
+        private final int currentCount;
+        private final double baselineNanos;
+        private final double currentNanos;
+        private final double change;
+        private final double changeLow;
+        private final double changeHigh;
+        private final double pValue;
+        private final Verdict verdict;
+
+        Comparison(String algorithm, String mazeClass, int baselineCount, int currentCount, double baselineNanos,
+                   double currentNanos, double change, double changeLow, double changeHigh, double pValue,
+                   Verdict verdict) {
+            this.algorithm = algorithm;
+            this.mazeClass = mazeClass;
+            this.baselineCount = baselineCount;
+            this.currentCount = currentCount;
+            this.baselineNanos = baselineNanos;
+            this.currentNanos = currentNanos;
+            this.change = change;
+            this.changeLow = changeLow;
+            this.changeHigh = changeHigh;
+            this.pValue = pValue;
+            this.verdict = verdict;
+        }
+
+        /**
+         * Devuelve el nombre del algoritmo.
+         *
+         * @return El nombre con el que se registraron los resultados.
+         */
+        public String getAlgorithm() {return algorithm;}
+
+        /**
+         * Describe la clase de laberinto.
+         *
+         * @return Por ejemplo {@code "257x257 muros=0.30 semilla=42 [1a2b3c4d]"}.
+         */
+        public String getMazeClass() {return mazeClass;}
+
+        /**
+         * Devuelve el número de muestras de la línea base.
+         *
+         * @return Los resultados de la línea base.
+         */
+        public int getBaselineCount() {return baselineCount;}
+
+        /**
+         * Devuelve el número de muestras de la ejecución nueva.
+         *
+         * @return Los resultados de la ejecución nueva.
+         */
+        public int getCurrentCount() {return currentCount;}
+
+        /**
+         * Devuelve la media geométrica de los tiempos de la línea base.
+         *
+         * @return Los nanosegundos, o NaN si no hay muestras.
+         */
+        public double getBaselineNanos() {return baselineNanos;}
+
+        /**
+         * Devuelve la media geométrica de los tiempos de la ejecución nueva.
+         *
+         * @return Los nanosegundos, o NaN si no hay muestras.
+         */
+        public double getCurrentNanos() {return currentNanos;}
+
+        /**
+         * Devuelve el cambio relativo del tiempo.
+         *
+         * @return Por ejemplo 0.12 si la ejecución nueva tarda un 12 % más, o NaN sin datos suficientes.
+         */
+        public double getChange() {return change;}
+
+        /**
+         * Devuelve el extremo inferior del intervalo de confianza del cambio.
+         *
+         * @return El cambio relativo mínimo compatible con las muestras, o NaN.
+         */
+        public double getChangeLow() {return changeLow;}
+
+        /**
+         * Devuelve el extremo superior del intervalo de confianza del cambio.
+         *
+         * @return El cambio relativo máximo compatible con las muestras, o NaN.
+         */
+        public double getChangeHigh() {return changeHigh;}
+
+        /**
+         * Devuelve el valor p de la prueba t de Welch.
+         *
+         * @return La probabilidad de observar una diferencia así sin cambio real, o NaN.
+         */
+        public double getPValue() {return pValue;}
+
+        /**
+         * Devuelve el veredicto.
+         *
+         * @return Si es una regresión, una mejora o ninguna de las dos.
+         */
+        public Verdict getVerdict() {return verdict;}
+    }
+
+    private final double alpha;
+    private final double threshold;
+    private final List<Comparison> comparisons = new ArrayList<>();
+
+    /**
+     * Compara dos ejecuciones.
+     *
+     * @param baseline Los resultados de la línea base.
+     * @param current Los resultados de la ejecución nueva.
+     * @param alpha El nivel de significación, entre 0 y 1 (el intervalo de confianza es del {@code 1 - alpha}).
+     * @param threshold El cambio relativo mínimo para informar una regresión o una mejora (0.05 es un 5 %).
+     * @throws IllegalArgumentException Si {@code alpha} o {@code threshold} no son válidos.
+     */
+    public RegressionReport(List<ResultRecord> baseline, List<ResultRecord> current, double alpha, double threshold) {
+        if (!(alpha > 0 && alpha < 1)) {
+            throw new IllegalArgumentException("El nivel de significación debe estar entre 0 y 1: " + alpha);
+        }
+        if (!(threshold >= 0)) {
+            throw new IllegalArgumentException("El umbral de cambio no puede ser negativo: " + threshold);
+        }
+        this.alpha = alpha;
+        this.threshold = threshold;
+        Map<String, List<ResultRecord>> base = group(baseline);
+        Map<String, List<ResultRecord>> now = group(current);
+        for (Map.Entry<String, List<ResultRecord>> entry : base.entrySet()) {
+            comparisons.add(compare(entry.getValue(), now.getOrDefault(entry.getKey(), List.of())));
+        }
+        for (Map.Entry<String, List<ResultRecord>> entry : now.entrySet()) {
+            if (!base.containsKey(entry.getKey())) {
+                comparisons.add(compare(List.of(), entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Devuelve las comparaciones, en el orden en que aparecen los grupos en la línea base.
+     *
+     * @return Una comparación por solver y clase de laberinto presente en alguna de las dos ejecuciones.
+     */
+    public List<Comparison> getComparisons() {return comparisons;}
+
+    /**
+     * Cuenta las comparaciones con un veredicto.
+     *
+     * @param verdict El veredicto buscado.
+     * @return El número de comparaciones con ese veredicto.
+     */
+    public long count(Verdict verdict) {
+        return comparisons.stream().filter(c -> c.verdict == verdict).count();
+    }
+
+    /**
+     * Da formato de tabla de texto al informe, para mostrarlo en la consola.
+     *
+     * @return Una línea por comparación y un resumen final.
+     */
+    public String toText() {
+        int confidence = (int) Math.round((1 - alpha) * 100);
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-22s %-40s %5s %5s %14s %14s %9s %21s %8s  %s%n", "Solver", "Laberinto",
+                "n(b)", "n(a)", "Base (ns)", "Actual (ns)", "Cambio", "IC " + confidence + "%", "p", "Veredicto"));
+        for (Comparison c : comparisons) {
+            sb.append(String.format(Locale.ROOT, "%-22s %-40s %5d %5d %14.0f %14.0f %9s %21s %8s  %s%n",
+                    c.algorithm, c.mazeClass, c.baselineCount, c.currentCount, c.baselineNanos, c.currentNanos,
+                    percent(c.change), Double.isNaN(c.change) ? "-" : "[" + percent(c.changeLow) + ", " + percent(c.changeHigh) + "]",
+                    Double.isNaN(c.pValue) ? "-" : String.format(Locale.ROOT, "%.4f", c.pValue), c.verdict));
+        }
+        sb.append(String.format(Locale.ROOT, "%d regresiones, %d mejoras, %d sin cambios, %d con datos insuficientes "
+                        + "(alfa %.3f, umbral %s).%n", count(Verdict.REGRESION), count(Verdict.MEJORA),
+                count(Verdict.SIN_CAMBIOS), count(Verdict.DATOS_INSUFICIENTES), alpha, percent(threshold)));
+        return sb.toString();
+    }
+
+    /**
+     * Da formato CSV al informe, para exportarlo.
+     *
+     * @return Una cabecera y una fila por comparación; los cambios son fracciones (0.12 es un 12 %).
+     */
+    public String toCsv() {
+        StringBuilder sb = new StringBuilder("solver,laberinto,muestras_base,muestras_actual,base_ns,actual_ns,"
+                + "cambio,cambio_min,cambio_max,p,veredicto\n");
+        for (Comparison c : comparisons) {
+            sb.append(String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.1f,%.5f,%.5f,%.5f,%.6f,%s%n", c.algorithm,
+                    c.mazeClass, c.baselineCount, c.currentCount, c.baselineNanos, c.currentNanos, c.change,
+                    c.changeLow, c.changeHigh, c.pValue, c.verdict));
+        }
+        return sb.toString();
+    }
+
+    /** Agrupa los resultados por solver y clase de laberinto, conservando el orden de aparición. */
+    private static Map<String, List<ResultRecord>> group(List<ResultRecord> records) {
+        Map<String, List<ResultRecord>> groups = new LinkedHashMap<>();
+        for (ResultRecord record : records) {
+            if (record.getTimeNanos() <= 0) {
+                continue; // El logaritmo de la prueba no admite tiempos nulos
+            }
+            String mazeKey = record.getMazeSignature() != 0
+                    ? Long.toHexString(record.getMazeSignature())
+                    : "tamaño" + ResultsStats.sizeBucket(record.getCells());
+            groups.computeIfAbsent(record.getAlgorithm() + "|" + mazeKey, k -> new ArrayList<>()).add(record);
+        }
+        return groups;
+    }
+
+    private static String describeMaze(ResultRecord record) {
+        if (record.getMazeSignature() == 0) {
+            return ResultsStats.describeSizeBucket(ResultsStats.sizeBucket(record.getCells()));
+        }
+        if (record.getRows() == 0) {
+            return "[" + Long.toHexString(record.getMazeSignature()) + "]";
+        }
+        String density = Float.isNaN(record.getWallDensity()) ? "" : String.format(Locale.ROOT, " muros=%.2f", record.getWallDensity());
+        return record.getRows() + "x" + record.getCols() + density + " semilla=" + record.getSeed()
+                + " [" + Long.toHexString(record.getMazeSignature()) + "]";
+    }
+
+    private Comparison compare(List<ResultRecord> baseline, List<ResultRecord> current) {
+        ResultRecord sample = baseline.isEmpty() ? current.get(0) : baseline.get(0);
+        double[] base = logTimes(baseline);
+        double[] now = logTimes(current);
+        double baseMean = mean(base);
+        double nowMean = mean(now);
+        if (base.length < 2 || now.length < 2) {
+            return new Comparison(sample.getAlgorithm(), describeMaze(sample), base.length, now.length,
+                    Math.exp(baseMean), Math.exp(nowMean), Double.NaN, Double.NaN, Double.NaN, Double.NaN,
+                    Verdict.DATOS_INSUFICIENTES);
+        }
+        // Prueba t de Welch sobre los logaritmos: no supone varianzas iguales en las dos ejecuciones
+        double baseTerm = variance(base, baseMean) / base.length;
+        double nowTerm = variance(now, nowMean) / now.length;
+        double difference = nowMean - baseMean;
+        double standardError = Math.sqrt(baseTerm + nowTerm);
+        double pValue;
+        double margin;
+        if (standardError == 0) {
+            // Muestras sin ninguna variación: cualquier diferencia es real
+            pValue = difference == 0 ? 1 : 0;
+            margin = 0;
+        } else {
+            double freedom = (baseTerm + nowTerm) * (baseTerm + nowTerm)
+                    / (baseTerm * baseTerm / (base.length - 1) + nowTerm * nowTerm / (now.length - 1));
+            double t = difference / standardError;
+            pValue = 2 * (1 - studentCdf(Math.abs(t), freedom));
+            margin = studentQuantile(1 - alpha / 2, freedom) * standardError;
+        }
+        double change = Math.expm1(difference);
+        Verdict verdict = Verdict.SIN_CAMBIOS;
+        if (pValue < alpha && Math.abs(change) >= threshold) {
+            verdict = change > 0 ? Verdict.REGRESION : Verdict.MEJORA;
+        }
+        return new Comparison(sample.getAlgorithm(), describeMaze(sample), base.length, now.length,
+                Math.exp(baseMean), Math.exp(nowMean), change, Math.expm1(difference - margin),
+                Math.expm1(difference + margin), pValue, verdict);
+    }
+
+    private static double[] logTimes(List<ResultRecord> records) {
+        double[] values = new double[records.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.log(records.get(i).getTimeNanos());
+        }
+        return values;
+    }
+
+    private static double mean(double[] values) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double variance(double[] values, double mean) {
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        return squares / (values.length - 1);
+    }
+
+    /**
+     * Función de distribución de la t de Student para {@code t >= 0}.
+     *
+     * @param t El valor, no negativo.
+     * @param freedom Los grados de libertad (pueden no ser enteros, como en la prueba de Welch).
+     * @return La probabilidad de obtener un valor menor o igual que {@code t}.
+     */
+    static double studentCdf(double t, double freedom) {
+        return 1 - 0.5 * regularizedBeta(freedom / (freedom + t * t), freedom / 2, 0.5);
+    }
+
+    /**
+     * Cuantil de la t de Student, por bisección sobre {@link #studentCdf}.
+     *
+     * @param probability La probabilidad acumulada, entre 0.5 y 1.
+     * @param freedom Los grados de libertad.
+     * @return El valor {@code t} con esa probabilidad acumulada.
+     */
+    static double studentQuantile(double probability, double freedom) {
+        double low = 0;
+        double high = 1;
+        while (studentCdf(high, freedom) < probability && high < 1e9) {
+            high *= 2;
+        }
+        for (int i = 0; i < 200 && high - low > 1e-12 * high; i++) {
+            double middle = (low + high) / 2;
+            if (studentCdf(middle, freedom) < probability) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    /** Función beta incompleta regularizada I_x(a, b), por la fracción continua de Lentz. */
+    private static double regularizedBeta(double x, double a, double b) {
+        if (x <= 0) {
+            return 0;
+        }
+        if (x >= 1) {
+            return 1;
+        }
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b) + a * Math.log(x) + b * Math.log1p(-x));
+        // La fracción converge rápido solo a un lado de la media de la beta; al otro se usa la simetría
+        if (x > (a + 1) / (a + b + 2)) {
+            return 1 - front * betaFraction(1 - x, b, a) / b;
+        }
+        return front * betaFraction(x, a, b) / a;
+    }
+
+    private static double betaFraction(double x, double a, double b) {
+        final double tiny = 1e-300;
+        double c = 1;
+        double d = 1 - (a + b) * x / (a + 1);
+        d = 1 / (Math.abs(d) < tiny ? tiny : d);
+        double h = d;
+        for (int m = 1; m <= 300; m++) {
+            int m2 = 2 * m;
+            double even = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 / nonZero(1 + even * d, tiny);
+            c = nonZero(1 + even / c, tiny);
+            h *= d * c;
+            double odd = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 / nonZero(1 + odd * d, tiny);
+            c = nonZero(1 + odd / c, tiny);
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < 1e-15) {
+                break;
+            }
+        }
+        return h;
+    }
+
+    private static double nonZero(double value, double tiny) {
+        return Math.abs(value) < tiny ? tiny : value;
+    }
+
+    /** Logaritmo de la función gamma (aproximación de Lanczos, g = 7). */
+    private static double logGamma(double x) {
+        final double[] coefficients = {0.99999999999980993, 676.5203681218851, -1259.1392167224028,
+                771.32342877765313, -176.61502916214059, 12.507343278686905, -0.13857109526572012,
+                9.9843695780195716e-6, 1.5056327351493116e-7};
+        if (x < 0.5) {
+            return Math.log(Math.PI / Math.abs(Math.sin(Math.PI * x))) - logGamma(1 - x);
+        }
+        x -= 1;
+        double sum = coefficients[0];
+        for (int i = 1; i < coefficients.length; i++) {
+            sum += coefficients[i] / (x + i);
+        }
+        double t = x + 7.5;
+        return 0.5 * Math.log(2 * Math.PI) + (x + 0.5) * Math.log(t) - t + Math.log(sum);
+    }
+
+    private static String percent(double fraction) {
+        return Double.isNaN(fraction) ? "-" : String.format(Locale.ROOT, "%+.1f%%", fraction * 100);
+    }
+}
@@ -0,0 +1,382 @@
+package org.example.results;
+
+import org.example.model.SearchMetrics;
+
+/**
+ * Un resultado de resolución guardado en el {@link ResultsLog}: qué algoritmo se ejecutó, sobre qué
+ * laberinto (identificado por su firma, sus dimensiones, su densidad de muros y su semilla), cuándo,
+ * en qué JVM y con cuántos hilos, la longitud del camino y el tiempo empleado. Si el tiempo se midió
+ * varias veces (ver {@link TimingStats}), es la mediana y se guarda también su dispersión. Si el solver
+ * informó sus métricas de búsqueda ({@link SearchMetrics}), se guardan con el resultado, y si se perfiló
+ * su memoria, también su huella ({@link MemoryProfiler.Footprint}). Los solvers de portafolio guardan
+ * además qué variante ganó la carrera ({@link org.example.model.PortfolioResult#getWinningVariant()}).
+ */
+public class ResultRecord {
+    private final long timestamp;
+    private final String algorithm;
+    private final int pathLength;
+    private final long timeNanos;
+    private final long mazeSignature;
+    private final int rows;
+    private final int cols;
+    private final float wallDensity;
+    private final long seed;
+    private final String jvm;
+    private final int threads;
+    private final int iterations;
+    private final long timeSpreadNanos;
+    private final SearchMetrics metrics;
+    private final MemoryProfiler.Footprint memory;
+    private final int winningVariant;
+
+    private ResultRecord(Builder builder) {
+        this.timestamp = builder.timestamp;
+        this.algorithm = builder.algorithm;
+        this.pathLength = builder.pathLength;
+        this.timeNanos = builder.timeNanos;
+        this.mazeSignature = builder.mazeSignature;
+        this.rows = builder.rows;
+        this.cols = builder.cols;
+        this.wallDensity = builder.wallDensity;
+        this.seed = builder.seed;
+        this.jvm = builder.jvm;
+        this.threads = builder.threads;
+        this.iterations = Math.max(1, builder.iterations);
+        this.timeSpreadNanos = builder.timeSpreadNanos;
+        this.metrics = builder.metrics;
+        this.memory = builder.memory;
+        this.winningVariant = builder.winningVariant;
+    }
+
+    /**
+     * Empieza a construir un resultado de un algoritmo. Los campos que no se indiquen quedan como
+     * desconocidos: instante 0, sin camino (-1), tiempo 0, firma 0, dimensiones 0, densidad NaN, semilla 0,
+     * JVM vacía, un hilo, una sola medición sin dispersión, sin métricas ni huella de memoria y sin variante
+     * ganadora (-1).
+     *
+     * @param algorithm El nombre del algoritmo.
+     * @return Un constructor de resultados.
+     */
+    public static Builder builder(String algorithm) {
+        return new Builder(algorithm);
+    }
+
+    /**
+     * Constructor de {@link ResultRecord} por campos con nombre, para no depender del orden de una
+     * larga lista de parámetros.
+     */
+    public static final class Builder {
+        private final String algorithm;
+        private long timestamp;
+        private int pathLength = -1;
+        private long timeNanos;
+        private long mazeSignature;
+        private int rows;
+        private int cols;
+        private float wallDensity = Float.NaN;
+        private long seed;
+        private String jvm = "";
+        private int threads = 1;
+        private int iterations = 1;
+        private long timeSpreadNanos;
+        private SearchMetrics metrics;
+        private MemoryProfiler.Footprint memory;
+        private int winningVariant = -1;
+
+        private Builder(String algorithm) {
+            this.algorithm = algorithm;
+        }
+
+        /**
+         * Indica cuándo se ejecutó el solver.
+         *
+         * @param timestamp El instante de la ejecución, en milisegundos desde la época.
+         * @return Este constructor.
+         */
+        public Builder timestamp(long timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        /**
+         * Indica la longitud del camino encontrado.
+         *
+         * @param pathLength La longitud del camino en pasos, o -1 si no se encontró.
+         * @return Este constructor.
+         */
+        public Builder pathLength(int pathLength) {
+            this.pathLength = pathLength;
+            return this;
+        }
+
+        /**
+         * Indica el tiempo de resolución.
+         *
+         * @param timeNanos El tiempo de resolución en nanosegundos (la mediana si se midió varias veces).
+         * @return Este constructor.
+         */
+        public Builder timeNanos(long timeNanos) {
+            this.timeNanos = timeNanos;
+            return this;
+        }
+
+        /**
+         * Indica qué laberinto se resolvió.
+         *
+         * @param mazeSignature La firma del laberinto resuelto (ver {@link ResultsLog#signature}).
+         * @return Este constructor.
+         */
+        public Builder mazeSignature(long mazeSignature) {
+            this.mazeSignature = mazeSignature;
+            return this;
+        }
+
+        /**
+         * Indica las dimensiones del laberinto.
+         *
+         * @param rows Las filas del laberinto.
+         * @param cols Las columnas del laberinto.
+         * @return Este constructor.
+         */
+        public Builder dimensions(int rows, int cols) {
+            this.rows = rows;
+            this.cols = cols;
+            return this;
+        }
+
+        /**
+         * Indica la densidad de muros del laberinto.
+         *
+         * @param wallDensity La fracción de celdas que son muro, entre 0 y 1.
+         * @return Este constructor.
+         */
+        public Builder wallDensity(float wallDensity) {
+            this.wallDensity = wallDensity;
+            return this;
+        }
+
+        /**
+         * Indica la semilla del laberinto.
+         *
+         * @param seed La semilla con la que se generó el laberinto (0 si se dibujó o importó).
+         * @return Este constructor.
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Indica la JVM que ejecutó el solver.
+         *
+         * @param jvm La JVM que ejecutó el solver (ver {@link #currentJvm()}).
+         * @return Este constructor.
+         */
+        public Builder jvm(String jvm) {
+            this.jvm = jvm;
+            return this;
+        }
+
+        /**
+         * Indica cuántos hilos usó el solver.
+         *
+         * @param threads El número de hilos que usó el solver.
+         * @return Este constructor.
+         */
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Indica cuántas veces se midió el tiempo y con qué dispersión.
+         *
+         * @param iterations El número de mediciones del tiempo (al menos 1).
+         * @param timeSpreadNanos La dispersión de las mediciones (su desviación absoluta mediana), o 0.
+         * @return Este constructor.
+         */
+        public Builder timing(int iterations, long timeSpreadNanos) {
+            this.iterations = iterations;
+            this.timeSpreadNanos = timeSpreadNanos;
+            return this;
+        }
+
+        /**
+         * Indica las métricas de búsqueda de la resolución.
+         *
+         * @param metrics Las métricas de búsqueda de la resolución, o null si no se informaron.
+         * @return Este constructor.
+         */
+        public Builder metrics(SearchMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Indica la huella de memoria de la resolución.
+         *
+         * @param memory La huella de memoria medida por el {@link MemoryProfiler}, o null si no se perfiló.
+         * @return Este constructor.
+         */
+        public Builder memory(MemoryProfiler.Footprint memory) {
+            this.memory = memory;
+            return this;
+        }
+
+        /**
+         * Indica qué variante ganó, si el solver es de portafolio.
+         *
+         * @param winningVariant El índice de la variante ganadora, o -1 si no es un portafolio o ninguna llegó.
+         * @return Este constructor.
+         */
+        public Builder winningVariant(int winningVariant) {
+            this.winningVariant = winningVariant;
+            return this;
+        }
+
+        /**
+         * Construye el resultado.
+         *
+         * @return El resultado con los campos indicados.
+         */
+        public ResultRecord build() {
+            return new ResultRecord(this);
+        }
+    }
+
+    /**
+     * Describe la JVM actual como nombre de la máquina virtual y versión de Java.
+     *
+     * @return Por ejemplo {@code "OpenJDK 64-Bit Server VM 21.0.2"}.
+     */
+    public static String currentJvm() {
+        return System.getProperty("java.vm.name", "?") + " " + System.getProperty("java.version", "?");
+    }
+
+    /**
+     * Devuelve el instante de la ejecución.
+     *
+     * @return Los milisegundos desde la época.
+     */
+    public long getTimestamp() {return timestamp;}
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     *
+     * @return El nombre con el que se registró el resultado.
+     */
+    public String getAlgorithm() {return algorithm;}
+
+    /**
+     * Devuelve la longitud del camino encontrado.
+     *
+     * @return El número de pasos, o -1 si no se encontró camino.
+     */
+    public int getPathLength() {return pathLength;}
+
+    /**
+     * Devuelve el tiempo de resolución.
+     *
+     * @return Los nanosegundos empleados.
+     */
+    public long getTimeNanos() {return timeNanos;}
+
+    /**
+     * Devuelve la firma del laberinto resuelto.
+     *
+     * @return La firma, o 0 si se desconoce (resultados importados del CSV antiguo).
+     */
+    public long getMazeSignature() {return mazeSignature;}
+
+    /**
+     * Devuelve las filas del laberinto.
+     *
+     * @return Las filas, o 0 si se desconocen.
+     */
+    public int getRows() {return rows;}
+
+    /**
+     * Devuelve las columnas del laberinto.
+     *
+     * @return Las columnas, o 0 si se desconocen.
+     */
+    public int getCols() {return cols;}
+
+    /**
+     * Devuelve el número de celdas del laberinto.
+     *
+     * @return Filas por columnas, o 0 si se desconocen.
+     */
+    public long getCells() {return (long) rows * cols;}
+
+    /**
+     * Devuelve la densidad de muros del laberinto.
+     *
+     * @return La fracción de celdas que son muro, o NaN si se desconoce.
+     */
+    public float getWallDensity() {return wallDensity;}
+
+    /**
+     * Devuelve la semilla del laberinto.
+     *
+     * @return La semilla del generador, o 0 si se desconoce.
+     */
+    public long getSeed() {return seed;}
+
+    /**
+     * Devuelve la JVM que ejecutó el solver.
+     *
+     * @return La descripción de la JVM, o una cadena vacía si se desconoce.
+     */
+    public String getJvm() {return jvm;}
+
+    /**
+     * Devuelve el número de hilos que usó el solver.
+     *
+     * @return El número de hilos.
+     */
+    public int getThreads() {return threads;}
+
+    /**
+     * Devuelve el número de mediciones del tiempo.
+     *
+     * @return Las iteraciones medidas; 1 si el tiempo es una sola medición.
+     */
+    public int getIterations() {return iterations;}
+
+    /**
+     * Devuelve la dispersión del tiempo entre las mediciones.
+     *
+     * @return La desviación absoluta mediana en nanosegundos, o 0 con una sola medición.
+     */
+    public long getTimeSpreadNanos() {return timeSpreadNanos;}
+
+    /**
+     * Devuelve las métricas de búsqueda de la resolución.
+     *
+     * @return Las métricas, o null si no se informaron (resultados anteriores a ellas o métricas desactivadas).
+     */
+    public SearchMetrics getMetrics() {return metrics;}
+
+    /**
+     * Devuelve la huella de memoria de la resolución.
+     *
+     * @return La huella, o null si no se perfiló la memoria.
+     */
+    public MemoryProfiler.Footprint getMemory() {return memory;}
+
+    /**
+     * Devuelve la variante ganadora de un solver de portafolio.
+     *
+     * @return El índice de la variante ganadora, o -1 si el solver no es un portafolio o ninguna llegó al destino.
+     */
+    public int getWinningVariant() {return winningVariant;}
+
+    @Override
+    public String toString() {
+        return "ResultRecord{" + algorithm + ", camino=" + pathLength + ", tiempo=" + timeNanos + " ns, laberinto="
+                + Long.toHexString(mazeSignature) + " (" + rows + "x" + cols + ", muros=" + wallDensity + ", semilla="
+                + seed + "), jvm=" + jvm + ", hilos=" + threads + ", iteraciones=" + iterations + ", dispersión="
+                + timeSpreadNanos + " ns, métricas=" + metrics + ", memoria=" + memory + ", variante=" + winningVariant + ", instante=" + timestamp + "}";
+    }
+}
@@ -0,0 +1,470 @@
+package org.example.results;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.example.model.Cell;
+import org.example.model.MazeGrid;
+import org.example.model.SearchMetrics;
+import org.example.monitoring.ResultsWriteEvent;
+
+/**
+ * Registro de resultados de solo añadidura ({@code maze_results.log}), que sustituye a la reescritura
+ * completa de {@code maze_results.csv} tras cada resolución y conserva el historial de ejecuciones.
+ * <p>Formato binario, con enteros en big-endian: una cabecera de {@value #HEADER_BYTES} bytes (firma
+ * {@code "MRES"}, versión y tamaño de registro) seguida de registros de tamaño fijo de
+ * {@value #RECORD_BYTES} bytes: instante, firma del laberinto, tiempo (long), longitud del camino, filas,
+ * columnas (int), densidad de muros (float), semilla (long), hilos (int), nombre del algoritmo
+ * ({@value #NAME_BYTES} bytes) y JVM ({@value #JVM_BYTES} bytes) en UTF-8 rellenados con ceros, la
+ * dispersión del tiempo (float) y el número de mediciones (int), las métricas de búsqueda (nodos expandidos, nodos generados,
+ * frontera máxima y bytes reservados, long; -1 si no se informaron), la huella de memoria (bytes retenidos
+ * por el solver y por el resultado y pico de heap, long; -1 si no se perfiló), la variante ganadora de un
+ * portafolio (int; -1 si no lo es) y un CRC32 del registro.
+ * Solo existe esta versión del formato; un archivo con otra versión o tamaño de registro se rechaza.</p>
+ * <p>Añadir un resultado o un lote es O(1) por registro: un único {@code write} al final del archivo,
+ * forzado a disco. Al
+ * abrir el registro, una cola incompleta o con CRC erróneo (una escritura cortada por un fallo) se
+ * descarta truncando el archivo. En memoria se mantiene un índice pequeño de números de registro por
+ * algoritmo y por firma de laberinto. Las escrituras desde la interfaz y desde las ejecuciones por lotes
+ * pasan por un {@link ResultsWriter}, que las agrupa en un hilo aparte. Además se mantienen agregados
+ * por algoritmo y tamaño ({@link ResultsStats}), que se consultan sin releer el historial.</p>
+ */
+public class ResultsLog implements AutoCloseable {
+    public static final String DEFAULT_FILE = "maze_results.log";
+    public static final String LEGACY_CSV_FILE = "maze_results.csv";
+    public static final int MAGIC = 0x4D524553; // "MRES"
+    public static final short VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    public static final int NAME_BYTES = 64;
+    public static final int JVM_BYTES = 48;
+    public static final int RECORD_BYTES = 236;
+
+    /** Desplazamientos dentro de un registro. */
+    private static final int NAME_OFFSET = 52;
+    private static final int JVM_OFFSET = NAME_OFFSET + NAME_BYTES;
+    private static final int TIMING_OFFSET = JVM_OFFSET + JVM_BYTES;
+    private static final int METRICS_OFFSET = TIMING_OFFSET + Float.BYTES + Integer.BYTES;
+    private static final int MEMORY_OFFSET = METRICS_OFFSET + 4 * Long.BYTES;
+    private static final int VARIANT_OFFSET = MEMORY_OFFSET + 3 * Long.BYTES;
+    /** Registros que se leen con cada lectura del archivo al recorrerlo entero. */
+    private static final int READ_BATCH = 512;
+
+    private static ResultsLog defaultLog;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Map<String, List<Long>> byAlgorithm = new HashMap<>();
+    private final Map<Long, List<Long>> byMaze = new HashMap<>();
+    private final ResultsStats stats = new ResultsStats();
+    private long count;
+
+    /**
+     * Abre un registro, creándolo si no existe, y reconstruye su índice.
+     *
+     * @param file La ruta del archivo de registro.
+     * @throws IOException Si el archivo no se puede abrir o no es un registro de resultados.
+     */
+    public ResultsLog(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < HEADER_BYTES) {
+            writeHeader();
+        } else {
+            checkHeader();
+        }
+        recover();
+    }
+
+    /**
+     * Devuelve el registro compartido de la aplicación ({@value #DEFAULT_FILE}), abriéndolo la primera vez.
+     * Si aún no existe y hay un {@value #LEGACY_CSV_FILE} de versiones anteriores, sus filas se importan.
+     *
+     * @return El registro por defecto.
+     * @throws IOException Si el registro no se puede abrir.
+     */
+    public static synchronized ResultsLog getDefault() throws IOException {
+        if (defaultLog == null) {
+            Path path = Paths.get(DEFAULT_FILE);
+            boolean existed = Files.exists(path);
+            defaultLog = new ResultsLog(path);
+            Path legacy = Paths.get(LEGACY_CSV_FILE);
+            if (!existed && Files.exists(legacy)) {
+                defaultLog.importLegacyCsv(legacy);
+            }
+        }
+        return defaultLog;
+    }
+
+    /**
+     * Añade un resultado al final del registro y lo fuerza a disco.
+     *
+     * @param record El resultado a añadir.
+     * @throws IOException Si no se puede escribir.
+     */
+    public void append(ResultRecord record) throws IOException {
+        appendAll(List.of(record));
+    }
+
+    /**
+     * Añade un lote de resultados con una sola escritura y un solo forzado a disco.
+     *
+     * @param records Los resultados a añadir, en orden.
+     * @throws IOException Si no se pueden escribir.
+     */
+    public synchronized void appendAll(List<ResultRecord> records) throws IOException {
+        ResultsWriteEvent event = new ResultsWriteEvent();
+        event.begin();
+        ByteBuffer buffer = ByteBuffer.allocate(records.size() * RECORD_BYTES);
+        for (ResultRecord record : records) {
+            buffer.put(encode(record));
+        }
+        buffer.flip();
+        long position = HEADER_BYTES + count * RECORD_BYTES;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        channel.force(false);
+        for (ResultRecord record : records) {
+            index(record, count++);
+        }
+        event.finish(file.toString(), records, (long) records.size() * RECORD_BYTES);
+    }
+
+    /**
+     * Lee todos los resultados, del más antiguo al más reciente.
+     *
+     * @return Los resultados del registro.
+     * @throws IOException Si el archivo no se puede leer.
+     */
+    public synchronized List<ResultRecord> readAll() throws IOException {
+        List<ResultRecord> records = new ArrayList<>((int) count);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * READ_BATCH);
+        for (long first = 0; first < count; first += READ_BATCH) {
+            int n = (int) Math.min(READ_BATCH, count - first);
+            buffer.clear().limit(n * RECORD_BYTES);
+            readFully(buffer, HEADER_BYTES + first * RECORD_BYTES);
+            for (int i = 0; i < n; i++) {
+                records.add(decode(buffer.slice(i * RECORD_BYTES, RECORD_BYTES)));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Devuelve los resultados de un algoritmo usando el índice.
+     *
+     * @param algorithm El nombre del algoritmo.
+     * @return Sus resultados, del más antiguo al más reciente.
+     * @throws IOException Si el archivo no se puede leer.
+     */
+    public synchronized List<ResultRecord> findByAlgorithm(String algorithm) throws IOException {
+        return read(byAlgorithm.getOrDefault(algorithm, Collections.emptyList()));
+    }
+
+    /**
+     * Devuelve los resultados obtenidos sobre un laberinto usando el índice.
+     *
+     * @param mazeSignature La firma del laberinto.
+     * @return Sus resultados, del más antiguo al más reciente.
+     * @throws IOException Si el archivo no se puede leer.
+     */
+    public synchronized List<ResultRecord> findByMaze(long mazeSignature) throws IOException {
+        return read(byMaze.getOrDefault(mazeSignature, Collections.emptyList()));
+    }
+
+    /**
+     * Devuelve los agregados por algoritmo y tamaño de laberinto de todos los resultados guardados,
+     * mantenidos al vuelo: no se relee el archivo.
+     *
+     * @return Una copia de los agregados, ordenados por algoritmo y tamaño.
+     */
+    public List<ResultsStats.Aggregate> statistics() {
+        return stats.snapshot();
+    }
+
+    /**
+     * Devuelve el número de resultados guardados.
+     *
+     * @return El número de registros.
+     */
+    public synchronized long size() {
+        return count;
+    }
+
+    /**
+     * Elimina todos los resultados, dejando solo la cabecera.
+     *
+     * @throws IOException Si el archivo no se puede truncar.
+     */
+    public synchronized void clear() throws IOException {
+        channel.truncate(HEADER_BYTES);
+        channel.force(true);
+        count = 0;
+        byAlgorithm.clear();
+        byMaze.clear();
+        stats.clear();
+    }
+
+    /**
+     * Importa las filas de un CSV de resultados antiguo ({@code Algoritmo,Longitud del Camino,Tiempo (ns)}).
+     * Como el CSV no guardaba ni el laberinto ni la fecha, se usa la firma 0 y la fecha del archivo.
+     *
+     * @param csv La ruta del CSV.
+     * @throws IOException Si el CSV no se puede leer o el registro no se puede escribir.
+     */
+    public void importLegacyCsv(Path csv) throws IOException {
+        long timestamp = Files.getLastModifiedTime(csv).toMillis();
+        List<ResultRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(csv)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] data = line.split(",");
+                if (data.length != 3 || !data[2].trim().matches("\\d+")) {
+                    continue; // Cabecera o fila dañada
+                }
+                int pathLength = data[1].trim().matches("\\d+") ? Integer.parseInt(data[1].trim()) : -1;
+                records.add(ResultRecord.builder(data[0]).timestamp(timestamp).pathLength(pathLength)
+                        .timeNanos(Long.parseLong(data[2].trim())).build());
+            }
+        }
+        appendAll(records);
+        System.out.println("Resultados importados de " + csv + " al registro " + file);
+    }
+
+    /**
+     * Calcula la firma de un laberinto: un CRC32 de sus dimensiones, sus muros y sus celdas de inicio y fin,
+     * para agrupar los resultados obtenidos sobre el mismo laberinto.
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param start La celda de inicio (puede ser null).
+     * @param end La celda de fin (puede ser null).
+     * @return La firma del laberinto.
+     */
+    public static long signature(MazeGrid grid, Cell start, Cell end) {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 64);
+        buffer.putInt(grid.getRows()).putInt(grid.getCols());
+        buffer.putInt(start != null ? start.getRow() : -1).putInt(start != null ? start.getCol() : -1);
+        buffer.putInt(end != null ? end.getRow() : -1).putInt(end != null ? end.getCol() : -1);
+        long word = 0;
+        int bits = 0;
+        for (int i = 0; i < grid.getRows(); i++) {
+            for (int j = 0; j < grid.getCols(); j++) {
+                if (grid.isOpen(i, j)) {
+                    word |= 1L << bits;
+                }
+                if (++bits == 64) {
+                    if (!buffer.hasRemaining()) {
+                        crc.update(buffer.flip());
+                        buffer.clear();
+                    }
+                    buffer.putLong(word);
+                    word = 0;
+                    bits = 0;
+                }
+            }
+        }
+        if (buffer.remaining() < Long.BYTES) {
+            crc.update(buffer.flip());
+            buffer.clear();
+        }
+        buffer.putLong(word);
+        crc.update(buffer.flip());
+        return crc.getValue();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_BYTES);
+        header.clear(); // Cabecera completa: el resto queda reservado a cero
+        channel.truncate(0);
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+    }
+
+    private void checkHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(header, 0);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("El archivo no es un registro de resultados: " + file);
+        }
+        short version = header.getShort();
+        if (version != VERSION || header.getShort() != RECORD_BYTES) {
+            throw new IOException("Versión de registro de resultados no soportada: " + version);
+        }
+    }
+
+    /**
+     * Recorre los registros para reconstruir el índice y descarta la cola incompleta o dañada.
+     * Lee {@value #READ_BATCH} registros por llamada al sistema, como {@link #readAll()}.
+     */
+    private void recover() throws IOException {
+        long complete = (channel.size() - HEADER_BYTES) / RECORD_BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * READ_BATCH);
+        count = 0;
+        boolean damaged = false;
+        for (long first = 0; first < complete && !damaged; first += READ_BATCH) {
+            int n = (int) Math.min(READ_BATCH, complete - first);
+            buffer.clear().limit(n * RECORD_BYTES);
+            readFully(buffer, HEADER_BYTES + first * RECORD_BYTES);
+            for (int i = 0; i < n && !damaged; i++) {
+                ResultRecord record = decode(buffer.slice(i * RECORD_BYTES, RECORD_BYTES));
+                if (record == null) {
+                    damaged = true;
+                } else {
+                    index(record, count++);
+                }
+            }
+        }
+        long valid = HEADER_BYTES + count * RECORD_BYTES;
+        if (channel.size() > valid) {
+            System.err.println("Registro de resultados " + file + ": se descartan " + (channel.size() - valid) + " bytes de una escritura incompleta.");
+            channel.truncate(valid);
+            channel.force(true);
+        }
+    }
+
+    private void index(ResultRecord record, long number) {
+        byAlgorithm.computeIfAbsent(record.getAlgorithm(), key -> new ArrayList<>()).add(number);
+        byMaze.computeIfAbsent(record.getMazeSignature(), key -> new ArrayList<>()).add(number);
+        stats.add(record);
+    }
+
+    private List<ResultRecord> read(List<Long> numbers) throws IOException {
+        List<ResultRecord> records = new ArrayList<>(numbers.size());
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        for (long number : numbers) {
+            buffer.clear();
+            readFully(buffer, HEADER_BYTES + number * RECORD_BYTES);
+            records.add(decode(buffer));
+        }
+        return records;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Registro de resultados truncado: " + file);
+            }
+            position += read;
+        }
+        buffer.flip();
+    }
+
+    private static ByteBuffer encode(ResultRecord record) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        buffer.putLong(record.getTimestamp()).putLong(record.getMazeSignature()).putLong(record.getTimeNanos());
+        buffer.putInt(record.getPathLength()).putInt(record.getRows()).putInt(record.getCols());
+        buffer.putFloat(record.getWallDensity()).putLong(record.getSeed()).putInt(record.getThreads());
+        putText(buffer, record.getAlgorithm(), NAME_OFFSET, NAME_BYTES);
+        putText(buffer, record.getJvm(), JVM_OFFSET, JVM_BYTES);
+        buffer.putFloat(TIMING_OFFSET, record.getTimeSpreadNanos()).putInt(TIMING_OFFSET + Float.BYTES, record.getIterations());
+        SearchMetrics metrics = record.getMetrics();
+        buffer.putLong(METRICS_OFFSET, metrics != null ? metrics.getNodesExpanded() : -1)
+                .putLong(METRICS_OFFSET + Long.BYTES, metrics != null ? metrics.getNodesGenerated() : -1)
+                .putLong(METRICS_OFFSET + 2 * Long.BYTES, metrics != null ? metrics.getPeakFrontier() : -1)
+                .putLong(METRICS_OFFSET + 3 * Long.BYTES, metrics != null ? metrics.getAllocatedBytes() : -1);
+        MemoryProfiler.Footprint memory = record.getMemory();
+        buffer.putLong(MEMORY_OFFSET, memory != null ? memory.getSolverBytes() : -1)
+                .putLong(MEMORY_OFFSET + Long.BYTES, memory != null ? memory.getResultBytes() : -1)
+                .putLong(MEMORY_OFFSET + 2 * Long.BYTES, memory != null ? memory.getPeakHeapBytes() : -1);
+        buffer.putInt(VARIANT_OFFSET, record.getWinningVariant());
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, RECORD_BYTES - Integer.BYTES);
+        buffer.putInt(RECORD_BYTES - Integer.BYTES, (int) crc.getValue());
+        return buffer.clear();
+    }
+
+    /** Escribe un texto en UTF-8 en un campo de ancho fijo, truncándolo si no cabe. */
+    private static void putText(ByteBuffer buffer, String text, int offset, int length) {
+        // El codificador se detiene antes de un carácter que no cabe, así que el texto truncado sigue siendo UTF-8 válido
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        encoder.encode(CharBuffer.wrap(text), buffer.slice(offset, length), true);
+    }
+
+    /** Lee un texto UTF-8 rellenado con ceros de un campo de ancho fijo. */
+    private static String getText(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        int end = 0;
+        while (end < length && bytes[end] != 0) {
+            end++;
+        }
+        return new String(bytes, 0, end, StandardCharsets.UTF_8);
+    }
+
+    /** Decodifica un registro, o devuelve null si su CRC no coincide. */
+    private static ResultRecord decode(ByteBuffer buffer) {
+        if (!checksumMatches(buffer)) {
+            return null;
+        }
+        long timestamp = buffer.getLong();
+        long signature = buffer.getLong();
+        long timeNanos = buffer.getLong();
+        int pathLength = buffer.getInt();
+        int rows = buffer.getInt();
+        int cols = buffer.getInt();
+        float wallDensity = buffer.getFloat();
+        long seed = buffer.getLong();
+        int threads = buffer.getInt();
+        SearchMetrics metrics = null;
+        long expanded = buffer.getLong(METRICS_OFFSET);
+        long generated = buffer.getLong(METRICS_OFFSET + Long.BYTES);
+        long peakFrontier = buffer.getLong(METRICS_OFFSET + 2 * Long.BYTES);
+        long allocated = buffer.getLong(METRICS_OFFSET + 3 * Long.BYTES);
+        if (expanded >= 0 || generated >= 0 || peakFrontier >= 0 || allocated >= 0) {
+            metrics = new SearchMetrics(expanded, generated, peakFrontier, pathLength, allocated);
+        }
+        MemoryProfiler.Footprint memory = null;
+        long solverBytes = buffer.getLong(MEMORY_OFFSET);
+        long resultBytes = buffer.getLong(MEMORY_OFFSET + Long.BYTES);
+        long peakHeap = buffer.getLong(MEMORY_OFFSET + 2 * Long.BYTES);
+        if (solverBytes >= 0 || resultBytes >= 0 || peakHeap >= 0) {
+            memory = new MemoryProfiler.Footprint(solverBytes, resultBytes, peakHeap);
+        }
+        return ResultRecord.builder(getText(buffer, NAME_OFFSET, NAME_BYTES))
+                .timestamp(timestamp)
+                .pathLength(pathLength)
+                .timeNanos(timeNanos)
+                .mazeSignature(signature)
+                .dimensions(rows, cols)
+                .wallDensity(wallDensity)
+                .seed(seed)
+                .jvm(getText(buffer, JVM_OFFSET, JVM_BYTES))
+                .threads(threads)
+                .timing(buffer.getInt(TIMING_OFFSET + Float.BYTES), (long) buffer.getFloat(TIMING_OFFSET))
+                .metrics(metrics)
+                .memory(memory)
+                .winningVariant(buffer.getInt(VARIANT_OFFSET))
+                .build();
+    }
+
+    private static boolean checksumMatches(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(RECORD_BYTES - Integer.BYTES));
+        return (int) crc.getValue() == buffer.getInt(RECORD_BYTES - Integer.BYTES);
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.results;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.model.SearchMetrics;
+
+/**
+ * Agregados en streaming de los resultados, por algoritmo y tamaño de laberinto: número de ejecuciones,
+ * media y percentiles del tiempo (con un {@link LatencyHistogram}), media de la longitud del camino y,
+ * de las ejecuciones que informaron métricas de búsqueda, media de nodos expandidos y de bytes reservados
+ * y, de las que se perfilaron ({@link MemoryProfiler}), media de bytes retenidos y del pico de heap.
+ * <p>Los tamaños se agrupan por potencias de dos del número de celdas, de modo que un laberinto de
+ * 50x50 (2.500 celdas) cae en la franja 2.048–4.095. Cada resultado se acumula al llegar, así que
+ * consultar las estadísticas no obliga a releer el historial.</p>
+ */
+public class ResultsStats {
+    /** Franja de los resultados sin dimensiones (importados de versiones anteriores). */
+    public static final int UNKNOWN_SIZE = -1;
+
+    private final Map<Key, Aggregate> aggregates = new HashMap<>();
+
+    /** Algoritmo y franja de tamaño de un agregado. */
+    private record Key(String algorithm, int sizeBucket) {
+    }
+
+    /**
+     * Estadísticas de un algoritmo en una franja de tamaño. Las instancias devueltas por
+     * {@link ResultsStats#snapshot()} son copias y no cambian con los resultados posteriores.
+     */
+    public static class Aggregate {
+        private final String algorithm;
+        private final int sizeBucket;
+        private final LatencyHistogram times = new LatencyHistogram();
+        private long pathSum;
+        private long solved;
+        private long expandedSum;
+        private long expandedCount;
+        private long allocatedSum;
+        private long allocatedCount;
+        private long retainedSum;
+        private long retainedCount;
+        private long peakHeapSum;
+        private long peakHeapCount;
+
+        private Aggregate(String algorithm, int sizeBucket) {
+            this.algorithm = algorithm;
+            this.sizeBucket = sizeBucket;
+        }
+
+        private void add(ResultRecord record) {
+            times.record(Math.max(0, record.getTimeNanos()));
+            if (record.getPathLength() >= 0) {
+                pathSum += record.getPathLength();
+                solved++;
+            }
+            SearchMetrics metrics = record.getMetrics();
+            if (metrics != null && metrics.getNodesExpanded() >= 0) {
+                expandedSum += metrics.getNodesExpanded();
+                expandedCount++;
+            }
+            if (metrics != null && metrics.getAllocatedBytes() >= 0) {
+                allocatedSum += metrics.getAllocatedBytes();
+                allocatedCount++;
+            }
+            MemoryProfiler.Footprint memory = record.getMemory();
+            if (memory != null && memory.getRetainedBytes() >= 0) {
+                retainedSum += memory.getRetainedBytes();
+                retainedCount++;
+            }
+            if (memory != null && memory.getPeakHeapBytes() >= 0) {
+                peakHeapSum += memory.getPeakHeapBytes();
+                peakHeapCount++;
+            }
+        }
+
+        private Aggregate copy() {
+            Aggregate copy = new Aggregate(algorithm, sizeBucket);
+            copy.times.add(times);
+            copy.pathSum = pathSum;
+            copy.solved = solved;
+            copy.expandedSum = expandedSum;
+            copy.expandedCount = expandedCount;
+            copy.allocatedSum = allocatedSum;
+            copy.allocatedCount = allocatedCount;
+            copy.retainedSum = retainedSum;
+            copy.retainedCount = retainedCount;
+            copy.peakHeapSum = peakHeapSum;
+            copy.peakHeapCount = peakHeapCount;
+            return copy;
+        }
+
+        /**
+         * Devuelve el nombre del algoritmo.
+         *
+         * @return El algoritmo.
+         */
+        public String getAlgorithm() {return algorithm;}
+
+        /**
+         * Devuelve la franja de tamaño: los laberintos de entre 2^franja y 2^(franja+1)-1 celdas.
+         *
+         * @return La franja, o {@link #UNKNOWN_SIZE}.
+         */
+        public int getSizeBucket() {return sizeBucket;}
+
+        /**
+         * Devuelve el histograma de tiempos de resolución.
+         *
+         * @return El histograma, en nanosegundos.
+         */
+        public LatencyHistogram getTimes() {return times;}
+
+        /**
+         * Devuelve el número de ejecuciones.
+         *
+         * @return El número de resultados acumulados.
+         */
+        public long getCount() {return times.getCount();}
+
+        /**
+         * Devuelve la longitud media de los caminos encontrados.
+         *
+         * @return La media, o NaN si ninguna ejecución encontró camino.
+         */
+        public double getMeanPathLength() {return solved == 0 ? Double.NaN : (double) pathSum / solved;}
+
+        /**
+         * Devuelve la media de nodos expandidos por ejecución.
+         *
+         * @return La media, o NaN si ninguna ejecución informó sus métricas.
+         */
+        public double getMeanNodesExpanded() {return expandedCount == 0 ? Double.NaN : (double) expandedSum / expandedCount;}
+
+        /**
+         * Devuelve la media de bytes reservados por ejecución.
+         *
+         * @return La media, o NaN si ninguna ejecución los midió.
+         */
+        public double getMeanAllocatedBytes() {return allocatedCount == 0 ? Double.NaN : (double) allocatedSum / allocatedCount;}
+
+        /**
+         * Devuelve la media de bytes retenidos por el solver y su resultado.
+         *
+         * @return La media, o NaN si ninguna ejecución se perfiló.
+         */
+        public double getMeanRetainedBytes() {return retainedCount == 0 ? Double.NaN : (double) retainedSum / retainedCount;}
+
+        /**
+         * Devuelve la media del pico de heap durante la resolución.
+         *
+         * @return La media, o NaN si ninguna ejecución se perfiló.
+         */
+        public double getMeanPeakHeapBytes() {return peakHeapCount == 0 ? Double.NaN : (double) peakHeapSum / peakHeapCount;}
+    }
+
+    /**
+     * Acumula un resultado.
+     *
+     * @param record El resultado.
+     */
+    public synchronized void add(ResultRecord record) {
+        Key key = new Key(record.getAlgorithm(), sizeBucket(record.getCells()));
+        aggregates.computeIfAbsent(key, k -> new Aggregate(k.algorithm(), k.sizeBucket())).add(record);
+    }
+
+    /** Olvida todos los resultados acumulados. */
+    public synchronized void clear() {
+        aggregates.clear();
+    }
+
+    /**
+     * Copia los agregados actuales, ordenados por algoritmo y tamaño.
+     *
+     * @return Una copia de cada agregado.
+     */
+    public synchronized List<Aggregate> snapshot() {
+        List<Aggregate> copies = new ArrayList<>(aggregates.size());
+        for (Aggregate aggregate : aggregates.values()) {
+            copies.add(aggregate.copy());
+        }
+        copies.sort(Comparator.comparing(Aggregate::getAlgorithm).thenComparingInt(Aggregate::getSizeBucket));
+        return copies;
+    }
+
+    /**
+     * Calcula la franja de tamaño de un laberinto.
+     *
+     * @param cells El número de celdas, o 0 si se desconoce.
+     * @return El logaritmo en base 2 redondeado hacia abajo, o {@link #UNKNOWN_SIZE}.
+     */
+    public static int sizeBucket(long cells) {
+        return cells <= 0 ? UNKNOWN_SIZE : 63 - Long.numberOfLeadingZeros(cells);
+    }
+
+    /**
+     * Describe una franja de tamaño para mostrarla.
+     *
+     * @param sizeBucket La franja.
+     * @return Por ejemplo {@code "2048–4095"}, o {@code "?"} si se desconoce.
+     */
+    public static String describeSizeBucket(int sizeBucket) {
+        if (sizeBucket == UNKNOWN_SIZE) {
+            return "?";
+        }
+        long low = 1L << sizeBucket;
+        return low + "–" + (sizeBucket == 62 ? Long.MAX_VALUE : (low << 1) - 1);
+    }
+}
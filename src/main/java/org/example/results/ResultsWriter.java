@@ -0,0 +1,201 @@
+package org.example.results;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escritor de resultados en segundo plano para un {@link ResultsLog}. Quien registra un resultado
+ * (el hilo de eventos de Swing o los hilos de una ejecución por lotes) solo lo deja en una cola acotada;
+ * un hilo dedicado los agrupa y los escribe con {@link ResultsLog#appendAll(List)} cuando el lote
+ * llega a {@value #BATCH_SIZE} resultados o cuando el más antiguo lleva {@value #FLUSH_INTERVAL_MS} ms
+ * esperando, de modo que miles de resultados por segundo cuestan unas pocas escrituras.
+ * <p>La cola tiene capacidad para {@value #QUEUE_CAPACITY} resultados; si se llena (el disco no da
+ * abasto), {@link #submit(ResultRecord)} espera a que haya sitio en lugar de perder resultados.
+ * Al cerrar el escritor, o al terminar la JVM en el caso del escritor por defecto, se vacía la cola.</p>
+ * <p>El escritor por defecto abre el registro en su propio hilo: abrirlo recorre todo el historial
+ * para reconstruir el índice, y así ni el hilo de eventos ni quien registra el primer resultado esperan.</p>
+ */
+public class ResultsWriter implements AutoCloseable {
+    public static final int QUEUE_CAPACITY = 65536;
+    public static final int BATCH_SIZE = 1024;
+    public static final long FLUSH_INTERVAL_MS = 200;
+
+    private static ResultsWriter defaultWriter;
+
+    private final Callable<ResultsLog> opener;
+    private ResultsLog log; // Solo lo usa el hilo del escritor
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /** Un resultado pendiente, o una petición de vaciado o de cierre. */
+    private static final class Entry {
+        final ResultRecord record;
+        final CountDownLatch written;
+        final boolean stop;
+
+        Entry(ResultRecord record, CountDownLatch written, boolean stop) {
+            this.record = record;
+            this.written = written;
+            this.stop = stop;
+        }
+    }
+
+    /**
+     * Construye un escritor sobre un registro y arranca su hilo.
+     *
+     * @param log El registro donde escribir.
+     */
+    public ResultsWriter(ResultsLog log) {
+        this(() -> log);
+    }
+
+    /**
+     * Construye un escritor que abre su registro en su propio hilo, antes de escribir el primer lote.
+     *
+     * @param opener Abre el registro donde escribir.
+     */
+    private ResultsWriter(Callable<ResultsLog> opener) {
+        this.opener = opener;
+        this.thread = new Thread(this::run, "results-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Devuelve el escritor compartido sobre {@link ResultsLog#getDefault()}. La primera vez arranca su
+     * hilo, que abre el registro en segundo plano, y registra un gancho de apagado que escribe los
+     * resultados pendientes antes de que termine la JVM. Conviene llamarlo al arrancar la aplicación
+     * para que el registro ya esté abierto cuando llegue el primer resultado.
+     *
+     * @return El escritor por defecto.
+     */
+    public static synchronized ResultsWriter getDefault() {
+        if (defaultWriter == null) {
+            ResultsWriter writer = new ResultsWriter(ResultsLog::getDefault);
+            Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "results-writer-shutdown"));
+            defaultWriter = writer;
+        }
+        return defaultWriter;
+    }
+
+    /**
+     * Deja un resultado en la cola para escribirlo en segundo plano. Solo espera si la cola está llena.
+     *
+     * @param record El resultado a registrar.
+     */
+    public void submit(ResultRecord record) {
+        if (closed) {
+            throw new IllegalStateException("El escritor de resultados está cerrado.");
+        }
+        try {
+            queue.put(new Entry(record, null, false));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Resultado descartado por interrupción: " + record);
+        }
+    }
+
+    /**
+     * Espera a que todos los resultados enviados hasta ahora estén escritos en el registro.
+     */
+    public void flush() {
+        if (closed) {
+            return;
+        }
+        CountDownLatch written = new CountDownLatch(1);
+        try {
+            queue.put(new Entry(null, written, false));
+            written.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Escribe los resultados pendientes y detiene el hilo del escritor. El registro sigue abierto.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            queue.put(new Entry(null, null, true));
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Bucle del hilo escritor: abre el registro y después junta lotes por tamaño o por tiempo y los escribe. */
+    private void run() {
+        try {
+            log = opener.call();
+        } catch (Exception e) {
+            // Se sigue atendiendo la cola para que flush() y close() no esperen para siempre
+            System.err.println("Error al abrir el registro de resultados: " + e.getMessage());
+        }
+        List<ResultRecord> batch = new ArrayList<>(BATCH_SIZE);
+        List<CountDownLatch> waiting = new ArrayList<>();
+        List<Entry> drained = new ArrayList<>(BATCH_SIZE);
+        long deadline = 0;
+        boolean stop = false;
+        while (!stop) {
+            try {
+                Entry first = batch.isEmpty()
+                        ? queue.take()
+                        : queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    drained.add(first);
+                    queue.drainTo(drained, BATCH_SIZE - batch.size());
+                }
+            } catch (InterruptedException e) {
+                stop = true;
+            }
+            for (Entry entry : drained) {
+                if (entry.record != null) {
+                    if (batch.isEmpty()) {
+                        deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MS);
+                    }
+                    batch.add(entry.record);
+                } else if (entry.written != null) {
+                    waiting.add(entry.written);
+                } else {
+                    stop = true;
+                }
+            }
+            drained.clear();
+            boolean due = !batch.isEmpty() && System.nanoTime() >= deadline;
+            if (batch.size() >= BATCH_SIZE || due || !waiting.isEmpty() || stop) {
+                write(batch);
+                waiting.forEach(CountDownLatch::countDown);
+                waiting.clear();
+            }
+        }
+    }
+
+    private void write(List<ResultRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (log == null) {
+            System.err.println("Se descartan " + batch.size() + " resultados: el registro de resultados no está abierto.");
+            batch.clear();
+            return;
+        }
+        try {
+            log.appendAll(batch);
+        } catch (IOException e) {
+            System.err.println("Error al guardar " + batch.size() + " resultados: " + e.getMessage());
+        }
+        batch.clear();
+    }
+}
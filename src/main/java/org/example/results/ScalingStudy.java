@@ -0,0 +1,313 @@
+package org.example.results;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import org.example.generator.EndpointPlacement;
+import org.example.generator.MazeTopology;
+import org.example.generator.WorkloadGenerator;
+import org.example.generator.WorkloadSpec;
+import org.example.model.MazeInstance;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+import org.example.model.SearchMetrics;
+import org.example.solver.SolverFactory;
+
+/**
+ * Estudio de escalado: resuelve laberintos perfectos de 2^{@code minExponent} a 2^{@code maxExponent}
+ * celdas (duplicando el tamaño en cada paso) con cada solver, mide la mediana del tiempo y los bytes
+ * reservados, y estima el exponente empírico de la complejidad: la pendiente de la recta que mejor
+ * ajusta log(tiempo) frente a log(celdas). Un solver lineal da un exponente cercano a 1; si un cambio
+ * lo sube a 1,5 o 2 la regresión asintótica salta a la vista aunque los laberintos pequeños sigan
+ * siendo rápidos.
+ * <p>El estudio corre en un ejecutor propio con un hilo de pila grande ({@value #STACK_BYTES} bytes),
+ * para que los solvers recursivos lleguen lo más lejos posible. Un solver deja de medirse en tamaños
+ * mayores cuando su mediana supera el presupuesto de tiempo o cuando desborda la pila o el heap.</p>
+ * <p>Los bytes reservados solo cuentan el heap del hilo que resuelve (ver {@link SearchMetrics}): la
+ * memoria fuera del heap del BFS externo y los hilos del portafolio no aparecen.</p>
+ */
+public class ScalingStudy {
+    public static final int MIN_EXPONENT = 4;
+    public static final int MAX_EXPONENT = 26;
+    public static final int DEFAULT_MIN_EXPONENT = 6;
+    public static final int DEFAULT_MAX_EXPONENT = 20;
+    public static final int DEFAULT_REPEAT = 3;
+    public static final long DEFAULT_TIME_BUDGET_NANOS = 2_000_000_000L;
+    public static final long STACK_BYTES = 1L << 30;
+    /** Tamaño mínimo de los puntos que entran en el ajuste: por debajo domina el coste fijo de cada llamada. */
+    public static final long FIT_MIN_CELLS = 1L << 10;
+
+    private final List<String> solvers;
+    private final int minExponent;
+    private final int maxExponent;
+    private final int repeat;
+    private final long timeBudgetNanos;
+    private final List<Point> points = Collections.synchronizedList(new ArrayList<>());
+    private ExecutorService executor;
+
+    /** Una medición: un solver sobre un tamaño de laberinto. */
+    public static class Point {
+        private final String solver;
+        private final long cells;
+        private final long timeNanos;
+        private final long allocatedBytes;
+
+        /**
+         * Crea una medición.
+         *
+         * @param solver El nombre del solver (ver {@link SolverFactory#NAMES}).
+         * @param cells Las celdas del laberinto.
+         * @param timeNanos La mediana del tiempo de resolución, en nanosegundos.
+         * @param allocatedBytes Los bytes reservados en la última resolución, o -1 si no se midieron.
+         */
+        public Point(String solver, long cells, long timeNanos, long allocatedBytes) {
+            this.solver = solver;
+            this.cells = cells;
+            this.timeNanos = timeNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * Devuelve el nombre del solver.
+         *
+         * @return El solver medido.
+         */
+        public String getSolver() {return solver;}
+
+        /**
+         * Devuelve el tamaño del laberinto.
+         *
+         * @return Las celdas.
+         */
+        public long getCells() {return cells;}
+
+        /**
+         * Devuelve la mediana del tiempo de resolución.
+         *
+         * @return Los nanosegundos.
+         */
+        public long getTimeNanos() {return timeNanos;}
+
+        /**
+         * Devuelve los bytes reservados durante la resolución.
+         *
+         * @return Los bytes, o -1 si no se midieron.
+         */
+        public long getAllocatedBytes() {return allocatedBytes;}
+
+        @Override
+        public String toString() {
+            return solver + " @ " + cells + " celdas: " + timeNanos + " ns, " + allocatedBytes + " bytes";
+        }
+    }
+
+    /**
+     * Crea un estudio con los parámetros por defecto: todos los solvers, de 2^{@value #DEFAULT_MIN_EXPONENT}
+     * a 2^{@value #DEFAULT_MAX_EXPONENT} celdas.
+     */
+    public ScalingStudy() {
+        this(SolverFactory.NAMES, DEFAULT_MIN_EXPONENT, DEFAULT_MAX_EXPONENT, DEFAULT_REPEAT, DEFAULT_TIME_BUDGET_NANOS);
+    }
+
+    /**
+     * Crea un estudio.
+     *
+     * @param solvers Los solvers a medir (ver {@link SolverFactory#NAMES}).
+     * @param minExponent El exponente del laberinto más pequeño (2^minExponent celdas).
+     * @param maxExponent El exponente del laberinto más grande, como mucho {@value #MAX_EXPONENT}.
+     * @param repeat Las resoluciones medidas por punto, tras una de calentamiento (al menos 1).
+     * @param timeBudgetNanos La mediana a partir de la cual un solver no se mide en tamaños mayores.
+     * @throws IllegalArgumentException Si el rango de exponentes no es válido o no hay solvers.
+     */
+    public ScalingStudy(List<String> solvers, int minExponent, int maxExponent, int repeat, long timeBudgetNanos) {
+        if (minExponent < MIN_EXPONENT || maxExponent > MAX_EXPONENT || minExponent > maxExponent) {
+            throw new IllegalArgumentException("Rango de tamaños inválido: 2^" + minExponent + " a 2^" + maxExponent
+                    + " (se admite de 2^" + MIN_EXPONENT + " a 2^" + MAX_EXPONENT + ").");
+        }
+        if (solvers.isEmpty()) {
+            throw new IllegalArgumentException("El estudio necesita al menos un solver.");
+        }
+        this.solvers = List.copyOf(solvers);
+        this.minExponent = minExponent;
+        this.maxExponent = maxExponent;
+        this.repeat = Math.max(1, repeat);
+        this.timeBudgetNanos = timeBudgetNanos;
+    }
+
+    /**
+     * Lanza el estudio en segundo plano. El oyente recibe cada medición en cuanto está lista, desde el
+     * hilo del estudio (para actualizar una interfaz Swing hay que pasar al EDT).
+     *
+     * @param listener El oyente de las mediciones, o null.
+     * @return El resultado del estudio: todas las mediciones, en el orden en que se tomaron.
+     * @throws IllegalStateException Si el estudio ya se lanzó.
+     */
+    public synchronized Future<List<Point>> start(Consumer<Point> listener) {
+        if (executor != null) {
+            throw new IllegalStateException("El estudio de escalado ya se lanzó.");
+        }
+        executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(null, task, "scaling-study", STACK_BYTES);
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<List<Point>> future = executor.submit(() -> run(listener));
+        executor.shutdown();
+        return future;
+    }
+
+    /** Interrumpe el estudio: termina tras la resolución en curso. */
+    public synchronized void cancel() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Devuelve los solvers del estudio.
+     *
+     * @return Los nombres, en el orden en que se miden.
+     */
+    public List<String> getSolvers() {return solvers;}
+
+    /**
+     * Devuelve las mediciones tomadas hasta ahora.
+     *
+     * @return Una copia de las mediciones.
+     */
+    public List<Point> getPoints() {
+        synchronized (points) {
+            return new ArrayList<>(points);
+        }
+    }
+
+    /**
+     * Estima el exponente empírico de una métrica: la pendiente del ajuste por mínimos cuadrados de
+     * log(métrica) frente a log(celdas). Solo se usan los puntos de al menos {@value #FIT_MIN_CELLS}
+     * celdas si hay dos o más; si no, todos. Los valores no positivos se ignoran.
+     *
+     * @param points Las mediciones de un solver.
+     * @param metric La métrica, por ejemplo {@code Point::getTimeNanos}.
+     * @return El exponente, o NaN si no hay al menos dos puntos utilizables.
+     */
+    public static double exponent(List<Point> points, ToLongFunction<Point> metric) {
+        List<Point> usable = new ArrayList<>();
+        for (Point point : points) {
+            if (metric.applyAsLong(point) > 0 && point.getCells() > 0) {
+                usable.add(point);
+            }
+        }
+        List<Point> large = new ArrayList<>();
+        for (Point point : usable) {
+            if (point.getCells() >= FIT_MIN_CELLS) {
+                large.add(point);
+            }
+        }
+        List<Point> fitted = large.size() >= 2 ? large : usable;
+        if (fitted.size() < 2) {
+            return Double.NaN;
+        }
+        double sumX = 0;
+        double sumY = 0;
+        for (Point point : fitted) {
+            sumX += Math.log(point.getCells());
+            sumY += Math.log(metric.applyAsLong(point));
+        }
+        double meanX = sumX / fitted.size();
+        double meanY = sumY / fitted.size();
+        double covariance = 0;
+        double variance = 0;
+        for (Point point : fitted) {
+            double dx = Math.log(point.getCells()) - meanX;
+            covariance += dx * (Math.log(metric.applyAsLong(point)) - meanY);
+            variance += dx * dx;
+        }
+        return variance == 0 ? Double.NaN : covariance / variance;
+    }
+
+    /**
+     * Filtra las mediciones de un solver.
+     *
+     * @param points Las mediciones del estudio.
+     * @param solver El nombre del solver.
+     * @return Sus mediciones, de menor a mayor tamaño.
+     */
+    public static List<Point> forSolver(List<Point> points, String solver) {
+        List<Point> selected = new ArrayList<>();
+        for (Point point : points) {
+            if (point.getSolver().equals(solver)) {
+                selected.add(point);
+            }
+        }
+        return selected;
+    }
+
+    private List<Point> run(Consumer<Point> listener) {
+        WorkloadGenerator generator = new WorkloadGenerator();
+        Set<String> active = new LinkedHashSet<>(solvers);
+        for (int exponent = minExponent; exponent <= maxExponent && !active.isEmpty(); exponent++) {
+            if (Thread.currentThread().isInterrupted()) {
+                System.out.println("Estudio de escalado cancelado en 2^" + exponent + " celdas.");
+                break;
+            }
+            // Dimensiones impares para que el laberinto perfecto tenga borde: (2^a + 1) x (2^b + 1) ≈ 2^exponente celdas
+            int rows = (1 << (exponent / 2)) + 1;
+            int cols = (1 << (exponent - exponent / 2)) + 1;
+            MazeInstance instance = generator.generate(new WorkloadSpec(rows, cols, MazeTopology.PERFECT, 0,
+                    EndpointPlacement.FARTHEST_PAIR, 42L));
+            boolean[][] grid = instance.getGrid().toBooleanGrid();
+            for (String name : new ArrayList<>(active)) {
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                Point point = measure(name, instance, grid, (long) rows * cols);
+                if (point == null) {
+                    active.remove(name);
+                    continue;
+                }
+                points.add(point);
+                if (listener != null) {
+                    listener.accept(point);
+                }
+                if (point.getTimeNanos() > timeBudgetNanos) {
+                    System.out.println("Estudio de escalado: " + name + " supera el presupuesto de tiempo en "
+                            + point.getCells() + " celdas; no se mide en tamaños mayores.");
+                    active.remove(name);
+                }
+            }
+        }
+        return getPoints();
+    }
+
+    /** Mide un solver sobre un laberinto, o devuelve null si desborda la pila o el heap. */
+    private Point measure(String name, MazeInstance instance, boolean[][] grid, long cells) {
+        MazeSolver solver = SolverFactory.create(name, grid.length, grid[0].length);
+        try {
+            solver.getPath(grid, instance.getStart(), instance.getEnd()); // Calentamiento
+            long[] samples = new long[repeat];
+            MazeResult result = null;
+            long allocatedBefore = -1;
+            for (int i = 0; i < repeat; i++) {
+                allocatedBefore = SearchMetrics.allocatedBytes();
+                long startTime = System.nanoTime();
+                result = solver.getPath(grid, instance.getStart(), instance.getEnd());
+                samples[i] = System.nanoTime() - startTime;
+            }
+            SearchMetrics.complete(result, allocatedBefore);
+            long allocated = result.getMetrics() != null ? result.getMetrics().getAllocatedBytes() : -1;
+            return new Point(name, cells, TimingStats.of(samples).getMedian(), allocated);
+        } catch (StackOverflowError | OutOfMemoryError e) {
+            System.err.println("Estudio de escalado: " + name + " no pudo resolver " + cells + " celdas ("
+                    + e.getClass().getSimpleName() + "); no se mide en tamaños mayores.");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.results;
+
+import java.util.Arrays;
+
+/**
+ * Resumen estadístico de varias mediciones de tiempo de un mismo solver sobre el mismo laberinto.
+ * <p>Se informa la mediana y, como dispersión, la desviación absoluta mediana (MAD): la mediana de las
+ * distancias de cada medición a la mediana. Ambas son robustas frente a las mediciones atípicas que
+ * provocan una recolección de basura o una compilación del JIT a mitad de la serie, que en cambio
+ * desplazan mucho la media y la desviación típica.</p>
+ */
+public class TimingStats {
+    private final long[] sorted;
+    private final long median;
+    private final long mad;
+
+    private TimingStats(long[] samples) {
+        if (samples.length == 0) {
+            throw new IllegalArgumentException("Se necesita al menos una medición.");
+        }
+        this.sorted = samples.clone();
+        Arrays.sort(sorted);
+        this.median = medianOf(sorted);
+        long[] deviations = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            deviations[i] = Math.abs(sorted[i] - median);
+        }
+        Arrays.sort(deviations);
+        this.mad = medianOf(deviations);
+    }
+
+    /**
+     * Resume un conjunto de mediciones.
+     *
+     * @param samples Los tiempos medidos, en nanosegundos (al menos uno).
+     * @return El resumen.
+     */
+    public static TimingStats of(long... samples) {
+        return new TimingStats(samples);
+    }
+
+    /**
+     * Devuelve el número de mediciones.
+     *
+     * @return Las iteraciones medidas.
+     */
+    public int getIterations() {return sorted.length;}
+
+    /**
+     * Devuelve la mediana de las mediciones.
+     *
+     * @return La mediana, en nanosegundos.
+     */
+    public long getMedian() {return median;}
+
+    /**
+     * Devuelve la desviación absoluta mediana.
+     *
+     * @return La MAD, en nanosegundos; 0 con una sola medición.
+     */
+    public long getMedianAbsoluteDeviation() {return mad;}
+
+    /**
+     * Devuelve la medición más rápida.
+     *
+     * @return El mínimo, en nanosegundos.
+     */
+    public long getMin() {return sorted[0];}
+
+    /**
+     * Devuelve la medición más lenta.
+     *
+     * @return El máximo, en nanosegundos.
+     */
+    public long getMax() {return sorted[sorted.length - 1];}
+
+    /**
+     * Devuelve la media aritmética de las mediciones.
+     *
+     * @return La media, en nanosegundos.
+     */
+    public double getMean() {
+        double sum = 0;
+        for (long sample : sorted) {
+            sum += sample;
+        }
+        return sum / sorted.length;
+    }
+
+    /**
+     * Devuelve la desviación típica muestral de las mediciones.
+     *
+     * @return La desviación típica, en nanosegundos; 0 con una sola medición.
+     */
+    public double getStandardDeviation() {
+        if (sorted.length < 2) {
+            return 0;
+        }
+        double mean = getMean();
+        double squares = 0;
+        for (long sample : sorted) {
+            squares += (sample - mean) * (sample - mean);
+        }
+        return Math.sqrt(squares / (sorted.length - 1));
+    }
+
+    /**
+     * Describe el resumen para mostrarlo al usuario.
+     *
+     * @return Por ejemplo {@code "1520 ns"} o {@code "1520 ± 40 ns (mediana de 10 iteraciones)"}.
+     */
+    public String describe() {
+        if (sorted.length == 1) {
+            return median + " ns";
+        }
+        return median + " ± " + mad + " ns (mediana de " + sorted.length + " iteraciones)";
+    }
+
+    private static long medianOf(long[] sortedValues) {
+        int middle = sortedValues.length / 2;
+        return sortedValues.length % 2 == 1
+                ? sortedValues[middle]
+                : sortedValues[middle - 1] + (sortedValues[middle] - sortedValues[middle - 1]) / 2;
+    }
+
+    @Override
+    public String toString() {
+        return "TimingStats{" + describe() + "}";
+    }
+}
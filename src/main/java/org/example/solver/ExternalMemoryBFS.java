@@ -0,0 +1,551 @@
+package org.example.solver;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+import org.example.io.MazeFileFormat;
+import org.example.model.BooleanMazeGrid;
+import org.example.model.Cell;
+import org.example.model.MazeGrid;
+import org.example.model.MazeInstance;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+import org.example.model.SearchMetrics;
+
+/**
+ * BFS en memoria externa para laberintos cuyos arreglos de visitados y padres no caben ni en RAM
+ * (del orden de 10^10 celdas). En lugar de esos arreglos, cada nivel de la búsqueda (las celdas a
+ * distancia t del inicio) se guarda en disco como una lista ordenada de índices de celda, siguiendo el
+ * esquema de Munagala y Ramachandran: el nivel t+1 son los vecinos abiertos del nivel t, ordenados y sin
+ * repetir, menos los niveles t y t-1 (en un grafo no dirigido ningún vecino puede estar más atrás).
+ * <p>Los vecinos se acumulan en un búfer de {@code runLength} índices que, al llenarse, se ordena y se
+ * vuelca a un archivo temporal; al terminar el nivel esos archivos se mezclan en una sola pasada. Como los
+ * niveles están ordenados, la cuadrícula (normalmente un {@link org.example.io.MappedMazeGrid}) se
+ * recorre por bloques de filas en orden y cada página del archivo se carga a lo sumo una vez por nivel.</p>
+ * <p>Todos los niveles se añaden a un único archivo, con su inicio y fin en un archivo de offsets; el camino
+ * se recupera con pasadas hacia atrás, buscando desde el destino una celda vecina en cada nivel anterior.
+ * Los niveles pequeños se mantienen además en memoria. El disco usado es de unos 8 bytes por celda
+ * alcanzada, y los archivos se borran al terminar.</p>
+ * <p>Las métricas cuentan cada celda leída de un nivel como un nodo expandido y cada celda escrita en un
+ * nivel como un nodo generado; la frontera máxima es el nivel más grande.</p>
+ * <p>Se puede ejecutar como programa: {@code ExternalMemoryBFS archivo.maze [directorio de trabajo]}
+ * informa si el destino guardado en el archivo es alcanzable y a qué distancia.</p>
+ */
+public class ExternalMemoryBFS implements MazeSolver {
+    public static final int DEFAULT_RUN_LENGTH = 1 << 22;
+    /**
+     * Número de celdas a partir del cual conviene usar este solver en lugar del BFS fuera del heap.
+     * Se puede cambiar con la propiedad del sistema {@code maze.external.threshold}.
+     */
+    public static final long THRESHOLD = Long.getLong("maze.external.threshold", 1L << 31);
+
+    private static final int IO_BUFFER_BYTES = 1 << 16;
+    private static final int[] DR = {-1, 0, 0, 1}; // Arriba, Izquierda, Derecha, Abajo
+    private static final int[] DC = {0, -1, 1, 0};
+
+    private final Path workDirectory;
+    private final int runLength;
+
+    /**
+     * Construye el solver con el directorio temporal del sistema y el búfer por defecto
+     * ({@value #DEFAULT_RUN_LENGTH} índices, 32 MB).
+     */
+    public ExternalMemoryBFS() {
+        this(null, DEFAULT_RUN_LENGTH);
+    }
+
+    /**
+     * Construye el solver.
+     *
+     * @param workDirectory El directorio donde crear los archivos de niveles, o null para el temporal del sistema.
+     * @param runLength El número de índices que se ordenan en memoria antes de volcarlos a disco.
+     */
+    public ExternalMemoryBFS(Path workDirectory, int runLength) {
+        if (runLength < 4) {
+            throw new IllegalArgumentException("El búfer de ordenación debe tener al menos 4 índices: " + runLength);
+        }
+        this.workDirectory = workDirectory;
+        this.runLength = runLength;
+    }
+
+    @Override
+    public MazeResult getPath(boolean[][] grid, Cell start, Cell end) {
+        if (grid == null || grid.length == 0) {
+            return new MazeResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return getPath(new BooleanMazeGrid(grid), start, end);
+    }
+
+    /**
+     * Calcula el camino más corto con pasadas hacia atrás sobre los niveles. Las celdas visitadas no
+     * se devuelven: a estos tamaños el conjunto no cabría en memoria.
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param start La celda de inicio.
+     * @param end La celda de destino.
+     * @return El camino más corto (si existe), un conjunto de visitadas vacío y las métricas de búsqueda.
+     */
+    @Override
+    public MazeResult getPath(MazeGrid grid, Cell start, Cell end) {
+        List<Cell> path = new ArrayList<>();
+        if (grid == null || start == null || end == null) {
+            return new MazeResult(path, new LinkedHashSet<>());
+        }
+        SearchMetrics metrics;
+        try (Search search = new Search(grid)) {
+            long distance = search.run(start, end);
+            if (distance >= 0) {
+                path = search.tracePath(distance, end);
+            }
+            metrics = search.metrics;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error de E/S en el BFS externo: " + e.getMessage(), e);
+        }
+        return metrics.attachTo(new MazeResult(path, new LinkedHashSet<>()));
+    }
+
+    /**
+     * Calcula la longitud del camino más corto sin reconstruirlo.
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param start La celda de inicio.
+     * @param end La celda de destino.
+     * @return El número de pasos del camino más corto, o -1 si el destino no es alcanzable.
+     * @throws IOException Si los archivos de niveles no se pueden escribir o leer.
+     */
+    public long distance(MazeGrid grid, Cell start, Cell end) throws IOException {
+        try (Search search = new Search(grid)) {
+            return search.run(start, end);
+        }
+    }
+
+    /**
+     * Indica si el destino es alcanzable desde el inicio.
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param start La celda de inicio.
+     * @param end La celda de destino.
+     * @return true si existe un camino.
+     * @throws IOException Si los archivos de niveles no se pueden escribir o leer.
+     */
+    public boolean isReachable(MazeGrid grid, Cell start, Cell end) throws IOException {
+        return distance(grid, start, end) >= 0;
+    }
+
+    /**
+     * Punto de entrada para consultar laberintos enormes desde la línea de comandos.
+     *
+     * @param args El archivo {@code .maze} y, opcionalmente, el directorio de trabajo.
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Uso: ExternalMemoryBFS archivo" + MazeFileFormat.EXTENSION + " [directorio de trabajo]");
+            System.exit(2);
+        }
+        try {
+            MazeInstance maze = MazeFileFormat.map(Paths.get(args[0]));
+            if (maze.getStart() == null || maze.getEnd() == null) {
+                System.err.println("El laberinto no tiene celdas de inicio y fin guardadas.");
+                System.exit(1);
+            }
+            Path directory = args.length > 1 ? Paths.get(args[1]) : null;
+            long startTime = System.nanoTime();
+            long distance = new ExternalMemoryBFS(directory, DEFAULT_RUN_LENGTH).distance(maze.getGrid(), maze.getStart(), maze.getEnd());
+            long elapsed = System.nanoTime() - startTime;
+            if (distance < 0) {
+                System.out.println("Destino no alcanzable (" + elapsed + " ns).");
+            } else {
+                System.out.println("Destino alcanzable a " + distance + " pasos (" + elapsed + " ns).");
+            }
+        } catch (IOException e) {
+            System.err.println("Error en el BFS externo: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /** Un nivel de la búsqueda: su posición en el archivo de niveles y, si es pequeño, sus celdas en memoria. */
+    private static final class Level {
+        final long start;
+        final long count;
+        final long[] values;
+        final boolean hasTarget;
+
+        Level(long start, long count, long[] values, boolean hasTarget) {
+            this.start = start;
+            this.count = count;
+            this.values = values;
+            this.hasTarget = hasTarget;
+        }
+    }
+
+    /** Una búsqueda en curso con sus archivos temporales, que se borran al cerrarla. */
+    private final class Search implements AutoCloseable {
+        private final MazeGrid grid;
+        private final int cols;
+        private final Path directory;
+        private final FileChannel levels;
+        private final ByteBuffer levelBuffer = ByteBuffer.allocate(IO_BUFFER_BYTES);
+        private final DataOutputStream offsets;
+        private final long[] buffer;
+        private final SearchMetrics metrics = new SearchMetrics();
+        private long levelsWritten;
+        private long levelsFlushedBytes;
+        private long target;
+        private int runCount;
+
+        Search(MazeGrid grid) throws IOException {
+            this.grid = grid;
+            this.cols = grid.getCols();
+            this.directory = workDirectory != null
+                    ? Files.createTempDirectory(Files.createDirectories(workDirectory), "maze-ebfs")
+                    : Files.createTempDirectory("maze-ebfs");
+            this.levels = FileChannel.open(directory.resolve("levels.bin"), StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.offsets = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(directory.resolve("offsets.bin")), IO_BUFFER_BYTES));
+            this.buffer = new long[runLength];
+        }
+
+        /** Recorre los niveles hasta encontrar el destino o agotar las celdas alcanzables. */
+        long run(Cell start, Cell end) throws IOException {
+            if (!grid.isOpen(start.getRow(), start.getCol()) || !grid.isOpen(end.getRow(), end.getCol())) {
+                return -1;
+            }
+            target = index(end);
+            LevelBuilder first = new LevelBuilder();
+            first.add(index(start));
+            Level previous = new Level(0, 0, new long[0], false);
+            Level current = first.finish();
+            for (long depth = 0; ; depth++) {
+                if (current.hasTarget) {
+                    return depth;
+                }
+                Level next = expand(current, previous);
+                if (next.count == 0) {
+                    return -1;
+                }
+                previous = current;
+                current = next;
+            }
+        }
+
+        /** Calcula el nivel siguiente: vecinos ordenados y sin repetir, menos el nivel actual y el anterior. */
+        private Level expand(Level current, Level previous) throws IOException {
+            List<Path> runs = new ArrayList<>();
+            int n = 0;
+            Cursor cursor = open(current);
+            while (cursor.valid) {
+                long cell = cursor.current;
+                metrics.expand();
+                int row = (int) (cell / cols);
+                int col = (int) (cell % cols);
+                for (int d = 0; d < 4; d++) {
+                    int r = row + DR[d];
+                    int c = col + DC[d];
+                    if (grid.isOpen(r, c)) {
+                        if (n == buffer.length) {
+                            runs.add(spill(n));
+                            n = 0;
+                        }
+                        buffer[n++] = (long) r * cols + c;
+                    }
+                }
+                cursor.advance();
+            }
+            cursor.close();
+            Arrays.sort(buffer, 0, n);
+
+            List<Cursor> sources = new ArrayList<>();
+            sources.add(new ArrayCursor(buffer, n));
+            for (Path run : runs) {
+                FileChannel channel = FileChannel.open(run, StandardOpenOption.READ);
+                sources.add(new FileCursor(channel, 0, channel.size() / Long.BYTES, true));
+            }
+            PriorityQueue<Cursor> heap = new PriorityQueue<>(Comparator.comparingLong((Cursor source) -> source.current));
+            for (Cursor source : sources) {
+                if (source.valid) {
+                    heap.add(source);
+                }
+            }
+            Cursor same = open(current);
+            Cursor before = open(previous);
+            LevelBuilder next = new LevelBuilder();
+            long last = -1;
+            while (!heap.isEmpty()) {
+                Cursor top = heap.poll();
+                long cell = top.current;
+                top.advance();
+                if (top.valid) {
+                    heap.add(top);
+                }
+                if (cell == last) {
+                    continue;
+                }
+                last = cell;
+                if (!skipTo(same, cell) && !skipTo(before, cell)) {
+                    next.add(cell);
+                }
+            }
+            same.close();
+            before.close();
+            for (Cursor source : sources) {
+                source.close();
+            }
+            for (Path run : runs) {
+                Files.delete(run);
+            }
+            return next.finish();
+        }
+
+        /** Avanza un cursor ordenado hasta el valor dado e indica si lo contiene. */
+        private boolean skipTo(Cursor cursor, long value) throws IOException {
+            while (cursor.valid && cursor.current < value) {
+                cursor.advance();
+            }
+            return cursor.valid && cursor.current == value;
+        }
+
+        /** Ordena el búfer de vecinos y lo vuelca a un archivo temporal sin repetidos. */
+        private Path spill(int n) throws IOException {
+            Arrays.sort(buffer, 0, n);
+            Path run = directory.resolve("run-" + (runCount++) + ".bin");
+            try (FileChannel channel = FileChannel.open(run, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer out = ByteBuffer.allocate(IO_BUFFER_BYTES);
+                for (int i = 0; i < n; i++) {
+                    if (i > 0 && buffer[i] == buffer[i - 1]) {
+                        continue;
+                    }
+                    if (!out.hasRemaining()) {
+                        writeFully(channel, out);
+                    }
+                    out.putLong(buffer[i]);
+                }
+                writeFully(channel, out);
+            }
+            return run;
+        }
+
+        /**
+         * Recupera el camino más corto desde el destino: para cada nivel, de atrás hacia adelante,
+         * recorre el nivel anterior buscando una celda vecina de la actual.
+         */
+        List<Cell> tracePath(long distance, Cell end) throws IOException {
+            if (distance >= Integer.MAX_VALUE) {
+                throw new IllegalStateException("Camino demasiado largo para devolverse (" + distance + " pasos); usa distance().");
+            }
+            offsets.flush();
+            List<Cell> path = new ArrayList<>();
+            path.add(end);
+            long cell = target;
+            try (FileChannel offsetFile = FileChannel.open(directory.resolve("offsets.bin"), StandardOpenOption.READ)) {
+                ByteBuffer bounds = ByteBuffer.allocate(2 * Long.BYTES);
+                for (long level = distance - 1; level >= 0; level--) {
+                    bounds.clear();
+                    while (bounds.hasRemaining()) {
+                        if (offsetFile.read(bounds, level * 2 * Long.BYTES + bounds.position()) < 0) {
+                            throw new EOFException("Archivo de offsets incompleto.");
+                        }
+                    }
+                    bounds.flip();
+                    long start = bounds.getLong();
+                    long levelEnd = bounds.getLong();
+                    cell = findNeighbour(new FileCursor(levels, start * Long.BYTES, levelEnd - start, false), cell);
+                    path.add(new Cell((int) (cell / cols), (int) (cell % cols)));
+                }
+            }
+            Collections.reverse(path);
+            return path;
+        }
+
+        /** Busca en un nivel ordenado una celda vecina de la dada; sus vecinos crecen arriba, izquierda, derecha, abajo. */
+        private long findNeighbour(Cursor level, long cell) throws IOException {
+            int row = (int) (cell / cols);
+            int col = (int) (cell % cols);
+            long[] candidates = {
+                row > 0 ? cell - cols : -1,
+                col > 0 ? cell - 1 : -1,
+                col < cols - 1 ? cell + 1 : -1,
+                row < grid.getRows() - 1 ? cell + cols : -1
+            };
+            for (long candidate : candidates) {
+                if (candidate >= 0 && skipTo(level, candidate)) {
+                    return candidate;
+                }
+            }
+            throw new IllegalStateException("Niveles inconsistentes: la celda " + cell + " no tiene padre.");
+        }
+
+        private Cursor open(Level level) throws IOException {
+            return level.values != null
+                    ? new ArrayCursor(level.values, level.values.length)
+                    : new FileCursor(levels, level.start * Long.BYTES, level.count, false);
+        }
+
+        private long index(Cell cell) {
+            return (long) cell.getRow() * cols + cell.getCol();
+        }
+
+        @Override
+        public void close() throws IOException {
+            levels.close();
+            offsets.close();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+
+        /** Escribe un nivel al final del archivo de niveles y guarda una copia en memoria si es pequeño. */
+        private final class LevelBuilder {
+            private final long start = levelsWritten;
+            private long count;
+            private long[] values = new long[16];
+            private boolean hasTarget;
+
+            void add(long cell) throws IOException {
+                if (!levelBuffer.hasRemaining()) {
+                    levelsFlushedBytes += writeFully(levels, levelBuffer, levelsFlushedBytes);
+                }
+                levelBuffer.putLong(cell);
+                levelsWritten++;
+                metrics.generate();
+                hasTarget |= cell == target;
+                if (values != null) {
+                    if (count == runLength) {
+                        values = null;
+                    } else {
+                        if (count == values.length) {
+                            values = Arrays.copyOf(values, (int) Math.min(runLength, 2 * count));
+                        }
+                        values[(int) count] = cell;
+                    }
+                }
+                count++;
+            }
+
+            Level finish() throws IOException {
+                levelsFlushedBytes += writeFully(levels, levelBuffer, levelsFlushedBytes);
+                offsets.writeLong(start);
+                offsets.writeLong(levelsWritten);
+                metrics.frontier(count);
+                return new Level(start, count, values != null ? Arrays.copyOf(values, (int) count) : null, hasTarget);
+            }
+        }
+    }
+
+    /** Escribe el contenido del búfer al final del canal y lo deja vacío. */
+    private static void writeFully(FileChannel channel, ByteBuffer out) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    /** Escribe el contenido del búfer en una posición del canal, lo deja vacío y devuelve los bytes escritos. */
+    private static long writeFully(FileChannel channel, ByteBuffer out, long position) throws IOException {
+        out.flip();
+        long written = 0;
+        while (out.hasRemaining()) {
+            written += channel.write(out, position + written);
+        }
+        out.clear();
+        return written;
+    }
+
+    /** Lectura secuencial de una lista ordenada de índices. */
+    private abstract static class Cursor {
+        long current;
+        boolean valid;
+
+        abstract void advance() throws IOException;
+
+        void close() throws IOException {
+        }
+    }
+
+    private static final class ArrayCursor extends Cursor {
+        private final long[] values;
+        private final int length;
+        private int next;
+
+        ArrayCursor(long[] values, int length) {
+            this.values = values;
+            this.length = length;
+            advance();
+        }
+
+        @Override
+        void advance() {
+            valid = next < length;
+            if (valid) {
+                current = values[next++];
+            }
+        }
+    }
+
+    private static final class FileCursor extends Cursor {
+        private final FileChannel channel;
+        private final boolean ownsChannel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_BYTES);
+        private long position;
+        private long remaining;
+
+        FileCursor(FileChannel channel, long position, long count, boolean ownsChannel) throws IOException {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = count;
+            this.ownsChannel = ownsChannel;
+            buffer.limit(0);
+            advance();
+        }
+
+        @Override
+        void advance() throws IOException {
+            valid = remaining > 0;
+            if (!valid) {
+                return;
+            }
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), remaining * Long.BYTES));
+                while (buffer.hasRemaining()) {
+                    int read = channel.read(buffer, position);
+                    if (read < 0) {
+                        throw new EOFException("Archivo de niveles incompleto.");
+                    }
+                    position += read;
+                }
+                buffer.flip();
+            }
+            current = buffer.getLong();
+            remaining--;
+        }
+
+        @Override
+        void close() throws IOException {
+            if (ownsChannel) {
+                channel.close();
+            }
+        }
+    }
+}
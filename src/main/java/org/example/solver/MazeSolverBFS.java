@@ -1,6 +1,8 @@
 package org.example.solver;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -10,8 +12,10 @@ import java.util.Queue;
 import java.util.Set;
 
 import org.example.model.Cell;
+import org.example.model.MazeGrid;
 import org.example.model.MazeResult;
 import org.example.model.MazeSolver;
+import org.example.model.SearchMetrics;
 
 /**
  * Implementación del algoritmo de resolución de laberintos Breadth-First Search (BFS).
@@ -19,6 +23,11 @@ import org.example.model.MazeSolver;
  * Utiliza una cola (Queue) para gestionar las celdas a visitar.
  */
 public class MazeSolverBFS implements MazeSolver {
+    /**
+     * Número de celdas a partir del cual la variante sobre {@link MazeGrid} reserva sus arreglos de
+     * trabajo fuera del heap. Se puede cambiar con la propiedad del sistema {@code maze.offheap.threshold}.
+     */
+    public static final long OFF_HEAP_THRESHOLD = Long.getLong("maze.offheap.threshold", 16L << 20);
 
     private boolean[][] grid;
     private Set<Cell> visited;
@@ -47,10 +56,13 @@ public class MazeSolverBFS implements MazeSolver {
 
         // Cola para BFS: almacena las celdas a explorar
         Queue<Cell> queue = new LinkedList<>();
+        SearchMetrics metrics = new SearchMetrics();
 
         // Añadir la celda inicial a la cola y marcarla como visitada
         queue.offer(start);
         visited.add(start);
+        metrics.generate();
+        metrics.frontier(1);
 
         boolean found = false;
 
@@ -63,6 +75,7 @@ public class MazeSolverBFS implements MazeSolver {
                 found = true;
                 break;
             }
+            metrics.expand();
 
             // Explora los vecinos de la celda actual (arriba, abajo, izquierda, derecha)
             // A diferencia de los solvers recursivos, BFS no se llama a sí mismo recursivamente
@@ -79,8 +92,10 @@ public class MazeSolverBFS implements MazeSolver {
                     visited.add(neighbor); // Marca el vecino como visitado
                     parentMap.put(neighbor, current); // Guarda que 'current' es el padre de 'neighbor'
                     queue.offer(neighbor); // Añade el vecino a la cola para explorarlo más tarde
+                    metrics.generate();
                 }
             }
+            metrics.frontier(queue.size());
         }
 
         // Reconstruir el camino si se encontró el destino
@@ -93,8 +108,150 @@ public class MazeSolverBFS implements MazeSolver {
             }
         }
 
-        // Devolvemos el resultado: el camino encontrado y todas las celdas visitadas
-        return new MazeResult(path, visited);
+        // Devolvemos el resultado: el camino encontrado, todas las celdas visitadas y las métricas
+        return metrics.attachTo(new MazeResult(path, visited));
+    }
+
+    /**
+     * Variante de BFS que lee los muros de cualquier {@link MazeGrid}, por ejemplo un laberinto
+     * mapeado desde archivo, sin copiarlos antes a una matriz booleana. Trabaja con índices planos
+     * y arreglos de enteros para la cola y los padres en lugar de objetos Cell y mapas. Está pensada para
+     * laberintos demasiado grandes para dibujarlos, así que, como {@link #getPathOffHeap}, no devuelve las
+     * celdas visitadas: un {@code Cell} por celda en un conjunto ocuparía cerca de 1 GB con millones de celdas.
+     * Por encima de {@link #OFF_HEAP_THRESHOLD} celdas los arreglos de trabajo se reservan fuera del heap
+     * (ver {@link #getPathOffHeap}).
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param start La celda de inicio desde la cual comenzar la búsqueda.
+     * @param end La celda de destino a la que se debe llegar.
+     * @return Un objeto MazeResult con el camino más corto (si existe) y un conjunto de visitadas vacío.
+     */
+    @Override
+    public MazeResult getPath(MazeGrid grid, Cell start, Cell end) {
+        if (grid == null || start == null || end == null || !grid.isOpen(start.getRow(), start.getCol())) {
+            return new MazeResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        int cols = grid.getCols();
+        long cells = (long) grid.getRows() * cols;
+        if (cells > OFF_HEAP_THRESHOLD) {
+            return getPathOffHeap(grid, start, end);
+        }
+        int[] parent = new int[(int) cells];
+        Arrays.fill(parent, -1);
+        int[] queue = new int[(int) cells];
+        int head = 0;
+        int tail = 0;
+        int source = start.getRow() * cols + start.getCol();
+        int target = end.getRow() * cols + end.getCol();
+        SearchMetrics metrics = new SearchMetrics();
+        queue[tail++] = source;
+        parent[source] = source;
+        metrics.generate();
+
+        int[] dr = {-1, 1, 0, 0}; // Arriba, Abajo, Izquierda, Derecha
+        int[] dc = {0, 0, -1, 1};
+        boolean found = false;
+        while (head < tail) {
+            metrics.frontier(tail - head);
+            int current = queue[head++];
+            if (current == target) {
+                found = true;
+                break;
+            }
+            metrics.expand();
+            int row = current / cols;
+            int col = current % cols;
+            for (int d = 0; d < 4; d++) {
+                int r = row + dr[d];
+                int c = col + dc[d];
+                if (grid.isOpen(r, c) && parent[r * cols + c] < 0) {
+                    parent[r * cols + c] = current;
+                    queue[tail++] = r * cols + c;
+                    metrics.generate();
+                }
+            }
+        }
+
+        List<Cell> path = new ArrayList<>();
+        if (found) {
+            for (int cell = target; ; cell = parent[cell]) {
+                path.add(new Cell(cell / cols, cell % cols));
+                if (cell == source) {
+                    break;
+                }
+            }
+            Collections.reverse(path);
+        }
+        return metrics.attachTo(new MazeResult(path, new LinkedHashSet<>()));
+    }
+
+    /**
+     * BFS para laberintos más grandes que el heap. La marca de visitado y el padre de cada celda se
+     * guardan juntos en un byte fuera del heap (0 = sin visitar, 1-4 = dirección por la que se llegó,
+     * 5 = origen) y la cola es un arreglo de índices {@code long} también fuera del heap, así que el
+     * heap solo contiene el camino final. Las celdas visitadas no se devuelven: a estos tamaños el
+     * conjunto no cabría en memoria ni se podría dibujar.
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param start La celda de inicio.
+     * @param end La celda de destino.
+     * @return El camino más corto (si existe) y un conjunto de visitadas vacío.
+     */
+    MazeResult getPathOffHeap(MazeGrid grid, Cell start, Cell end) {
+        int cols = grid.getCols();
+        long cells = (long) grid.getRows() * cols;
+        long source = (long) start.getRow() * cols + start.getCol();
+        long target = (long) end.getRow() * cols + end.getCol();
+        int[] dr = {-1, 1, 0, 0}; // Arriba, Abajo, Izquierda, Derecha
+        int[] dc = {0, 0, -1, 1};
+        List<Cell> path = new ArrayList<>();
+        SearchMetrics metrics = new SearchMetrics();
+
+        try (OffHeapArray from = new OffHeapArray(cells, 1); OffHeapArray queue = new OffHeapArray(cells, 8)) {
+            long head = 0;
+            long tail = 0;
+            queue.setLong(tail++, source);
+            from.setByte(source, (byte) 5);
+            metrics.generate();
+            boolean found = false;
+            while (head < tail) {
+                metrics.frontier(tail - head);
+                long current = queue.getLong(head++);
+                if (current == target) {
+                    found = true;
+                    break;
+                }
+                metrics.expand();
+                int row = (int) (current / cols);
+                int col = (int) (current % cols);
+                for (int d = 0; d < 4; d++) {
+                    int r = row + dr[d];
+                    int c = col + dc[d];
+                    long next = (long) r * cols + c;
+                    if (grid.isOpen(r, c) && from.getByte(next) == 0) {
+                        from.setByte(next, (byte) (d + 1));
+                        queue.setLong(tail++, next);
+                        metrics.generate();
+                    }
+                }
+            }
+
+            if (found) {
+                int row = end.getRow();
+                int col = end.getCol();
+                while (true) {
+                    path.add(new Cell(row, col));
+                    int d = from.getByte((long) row * cols + col) - 1;
+                    if (d == 4) {
+                        break;
+                    }
+                    row -= dr[d];
+                    col -= dc[d];
+                }
+                Collections.reverse(path);
+            }
+        }
+        return metrics.attachTo(new MazeResult(path, new LinkedHashSet<>()));
     }
 
     /**
@@ -11,6 +11,7 @@ import java.util.Stack;
 import org.example.model.Cell;
 import org.example.model.MazeResult;
 import org.example.model.MazeSolver;
+import org.example.model.SearchMetrics;
 
 /**
  * Implementación del algoritmo de resolución de laberintos Depth-First Search (DFS) de forma iterativa.
@@ -47,10 +48,13 @@ public class MazeSolverDFS implements MazeSolver {
 
         // Pila para DFS: almacena las celdas a explorar
         Stack<Cell> stack = new Stack<>();
+        SearchMetrics metrics = new SearchMetrics();
 
         // Añadir la celda inicial a la pila y marcarla como visitada
         stack.push(start);
         visited.add(start);
+        metrics.generate();
+        metrics.frontier(1);
 
         boolean found = false;
 
@@ -63,6 +67,7 @@ public class MazeSolverDFS implements MazeSolver {
                 found = true;
                 break; // Salimos del bucle
             }
+            metrics.expand();
 
             // Explora los vecinos de la celda actual (en cualquier orden, pero este es común para DFS)
             // El orden de los vecinos puede influir en el camino encontrado por DFS.
@@ -83,8 +88,10 @@ public class MazeSolverDFS implements MazeSolver {
                     visited.add(neighbor); // Marca el vecino como visitado
                     parentMap.put(neighbor, current); // Guarda que 'current' es el padre de 'neighbor'
                     stack.push(neighbor); // Añade el vecino a la pila para explorarlo más tarde
+                    metrics.generate();
                 }
             }
+            metrics.frontier(stack.size());
         }
 
         // Reconstruir el camino si se encontró el destino
@@ -96,7 +103,7 @@ public class MazeSolverDFS implements MazeSolver {
                 current = parentMap.get(current); // Retrocede usando el mapa de padres
             }
         }
-        return new MazeResult(path, visited);
+        return metrics.attachTo(new MazeResult(path, visited));
     }
 
     /**
@@ -0,0 +1,289 @@
+package org.example.solver;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.example.model.Cell;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+import org.example.model.PortfolioResult;
+import org.example.model.SearchMetrics;
+
+/**
+ * Solver de portafolio basado en DFS iterativo.
+ * Lanza en paralelo varias búsquedas DFS que difieren en el orden en que exploran los vecinos
+ * (órdenes fijos o barajados con una semilla). La primera variante que llega al destino gana
+ * y las demás se cancelan de forma cooperativa mediante una bandera compartida.
+ * Al igual que DFS, NO garantiza encontrar el camino más corto.
+ * <p>Las métricas del resultado suman el trabajo de todas las variantes (nodos expandidos y generados y
+ * bytes reservados en sus hilos); la frontera máxima es la mayor pila de una variante.</p>
+ */
+public class MazeSolverDFSPortfolio implements MazeSolver {
+
+    /** Desplazamientos de fila y columna: Abajo, Derecha, Arriba, Izquierda (el orden de MazeSolverDFS). */
+    private static final int[] DR = {1, 0, -1, 0};
+    private static final int[] DC = {0, 1, 0, -1};
+    private static final String[] DIRECTION_NAMES = {"Abajo", "Derecha", "Arriba", "Izquierda"};
+
+    /** Órdenes fijos de vecinos; la variante 0 reproduce exactamente a MazeSolverDFS. */
+    private static final int[][] FIXED_ORDERS = {
+        {0, 1, 2, 3},
+        {1, 0, 3, 2},
+        {2, 3, 0, 1},
+        {3, 2, 1, 0}
+    };
+
+    /** Pool compartido de hilos daemon para no crear hilos en cada resolución. */
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "dfs-portfolio");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final int variantCount;
+    private final long baseSeed;
+
+    /**
+     * Construye un solver de portafolio con una variante por núcleo disponible y semilla 0.
+     */
+    public MazeSolverDFSPortfolio() {
+        this(Runtime.getRuntime().availableProcessors(), 0L);
+    }
+
+    /**
+     * Construye un solver de portafolio con el número de variantes y la semilla base indicados.
+     * Las primeras variantes usan órdenes de vecinos fijos; el resto baraja los vecinos en cada
+     * expansión con la semilla {@code baseSeed + índice}.
+     *
+     * @param variantCount El número de búsquedas DFS a lanzar en paralelo (mínimo 1).
+     * @param baseSeed La semilla base para las variantes aleatorias.
+     */
+    public MazeSolverDFSPortfolio(int variantCount, long baseSeed) {
+        this.variantCount = Math.max(1, variantCount);
+        this.baseSeed = baseSeed;
+    }
+
+    /**
+     * Devuelve los hilos que usa una resolución: una variante por hilo del pool compartido.
+     *
+     * @return El mínimo entre el número de variantes y el de núcleos disponibles.
+     */
+    @Override
+    public int getThreadCount() {
+        return Math.min(variantCount, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Calcula y devuelve el resultado de la resolución lanzando todas las variantes en paralelo.
+     * El resultado es un {@link PortfolioResult} con el camino y las celdas visitadas de la
+     * variante ganadora, junto con su índice y descripción.
+     *
+     * @param grid La cuadrícula booleana del laberinto, donde 'true' es camino y 'false' es muro.
+     * @param start La celda de inicio desde la cual comenzar la búsqueda.
+     * @param end La celda de destino a la que se debe llegar.
+     * @return Un PortfolioResult con el camino, las celdas visitadas y la variante ganadora.
+     */
+    @Override
+    public MazeResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Validación inicial: si el laberinto es nulo, vacío o las celdas de inicio/fin son nulas
+        if (grid == null || grid.length == 0 || start == null || end == null) {
+            return new PortfolioResult(new ArrayList<>(), new LinkedHashSet<>(), -1, "ninguna", variantCount);
+        }
+
+        AtomicBoolean solved = new AtomicBoolean(false);
+        ExecutorCompletionService<Outcome> completion = new ExecutorCompletionService<>(POOL);
+        for (int i = 0; i < variantCount; i++) {
+            completion.submit(new Variant(i, grid, start, end, solved));
+        }
+
+        Outcome winner = null;
+        Outcome fallback = null;
+        SearchMetrics metrics = new SearchMetrics();
+        try {
+            // Se recogen todas las variantes: las perdedoras terminan rápido al ver la bandera
+            for (int i = 0; i < variantCount; i++) {
+                Outcome outcome = completion.take().get();
+                metrics.add(outcome.metrics);
+                if (outcome.found && winner == null) {
+                    winner = outcome;
+                } else if (outcome.variant == 0) {
+                    fallback = outcome;
+                }
+            }
+        } catch (InterruptedException e) {
+            solved.set(true); // Cancela las variantes restantes
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            solved.set(true);
+            throw new IllegalStateException("Error en una variante del portafolio DFS", e.getCause());
+        }
+
+        if (winner != null) {
+            return metrics.attachTo(new PortfolioResult(winner.path, winner.visited, winner.variant, winner.description, variantCount));
+        }
+        // Sin camino: todas las variantes recorren la misma componente, se devuelve la variante 0
+        Set<Cell> visited = fallback != null ? fallback.visited : new LinkedHashSet<>();
+        return metrics.attachTo(new PortfolioResult(new ArrayList<>(), visited, -1, "ninguna", variantCount));
+    }
+
+    /**
+     * Devuelve el número de variantes que lanza este solver.
+     *
+     * @return El número de variantes.
+     */
+    public int getVariantCount() {
+        return variantCount;
+    }
+
+    /**
+     * Resultado interno de una variante: si llegó al destino, su camino, sus celdas visitadas y sus métricas.
+     */
+    private static final class Outcome {
+        final int variant;
+        final String description;
+        final boolean found;
+        final List<Cell> path;
+        final Set<Cell> visited;
+        final SearchMetrics metrics;
+
+        Outcome(int variant, String description, boolean found, List<Cell> path, Set<Cell> visited, SearchMetrics metrics) {
+            this.variant = variant;
+            this.description = description;
+            this.found = found;
+            this.path = path;
+            this.visited = visited;
+            this.metrics = metrics;
+        }
+    }
+
+    /**
+     * Una búsqueda DFS iterativa con un orden de vecinos propio.
+     * Consulta la bandera compartida en cada iteración para abandonar en cuanto otra variante gana.
+     */
+    private final class Variant implements Callable<Outcome> {
+        private final int index;
+        private final boolean[][] grid;
+        private final Cell start;
+        private final Cell end;
+        private final AtomicBoolean solved;
+        private final int[] order;
+        private final Random random;
+
+        Variant(int index, boolean[][] grid, Cell start, Cell end, AtomicBoolean solved) {
+            this.index = index;
+            this.grid = grid;
+            this.start = start;
+            this.end = end;
+            this.solved = solved;
+            if (index < FIXED_ORDERS.length) {
+                this.order = FIXED_ORDERS[index].clone();
+                this.random = null;
+            } else {
+                this.order = new int[]{0, 1, 2, 3};
+                this.random = new Random(baseSeed + index);
+            }
+        }
+
+        /** Ejecuta la búsqueda y anota en sus métricas los bytes que reservó este hilo del pool. */
+        @Override
+        public Outcome call() {
+            long allocatedBefore = SearchMetrics.allocatedBytes();
+            SearchMetrics metrics = new SearchMetrics();
+            Outcome outcome = search(metrics);
+            metrics.addWorkerAllocation(allocatedBefore);
+            return outcome;
+        }
+
+        private Outcome search(SearchMetrics metrics) {
+            Set<Cell> visited = new LinkedHashSet<>();
+            Map<Cell, Cell> parentMap = new HashMap<>();
+            Deque<Cell> stack = new ArrayDeque<>();
+
+            stack.push(start);
+            visited.add(start);
+            metrics.generate();
+            metrics.frontier(1);
+
+            while (!stack.isEmpty()) {
+                // Cancelación cooperativa: otra variante ya llegó al destino
+                if (solved.get()) {
+                    return new Outcome(index, describe(), false, null, visited, metrics);
+                }
+                Cell current = stack.pop();
+                metrics.expand();
+
+                if (current.equals(end)) {
+                    // Solo la primera variante en marcar la bandera se declara ganadora
+                    if (!solved.compareAndSet(false, true)) {
+                        return new Outcome(index, describe(), false, null, visited, metrics);
+                    }
+                    List<Cell> path = new ArrayList<>();
+                    Cell step = end;
+                    while (step != null) {
+                        path.add(step);
+                        step = parentMap.get(step);
+                    }
+                    Collections.reverse(path);
+                    return new Outcome(index, describe(), true, path, visited, metrics);
+                }
+
+                if (random != null) {
+                    shuffleOrder();
+                }
+                for (int d : order) {
+                    int row = current.getRow() + DR[d];
+                    int col = current.getCol() + DC[d];
+                    if (row < 0 || row >= grid.length || col < 0 || col >= grid[0].length || !grid[row][col]) {
+                        continue;
+                    }
+                    Cell neighbor = new Cell(row, col);
+                    if (visited.add(neighbor)) {
+                        parentMap.put(neighbor, current);
+                        stack.push(neighbor);
+                        metrics.generate();
+                    }
+                }
+                metrics.frontier(stack.size());
+            }
+            return new Outcome(index, describe(), false, null, visited, metrics);
+        }
+
+        /** Baraja el orden de vecinos (Fisher-Yates) con el generador de la variante. */
+        private void shuffleOrder() {
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+        }
+
+        /** Devuelve la descripción legible de esta variante. */
+        private String describe() {
+            if (random != null) {
+                return "semilla " + (baseSeed + index);
+            }
+            StringBuilder sb = new StringBuilder("orden ");
+            for (int i = 0; i < order.length; i++) {
+                if (i > 0) sb.append('-');
+                sb.append(DIRECTION_NAMES[order[i]]);
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Set;
 import org.example.model.Cell;
 import org.example.model.MazeResult;
 import org.example.model.MazeSolver;
+import org.example.model.SearchMetrics;
 
 /**
  * Implementación de un algoritmo recursivo básico para resolver laberintos.
@@ -21,6 +22,8 @@ public class MazeSolverRecursive implements MazeSolver {
     private Cell end;
     private List<Cell> path = new ArrayList<>();
     private Set<Cell> visited =  new LinkedHashSet<>();
+    private SearchMetrics metrics = new SearchMetrics();
+    private int depth;
 
 
     /**
@@ -40,13 +43,15 @@ public class MazeSolverRecursive implements MazeSolver {
         visited.clear();
         this.grid = grid;
         this.end = end;
+        metrics = new SearchMetrics();
+        depth = 0;
         if(grid == null || grid.length == 0){
             return new MazeResult(path, visited);
         }
         if(findPath(start)){
-            return new MazeResult(path, visited);
+            return metrics.attachTo(new MazeResult(path, visited));
         }else {
-            return new MazeResult(new ArrayList<>(), visited);
+            return metrics.attachTo(new MazeResult(new ArrayList<>(), visited));
         }
     }
 
@@ -66,14 +71,19 @@ public class MazeSolverRecursive implements MazeSolver {
 
         visited.add(current);
         path.add(current); 
+        metrics.generate();
         
         // Si hemos llegado a la celda final, retornamos true
         if(current.equals(end)){
             return true;
         } 
 
-        return findPath( new Cell(current.getRow()+1,current.getCol())) ||
+        metrics.expand();
+        metrics.frontier(++depth); // Profundidad de la recursión
+        boolean found = findPath( new Cell(current.getRow()+1,current.getCol())) ||
                  findPath( new Cell(current.getRow(),current.getCol()+1));
+        depth--;
+        return found;
     }
 
     /**
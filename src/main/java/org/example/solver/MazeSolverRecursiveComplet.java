@@ -8,6 +8,7 @@ import java.util.Set;
 import org.example.model.Cell;
 import org.example.model.MazeResult;
 import org.example.model.MazeSolver;
+import org.example.model.SearchMetrics;
 
 /**
  * Implementación de un algoritmo recursivo de resolución de laberintos que explora las cuatro direcciones (arriba, abajo, izquierda, derecha).
@@ -21,6 +22,8 @@ public class MazeSolverRecursiveComplet implements MazeSolver {
     private Cell end;
     private final List<Cell> path = new ArrayList<>();
     private final Set<Cell> visited =  new LinkedHashSet<>();
+    private SearchMetrics metrics = new SearchMetrics();
+    private int depth;
 
 
     /**
@@ -40,13 +43,15 @@ public class MazeSolverRecursiveComplet implements MazeSolver {
         visited.clear();
         this.grid = grid;
         this.end = end;
+        metrics = new SearchMetrics();
+        depth = 0;
         if(grid == null || grid.length == 0){
             return new MazeResult(path, visited);
         }
         if(findPath(start)){
-            return new MazeResult(path, visited);
+            return metrics.attachTo(new MazeResult(path, visited));
         }else {
-            return new MazeResult(new ArrayList<>(), visited);
+            return metrics.attachTo(new MazeResult(new ArrayList<>(), visited));
         }
     }
 
@@ -66,6 +71,7 @@ public class MazeSolverRecursiveComplet implements MazeSolver {
 
         visited.add(current);
         path.add(current);
+        metrics.generate();
 
         // Si se ha llegado a la celda final, retorna true
         if(current.equals(end)){
@@ -73,10 +79,14 @@ public class MazeSolverRecursiveComplet implements MazeSolver {
         } 
         
         // Explora en las cuatro direcciones posibles
-        return findPath( new Cell(current.getRow()+1,current.getCol())) || // Abajo
+        metrics.expand();
+        metrics.frontier(++depth); // Profundidad de la recursión
+        boolean found = findPath( new Cell(current.getRow()+1,current.getCol())) || // Abajo
                findPath( new Cell(current.getRow(),current.getCol()+1)) || // Derecha
                findPath( new Cell(current.getRow()-1,current.getCol()))||  // Arriba
                findPath( new Cell(current.getRow(),current.getCol()-1));   // Izquierda
+        depth--;
+        return found;
     }
 
     /**
@@ -8,6 +8,7 @@ import java.util.Set;
 import org.example.model.Cell;
 import org.example.model.MazeResult;
 import org.example.model.MazeSolver;
+import org.example.model.SearchMetrics;
 
 /**
  * Implementación de un algoritmo recursivo completo para resolver laberintos con backtracking.
@@ -18,6 +19,7 @@ import org.example.model.MazeSolver;
 public class MazeSolverRecursiveCompletBT implements MazeSolver{
     private List<Cell> path = new ArrayList<>();
     private final Set<Cell> visited =  new LinkedHashSet<>();
+    private SearchMetrics metrics = new SearchMetrics();
     private boolean[][] grid;
     private Cell end;
 
@@ -38,12 +40,13 @@ public class MazeSolverRecursiveCompletBT implements MazeSolver{
         visited.clear();
         this.grid = grid;
         this.end = end;
+        metrics = new SearchMetrics();
         if(grid == null||grid.length==0) return new MazeResult(new ArrayList<>(),new LinkedHashSet<>());
         if(findPath(star)){
             MazeResult resultado = new MazeResult(path, visited);
-            return resultado;
+            return metrics.attachTo(resultado);
         }else {
-            return new MazeResult(new ArrayList<>(), visited);
+            return metrics.attachTo(new MazeResult(new ArrayList<>(), visited));
         }
     }
 
@@ -64,9 +67,12 @@ public class MazeSolverRecursiveCompletBT implements MazeSolver{
 
         visited.add(current);
         path.add(current);
+        metrics.generate();
+        metrics.frontier(path.size()); // El camino es la pila de la recursión
         if(current.equals(end)){
             return true;
         } 
+        metrics.expand();
         if(findPath( new Cell(current.getRow()+1,current.getCol())) || // Abajo
            findPath( new Cell(current.getRow(),current.getCol()+1)) || // Derecha
            findPath( new Cell(current.getRow()-1,current.getCol()))||  // Arriba
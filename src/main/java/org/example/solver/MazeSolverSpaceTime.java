@@ -0,0 +1,228 @@
+package org.example.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.example.model.Cell;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+import org.example.model.ObstacleSchedule;
+import org.example.model.SearchMetrics;
+
+/**
+ * Solver espacio-tiempo para laberintos con obstáculos móviles de horario conocido.
+ * El estado de la búsqueda es el par (celda, tick): en cada tick se puede mover a una celda vecina
+ * o esperar en la celda actual, y una celda solo es transitable si no es muro en la cuadrícula base
+ * y ningún obstáculo del {@link ObstacleSchedule} la ocupa en ese tick.
+ * <p>Como todos los movimientos cuestan un tick, un BFS por niveles de tiempo encuentra la llegada
+ * más temprana. Se descartan los estados dominados:</p>
+ * <ul>
+ * <li>Celdas estáticas (ningún obstáculo pasa por ellas): llegar más tarde nunca es mejor que llegar
+ * antes y esperar, así que cada una se alcanza una sola vez. Esperar en ellas solo sirve si tienen
+ * alguna vecina dinámica, y como mucho durante un periodo completo del horario.</li>
+ * <li>Celdas dinámicas: el estado depende solo de la fase del horario, así que se expande una vez por fase.</li>
+ * </ul>
+ * <p>El camino resultante tiene una celda por tick (las esperas repiten celda), de modo que
+ * {@code path.get(t)} es la posición en el tick {@code t}. Los arreglos de trabajo se reutilizan
+ * entre llamadas con las mismas dimensiones para poder replanificar en cada fotograma.</p>
+ * <p>Las métricas cuentan estados (celda, tick), no celdas: cada estado sacado de la cola es un nodo
+ * expandido y cada estado añadido, esperas incluidas, un nodo generado.</p>
+ */
+public class MazeSolverSpaceTime implements MazeSolver {
+
+    private static final int[] DR = {0, -1, 1, 0, 0};
+    private static final int[] DC = {0, 0, 0, -1, 1};
+
+    private final ObstacleSchedule schedule;
+    private final int maxTicks;
+
+    // Marcas por generación para no limpiar los arreglos en cada replanificación
+    private int[] staticStamp = new int[0];
+    private int[] staticArrival = new int[0];
+    private int[] dynamicStamp = new int[0];
+    private int generation = 0;
+
+    // Estados expandidos: celda, tick y estado padre (la propia cola del BFS)
+    private int[] stateCell = new int[1024];
+    private int[] stateTick = new int[1024];
+    private int[] stateParent = new int[1024];
+
+    /**
+     * Construye un solver espacio-tiempo.
+     *
+     * @param schedule El horario de obstáculos móviles superpuesto a la cuadrícula base.
+     * @param maxTicks El horizonte máximo de planificación, en ticks.
+     */
+    public MazeSolverSpaceTime(ObstacleSchedule schedule, int maxTicks) {
+        this.schedule = schedule;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Calcula la llegada más temprana al destino esquivando los obstáculos móviles, partiendo en el tick 0.
+     * Si el destino no se alcanza dentro del horizonte, el camino del resultado estará vacío.
+     *
+     * @param grid La cuadrícula base del laberinto, donde 'true' es camino y 'false' es muro.
+     * @param start La celda de inicio (posición en el tick 0).
+     * @param end La celda de destino.
+     * @return Un MazeResult cuyo camino contiene una celda por tick y las celdas visitadas en orden de llegada.
+     */
+    @Override
+    public MazeResult getPath(boolean[][] grid, Cell start, Cell end) {
+        return getPath(grid, start, end, 0);
+    }
+
+    /**
+     * Calcula la llegada más temprana al destino partiendo en un tick arbitrario,
+     * lo que permite replanificar a mitad de la simulación.
+     *
+     * @param grid La cuadrícula base del laberinto, donde 'true' es camino y 'false' es muro.
+     * @param start La celda de inicio (posición en el tick {@code startTick}).
+     * @param end La celda de destino.
+     * @param startTick El tick actual de la simulación.
+     * @return Un MazeResult cuyo camino contiene una celda por tick desde {@code startTick}.
+     */
+    public MazeResult getPath(boolean[][] grid, Cell start, Cell end, int startTick) {
+        Set<Cell> visited = new LinkedHashSet<>();
+        if (grid == null || grid.length == 0 || start == null || end == null
+                || !schedule.isOpen(grid, start.getRow(), start.getCol(), startTick)) {
+            return new MazeResult(new ArrayList<>(), visited);
+        }
+        int rows = grid.length;
+        int cols = grid[0].length;
+        int period = schedule.getPeriod();
+        prepare(rows * cols, schedule.getDynamicCellCount() * period);
+
+        int endIndex = end.getRow() * cols + end.getCol();
+        SearchMetrics metrics = new SearchMetrics();
+        int head = 0;
+        int tail = 0;
+        tail = push(tail, start.getRow() * cols + start.getCol(), startTick, -1);
+        metrics.generate();
+        metrics.frontier(1);
+        markSeen(start.getRow(), start.getCol(), startTick, cols);
+        visited.add(start);
+
+        while (head < tail) {
+            int state = head++;
+            int cell = stateCell[state];
+            int tick = stateTick[state];
+            if (cell == endIndex) {
+                return metrics.attachTo(new MazeResult(buildPath(state, cols), visited));
+            }
+            if (tick - startTick >= maxTicks) {
+                continue; // Fuera del horizonte de planificación
+            }
+            metrics.expand();
+            int row = cell / cols;
+            int col = cell % cols;
+            int nextTick = tick + 1;
+            boolean staticCell = schedule.dynamicIndex(row, col) < 0;
+            // Dirección 0 = esperar en la celda actual
+            for (int d = 0; d < DR.length; d++) {
+                int r = row + DR[d];
+                int c = col + DC[d];
+                if (d == 0 && staticCell) {
+                    // Esperar en una celda estática no pasa por markSeen: ya se alcanzó antes
+                    if (!isWaitUseful(row, col, cell, nextTick)) {
+                        continue;
+                    }
+                } else if (!schedule.isOpen(grid, r, c, nextTick) || !markSeen(r, c, nextTick, cols)) {
+                    continue;
+                }
+                tail = push(tail, r * cols + c, nextTick, state);
+                metrics.generate();
+                if (d != 0) {
+                    visited.add(new Cell(r, c));
+                }
+            }
+            metrics.frontier(tail - head);
+        }
+        return metrics.attachTo(new MazeResult(new ArrayList<>(), visited));
+    }
+
+    /**
+     * Registra un estado (celda, tick) y devuelve si es nuevo, aplicando las reglas de dominancia.
+     *
+     * @return true si el estado no estaba dominado por otro ya encontrado.
+     */
+    private boolean markSeen(int row, int col, int tick, int cols) {
+        int dynamic = schedule.dynamicIndex(row, col);
+        if (dynamic < 0) {
+            int index = row * cols + col;
+            if (staticStamp[index] == generation) {
+                return false; // Se llegó antes: esperar allí domina a llegar ahora
+            }
+            staticStamp[index] = generation;
+            staticArrival[index] = tick;
+            return true;
+        }
+        int index = dynamic * schedule.getPeriod() + schedule.phase(tick);
+        if (dynamicStamp[index] == generation) {
+            return false; // Misma celda y misma fase del horario, alcanzada antes
+        }
+        dynamicStamp[index] = generation;
+        return true;
+    }
+
+    /**
+     * Indica si esperar un tick en una celda estática puede llevar a un estado nuevo.
+     * Solo tiene sentido junto a una celda dinámica (esperar a que un obstáculo se aparte) y
+     * mientras el horario no haya repetido ya todas sus fases desde la llegada a la celda.
+     */
+    private boolean isWaitUseful(int row, int col, int cell, int nextTick) {
+        boolean newPhase = schedule.isCyclic()
+                ? nextTick - staticArrival[cell] < schedule.getPeriod()
+                : nextTick < schedule.getPeriod();
+        if (!newPhase) {
+            return false;
+        }
+        for (int d = 1; d < DR.length; d++) {
+            if (schedule.dynamicIndex(row + DR[d], col + DC[d]) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Reconstruye el camino (una celda por tick) siguiendo los estados padre. */
+    private List<Cell> buildPath(int state, int cols) {
+        int length = 0;
+        for (int s = state; s >= 0; s = stateParent[s]) {
+            length++;
+        }
+        Cell[] cells = new Cell[length];
+        for (int s = state, i = length - 1; s >= 0; s = stateParent[s], i--) {
+            cells[i] = new Cell(stateCell[s] / cols, stateCell[s] % cols);
+        }
+        return new ArrayList<>(Arrays.asList(cells));
+    }
+
+    /** Añade un estado a la cola, ampliando los arreglos si es necesario. */
+    private int push(int tail, int cell, int tick, int parent) {
+        if (tail == stateCell.length) {
+            int newLength = stateCell.length * 2;
+            stateCell = Arrays.copyOf(stateCell, newLength);
+            stateTick = Arrays.copyOf(stateTick, newLength);
+            stateParent = Arrays.copyOf(stateParent, newLength);
+        }
+        stateCell[tail] = cell;
+        stateTick[tail] = tick;
+        stateParent[tail] = parent;
+        return tail + 1;
+    }
+
+    /** Prepara los arreglos de marcas para una nueva búsqueda, reutilizándolos si es posible. */
+    private void prepare(int staticSize, int dynamicSize) {
+        if (staticStamp.length != staticSize || dynamicStamp.length < dynamicSize || generation == Integer.MAX_VALUE) {
+            staticStamp = new int[staticSize];
+            staticArrival = new int[staticSize];
+            dynamicStamp = new int[dynamicSize];
+            generation = 0;
+        }
+        generation++;
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.solver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.example.model.Cell;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+import org.example.model.SearchMetrics;
+
+/**
+ * Implementación del algoritmo de Trémaux.
+ * Marca cada pasaje (arista entre dos celdas) al recorrerlo, con marcas de 2 bits guardadas en un
+ * {@link PackedMarks}: dos marcas por celda (pasaje a la derecha y pasaje hacia abajo).
+ * No usa conjuntos de visitados, mapas de padres ni pilas; las reglas son:
+ * <ul>
+ * <li>Al llegar a una celda ya visitada por un pasaje nuevo (marcado una vez), se da media vuelta.</li>
+ * <li>En otro caso se toma el pasaje con menos marcas, evitando el de entrada si es posible.</li>
+ * <li>Un pasaje marcado dos veces no se vuelve a recorrer.</li>
+ * </ul>
+ * Al llegar al destino, los pasajes marcados exactamente una vez forman el camino desde el inicio.
+ * Funciona también en laberintos con ciclos, pero NO garantiza el camino más corto.
+ * <p>Las métricas cuentan cada paso como un nodo expandido, cada celda pisada por primera vez como un
+ * nodo generado y, como frontera, las celdas de la ruta de pasajes marcados una vez, que hace de pila.</p>
+ */
+public class MazeSolverTremaux implements MazeSolver {
+
+    /** Direcciones en sentido horario: Arriba, Derecha, Abajo, Izquierda. */
+    private static final int[] DR = {-1, 0, 1, 0};
+    private static final int[] DC = {0, 1, 0, -1};
+
+    private final int traceStride;
+
+    /**
+     * Construye un solver de Trémaux sin traza de exploración, de modo que su memoria no crece con el
+     * área del laberinto (ejecuciones por lotes y benchmarks). La vista, que anima las celdas
+     * visitadas, pide la traza completa con {@code traceStride = 1}.
+     */
+    public MazeSolverTremaux() {
+        this(0);
+    }
+
+    /**
+     * Construye un solver de Trémaux.
+     *
+     * @param traceStride Cada cuántas celdas nuevas se registra una en la traza de exploración
+     * (1 = todas, 0 = sin traza, para ejecuciones por lotes sin vista).
+     */
+    public MazeSolverTremaux(int traceStride) {
+        this.traceStride = Math.max(0, traceStride);
+    }
+
+    /**
+     * Calcula y devuelve el resultado de recorrer el laberinto con las reglas de Trémaux.
+     *
+     * @param grid La cuadrícula booleana del laberinto, donde 'true' es camino y 'false' es muro.
+     * @param start La celda de inicio desde la cual comenzar la búsqueda.
+     * @param end La celda de destino a la que se debe llegar.
+     * @return Un MazeResult con el camino (pasajes marcados una vez) y la traza muestreada de celdas visitadas.
+     */
+    @Override
+    public MazeResult getPath(boolean[][] grid, Cell start, Cell end) {
+        Set<Cell> trace = new LinkedHashSet<>();
+        if (grid == null || grid.length == 0 || start == null || end == null) {
+            return new MazeResult(new ArrayList<>(), trace);
+        }
+        int cols = grid[0].length;
+        PackedMarks marks = new PackedMarks(2L * grid.length * cols);
+        long newCells = 0;
+        SearchMetrics metrics = new SearchMetrics();
+        long depth = 0; // Pasajes marcados una vez: la ruta en curso desde el inicio
+
+        int row = start.getRow();
+        int col = start.getCol();
+        int entry = -1; // Dirección desde la celda actual hacia la celda de la que se vino
+        if (traceStride > 0) {
+            trace.add(start);
+            newCells++;
+        }
+        metrics.generate();
+        metrics.frontier(1);
+
+        // Cada pasaje se recorre como mucho dos veces
+        long maxSteps = 4L * grid.length * cols + 4;
+        for (long step = 0; step < maxSteps; step++) {
+            if (row == end.getRow() && col == end.getCol()) {
+                return metrics.attachTo(new MazeResult(buildPath(grid, marks, start, end), trace));
+            }
+            metrics.expand();
+
+            int choice = -1;
+            if (entry >= 0 && marks.get(edge(row, col, entry, cols)) == 1 && hasOtherMarks(grid, marks, row, col, entry)) {
+                choice = entry; // Celda ya visitada por un pasaje nuevo: media vuelta
+            } else {
+                int fewest = 2;
+                for (int d = 0; d < 4; d++) {
+                    if (d == entry || !isOpen(grid, row + DR[d], col + DC[d])) {
+                        continue;
+                    }
+                    int mark = marks.get(edge(row, col, d, cols));
+                    if (mark < fewest) {
+                        fewest = mark;
+                        choice = d;
+                    }
+                }
+                if (choice < 0 && entry >= 0 && marks.get(edge(row, col, entry, cols)) < 2) {
+                    choice = entry; // Callejón sin salida: volver por donde se vino
+                }
+            }
+            if (choice < 0) {
+                break; // Todos los pasajes agotados: no hay camino
+            }
+
+            // Un pasaje marcado una vez alarga la ruta en curso; al marcarlo dos veces se abandona
+            depth += marks.increment(edge(row, col, choice, cols)) == 1 ? 1 : -1;
+            metrics.frontier(depth + 1);
+            row += DR[choice];
+            col += DC[choice];
+            entry = (choice + 2) % 4;
+
+            // Primera visita: el pasaje de entrada es nuevo y no hay otras marcas
+            if ((SearchMetrics.ENABLED || traceStride > 0) && marks.get(edge(row, col, entry, cols)) == 1
+                    && !hasOtherMarks(grid, marks, row, col, entry)) {
+                metrics.generate();
+                if (traceStride > 0 && newCells++ % traceStride == 0) {
+                    trace.add(new Cell(row, col));
+                }
+            }
+        }
+        return metrics.attachTo(new MazeResult(new ArrayList<>(), trace));
+    }
+
+    /**
+     * Reconstruye el camino siguiendo desde el inicio los pasajes marcados exactamente una vez.
+     *
+     * @return El camino desde el inicio hasta el destino, o una lista vacía si no se puede reconstruir.
+     */
+    private List<Cell> buildPath(boolean[][] grid, PackedMarks marks, Cell start, Cell end) {
+        int cols = grid[0].length;
+        List<Cell> path = new ArrayList<>();
+        int row = start.getRow();
+        int col = start.getCol();
+        int back = -1;
+        path.add(start);
+        long maxLength = (long) grid.length * cols;
+        while (!(row == end.getRow() && col == end.getCol())) {
+            int next = -1;
+            for (int d = 0; d < 4; d++) {
+                if (d != back && isOpen(grid, row + DR[d], col + DC[d]) && marks.get(edge(row, col, d, cols)) == 1) {
+                    next = d;
+                    break;
+                }
+            }
+            if (next < 0 || path.size() > maxLength) {
+                return new ArrayList<>();
+            }
+            row += DR[next];
+            col += DC[next];
+            back = (next + 2) % 4;
+            path.add(new Cell(row, col));
+        }
+        return path;
+    }
+
+    /** Indica si la celda tiene marcas en algún pasaje distinto del indicado. */
+    private boolean hasOtherMarks(boolean[][] grid, PackedMarks marks, int row, int col, int except) {
+        int cols = grid[0].length;
+        for (int d = 0; d < 4; d++) {
+            if (d != except && isOpen(grid, row + DR[d], col + DC[d]) && marks.get(edge(row, col, d, cols)) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devuelve el índice de la marca del pasaje que sale de una celda en una dirección.
+     * Cada celda guarda su pasaje a la derecha (2·i) y hacia abajo (2·i + 1); los pasajes hacia
+     * arriba e izquierda son los de la celda vecina.
+     */
+    private static long edge(int row, int col, int direction, int cols) {
+        return switch (direction) {
+            case 0 -> 2L * ((long) (row - 1) * cols + col) + 1; // Arriba = abajo de la celda superior
+            case 1 -> 2L * ((long) row * cols + col);           // Derecha
+            case 2 -> 2L * ((long) row * cols + col) + 1;       // Abajo
+            default -> 2L * ((long) row * cols + col - 1);      // Izquierda = derecha de la celda izquierda
+        };
+    }
+
+    /** Verifica si una celda está dentro de la cuadrícula y es camino. */
+    private static boolean isOpen(boolean[][] grid, int row, int col) {
+        return row >= 0 && row < grid.length && col >= 0 && col < grid[0].length && grid[row][col];
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.solver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.example.model.Cell;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+import org.example.model.SearchMetrics;
+
+/**
+ * Implementación del algoritmo seguidor de pared (regla de la mano derecha o izquierda).
+ * Avanza manteniendo siempre una pared a un lado, sin conjuntos de visitados ni mapas de padres:
+ * su estado es solo la posición y la orientación actuales, más un contador de visitas de 2 bits por
+ * celda ({@link PackedMarks}) que se usa para muestrear la traza de exploración, que es opcional.
+ * <p>Solo garantiza llegar al destino si este está conectado a la misma pared que el inicio
+ * (por ejemplo, en laberintos perfectos). Si el recorrido vuelve a salir del inicio en la misma
+ * dirección que la primera vez, el destino no es alcanzable y el camino queda vacío.</p>
+ * <p>Los retrocesos en callejones sin salida se cancelan sobre la marcha, por lo que el camino no
+ * incluye las ramas muertas. NO garantiza encontrar el camino más corto.</p>
+ * <p>Las métricas cuentan cada paso como un nodo expandido, cada celda pisada por primera vez como un
+ * nodo generado y la longitud del camino en curso, que hace de pila, como frontera.</p>
+ */
+public class MazeSolverWallFollower implements MazeSolver {
+
+    /** Direcciones en sentido horario: Arriba, Derecha, Abajo, Izquierda. */
+    private static final int[] DR = {-1, 0, 1, 0};
+    private static final int[] DC = {0, 1, 0, -1};
+
+    private final boolean leftHand;
+    private final int traceStride;
+
+    /**
+     * Construye un seguidor de pared con la mano derecha y sin traza de exploración, de modo que su
+     * memoria no crece con el área del laberinto (ejecuciones por lotes y benchmarks). La vista, que
+     * anima las celdas visitadas, pide la traza completa con {@code traceStride = 1}.
+     */
+    public MazeSolverWallFollower() {
+        this(false, 0);
+    }
+
+    /**
+     * Construye un seguidor de pared.
+     *
+     * @param leftHand true para seguir la pared con la mano izquierda, false para la derecha.
+     * @param traceStride Cada cuántas celdas nuevas se registra una en la traza de exploración
+     * (1 = todas, 0 = sin traza, para ejecuciones por lotes sin vista).
+     */
+    public MazeSolverWallFollower(boolean leftHand, int traceStride) {
+        this.leftHand = leftHand;
+        this.traceStride = Math.max(0, traceStride);
+    }
+
+    /**
+     * Calcula y devuelve el resultado de seguir la pared desde el inicio hasta el destino.
+     *
+     * @param grid La cuadrícula booleana del laberinto, donde 'true' es camino y 'false' es muro.
+     * @param start La celda de inicio desde la cual comenzar la búsqueda.
+     * @param end La celda de destino a la que se debe llegar.
+     * @return Un MazeResult con el camino (sin ramas muertas) y la traza muestreada de celdas visitadas.
+     */
+    @Override
+    public MazeResult getPath(boolean[][] grid, Cell start, Cell end) {
+        Set<Cell> trace = new LinkedHashSet<>();
+        if (grid == null || grid.length == 0 || start == null || end == null) {
+            return new MazeResult(new ArrayList<>(), trace);
+        }
+        int rows = grid.length;
+        int cols = grid[0].length;
+        PackedMarks visits = new PackedMarks((long) rows * cols);
+        long[] newCells = {0};
+        SearchMetrics metrics = new SearchMetrics();
+
+        int row = start.getRow();
+        int col = start.getCol();
+        int heading = 0;
+        int firstDeparture = -1;
+        List<Cell> path = new ArrayList<>();
+        path.add(start);
+        record(trace, visits, newCells, metrics, row, col, cols);
+        metrics.frontier(1);
+
+        // Cada arista dirigida se recorre como mucho una vez antes de repetir el ciclo
+        long maxSteps = 4L * rows * cols + 4;
+        for (long step = 0; step < maxSteps; step++) {
+            if (row == end.getRow() && col == end.getCol()) {
+                return metrics.attachTo(new MazeResult(path, trace));
+            }
+            metrics.expand();
+            int next = chooseHeading(grid, row, col, heading);
+            if (next < 0) {
+                break; // Celda aislada
+            }
+            if (row == start.getRow() && col == start.getCol()) {
+                if (next == firstDeparture) {
+                    break; // Se repite el recorrido: el destino no está en esta pared
+                }
+                if (firstDeparture < 0) {
+                    firstDeparture = next;
+                }
+            }
+            heading = next;
+            row += DR[heading];
+            col += DC[heading];
+
+            // Cancelar retrocesos: volver a la celda anterior elimina la última del camino
+            int size = path.size();
+            if (size >= 2 && path.get(size - 2).getRow() == row && path.get(size - 2).getCol() == col) {
+                path.remove(size - 1);
+            } else {
+                path.add(new Cell(row, col));
+                metrics.frontier(path.size());
+            }
+            record(trace, visits, newCells, metrics, row, col, cols);
+        }
+        return metrics.attachTo(new MazeResult(new ArrayList<>(), trace));
+    }
+
+    /**
+     * Elige la siguiente dirección según la regla de la mano: girar hacia la pared, seguir recto,
+     * girar al otro lado o, en último caso, dar media vuelta.
+     *
+     * @return La nueva dirección, o -1 si la celda no tiene vecinos transitables.
+     */
+    private int chooseHeading(boolean[][] grid, int row, int col, int heading) {
+        int turn = leftHand ? 3 : 1;
+        int[] candidates = {(heading + turn) % 4, heading, (heading + 4 - turn) % 4, (heading + 2) % 4};
+        for (int d : candidates) {
+            int r = row + DR[d];
+            int c = col + DC[d];
+            if (r >= 0 && r < grid.length && c >= 0 && c < grid[0].length && grid[r][c]) {
+                return d;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Cuenta la visita de una celda y, si es nueva, la cuenta como generada y la añade a la traza si le toca
+     * según el muestreo.
+     */
+    private void record(Set<Cell> trace, PackedMarks visits, long[] newCells, SearchMetrics metrics, int row, int col, int cols) {
+        if (visits.increment((long) row * cols + col) != 1) {
+            return;
+        }
+        metrics.generate();
+        if (traceStride > 0 && newCells[0]++ % traceStride == 0) {
+            trace.add(new Cell(row, col));
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package org.example.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.example.model.Cell;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+import org.example.model.RouteResult;
+import org.example.model.SearchMetrics;
+
+/**
+ * Solver de rutas con puntos intermedios: encuentra un camino que sale de la celda de inicio,
+ * pasa por todos los puntos intermedios y termina en la celda de fin.
+ * <ol>
+ * <li>Lanza en paralelo un BFS desde cada punto (inicio, intermedios y fin) para obtener la
+ * matriz de distancias entre todos ellos y el árbol de padres de cada búsqueda.</li>
+ * <li>Ordena los puntos intermedios con programación dinámica exacta (Held-Karp) cuando son
+ * pocos, o con vecino más cercano mejorado con 2-opt cuando son muchos.</li>
+ * <li>Une los tramos reconstruidos desde los árboles BFS en un único {@link RouteResult}.</li>
+ * </ol>
+ * <p>Las métricas del resultado suman las de todas las búsquedas BFS, incluidos los bytes reservados en
+ * los hilos del pool; la frontera máxima es la mayor cola de una búsqueda.</p>
+ */
+public class MazeSolverWaypoints implements MazeSolver {
+
+    /** Número máximo de puntos intermedios para usar la programación dinámica exacta. */
+    public static final int EXACT_LIMIT = 12;
+
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    private final List<Cell> waypoints;
+
+    /**
+     * Construye un solver de rutas para los puntos intermedios indicados.
+     *
+     * @param waypoints Los puntos intermedios que la ruta debe visitar (en cualquier orden).
+     */
+    public MazeSolverWaypoints(List<Cell> waypoints) {
+        this.waypoints = waypoints == null ? new ArrayList<>() : new ArrayList<>(waypoints);
+    }
+
+    /**
+     * Calcula la ruta más corta encontrada que visita todos los puntos intermedios.
+     * Si algún punto es inalcanzable, el camino del resultado estará vacío.
+     *
+     * @param grid La cuadrícula booleana del laberinto, donde 'true' es camino y 'false' es muro.
+     * @param start La celda de inicio de la ruta.
+     * @param end La celda de destino de la ruta.
+     * @return Un RouteResult con el camino completo, las celdas exploradas y el orden de visita.
+     */
+    @Override
+    public MazeResult getPath(boolean[][] grid, Cell start, Cell end) {
+        if (grid == null || grid.length == 0 || start == null || end == null) {
+            return new RouteResult(new ArrayList<>(), new LinkedHashSet<>(), new ArrayList<>(), true);
+        }
+        int cols = grid[0].length;
+
+        // Puntos de la ruta: 0 = inicio, 1..k = intermedios, k+1 = fin
+        List<Cell> points = new ArrayList<>();
+        points.add(start);
+        points.addAll(waypoints);
+        points.add(end);
+        int m = points.size();
+
+        // 1. Un BFS por punto, en paralelo
+        Thread caller = Thread.currentThread();
+        BfsTree[] trees = IntStream.range(0, m).parallel()
+                .mapToObj(i -> {
+                    long allocatedBefore = SearchMetrics.allocatedBytes();
+                    BfsTree tree = bfs(grid, points.get(i));
+                    if (Thread.currentThread() != caller) {
+                        // Lo reservado en el hilo que llama ya lo mide quien llama al solver
+                        tree.metrics.addWorkerAllocation(allocatedBefore);
+                    }
+                    return tree;
+                })
+                .toArray(BfsTree[]::new);
+        SearchMetrics metrics = new SearchMetrics();
+        for (BfsTree tree : trees) {
+            metrics.add(tree.metrics);
+        }
+
+        Set<Cell> visited = new LinkedHashSet<>();
+        for (BfsTree tree : trees) {
+            for (int k = 0; k < tree.explored; k++) {
+                int index = tree.order[k];
+                visited.add(new Cell(index / cols, index % cols));
+            }
+        }
+
+        int[][] dist = new int[m][m];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < m; j++) {
+                Cell target = points.get(j);
+                dist[i][j] = trees[i].dist[target.getRow() * cols + target.getCol()];
+                if (dist[i][j] < 0) {
+                    // Algún punto es inalcanzable: no existe ruta
+                    return metrics.attachTo(new RouteResult(new ArrayList<>(), visited, new ArrayList<>(), true));
+                }
+            }
+        }
+
+        // 2. Orden de visita de los puntos intermedios
+        int k = waypoints.size();
+        boolean exact = k <= EXACT_LIMIT;
+        int[] order = exact ? exactOrder(dist, k) : heuristicOrder(dist, k);
+
+        // 3. Unir los tramos
+        List<Cell> path = new ArrayList<>();
+        path.add(start);
+        List<Cell> waypointOrder = new ArrayList<>();
+        int previous = 0;
+        for (int step = 0; step <= k; step++) {
+            int next = step < k ? order[step] : m - 1;
+            appendLeg(path, trees[previous], points.get(next), cols);
+            if (step < k) {
+                waypointOrder.add(points.get(next));
+            }
+            previous = next;
+        }
+        return metrics.attachTo(new RouteResult(path, visited, waypointOrder, exact));
+    }
+
+    /**
+     * Ordena los puntos intermedios con programación dinámica sobre subconjuntos (Held-Karp).
+     * Coste O(2^k · k^2), adecuado para pocos puntos.
+     *
+     * @param dist La matriz de distancias entre puntos (0 = inicio, k+1 = fin).
+     * @param k El número de puntos intermedios.
+     * @return Los índices de los puntos intermedios (1..k) en orden de visita.
+     */
+    private int[] exactOrder(int[][] dist, int k) {
+        if (k == 0) {
+            return new int[0];
+        }
+        int full = (1 << k) - 1;
+        int end = k + 1;
+        int[][] dp = new int[1 << k][k];
+        int[][] from = new int[1 << k][k];
+        for (int[] row : dp) {
+            Arrays.fill(row, Integer.MAX_VALUE);
+        }
+        for (int j = 0; j < k; j++) {
+            dp[1 << j][j] = dist[0][j + 1];
+            from[1 << j][j] = -1;
+        }
+        for (int mask = 1; mask <= full; mask++) {
+            for (int j = 0; j < k; j++) {
+                int cost = dp[mask][j];
+                if (cost == Integer.MAX_VALUE || (mask & (1 << j)) == 0) {
+                    continue;
+                }
+                for (int next = 0; next < k; next++) {
+                    if ((mask & (1 << next)) != 0) {
+                        continue;
+                    }
+                    int nextMask = mask | (1 << next);
+                    int candidate = cost + dist[j + 1][next + 1];
+                    if (candidate < dp[nextMask][next]) {
+                        dp[nextMask][next] = candidate;
+                        from[nextMask][next] = j;
+                    }
+                }
+            }
+        }
+
+        int last = 0;
+        int best = Integer.MAX_VALUE;
+        for (int j = 0; j < k; j++) {
+            if (dp[full][j] != Integer.MAX_VALUE && dp[full][j] + dist[j + 1][end] < best) {
+                best = dp[full][j] + dist[j + 1][end];
+                last = j;
+            }
+        }
+
+        // Reconstruir el orden hacia atrás
+        int[] order = new int[k];
+        int mask = full;
+        for (int pos = k - 1; pos >= 0; pos--) {
+            order[pos] = last + 1;
+            int previous = from[mask][last];
+            mask &= ~(1 << last);
+            last = previous;
+        }
+        return order;
+    }
+
+    /**
+     * Ordena los puntos intermedios con la heurística del vecino más cercano y la mejora con 2-opt,
+     * manteniendo fijos el inicio y el fin.
+     *
+     * @param dist La matriz de distancias entre puntos (0 = inicio, k+1 = fin).
+     * @param k El número de puntos intermedios.
+     * @return Los índices de los puntos intermedios (1..k) en orden de visita.
+     */
+    private int[] heuristicOrder(int[][] dist, int k) {
+        int[] route = new int[k + 2];
+        boolean[] used = new boolean[k + 2];
+        route[0] = 0;
+        route[k + 1] = k + 1;
+        int current = 0;
+        for (int pos = 1; pos <= k; pos++) {
+            int best = -1;
+            for (int candidate = 1; candidate <= k; candidate++) {
+                if (!used[candidate] && (best < 0 || dist[current][candidate] < dist[current][best])) {
+                    best = candidate;
+                }
+            }
+            used[best] = true;
+            route[pos] = best;
+            current = best;
+        }
+
+        // 2-opt: invierte tramos mientras se reduzca la longitud total
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 1; i < k; i++) {
+                for (int j = i + 1; j <= k; j++) {
+                    int a = route[i - 1];
+                    int b = route[i];
+                    int c = route[j];
+                    int d = route[j + 1];
+                    // Las distancias BFS son simétricas: invertir el tramo no cambia su coste interno
+                    int delta = dist[a][c] + dist[b][d] - dist[a][b] - dist[c][d];
+                    if (delta < 0) {
+                        reverse(route, i, j);
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOfRange(route, 1, k + 1);
+    }
+
+    /** Invierte el sub-arreglo route[from..to] (ambos incluidos). */
+    private static void reverse(int[] route, int from, int to) {
+        while (from < to) {
+            int tmp = route[from];
+            route[from++] = route[to];
+            route[to--] = tmp;
+        }
+    }
+
+    /**
+     * Añade al camino el tramo desde la raíz de un árbol BFS hasta la celda destino,
+     * sin repetir la celda de unión.
+     */
+    private static void appendLeg(List<Cell> path, BfsTree tree, Cell target, int cols) {
+        List<Cell> leg = new ArrayList<>();
+        int index = target.getRow() * cols + target.getCol();
+        while (index != tree.source) {
+            leg.add(new Cell(index / cols, index % cols));
+            index = tree.parent[index];
+        }
+        Collections.reverse(leg);
+        path.addAll(leg);
+    }
+
+    /**
+     * Ejecuta un BFS completo desde una celda sobre índices planos (fila * columnas + columna).
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param source La celda origen.
+     * @return El árbol BFS con distancias, padres, orden de exploración y métricas.
+     */
+    private static BfsTree bfs(boolean[][] grid, Cell source) {
+        int rows = grid.length;
+        int cols = grid[0].length;
+        int[] dist = new int[rows * cols];
+        int[] parent = new int[rows * cols];
+        int[] queue = new int[rows * cols];
+        Arrays.fill(dist, -1);
+        SearchMetrics metrics = new SearchMetrics();
+
+        int sourceIndex = source.getRow() * cols + source.getCol();
+        int head = 0;
+        int tail = 0;
+        dist[sourceIndex] = 0;
+        parent[sourceIndex] = -1;
+        queue[tail++] = sourceIndex;
+        metrics.generate();
+        metrics.frontier(1);
+
+        while (head < tail) {
+            int current = queue[head++];
+            metrics.expand();
+            int row = current / cols;
+            int col = current % cols;
+            for (int d = 0; d < 4; d++) {
+                int r = row + DR[d];
+                int c = col + DC[d];
+                if (r < 0 || r >= rows || c < 0 || c >= cols || !grid[r][c]) {
+                    continue;
+                }
+                int next = r * cols + c;
+                if (dist[next] < 0) {
+                    dist[next] = dist[current] + 1;
+                    parent[next] = current;
+                    queue[tail++] = next;
+                    metrics.generate();
+                }
+            }
+            metrics.frontier(tail - head);
+        }
+        return new BfsTree(sourceIndex, dist, parent, queue, tail, metrics);
+    }
+
+    /** Árbol BFS de un punto: distancias, padres, orden de exploración (la propia cola) y métricas. */
+    private static final class BfsTree {
+        final int source;
+        final int[] dist;
+        final int[] parent;
+        final int[] order;
+        final int explored;
+        final SearchMetrics metrics;
+
+        BfsTree(int source, int[] dist, int[] parent, int[] order, int explored, SearchMetrics metrics) {
+            this.source = source;
+            this.dist = dist;
+            this.parent = parent;
+            this.order = order;
+            this.explored = explored;
+            this.metrics = metrics;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.solver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Arreglo de trabajo de tamaño fijo que vive fuera del heap, para los arreglos de visitados,
+ * padres y colas de los solvers cuando el laberinto es más grande que el heap.
+ * <p>Los arreglos pequeños (hasta {@value #DIRECT_LIMIT_BYTES} bytes) usan búferes directos;
+ * los más grandes se respaldan con un archivo temporal mapeado en memoria, de modo que el
+ * sistema operativo puede paginarlos a disco y el tamaño no está limitado por la RAM.
+ * En ambos casos el recolector de basura solo ve unos pocos objetos pequeños, así que sus pausas
+ * no dependen del tamaño del laberinto. Como un búfer no puede superar 2 GB, los datos se reparten
+ * en bloques de {@value #CHUNK_BYTES} bytes. Los elementos empiezan a cero.</p>
+ */
+public final class OffHeapArray implements AutoCloseable {
+    static final long DIRECT_LIMIT_BYTES = 256L << 20;
+    private static final int CHUNK_BYTES = 1 << 30;
+    private static final int CHUNK_SHIFT = 30;
+
+    private final long length;
+    private final int elementShift;
+    private final ByteBuffer[] chunks;
+    private final Path backingFile;
+
+    /**
+     * Reserva un arreglo fuera del heap.
+     *
+     * @param length El número de elementos.
+     * @param elementBytes El tamaño de cada elemento en bytes: 1, 4 u 8.
+     */
+    public OffHeapArray(long length, int elementBytes) {
+        if (length < 0 || (elementBytes != 1 && elementBytes != 4 && elementBytes != 8)) {
+            throw new IllegalArgumentException("Arreglo fuera del heap inválido: " + length + " x " + elementBytes + " bytes");
+        }
+        this.length = length;
+        this.elementShift = Integer.numberOfTrailingZeros(elementBytes);
+        long totalBytes = length << elementShift;
+        int count = (int) Math.max(1, (totalBytes + CHUNK_BYTES - 1) / CHUNK_BYTES);
+        this.chunks = new ByteBuffer[count];
+        try {
+            if (totalBytes <= DIRECT_LIMIT_BYTES) {
+                this.backingFile = null;
+                chunks[0] = ByteBuffer.allocateDirect((int) totalBytes).order(ByteOrder.nativeOrder());
+            } else {
+                this.backingFile = Files.createTempFile("maze-offheap", ".bin");
+                backingFile.toFile().deleteOnExit();
+                try (FileChannel channel = FileChannel.open(backingFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    for (int i = 0; i < count; i++) {
+                        long start = (long) i * CHUNK_BYTES;
+                        long size = Math.min(CHUNK_BYTES, totalBytes - start);
+                        chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, start, size).order(ByteOrder.nativeOrder());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo reservar memoria fuera del heap: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Devuelve el número de elementos del arreglo.
+     *
+     * @return El número de elementos.
+     */
+    public long length() {
+        return length;
+    }
+
+    public byte getByte(long index) {
+        long offset = index << elementShift;
+        return chunks[(int) (offset >>> CHUNK_SHIFT)].get((int) (offset & (CHUNK_BYTES - 1)));
+    }
+
+    public void setByte(long index, byte value) {
+        long offset = index << elementShift;
+        chunks[(int) (offset >>> CHUNK_SHIFT)].put((int) (offset & (CHUNK_BYTES - 1)), value);
+    }
+
+    public int getInt(long index) {
+        long offset = index << elementShift;
+        return chunks[(int) (offset >>> CHUNK_SHIFT)].getInt((int) (offset & (CHUNK_BYTES - 1)));
+    }
+
+    public void setInt(long index, int value) {
+        long offset = index << elementShift;
+        chunks[(int) (offset >>> CHUNK_SHIFT)].putInt((int) (offset & (CHUNK_BYTES - 1)), value);
+    }
+
+    public long getLong(long index) {
+        long offset = index << elementShift;
+        return chunks[(int) (offset >>> CHUNK_SHIFT)].getLong((int) (offset & (CHUNK_BYTES - 1)));
+    }
+
+    public void setLong(long index, long value) {
+        long offset = index << elementShift;
+        chunks[(int) (offset >>> CHUNK_SHIFT)].putLong((int) (offset & (CHUNK_BYTES - 1)), value);
+    }
+
+    /**
+     * Libera el arreglo. Los búferes se devuelven al sistema cuando el recolector los reclama;
+     * el archivo temporal, si lo hay, se borra ahora (o al salir de la JVM si sigue mapeado).
+     */
+    @Override
+    public void close() {
+        if (backingFile != null) {
+            try {
+                Files.deleteIfExists(backingFile);
+            } catch (IOException e) {
+                System.err.println("No se pudo borrar el archivo temporal " + backingFile + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.solver;
+
+import org.example.model.Cell;
+import org.example.model.MazeResult;
+import org.example.model.MazeSolver;
+
+/**
+ * Decorador que ejecuta cualquier {@link MazeSolver} y acorta después su camino con {@link PathOptimizer}.
+ * Permite comparar la estrategia "rápido y luego corregir" (DFS o recursivos + optimización)
+ * frente a un algoritmo óptimo como BFS, midiendo ambos pasos juntos.
+ */
+public class OptimizedMazeSolver implements MazeSolver {
+
+    private final MazeSolver delegate;
+
+    /**
+     * Construye un solver optimizado a partir de otro solver.
+     *
+     * @param delegate El solver cuyo camino se optimizará.
+     */
+    public OptimizedMazeSolver(MazeSolver delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Resuelve el laberinto con el solver delegado y acorta el camino resultante.
+     *
+     * @param grid La cuadrícula booleana del laberinto, donde 'true' es camino y 'false' es muro.
+     * @param start La celda de inicio desde la cual comenzar la búsqueda.
+     * @param end La celda de destino a la que se debe llegar.
+     * @return El resultado del solver delegado, con el camino optimizado.
+     */
+    @Override
+    public MazeResult getPath(boolean[][] grid, Cell start, Cell end) {
+        MazeResult result = delegate.getPath(grid, start, end);
+        return PathOptimizer.optimize(grid, result);
+    }
+
+    @Override
+    public int getThreadCount() {
+        return delegate.getThreadCount();
+    }
+
+    /**
+     * Devuelve el solver delegado.
+     *
+     * @return El solver original.
+     */
+    public MazeSolver getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.solver;
+
+/**
+ * Arreglo compacto de marcas de 2 bits (valores 0 a 3), empaquetadas de 32 en 32 dentro de un {@code long}.
+ * Lo usan los solvers de memoria constante por celda para guardar contadores de visitas o marcas
+ * de Trémaux sin crear objetos {@code Cell} ni conjuntos de visitados.
+ */
+public final class PackedMarks {
+
+    private static final int MAX = 3;
+
+    private final long[] words;
+    private final long size;
+
+    /**
+     * Crea un arreglo de marcas inicializadas a 0.
+     *
+     * @param size El número de marcas.
+     */
+    public PackedMarks(long size) {
+        if (size < 0 || (size + 31) / 32 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tamaño de marcas no soportado: " + size);
+        }
+        this.size = size;
+        this.words = new long[(int) ((size + 31) / 32)];
+    }
+
+    /**
+     * Devuelve la marca de una posición.
+     *
+     * @param index La posición de la marca.
+     * @return El valor de la marca, entre 0 y 3.
+     */
+    public int get(long index) {
+        long word = words[(int) (index >>> 5)];
+        return (int) (word >>> ((index & 31) << 1)) & MAX;
+    }
+
+    /**
+     * Establece la marca de una posición.
+     *
+     * @param index La posición de la marca.
+     * @param value El nuevo valor, entre 0 y 3.
+     */
+    public void set(long index, int value) {
+        int wordIndex = (int) (index >>> 5);
+        int shift = (int) ((index & 31) << 1);
+        words[wordIndex] = (words[wordIndex] & ~((long) MAX << shift)) | ((long) (value & MAX) << shift);
+    }
+
+    /**
+     * Incrementa la marca de una posición sin superar el valor máximo (3).
+     *
+     * @param index La posición de la marca.
+     * @return El nuevo valor de la marca.
+     */
+    public int increment(long index) {
+        int value = Math.min(MAX, get(index) + 1);
+        set(index, value);
+        return value;
+    }
+
+    /**
+     * Devuelve el número de marcas del arreglo.
+     *
+     * @return El número de marcas.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Devuelve los bytes que ocupan las marcas en memoria (sin contar la cabecera del objeto).
+     *
+     * @return El tamaño en bytes del arreglo de palabras.
+     */
+    public long sizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.solver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.model.Cell;
+import org.example.model.MazeResult;
+
+/**
+ * Post-procesado que acorta el camino devuelto por cualquier solver sin volver a resolver el laberinto.
+ * Trabaja en tiempo casi lineal sobre la longitud del camino en dos pasadas:
+ * <ol>
+ * <li>Eliminación de bucles y reparación: recorre el camino con una pila y un mapa celda → índice;
+ * si una celda ya está en la pila se recorta el bucle, y si la celda no es adyacente a la cima
+ * (caminos de los solvers recursivos sin backtracking) se desapila hasta encontrar una adyacente.</li>
+ * <li>Atajos locales: para cada celda se busca el vecino (o la celda a dos pasos a través de una
+ * celda abierta) que aparezca lo más atrás posible en el camino ya construido y se recorta hasta él.</li>
+ * </ol>
+ * El resultado es siempre un camino válido entre las mismas celdas de inicio y fin, aunque no
+ * necesariamente el más corto (para eso está BFS).
+ */
+public final class PathOptimizer {
+
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    /** Celdas a distancia Manhattan 2 y las dos posibles celdas intermedias de cada una. */
+    private static final int[][] TWO_STEP = {
+        {-2, 0}, {2, 0}, {0, -2}, {0, 2},
+        {-1, -1}, {-1, 1}, {1, -1}, {1, 1}
+    };
+
+    private PathOptimizer() {
+    }
+
+    /**
+     * Acorta el camino de un resultado y lo sustituye en el propio objeto, conservando las celdas
+     * visitadas y cualquier dato adicional de subclases de {@link MazeResult}.
+     *
+     * @param grid La cuadrícula booleana del laberinto, donde 'true' es camino y 'false' es muro.
+     * @param result El resultado a optimizar.
+     * @return El mismo resultado, con el camino acortado.
+     */
+    public static MazeResult optimize(boolean[][] grid, MazeResult result) {
+        if (result != null && result.getPath() != null) {
+            result.setPath(optimize(grid, result.getPath()));
+        }
+        return result;
+    }
+
+    /**
+     * Acorta un camino eliminando bucles y aplicando atajos entre celdas abiertas.
+     * Si el camino no es reparable (celdas no conectadas entre sí), se devuelve sin cambios.
+     *
+     * @param grid La cuadrícula booleana del laberinto, donde 'true' es camino y 'false' es muro.
+     * @param path El camino original, desde la celda de inicio hasta la de fin.
+     * @return Un nuevo camino válido, igual o más corto que el original.
+     */
+    public static List<Cell> optimize(boolean[][] grid, List<Cell> path) {
+        if (grid == null || path == null || path.size() < 3) {
+            return path;
+        }
+        List<Cell> simple = removeLoops(path);
+        if (simple == null) {
+            return path;
+        }
+        return shortcut(grid, simple);
+    }
+
+    /**
+     * Primera pasada: elimina bucles y repara saltos entre celdas no adyacentes.
+     *
+     * @param path El camino original.
+     * @return Un camino simple y contiguo, o null si no se puede reparar.
+     */
+    private static List<Cell> removeLoops(List<Cell> path) {
+        List<Cell> stack = new ArrayList<>(path.size());
+        Map<Cell, Integer> index = new HashMap<>();
+        boolean first = true;
+
+        for (Cell cell : path) {
+            Integer seen = index.get(cell);
+            if (seen != null) {
+                truncate(stack, index, seen + 1); // Bucle: se vuelve a la primera aparición
+                continue;
+            }
+            // Los solvers sin backtracking dejan ramas muertas: se desapila hasta una celda adyacente
+            while (!stack.isEmpty() && !isAdjacent(stack.get(stack.size() - 1), cell)) {
+                index.remove(stack.remove(stack.size() - 1));
+            }
+            if (stack.isEmpty() && !first) {
+                return null; // Ninguna celda anterior es adyacente: el camino no es reparable
+            }
+            first = false;
+            index.put(cell, stack.size());
+            stack.add(cell);
+        }
+        return stack;
+    }
+
+    /**
+     * Segunda pasada: aplica atajos a vecinos directos o a celdas a dos pasos por una celda abierta.
+     *
+     * @param grid La cuadrícula del laberinto.
+     * @param simple Un camino simple y contiguo.
+     * @return El camino con los atajos aplicados.
+     */
+    private static List<Cell> shortcut(boolean[][] grid, List<Cell> simple) {
+        List<Cell> out = new ArrayList<>(simple.size());
+        Map<Cell, Integer> index = new HashMap<>();
+
+        for (Cell cell : simple) {
+            Integer existing = index.get(cell);
+            if (existing != null) {
+                truncate(out, index, existing + 1); // Ya se añadió como celda intermedia de un atajo
+                continue;
+            }
+            if (out.isEmpty()) {
+                index.put(cell, 0);
+                out.add(cell);
+                continue;
+            }
+            int row = cell.getRow();
+            int col = cell.getCol();
+
+            // Vecino directo que aparece más atrás en el camino construido
+            int best = Integer.MAX_VALUE;
+            for (int d = 0; d < 4; d++) {
+                Integer idx = index.get(new Cell(row + DR[d], col + DC[d]));
+                if (idx != null && idx < best) {
+                    best = idx;
+                }
+            }
+
+            // Celda a dos pasos cuyo atajo por una celda intermedia abierta ahorra más
+            Cell via = null;
+            int bestTwoStep = Integer.MAX_VALUE;
+            for (int[] offset : TWO_STEP) {
+                Integer idx = index.get(new Cell(row + offset[0], col + offset[1]));
+                if (idx == null || idx + 1 >= best || idx >= bestTwoStep) {
+                    continue;
+                }
+                Cell middle = openMiddle(grid, row, col, offset);
+                if (middle != null) {
+                    bestTwoStep = idx;
+                    via = middle;
+                }
+            }
+
+            if (via != null) {
+                truncate(out, index, bestTwoStep + 1);
+                index.put(via, out.size());
+                out.add(via);
+            } else {
+                truncate(out, index, best + 1);
+            }
+            index.put(cell, out.size());
+            out.add(cell);
+        }
+        return out;
+    }
+
+    /**
+     * Busca una celda abierta adyacente tanto a la celda actual como a la celda a dos pasos.
+     *
+     * @return La celda intermedia, o null si ninguna es transitable.
+     */
+    private static Cell openMiddle(boolean[][] grid, int row, int col, int[] offset) {
+        int dr = offset[0];
+        int dc = offset[1];
+        if (dr == 0 || dc == 0) {
+            // En línea recta solo hay una celda intermedia
+            int r = row + dr / 2;
+            int c = col + dc / 2;
+            return isOpen(grid, r, c) ? new Cell(r, c) : null;
+        }
+        // En diagonal hay dos esquinas posibles
+        if (isOpen(grid, row + dr, col)) {
+            return new Cell(row + dr, col);
+        }
+        if (isOpen(grid, row, col + dc)) {
+            return new Cell(row, col + dc);
+        }
+        return null;
+    }
+
+    /** Recorta la lista a la longitud indicada, retirando del mapa las celdas eliminadas. */
+    private static void truncate(List<Cell> list, Map<Cell, Integer> index, int newSize) {
+        for (int i = list.size() - 1; i >= newSize; i--) {
+            index.remove(list.remove(i));
+        }
+    }
+
+    /** Verifica si dos celdas comparten un lado. */
+    private static boolean isAdjacent(Cell a, Cell b) {
+        return Math.abs(a.getRow() - b.getRow()) + Math.abs(a.getCol() - b.getCol()) == 1;
+    }
+
+    /** Verifica si una celda está dentro de la cuadrícula y es camino. */
+    private static boolean isOpen(boolean[][] grid, int row, int col) {
+        return row >= 0 && row < grid.length && col >= 0 && col < grid[0].length && grid[row][col];
+    }
+}
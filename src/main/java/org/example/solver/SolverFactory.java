@@ -0,0 +1,51 @@
+package org.example.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.example.model.MazeSolver;
+import org.example.model.ObstacleSchedule;
+
+/**
+ * Crea los solvers de este paquete por un nombre corto y estable ({@code BFS}, {@code DFS}...), para las
+ * herramientas sin interfaz gráfica: el ejecutor por lotes y los benchmarks. Cada solver se crea con su
+ * configuración por defecto; los puntos intermedios van vacíos y el solver espacio-tiempo usa un horario
+ * sin obstáculos, de modo que todos resuelven el mismo problema de inicio a fin.
+ */
+public final class SolverFactory {
+    /** Los nombres de todos los solvers, en el orden de la interfaz gráfica. */
+    public static final List<String> NAMES = List.of(
+            "RECURSIVE", "RECURSIVE_COMPLET", "RECURSIVE_COMPLET_BT", "BFS", "DFS", "DFS_PORTFOLIO",
+            "WALL_FOLLOWER", "TREMAUX", "WAYPOINTS", "SPACE_TIME", "EXTERNAL_BFS", "OPTIMIZED_DFS");
+
+    private SolverFactory() {
+    }
+
+    /**
+     * Crea un solver por su nombre.
+     *
+     * @param name Uno de los {@link #NAMES} (sin distinguir mayúsculas).
+     * @param rows Las filas del laberinto, para dimensionar el horario del solver espacio-tiempo.
+     * @param cols Las columnas del laberinto.
+     * @return El solver.
+     * @throws IllegalArgumentException Si el nombre no corresponde a ningún solver.
+     */
+    public static MazeSolver create(String name, int rows, int cols) {
+        return switch (name.toUpperCase(Locale.ROOT)) {
+            case "RECURSIVE" -> new MazeSolverRecursive();
+            case "RECURSIVE_COMPLET" -> new MazeSolverRecursiveComplet();
+            case "RECURSIVE_COMPLET_BT" -> new MazeSolverRecursiveCompletBT();
+            case "BFS" -> new MazeSolverBFS();
+            case "DFS" -> new MazeSolverDFS();
+            case "DFS_PORTFOLIO" -> new MazeSolverDFSPortfolio();
+            case "WALL_FOLLOWER" -> new MazeSolverWallFollower();
+            case "TREMAUX" -> new MazeSolverTremaux();
+            case "WAYPOINTS" -> new MazeSolverWaypoints(new ArrayList<>());
+            case "SPACE_TIME" -> new MazeSolverSpaceTime(new ObstacleSchedule(rows, cols, 1, true), (int) Math.min(Integer.MAX_VALUE, (long) rows * cols));
+            case "EXTERNAL_BFS" -> new ExternalMemoryBFS();
+            case "OPTIMIZED_DFS" -> new OptimizedMazeSolver(new MazeSolverDFS()); // DFS rápido y acortado después, frente a BFS
+            default -> throw new IllegalArgumentException("Solver desconocido: " + name + ". Disponibles: " + NAMES);
+        };
+    }
+}
@@ -0,0 +1,252 @@
+package org.example.view;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+import javax.swing.JComponent;
+
+import org.example.model.Cell;
+
+/**
+ * Lienzo que dibuja toda la cuadrícula del laberinto en un único componente, en lugar de un
+ * {@code JPanel} con borde y oyente de ratón por celda.
+ * <p>Cada celda es un píxel de un {@link BufferedImage} de {@code columnas x filas}, cuyo arreglo
+ * {@code int[]} de colores RGB se modifica directamente; {@link #paintComponent} escala la imagen al
+ * tamaño del componente en una sola llamada, con celdas cuadradas y centradas, y añade las líneas de la
+ * cuadrícula cuando las celdas miden al menos {@value #GRID_LINE_MIN_PIXELS} píxeles. Los clics se
+ * traducen a celdas con {@link #cellAt(Point)} por aritmética. Así construir y pintar un laberinto de un
+ * millón de celdas cuesta unos pocos megabytes y milisegundos.</p>
+ * <p>Además de los colores, el lienzo guarda qué celdas son muro, que es el estado que se edita con el
+ * ratón y que el controlador lee antes de resolver. Debe usarse desde el hilo de eventos de Swing.</p>
+ */
+public class MazeCanvas extends JComponent {
+    /** Tamaño mínimo de celda, en píxeles, a partir del cual se dibujan las líneas de la cuadrícula. */
+    public static final int GRID_LINE_MIN_PIXELS = 6;
+    /** Tamaño preferido de celda, en píxeles, para laberintos pequeños. */
+    public static final int PREFERRED_CELL_PIXELS = 30;
+    /** Lado máximo preferido del lienzo, en píxeles; los laberintos grandes se reducen hasta caber. */
+    public static final int PREFERRED_MAX_PIXELS = 600;
+
+    private static final Color GRID_LINE_COLOR = Color.LIGHT_GRAY;
+
+    private final int rows;
+    private final int cols;
+    private final boolean[] walls;
+    private final BufferedImage image;
+    private final int[] colors;
+
+    /**
+     * Crea un lienzo con todas las celdas de camino.
+     *
+     * @param rows Las filas del laberinto.
+     * @param cols Las columnas del laberinto.
+     * @throws IllegalArgumentException Si alguna dimensión no es positiva.
+     */
+    public MazeCanvas(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Dimensiones del laberinto inválidas: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.walls = new boolean[rows * cols];
+        this.image = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_RGB);
+        this.colors = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        resetColors();
+        setOpaque(true);
+        setBackground(Color.WHITE);
+    }
+
+    /**
+     * Devuelve el número de filas.
+     *
+     * @return Las filas del laberinto.
+     */
+    public int getRows() {return rows;}
+
+    /**
+     * Devuelve el número de columnas.
+     *
+     * @return Las columnas del laberinto.
+     */
+    public int getCols() {return cols;}
+
+    /**
+     * Indica si una celda es muro.
+     *
+     * @param row La fila.
+     * @param col La columna.
+     * @return true si la celda es un obstáculo.
+     */
+    public boolean isObstacle(int row, int col) {
+        return walls[row * cols + col];
+    }
+
+    /**
+     * Marca una celda como muro o como camino, sin cambiar su color.
+     *
+     * @param row La fila.
+     * @param col La columna.
+     * @param obstacle true para hacerla un obstáculo, false para que sea camino.
+     */
+    public void setObstacle(int row, int col, boolean obstacle) {
+        walls[row * cols + col] = obstacle;
+    }
+
+    /**
+     * Cambia el color de una celda y repinta solo su rectángulo.
+     *
+     * @param row La fila.
+     * @param col La columna.
+     * @param color El nuevo color.
+     */
+    public void setCellColor(int row, int col, Color color) {
+        colors[row * cols + col] = color.getRGB() & 0xFFFFFF;
+        double cell = cellSize();
+        int x = originX(cell) + (int) Math.floor(col * cell);
+        int y = originY(cell) + (int) Math.floor(row * cell);
+        repaint(x, y, (int) Math.ceil(cell) + 1, (int) Math.ceil(cell) + 1);
+    }
+
+    /**
+     * Devuelve el color de una celda.
+     *
+     * @param row La fila.
+     * @param col La columna.
+     * @return El color actual.
+     */
+    public Color getCellColor(int row, int col) {
+        return new Color(colors[row * cols + col]);
+    }
+
+    /**
+     * Carga los muros de una cuadrícula y pinta cada celda como muro o como camino.
+     *
+     * @param grid La cuadrícula, donde true es camino y false es muro; debe tener las dimensiones del lienzo.
+     * @throws IllegalArgumentException Si las dimensiones no coinciden.
+     */
+    public void loadGrid(boolean[][] grid) {
+        if (grid.length != rows || grid[0].length != cols) {
+            throw new IllegalArgumentException("La cuadrícula de " + grid.length + "x" + grid[0].length
+                    + " no coincide con el lienzo de " + rows + "x" + cols);
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                walls[i * cols + j] = !grid[i][j];
+            }
+        }
+        resetColors();
+    }
+
+    /**
+     * Copia el estado de las celdas.
+     *
+     * @return Una matriz donde true es camino y false es obstáculo.
+     */
+    public boolean[][] getGrid() {
+        boolean[][] grid = new boolean[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                grid[i][j] = !walls[i * cols + j];
+            }
+        }
+        return grid;
+    }
+
+    /** Pinta cada celda con el color de muro o de camino, borrando las marcas, y repinta todo el lienzo. */
+    public void resetColors() {
+        int wall = MazeView.WALL_COLOR.getRGB() & 0xFFFFFF;
+        int open = MazeView.DEFAULT_CELL_COLOR.getRGB() & 0xFFFFFF;
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = walls[i] ? wall : open;
+        }
+        repaint();
+    }
+
+    /**
+     * Traduce un punto del componente a la celda que hay debajo.
+     *
+     * @param point El punto, por ejemplo el de un evento de ratón.
+     * @return La celda, o null si el punto cae fuera de la cuadrícula.
+     */
+    public Cell cellAt(Point point) {
+        double cell = cellSize();
+        int col = (int) Math.floor((point.x - originX(cell)) / cell);
+        int row = (int) Math.floor((point.y - originY(cell)) / cell);
+        return row >= 0 && row < rows && col >= 0 && col < cols ? new Cell(row, col) : null;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        double cell = Math.min(PREFERRED_CELL_PIXELS, (double) PREFERRED_MAX_PIXELS / Math.max(rows, cols));
+        return new Dimension((int) Math.ceil(cols * cell), (int) Math.ceil(rows * cell));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.setColor(getBackground());
+            g2.fillRect(0, 0, getWidth(), getHeight());
+            double cell = cellSize();
+            int x = originX(cell);
+            int y = originY(cell);
+            int width = (int) Math.round(cols * cell);
+            int height = (int) Math.round(rows * cell);
+            // Vecino más cercano: cada celda se ve como un bloque de color uniforme, sin difuminar los bordes
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g2.drawImage(image, x, y, width, height, null);
+            if (cell >= GRID_LINE_MIN_PIXELS) {
+                paintGridLines(g2, cell, x, y, width, height);
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    /** Dibuja las líneas entre celdas, solo las que cruzan la zona que hay que repintar. */
+    private void paintGridLines(Graphics2D g2, double cell, int x, int y, int width, int height) {
+        java.awt.Rectangle clip = g2.getClipBounds();
+        int firstCol = 0;
+        int lastCol = cols;
+        int firstRow = 0;
+        int lastRow = rows;
+        if (clip != null) {
+            firstCol = Math.max(0, (int) Math.floor((clip.x - x) / cell));
+            lastCol = Math.min(cols, (int) Math.ceil((clip.x + clip.width - x) / cell));
+            firstRow = Math.max(0, (int) Math.floor((clip.y - y) / cell));
+            lastRow = Math.min(rows, (int) Math.ceil((clip.y + clip.height - y) / cell));
+        }
+        g2.setColor(GRID_LINE_COLOR);
+        for (int j = firstCol; j <= lastCol; j++) {
+            int lineX = x + (int) Math.floor(j * cell);
+            g2.drawLine(lineX, y, lineX, y + height);
+        }
+        for (int i = firstRow; i <= lastRow; i++) {
+            int lineY = y + (int) Math.floor(i * cell);
+            g2.drawLine(x, lineY, x + width, lineY);
+        }
+    }
+
+    /** Lado de una celda en píxeles: el mayor que permite ver toda la cuadrícula con celdas cuadradas. */
+    private double cellSize() {
+        double cell = Math.min((double) getWidth() / cols, (double) getHeight() / rows);
+        return cell > 0 ? cell : 1;
+    }
+
+    private int originX(double cell) {
+        return Math.max(0, (int) ((getWidth() - cols * cell) / 2));
+    }
+
+    private int originY(double cell) {
+        return Math.max(0, (int) ((getHeight() - rows * cell) / 2));
+    }
+}
@@ -4,20 +4,18 @@ import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Cursor;
 import java.awt.Desktop;
-import java.awt.Dimension;
 import java.awt.FlowLayout;
-import java.awt.GridLayout;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
-import java.util.List;
 
-import javax.swing.BorderFactory;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
+import javax.swing.JFileChooser;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JMenu;
@@ -25,11 +23,20 @@ import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
 import javax.swing.SwingUtilities;
 
 import org.example.controller.MazeController;
+import org.example.io.MazeCompression;
+import org.example.io.MazeFileFormat;
+import org.example.io.RasterFormat;
 import org.example.model.Cell;
+import org.example.model.MazeInstance;
 import org.example.model.SelectionMode;
+import org.example.results.ResultRecord;
+import org.example.results.ResultsWriter;
+import org.example.results.ScalingStudy;
 
 /**
  * Interfaz gráfica principal para crear, visualizar y resolver laberintos.
@@ -40,16 +47,18 @@ public class MazeView extends JFrame {
 
     private JMenuBar menuBar;
     private JMenu archivoMenu, ayudaMenu;
-    private JMenuItem nuevoLaberintoItem, verResultadosItem, acercaDeItem;
-    private JButton celdaInicioButton, celdaFinalButton, obstaculoParedButton;
-    private JPanel mazePanel;
-    private MazeCellPanel[][] cellPanels;
+    private JMenuItem nuevoLaberintoItem, abrirLaberintoItem, guardarLaberintoItem, importarLaberintoItem, exportarImagenItem,
+            generarLaberintoItem, generarArchivoItem, verResultadosItem, estudioEscaladoItem, acercaDeItem;
+    private JButton celdaInicioButton, celdaFinalButton, obstaculoParedButton, puntoIntermedioButton;
+    private MazeCanvas mazeCanvas;
     private JComboBox<String> algoritmoComboBox;
     private JButton resolverButton, pasoAPasoButton, limpiarButton;
+    private JCheckBox optimizarCaminoCheckBox;
+    private JCheckBox medicionEstadisticaCheckBox;
+    private JCheckBox perfilarMemoriaCheckBox;
+    private JSpinner calentamientoSpinner, iteracionesSpinner;
 
     private SelectionMode currentSelectionMode = SelectionMode.NONE;
-    private MazeCellPanel selectedStartCellPanel = null;
-    private MazeCellPanel selectedEndCellPanel = null;
     private Cell selectedStartCell = null;
     private Cell selectedEndCell = null;
 
@@ -59,11 +68,15 @@ public class MazeView extends JFrame {
     public static final Color END_COLOR = Color.RED;
     public static final Color VISITED_COLOR = new Color(230, 230, 230);
     public static final Color PATH_COLOR = Color.BLUE;
+    public static final Color WAYPOINT_COLOR = Color.ORANGE;
+
+    /** El lienzo guarda 5 bytes por celda, así que hasta unos 4 millones de celdas la vista ocupa unos 20 MB. */
+    private static final long MAX_VIEW_CELLS = 2048L * 2048L;
+    private static final String[] GENERADORES = {"Backtracking Recursivo", "Kruskal", "Prim", "Wilson", "Eller", "Teselas en Paralelo"};
 
     private MazeController controller;
 
     private boolean isStepByStepActive = false;
-    private final List<String[]> currentMazeResults = new ArrayList<>();
 
     /**
      * Constructor de MazeView. Inicializa la ventana y sus componentes.
@@ -86,7 +99,7 @@ public class MazeView extends JFrame {
         setupBottomControls(bottomControlsPanel);
 
         add(topButtonsPanel, BorderLayout.NORTH);
-        add(mazePanel, BorderLayout.CENTER);
+        add(mazeCanvas, BorderLayout.CENTER);
         add(bottomControlsPanel, BorderLayout.SOUTH);
     }
 
@@ -104,9 +117,23 @@ public class MazeView extends JFrame {
         menuBar = new JMenuBar();
         archivoMenu = new JMenu("Archivos");
         nuevoLaberintoItem = new JMenuItem("Nuevo Laberinto");
+        abrirLaberintoItem = new JMenuItem("Abrir Laberinto");
+        guardarLaberintoItem = new JMenuItem("Guardar Laberinto");
+        importarLaberintoItem = new JMenuItem("Importar Laberinto (ASCII/PNG)");
+        exportarImagenItem = new JMenuItem("Exportar Imagen");
+        generarLaberintoItem = new JMenuItem("Generar Laberinto");
+        generarArchivoItem = new JMenuItem("Generar Laberinto en Archivo");
         verResultadosItem = new JMenuItem("Ver Resultados");
+        estudioEscaladoItem = new JMenuItem("Estudio de Escalado");
         archivoMenu.add(nuevoLaberintoItem);
+        archivoMenu.add(abrirLaberintoItem);
+        archivoMenu.add(guardarLaberintoItem);
+        archivoMenu.add(importarLaberintoItem);
+        archivoMenu.add(exportarImagenItem);
+        archivoMenu.add(generarLaberintoItem);
+        archivoMenu.add(generarArchivoItem);
         archivoMenu.add(verResultadosItem);
+        archivoMenu.add(estudioEscaladoItem);
 
         ayudaMenu = new JMenu("Ayuda");
         acercaDeItem = new JMenuItem("Acerca de");
@@ -117,7 +144,14 @@ public class MazeView extends JFrame {
         setJMenuBar(menuBar);
 
         nuevoLaberintoItem.addActionListener(e -> onNuevoLaberintoAction());
+        abrirLaberintoItem.addActionListener(e -> onAbrirLaberintoAction());
+        guardarLaberintoItem.addActionListener(e -> onGuardarLaberintoAction());
+        importarLaberintoItem.addActionListener(e -> onImportarLaberintoAction());
+        exportarImagenItem.addActionListener(e -> onExportarImagenAction());
+        generarLaberintoItem.addActionListener(e -> onGenerarLaberintoAction());
+        generarArchivoItem.addActionListener(e -> onGenerarArchivoAction());
         verResultadosItem.addActionListener(e -> onVerResultadosAction());
+        estudioEscaladoItem.addActionListener(e -> onEstudioEscaladoAction());
         acercaDeItem.addActionListener(e -> onAcercaDeAction());
     }
 
@@ -132,47 +166,36 @@ public class MazeView extends JFrame {
         celdaInicioButton = new JButton("Celda de Inicio");
         celdaFinalButton = new JButton("Celda de Final");
         obstaculoParedButton = new JButton("Obstáculo o Pared");
+        puntoIntermedioButton = new JButton("Punto Intermedio");
 
         panel.add(celdaInicioButton);
         panel.add(celdaFinalButton);
         panel.add(obstaculoParedButton);
+        panel.add(puntoIntermedioButton);
 
         celdaInicioButton.addActionListener(e -> onCeldaInicioAction());
         celdaFinalButton.addActionListener(e -> onCeldaFinalAction());
         obstaculoParedButton.addActionListener(e -> onObstaculoParedAction());
+        puntoIntermedioButton.addActionListener(e -> onPuntoIntermedioAction());
     }
 
     /**
-     * Configura el panel principal del laberinto con las celdas visuales.
+     * Configura el lienzo del laberinto, con un único oyente de ratón que traduce cada clic a su celda.
      *
      * @param filas Número de filas del laberinto.
      * @param columnas Número de columnas del laberinto.
      */
     private void setupMazePanel(int filas, int columnas) {
-        mazePanel = new JPanel();
-        mazePanel.setLayout(new GridLayout(filas, columnas));
-        cellPanels = new MazeCellPanel[filas][columnas];
-
-        for (int i = 0; i < filas; i++) {
-            for (int j = 0; j < columnas; j++) {
-                MazeCellPanel cell = new MazeCellPanel(i, j);
-                cell.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
-                cell.setPreferredSize(new Dimension(30, 30));
-                cell.setBackground(DEFAULT_CELL_COLOR);
-
-                cell.addMouseListener(new MouseAdapter() {
-                    @Override
-                    public void mouseClicked(MouseEvent e) {
-                        onCellClicked(cell);
-                    }
-                });
-
-                cellPanels[i][j] = cell;
-                mazePanel.add(cell);
+        mazeCanvas = new MazeCanvas(filas, columnas);
+        mazeCanvas.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                Cell cell = mazeCanvas.cellAt(e.getPoint());
+                if (cell != null) {
+                    onCellClicked(cell.getRow(), cell.getCol());
+                }
             }
-        }
-        mazePanel.revalidate();
-        mazePanel.repaint();
+        });
     }
 
     /**
@@ -189,12 +212,42 @@ public class MazeView extends JFrame {
             "Metodo Recursivo Completo",
             "Metodo Recursivo Completo BT",
             "Metodo BFS",
-            "Metodo DFS"
+            "Metodo DFS",
+            "Metodo DFS Portafolio",
+            "Metodo Seguidor de Pared",
+            "Metodo Tremaux",
+            "Ruta con Puntos Intermedios"
         };
         algoritmoComboBox = new JComboBox<>(algoritmos);
         algoritmoComboBox.setSelectedItem("Metodo Recursivo");
         panel.add(algoritmoComboBox);
 
+        optimizarCaminoCheckBox = new JCheckBox("Optimizar Camino");
+        optimizarCaminoCheckBox.setToolTipText("Acorta el camino del solver (eliminando bucles y aplicando atajos) sin volver a resolver.");
+        panel.add(optimizarCaminoCheckBox);
+
+        medicionEstadisticaCheckBox = new JCheckBox("Medición Estadística");
+        medicionEstadisticaCheckBox.setToolTipText("Calienta el solver y lo mide varias veces en segundo plano; informa la mediana y su dispersión.");
+        calentamientoSpinner = new JSpinner(new SpinnerNumberModel(5, 0, 1000, 1));
+        calentamientoSpinner.setToolTipText("Rondas de calentamiento sin medir");
+        iteracionesSpinner = new JSpinner(new SpinnerNumberModel(10, 1, 1000, 1));
+        iteracionesSpinner.setToolTipText("Iteraciones medidas");
+        calentamientoSpinner.setEnabled(false);
+        iteracionesSpinner.setEnabled(false);
+        medicionEstadisticaCheckBox.addActionListener(e -> {
+            calentamientoSpinner.setEnabled(medicionEstadisticaCheckBox.isSelected());
+            iteracionesSpinner.setEnabled(medicionEstadisticaCheckBox.isSelected());
+        });
+        panel.add(medicionEstadisticaCheckBox);
+        panel.add(new JLabel("Calentamiento:"));
+        panel.add(calentamientoSpinner);
+        panel.add(new JLabel("Iteraciones:"));
+        panel.add(iteracionesSpinner);
+
+        perfilarMemoriaCheckBox = new JCheckBox("Perfilar Memoria");
+        perfilarMemoriaCheckBox.setToolTipText("Tras medir, resuelve otra vez para medir la memoria retenida por el solver y el resultado y el pico de heap.");
+        panel.add(perfilarMemoriaCheckBox);
+
         resolverButton = new JButton("Resolver Laberinto");
         pasoAPasoButton = new JButton("Paso a Paso");
         limpiarButton = new JButton("Limpiar Laberinto");
@@ -215,6 +268,21 @@ public class MazeView extends JFrame {
         new ResultsView();
     }
 
+    /**
+     * Pide el tamaño máximo del estudio de escalado (como exponente de 2 del número de celdas) y abre
+     * la ventana del estudio, que mide todos los solvers en segundo plano.
+     */
+    private void onEstudioEscaladoAction() {
+        JSpinner exponentSpinner = new JSpinner(new SpinnerNumberModel(ScalingStudy.DEFAULT_MAX_EXPONENT,
+                ScalingStudy.DEFAULT_MIN_EXPONENT, ScalingStudy.MAX_EXPONENT, 1));
+        int option = JOptionPane.showConfirmDialog(this, new Object[] {
+                "Tamaño máximo del laberinto: 2 elevado a (celdas). Los tamaños grandes tardan varios minutos.",
+                exponentSpinner}, "Estudio de Escalado", JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (option == JOptionPane.OK_OPTION) {
+            new ScalingStudyView((Integer) exponentSpinner.getValue());
+        }
+    }
+
     /** Maneja la acción de crear un nuevo laberinto. */
     private void onNuevoLaberintoAction() {
         System.out.println("Acción: Nuevo Laberinto - Solicitando nuevas dimensiones.");
@@ -245,6 +313,190 @@ public class MazeView extends JFrame {
         }
     }
 
+    /**
+     * Exporta el laberinto y su última resolución a una imagen PNG o PPM, sin limitarse a lo que
+     * cabe en la pantalla.
+     */
+    private void onExportarImagenAction() {
+        if (controller == null) {
+            System.err.println("Error: Controlador no está configurado para la vista.");
+            return;
+        }
+        RasterFormat format = (RasterFormat) JOptionPane.showInputDialog(this, "Selecciona el formato:",
+                "Exportar Imagen", JOptionPane.PLAIN_MESSAGE, null, RasterFormat.values(), RasterFormat.PNG);
+        if (format == null) {
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("laberinto" + format.getExtension()));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        int option = JOptionPane.showConfirmDialog(this, "¿Colorear las celdas visitadas según el orden de visita?",
+                "Exportar Imagen", JOptionPane.YES_NO_OPTION);
+        controller.exportImage(chooser.getSelectedFile(), format, option == JOptionPane.YES_OPTION);
+    }
+
+    /**
+     * Guarda el laberinto actual en un archivo binario, con la compresión elegida por el usuario.
+     */
+    private void onGuardarLaberintoAction() {
+        if (controller == null) {
+            System.err.println("Error: Controlador no está configurado para la vista.");
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("laberinto" + MazeFileFormat.EXTENSION));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        MazeCompression compression = (MazeCompression) JOptionPane.showInputDialog(this, "Selecciona la compresión:",
+                "Guardar Laberinto", JOptionPane.PLAIN_MESSAGE, null, MazeCompression.values(), MazeCompression.NONE);
+        if (compression != null) {
+            controller.saveMaze(chooser.getSelectedFile(), compression);
+        }
+    }
+
+    /**
+     * Abre un laberinto desde un archivo binario. Si sus dimensiones no coinciden con las de la
+     * cuadrícula actual se crea una ventana nueva, como al crear un laberinto nuevo; los laberintos
+     * demasiado grandes para mostrarse celda a celda solo se describen y se pueden resolver en segundo plano.
+     */
+    private void onAbrirLaberintoAction() {
+        if (controller == null) {
+            System.err.println("Error: Controlador no está configurado para la vista.");
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        MazeInstance instance = controller.openMaze(chooser.getSelectedFile());
+        if (instance != null) {
+            mostrarLaberinto(instance);
+        }
+    }
+
+    /**
+     * Importa un laberinto dibujado como texto ASCII ({@code '#'} muro, {@code '.'} camino) o como
+     * imagen en blanco y negro, en lugar de tener que redibujarlo a mano.
+     */
+    private void onImportarLaberintoAction() {
+        if (controller == null) {
+            System.err.println("Error: Controlador no está configurado para la vista.");
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        MazeInstance instance = controller.importMaze(chooser.getSelectedFile());
+        if (instance != null) {
+            mostrarLaberinto(instance);
+        }
+    }
+
+    /**
+     * Muestra un laberinto abierto o importado. Si sus dimensiones no coinciden con las de la
+     * cuadrícula actual se crea una ventana nueva; si es demasiado grande solo se describe.
+     *
+     * @param instance El laberinto a mostrar.
+     */
+    private void mostrarLaberinto(MazeInstance instance) {
+        int rows = instance.getGrid().getRows();
+        int cols = instance.getGrid().getCols();
+        if ((long) rows * cols > MAX_VIEW_CELLS) {
+            int option = JOptionPane.showConfirmDialog(this,
+                "El laberinto de " + rows + "x" + cols + " es demasiado grande para mostrarse (semilla " + instance.getSeed() + ").\n"
+                    + "¿Resolverlo con BFS sin mostrarlo?",
+                "Laberinto Grande", JOptionPane.YES_NO_OPTION, JOptionPane.INFORMATION_MESSAGE);
+            if (option == JOptionPane.YES_OPTION) {
+                controller.solveLargeMaze(instance);
+            }
+            return;
+        }
+        controller.stopAnimation();
+        isStepByStepActive = false;
+        if (rows == mazeCanvas.getRows() && cols == mazeCanvas.getCols()) {
+            controller.loadMaze(instance);
+            return;
+        }
+        dispose();
+        SwingUtilities.invokeLater(() -> {
+            MazeView newView = new MazeView(rows, cols);
+            MazeController newController = new MazeController(newView, rows, cols);
+            newView.setController(newController);
+            newView.setVisible(true);
+            newController.loadMaze(instance);
+        });
+    }
+
+    /**
+     * Genera un laberinto con el algoritmo elegido por el usuario sobre la cuadrícula actual.
+     * La semilla es opcional: si se deja vacía se usa una aleatoria.
+     */
+    private void onGenerarLaberintoAction() {
+        if (controller == null) {
+            System.err.println("Error: Controlador no está configurado para la vista.");
+            return;
+        }
+        String algorithm = (String) JOptionPane.showInputDialog(this, "Selecciona el algoritmo de generación:",
+                "Generar Laberinto", JOptionPane.PLAIN_MESSAGE, null, GENERADORES, GENERADORES[0]);
+        if (algorithm == null) {
+            return;
+        }
+        Long seed = solicitarSemilla();
+        if (seed != null) {
+            isStepByStepActive = false;
+            controller.generateMaze(algorithm, seed);
+        }
+    }
+
+    /**
+     * Genera con el algoritmo de Eller un laberinto de cualquier tamaño directamente en un archivo
+     * de texto, sin cargarlo en la cuadrícula de la vista.
+     */
+    private void onGenerarArchivoAction() {
+        if (controller == null) {
+            System.err.println("Error: Controlador no está configurado para la vista.");
+            return;
+        }
+        int[] dims = CreadorMatriz.solicitarTamanioMatriz();
+        if (dims == null) {
+            return;
+        }
+        Long seed = solicitarSemilla();
+        if (seed == null) {
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("laberinto_" + dims[0] + "x" + dims[1] + ".txt"));
+        if (chooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+            controller.generateMazeToFile(dims[0], dims[1], seed, chooser.getSelectedFile());
+        }
+    }
+
+    /**
+     * Solicita al usuario la semilla del generador.
+     *
+     * @return La semilla introducida, una aleatoria si se deja vacía, o null si se cancela.
+     */
+    private Long solicitarSemilla() {
+        String seedStr = JOptionPane.showInputDialog(this, "Semilla (vacío = aleatoria):", "Semilla", JOptionPane.PLAIN_MESSAGE);
+        if (seedStr == null) {
+            return null;
+        }
+        if (seedStr.isBlank()) {
+            return System.nanoTime();
+        }
+        try {
+            return Long.parseLong(seedStr.trim());
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this, "Entrada inválida. Por favor, introduce un número para la semilla.", "Error", JOptionPane.ERROR_MESSAGE);
+            return solicitarSemilla();
+        }
+    }
+
     /** Muestra información "Acerca de" la aplicación y el desarrollador. */
     private void onAcercaDeAction() {
         String linkText = "<html>Aplicación Creador de Laberintos con recursividad<br>" +
@@ -293,15 +545,18 @@ public class MazeView extends JFrame {
         currentSelectionMode = SelectionMode.OBSTACLE_CELL;
     }
 
+    /** Establece el modo de selección a punto intermedio de la ruta. */
+    private void onPuntoIntermedioAction() {
+        System.out.println("Modo de selección: Punto Intermedio");
+        currentSelectionMode = SelectionMode.WAYPOINT_CELL;
+    }
+
     /** Modificar onResolverAction para guardar resultados */
     private void onResolverAction() {
         if (controller != null) {
             controller.resetPathColorsInView();
             controller.resetAnimationIndices();
             isStepByStepActive = false;
-            
-            // Limpiar resultados anteriores antes de resolver un nuevo laberinto
-            currentMazeResults.clear(); 
 
             String selectedAlgorithm = (String) algoritmoComboBox.getSelectedItem();
             controller.startSolvingMaze(selectedAlgorithm);
@@ -343,24 +598,14 @@ public class MazeView extends JFrame {
     }
 
     /**
-     * Añade un resultado de resolución a la lista temporal de la vista.
-     * Se llama después de que un solver completa su ejecución.
+     * Registra un resultado de resolución en el historial de resultados.
+     * Se llama después de que un solver completa su ejecución, desde cualquier hilo: solo deja el
+     * resultado en la cola del escritor, que lo escribe en segundo plano.
      *
-     * @param methodName Nombre del método solver.
-     * @param pathLength Longitud del camino encontrado (-1 si no hay camino).
-     * @param elapsedTime Tiempo de ejecución en milisegundos.
+     * @param record El resultado, con los datos del laberinto y del entorno.
      */
-    public void addSolverResult(String methodName, int pathLength, long elapsedTime) {
-        String pathLenStr = (pathLength != -1) ? String.valueOf(pathLength) : "N/A";
-        currentMazeResults.add(new String[]{methodName, pathLenStr, String.valueOf(elapsedTime)});
-        // Si ya se ejecutaron todos los solvers, guardar en CSV
-        // Esto asume que el controlador sabe cuántos solvers debería ejecutar para una resolución completa
-        // O podrías tener un botón "Guardar Resultados de este Laberinto" para hacerlo manualmente.
-        // Por ahora, lo guardamos cada vez que un solver termina si es que se ejecutan todos de una vez.
-        
-        // Simplemente guarda todos los resultados acumulados cada vez que se añade uno.
-        // Esto asegura que el CSV siempre tenga el estado más reciente de la resolución actual.
-        ResultsView.saveResultsToCsv(currentMazeResults); 
+    public void addSolverResult(ResultRecord record) {
+        ResultsWriter.getDefault().submit(record);
     }
 
     /**
@@ -368,55 +613,19 @@ public class MazeView extends JFrame {
      * y el resto de celdas a su estado de camino o muro.
      */
     public void resetSelectedCells() {
-        if (selectedStartCellPanel != null) {
-            if (selectedStartCellPanel.isObstacle()) {
-                selectedStartCellPanel.setBackground(WALL_COLOR);
-            } else {
-                selectedStartCellPanel.setBackground(DEFAULT_CELL_COLOR);
-            }
-            selectedStartCellPanel.revalidate();
-            selectedStartCellPanel.repaint();
-            selectedStartCellPanel = null;
-            selectedStartCell = null;
-        }
-        if (selectedEndCellPanel != null) {
-            if (selectedEndCellPanel.isObstacle()) {
-                selectedEndCellPanel.setBackground(WALL_COLOR);
-            } else {
-                selectedEndCellPanel.setBackground(DEFAULT_CELL_COLOR);
-            }
-            selectedEndCellPanel.revalidate();
-            selectedEndCellPanel.repaint();
-            selectedEndCellPanel = null;
-            selectedEndCell = null;
-        }
-
-        MazeCellPanel[][] panels = getCellPanels();
-        if (panels != null) {
-            for (MazeCellPanel[] panel1 : panels) {
-                for (int j = 0; j < panels[0].length; j++) {
-                    MazeCellPanel panel = panel1[j];
-                    if (!panel.isObstacle()) {
-                        panel.setBackground(MazeView.DEFAULT_CELL_COLOR);
-                    } else {
-                        panel.setBackground(MazeView.WALL_COLOR);
-                    }
-                    panel.revalidate();
-                    panel.repaint();
-                }
-            }
-        }
+        selectedStartCell = null;
+        selectedEndCell = null;
+        mazeCanvas.resetColors();
     }
 
     /**
      * Maneja el evento de clic en una celda del laberinto.
      * Actualiza la celda según el modo de selección actual.
      *
-     * @param clickedCellPanel El panel de la celda clicada.
+     * @param row La fila de la celda clicada.
+     * @param col La columna de la celda clicada.
      */
-    private void onCellClicked(MazeCellPanel clickedCellPanel) {
-        int row = clickedCellPanel.getRow();
-        int col = clickedCellPanel.getCol();
+    private void onCellClicked(int row, int col) {
         System.out.println("Celda clicada: [" + row + "][" + col + "] en modo: " + currentSelectionMode);
 
         if (controller != null) {
@@ -425,77 +634,86 @@ public class MazeView extends JFrame {
             isStepByStepActive = false;
         }
 
+        Cell clickedCell = new Cell(row, col);
         SwingUtilities.invokeLater(() -> {
             switch (currentSelectionMode) {
                 case START_CELL:
-                    if (selectedStartCellPanel != null && selectedStartCellPanel != clickedCellPanel) {
-                        if (selectedStartCellPanel.isObstacle()) {
-                            selectedStartCellPanel.setBackground(WALL_COLOR);
-                        } else {
-                            selectedStartCellPanel.setBackground(DEFAULT_CELL_COLOR);
-                        }
-                        selectedStartCellPanel.revalidate();
-                        selectedStartCellPanel.repaint();
+                    if (selectedStartCell != null && !selectedStartCell.equals(clickedCell)) {
+                        paintOpenOrWall(selectedStartCell);
                     }
 
-                    clickedCellPanel.setObstacle(false);
-                    clickedCellPanel.setBackground(START_COLOR);
-                    selectedStartCellPanel = clickedCellPanel;
-                    selectedStartCell = new Cell(row, col);
+                    if (controller != null) {
+                        controller.removeWaypoint(clickedCell);
+                    }
+                    mazeCanvas.setObstacle(row, col, false);
+                    mazeCanvas.setCellColor(row, col, START_COLOR);
+                    selectedStartCell = clickedCell;
                     if (controller != null) {
                         controller.setStartCell(selectedStartCell);
                     }
-                    clickedCellPanel.revalidate();
-                    clickedCellPanel.repaint();
                     break;
 
                 case END_CELL:
-                    if (selectedEndCellPanel != null && selectedEndCellPanel != clickedCellPanel) {
-                        if (selectedEndCellPanel.isObstacle()) {
-                            selectedEndCellPanel.setBackground(WALL_COLOR);
-                        } else {
-                            selectedEndCellPanel.setBackground(DEFAULT_CELL_COLOR);
-                        }
-                        selectedEndCellPanel.revalidate();
-                        selectedEndCellPanel.repaint();
+                    if (selectedEndCell != null && !selectedEndCell.equals(clickedCell)) {
+                        paintOpenOrWall(selectedEndCell);
                     }
 
-                    clickedCellPanel.setObstacle(false);
-                    clickedCellPanel.setBackground(END_COLOR);
-                    selectedEndCellPanel = clickedCellPanel;
-                    selectedEndCell = new Cell(row, col);
+                    if (controller != null) {
+                        controller.removeWaypoint(clickedCell);
+                    }
+                    mazeCanvas.setObstacle(row, col, false);
+                    mazeCanvas.setCellColor(row, col, END_COLOR);
+                    selectedEndCell = clickedCell;
                     if (controller != null) {
                         controller.setEndCell(selectedEndCell);
                     }
-                    clickedCellPanel.revalidate();
-                    clickedCellPanel.repaint();
                     break;
 
                 case OBSTACLE_CELL:
-                    if (clickedCellPanel == selectedStartCellPanel) {
+                    if (clickedCell.equals(selectedStartCell)) {
                         JOptionPane.showMessageDialog(MazeView.this,
                             "No puedes convertir la Celda de Inicio en un Obstáculo.",
                             "Advertencia", JOptionPane.WARNING_MESSAGE);
                         return;
                     }
-                    if (clickedCellPanel == selectedEndCellPanel) {
+                    if (clickedCell.equals(selectedEndCell)) {
                         JOptionPane.showMessageDialog(MazeView.this,
                             "No puedes convertir la Celda de Final en un Obstáculo.",
                             "Advertencia", JOptionPane.WARNING_MESSAGE);
                         return;
                     }
 
-                    if (clickedCellPanel.isObstacle()) {
-                        clickedCellPanel.setBackground(DEFAULT_CELL_COLOR);
-                        clickedCellPanel.setObstacle(false);
+                    if (controller != null) {
+                        controller.removeWaypoint(clickedCell);
+                    }
+                    if (mazeCanvas.isObstacle(row, col)) {
+                        mazeCanvas.setObstacle(row, col, false);
+                        mazeCanvas.setCellColor(row, col, DEFAULT_CELL_COLOR);
                         System.out.println("Celda [" + row + "][" + col + "] es ahora un CAMINO.");
                     } else {
-                        clickedCellPanel.setBackground(WALL_COLOR);
-                        clickedCellPanel.setObstacle(true);
+                        mazeCanvas.setObstacle(row, col, true);
+                        mazeCanvas.setCellColor(row, col, WALL_COLOR);
                         System.out.println("Celda [" + row + "][" + col + "] es ahora un OBSTÁCULO.");
                     }
-                    clickedCellPanel.revalidate();
-                    clickedCellPanel.repaint();
+                    break;
+
+                case WAYPOINT_CELL:
+                    if (clickedCell.equals(selectedStartCell) || clickedCell.equals(selectedEndCell)) {
+                        JOptionPane.showMessageDialog(MazeView.this,
+                            "Las celdas de Inicio y Final no pueden ser Puntos Intermedios.",
+                            "Advertencia", JOptionPane.WARNING_MESSAGE);
+                        return;
+                    }
+                    if (controller == null) {
+                        break;
+                    }
+                    if (controller.removeWaypoint(clickedCell)) {
+                        paintOpenOrWall(clickedCell);
+                    } else {
+                        mazeCanvas.setObstacle(row, col, false);
+                        mazeCanvas.setCellColor(row, col, WAYPOINT_COLOR);
+                        controller.addWaypoint(clickedCell);
+                    }
                     break;
 
                 case NONE:
@@ -506,19 +724,24 @@ public class MazeView extends JFrame {
         });
     }
 
+    /** Devuelve una celda al color de muro o de camino, según su estado. */
+    private void paintOpenOrWall(Cell cell) {
+        int row = cell.getRow();
+        int col = cell.getCol();
+        mazeCanvas.setCellColor(row, col, mazeCanvas.isObstacle(row, col) ? WALL_COLOR : DEFAULT_CELL_COLOR);
+    }
+
     /**
      * Actualiza el color de una celda en la interfaz gráfica.
-     * Debe ejecutarse en el Event Dispatch Thread (EDT).
+     * Puede llamarse desde cualquier hilo: el cambio se hace en el Event Dispatch Thread (EDT).
      *
      * @param row La fila de la celda.
      * @param col La columna de la celda.
      * @param color El nuevo color para la celda.
      */
     public void updateCell(int row, int col, Color color) {
-        if (row >= 0 && row < cellPanels.length && col >= 0 && col < cellPanels[0].length) {
-            SwingUtilities.invokeLater(() -> {
-                cellPanels[row][col].setBackground(color);
-            });
+        if (row >= 0 && row < mazeCanvas.getRows() && col >= 0 && col < mazeCanvas.getCols()) {
+            SwingUtilities.invokeLater(() -> mazeCanvas.setCellColor(row, col, color));
         }
     }
 
@@ -527,25 +750,94 @@ public class MazeView extends JFrame {
      *
      * @return Una matriz booleana donde true es camino y false es obstáculo.
      */
-    public boolean[][] getCellPanelsState() {
-        int rows = cellPanels.length;
-        int cols = cellPanels[0].length;
-        boolean[][] state = new boolean[rows][cols];
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                state[i][j] = !cellPanels[i][j].isObstacle();
-            }
+    public boolean[][] getGridState() {
+        return mazeCanvas.getGrid();
+    }
+
+    /**
+     * Carga en la vista los muros de una cuadrícula, por ejemplo la de un laberinto generado.
+     * Debe ejecutarse en el Event Dispatch Thread (EDT).
+     *
+     * @param grid La cuadrícula booleana, donde 'true' es camino y 'false' es muro; debe tener las dimensiones de la vista.
+     */
+    public void loadGrid(boolean[][] grid) {
+        mazeCanvas.loadGrid(grid);
+    }
+
+    /**
+     * Marca en la vista y en el controlador las celdas de inicio y fin, por ejemplo al abrir un
+     * laberinto guardado. Las celdas nulas o fuera de la cuadrícula se ignoran.
+     *
+     * @param start La celda de inicio.
+     * @param end La celda de fin.
+     */
+    public void applyEndpoints(Cell start, Cell end) {
+        if (start != null && start.getRow() < mazeCanvas.getRows() && start.getCol() < mazeCanvas.getCols()) {
+            mazeCanvas.setObstacle(start.getRow(), start.getCol(), false);
+            mazeCanvas.setCellColor(start.getRow(), start.getCol(), START_COLOR);
+            selectedStartCell = start;
+            controller.setStartCell(start);
         }
-        return state;
+        if (end != null && end.getRow() < mazeCanvas.getRows() && end.getCol() < mazeCanvas.getCols()) {
+            mazeCanvas.setObstacle(end.getRow(), end.getCol(), false);
+            mazeCanvas.setCellColor(end.getRow(), end.getCol(), END_COLOR);
+            selectedEndCell = end;
+            controller.setEndCell(end);
+        }
+    }
+
+    /**
+     * Devuelve el lienzo que dibuja la cuadrícula del laberinto.
+     *
+     * @return El lienzo del laberinto.
+     */
+    public MazeCanvas getMazeCanvas() {
+        return mazeCanvas;
+    }
+
+    /**
+     * Indica si el usuario ha activado la optimización del camino tras la resolución.
+     *
+     * @return true si el camino de los solvers debe acortarse, false en caso contrario.
+     */
+    public boolean isPathOptimizationEnabled() {
+        return optimizarCaminoCheckBox != null && optimizarCaminoCheckBox.isSelected();
+    }
+
+    /**
+     * Indica si el usuario ha activado la medición estadística del tiempo de resolución.
+     *
+     * @return true si el solver debe calentarse y medirse varias veces, false para una sola medición.
+     */
+    public boolean isStatisticalTimingEnabled() {
+        return medicionEstadisticaCheckBox != null && medicionEstadisticaCheckBox.isSelected();
+    }
+
+    /**
+     * Indica si el usuario ha activado el perfilado de memoria de las resoluciones.
+     *
+     * @return true si se debe medir la huella de memoria del solver, false en caso contrario.
+     */
+    public boolean isMemoryProfilingEnabled() {
+        return perfilarMemoriaCheckBox != null && perfilarMemoriaCheckBox.isSelected();
+    }
+
+    /**
+     * Obtiene las rondas de calentamiento elegidas para la medición estadística.
+     *
+     * @return Las rondas que se ejecutan sin medir.
+     */
+    public int getWarmupIterations() {
+        return (Integer) calentamientoSpinner.getValue();
     }
 
     /**
-     * Devuelve la matriz de paneles de celdas del laberinto.
+     * Obtiene las iteraciones medidas elegidas para la medición estadística.
      *
-     * @return La matriz de MazeCellPanel.
+     * @return Las iteraciones de las que se calcula la mediana.
      */
-    public MazeCellPanel[][] getCellPanels() {
-        return cellPanels;
+    public int getMeasuredIterations() {
+        return (Integer) iteracionesSpinner.getValue();
     }
 
     /**
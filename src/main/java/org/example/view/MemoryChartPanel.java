@@ -0,0 +1,58 @@
+package org.example.view;
+
+import java.awt.BorderLayout;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
+
+import org.example.results.MemoryProfiler;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * <p>Panel con la huella de memoria de los algoritmos frente al tamaño del laberinto, medida por el
+ * {@link MemoryProfiler}: una pestaña con los bytes que retienen el solver y su resultado y otra con el
+ * pico de heap durante la resolución. Ambas son gráficas log-log con una serie por algoritmo, como las del
+ * estudio de escalado de {@link PerformanceChartPanel}, para ver cómo crece la memoria con el tamaño.</p>
+ */
+public class MemoryChartPanel extends JPanel {
+
+    /**
+     * Construye las gráficas. Las listas tienen los mismos índices: un punto por algoritmo y tamaño.
+     *
+     * @param algorithms    El algoritmo de cada punto, que da nombre a su serie.
+     * @param cells         Las celdas del laberinto de cada punto.
+     * @param retainedBytes Los bytes retenidos (media) de cada punto; los no positivos no se dibujan.
+     * @param peakHeapBytes El pico de heap (media) de cada punto; los no positivos no se dibujan.
+     */
+    public MemoryChartPanel(List<String> algorithms, List<Long> cells, List<Double> retainedBytes, List<Double> peakHeapBytes) {
+        setLayout(new BorderLayout());
+
+        Map<String, XYSeries[]> series = new LinkedHashMap<>();
+        XYSeriesCollection retained = new XYSeriesCollection();
+        XYSeriesCollection peak = new XYSeriesCollection();
+        for (int i = 0; i < algorithms.size(); i++) {
+            XYSeries[] pair = series.computeIfAbsent(algorithms.get(i), name -> {
+                XYSeries[] created = {new XYSeries(name), new XYSeries(name)};
+                retained.addSeries(created[0]);
+                peak.addSeries(created[1]);
+                return created;
+            });
+            // Los ejes logarítmicos no admiten ceros: los puntos sin memoria medible se omiten
+            if (retainedBytes.get(i) > 0) {
+                pair[0].add(cells.get(i), retainedBytes.get(i));
+            }
+            if (peakHeapBytes.get(i) > 0) {
+                pair[1].add(cells.get(i), peakHeapBytes.get(i));
+            }
+        }
+
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Retenida", PerformanceChartPanel.logLogChart("Memoria retenida por solver y resultado", "Bytes retenidos", retained));
+        tabs.addTab("Pico de Heap", PerformanceChartPanel.logLogChart("Pico de heap durante la resolución", "Bytes", peak));
+        add(tabs, BorderLayout.CENTER);
+    }
+}
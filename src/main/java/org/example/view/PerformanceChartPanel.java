@@ -3,68 +3,95 @@ package org.example.view;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
 
 import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
 
+import org.example.results.LatencyHistogram;
+import org.example.results.ResultsStats;
+import org.example.results.ScalingStudy;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.LogAxis;
 import org.jfree.chart.plot.PlotOrientation;
-import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.category.BoxAndWhiskerRenderer;
+import org.jfree.data.statistics.BoxAndWhiskerItem;
+import org.jfree.data.statistics.DefaultBoxAndWhiskerCategoryDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 
 /**
  * <p>La clase {@code PerformanceChartPanel} es un componente Swing que extiende {@code JPanel}
- * y está diseñado para mostrar un gráfico de líneas utilizando la librería JFreeChart.</p>
- * <p>Este panel visualiza el rendimiento de diferentes algoritmos de resolución de laberintos,
- * mostrando el tiempo que cada algoritmo tardó en nanosegundos.</p>
+ * y está diseñado para mostrar gráficos utilizando la librería JFreeChart.</p>
+ * <p>Este panel visualiza el rendimiento de diferentes algoritmos de resolución de laberintos con un
+ * diagrama de cajas de los tiempos de cada algoritmo en nanosegundos, por franja de tamaño de laberinto.</p>
+ * <p>En modo de estudio de escalado ({@link #PerformanceChartPanel(ScalingStudy)}) muestra en cambio el
+ * tiempo y la memoria frente al número de celdas en ejes logarítmicos, con una serie por solver cuya
+ * leyenda incluye el exponente empírico estimado: en escala log-log una complejidad n^k es una recta de
+ * pendiente k.</p>
  * <p>Requiere la librería JFreeChart en el classpath para su correcto funcionamiento.</p>
  */
 public class PerformanceChartPanel extends JPanel {
 
+    /** Series del modo de estudio de escalado: por solver, la serie de tiempo y la de memoria. */
+    private final Map<String, XYSeries[]> scalingSeries = new LinkedHashMap<>();
+    private final List<ScalingStudy.Point> scalingPoints = new ArrayList<>();
+
     /**
      * <p>Construye una nueva instancia de {@code PerformanceChartPanel}.</p>
-     * <p>Crea un gráfico de líneas que muestra el tiempo de ejecución (en nanosegundos)
-     * para cada algoritmo proporcionado.</p>
+     * <p>Crea un diagrama de cajas a partir de los agregados del historial ({@link ResultsStats#snapshot()}):
+     * una serie por franja de tamaño de laberinto y, en cada una, una caja por algoritmo que va del p25 al
+     * p75 de todos sus tiempos, con la mediana marcada y bigotes hasta el p5 y el p95. Los tiempos tienen
+     * una cola larga hacia arriba, así que la caja no es simétrica respecto a la mediana. Cada caja resume
+     * todas las ejecuciones del algoritmo en laberintos comparables, en lugar de la última que se registró.</p>
      *
-     * @param algorithms Una {@code List} de cadenas de texto que representan los nombres
-     * de los algoritmos (ej. "Método BFS", "Método DFS"). Estos se usarán
+     * @param aggregates Los agregados por algoritmo y tamaño. Los nombres de los algoritmos se usarán
      * como categorías en el eje X del gráfico.
-     * @param times      Una {@code List} de valores {@code Long} que representan el tiempo
-     * de ejecución en nanosegundos correspondiente a cada algoritmo
-     * en la lista {@code algorithms}. Los índices deben coincidir.
      */
-    public PerformanceChartPanel(List<String> algorithms, List<Long> times) {
+    public PerformanceChartPanel(List<ResultsStats.Aggregate> aggregates) {
         // Establece el layout del panel a BorderLayout para que el ChartPanel ocupe todo el espacio.
         setLayout(new BorderLayout());
 
-        // Crea un dataset para almacenar los datos del gráfico.
-        // DefaultCategoryDataset es adecuado para gráficos de categoría (líneas, barras).
-        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        // Crea un dataset de cajas: cada elemento lleva sus percentiles explícitos, sin suponer simetría.
+        DefaultBoxAndWhiskerCategoryDataset dataset = new DefaultBoxAndWhiskerCategoryDataset();
 
-        // Itera sobre las listas de algoritmos y tiempos para poblar el dataset.
-        // Cada par (tiempo, nombre_del_algoritmo) se añade como un valor.
-        for (int i = 0; i < algorithms.size(); i++) {
-            // Añade el valor de tiempo, la serie ("Tiempo (ns)"), y la categoría (nombre del algoritmo).
-            dataset.addValue(times.get(i), "Tiempo (ns)", algorithms.get(i));
+        // Cada par (franja de tamaño, algoritmo) es único en los agregados, así que ningún valor pisa a otro.
+        for (ResultsStats.Aggregate aggregate : aggregates) {
+            LatencyHistogram times = aggregate.getTimes();
+            BoxAndWhiskerItem item = new BoxAndWhiskerItem(times.getMean(), (double) times.getPercentile(50),
+                    (double) times.getPercentile(25), (double) times.getPercentile(75),
+                    (double) times.getPercentile(5), (double) times.getPercentile(95),
+                    null, null, Collections.emptyList()); // Sin valores atípicos: el histograma no los conserva
+            dataset.add(item, "Celdas " + ResultsStats.describeSizeBucket(aggregate.getSizeBucket()), aggregate.getAlgorithm());
         }
 
         // Crea el objeto JFreeChart, que representa el gráfico en sí.
-        JFreeChart chart = ChartFactory.createLineChart(
+        JFreeChart chart = ChartFactory.createBoxAndWhiskerChart(
                 "Rendimiento de Algoritmos de Resolución de Laberintos", // Título principal del gráfico
                 "Algoritmo Solver",     // Etiqueta para el eje X (categorías)
                 "Tiempo (ns)",          // Etiqueta para el eje Y (valores numéricos)
                 dataset,                // El dataset que contiene los datos a graficar
-                PlotOrientation.VERTICAL, // La orientación del gráfico (vertical, eje Y hacia arriba)
-                true,                   // Indica si debe mostrar una leyenda (true para "Tiempo (ns)")
-                true,                   // Indica si debe mostrar tooltips (información al pasar el ratón)
-                false                   // Indica si debe generar URLs para las series (no necesario aquí)
+                true                    // Indica si debe mostrar una leyenda (una serie por franja de tamaño)
         );
 
         // Opcional: Personalización básica del gráfico.
         // Establece el color de fondo del área del gráfico.
         chart.setBackgroundPaint(Color.white);
 
+        // Dibuja las cajas (p25–p75), la mediana y los bigotes (p5–p95); la media queda como marca aparte.
+        BoxAndWhiskerRenderer renderer = new BoxAndWhiskerRenderer();
+        renderer.setArtifactPaint(Color.darkGray);
+        chart.getCategoryPlot().setRenderer(renderer);
+
         // Puedes acceder al objeto CategoryPlot para realizar personalizaciones más detalladas.
         // Por ejemplo, para cambiar el color de las líneas de la cuadrícula:
         // CategoryPlot plot = chart.getCategoryPlot();
@@ -79,4 +106,81 @@ public class PerformanceChartPanel extends JPanel {
         // Añade el ChartPanel al PerformanceChartPanel, haciendo que ocupe todo el espacio central.
         add(chartPanel, BorderLayout.CENTER);
     }
-}
\ No newline at end of file
+
+    /**
+     * <p>Construye el modo de estudio de escalado: dos gráficas log-log (tiempo y memoria frente a celdas)
+     * con una serie vacía por cada solver del estudio. Las mediciones se añaden con
+     * {@link #addScalingPoint(ScalingStudy.Point)} a medida que el estudio las toma.</p>
+     *
+     * @param study El estudio cuyos resultados se mostrarán.
+     */
+    public PerformanceChartPanel(ScalingStudy study) {
+        setLayout(new BorderLayout());
+        XYSeriesCollection times = new XYSeriesCollection();
+        XYSeriesCollection memory = new XYSeriesCollection();
+        for (String solver : study.getSolvers()) {
+            XYSeries[] series = {new XYSeries(solver), new XYSeries(solver)};
+            times.addSeries(series[0]);
+            memory.addSeries(series[1]);
+            scalingSeries.put(solver, series);
+        }
+
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Tiempo", logLogChart("Escalado del tiempo de resolución", "Tiempo (ns)", times));
+        tabs.addTab("Memoria", logLogChart("Escalado de la memoria reservada", "Bytes reservados", memory));
+        add(tabs, BorderLayout.CENTER);
+    }
+
+    /**
+     * Añade una medición del estudio de escalado y actualiza el exponente estimado en la leyenda de su
+     * solver. Debe llamarse desde el hilo de eventos de Swing.
+     *
+     * @param point La medición.
+     */
+    public void addScalingPoint(ScalingStudy.Point point) {
+        XYSeries[] series = scalingSeries.get(point.getSolver());
+        if (series == null) {
+            return;
+        }
+        scalingPoints.add(point);
+        List<ScalingStudy.Point> solverPoints = ScalingStudy.forSolver(scalingPoints, point.getSolver());
+        if (point.getTimeNanos() > 0) {
+            series[0].add(point.getCells(), point.getTimeNanos());
+        }
+        if (point.getAllocatedBytes() > 0) {
+            series[1].add(point.getCells(), point.getAllocatedBytes());
+        }
+        series[0].setKey(seriesName(point.getSolver(), solverPoints, ScalingStudy.Point::getTimeNanos));
+        series[1].setKey(seriesName(point.getSolver(), solverPoints, ScalingStudy.Point::getAllocatedBytes));
+    }
+
+    /** Nombre de la serie con el exponente estimado, por ejemplo {@code "BFS (n^1.02)"}. */
+    private static String seriesName(String solver, List<ScalingStudy.Point> points, ToLongFunction<ScalingStudy.Point> metric) {
+        double exponent = ScalingStudy.exponent(points, metric);
+        return Double.isNaN(exponent) ? solver : String.format(Locale.ROOT, "%s (n^%.2f)", solver, exponent);
+    }
+
+    /** Crea una gráfica de líneas con los dos ejes logarítmicos; también la usa {@link MemoryChartPanel}. */
+    static ChartPanel logLogChart(String title, String rangeLabel, XYSeriesCollection dataset) {
+        JFreeChart chart = ChartFactory.createXYLineChart(
+                title,
+                "Celdas",
+                rangeLabel,
+                dataset,
+                PlotOrientation.VERTICAL,
+                true,                   // Leyenda: una serie por solver, con su exponente
+                true,
+                false
+        );
+        chart.setBackgroundPaint(Color.white);
+        XYPlot plot = chart.getXYPlot();
+        LogAxis cells = new LogAxis("Celdas (escala logarítmica)");
+        cells.setBase(2); // Cada marca es una duplicación del tamaño
+        plot.setDomainAxis(cells);
+        plot.setRangeAxis(new LogAxis(rangeLabel + " (escala logarítmica)"));
+
+        ChartPanel chartPanel = new ChartPanel(chart);
+        chartPanel.setPreferredSize(new Dimension(750, 550));
+        return chartPanel;
+    }
+}
@@ -2,56 +2,74 @@ package org.example.view;
 
 import java.awt.BorderLayout;
 import java.awt.FlowLayout;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.JButton;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.JTabbedPane;
 import javax.swing.JTable;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableModel;
+
+import org.example.model.SearchMetrics;
+import org.example.results.LatencyHistogram;
+import org.example.results.MemoryProfiler;
+import org.example.results.ResultRecord;
+import org.example.results.ResultsLog;
+import org.example.results.ResultsStats;
+import org.example.results.ResultsWriter;
 
 /**
  * Ventana para mostrar los resultados de la resolución del laberinto en una tabla.
  * Permite visualizar métricas como cantidad de celdas del camino y tiempo de ejecución.
+ * Muestra el historial completo del {@link ResultsLog}, del resultado más antiguo al más reciente, y en
+ * otra pestaña las estadísticas por algoritmo y tamaño de laberinto (ejecuciones, media y percentiles
+ * del tiempo) que el registro mantiene al vuelo. Los resultados que informaron métricas de búsqueda
+ * ({@link SearchMetrics}) muestran además nodos expandidos y generados, frontera máxima y bytes reservados,
+ * que se pueden comparar en una gráfica por algoritmo. Los que se perfilaron ({@link MemoryProfiler}) muestran
+ * la memoria retenida por el solver y el resultado y el pico de heap, que se grafican frente al tamaño.
  */
 public class ResultsView extends JFrame {
 
     private JTable resultsTable;
     private DefaultTableModel tableModel;
-    private static final String CSV_FILE = "maze_results.csv";
+    private DefaultTableModel statsModel;
+    /** Los resultados mostrados en el historial, de los que se construyen las gráficas de métricas y memoria. */
+    private List<ResultRecord> records = new ArrayList<>();
 
     /**
-     * Constructor de ResultsView. Configura la ventana y carga los resultados del CSV.
+     * Constructor de ResultsView. Configura la ventana y carga los resultados del registro.
      */
     public ResultsView() {
         super("Resultados de Solución del Laberinto");
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE); // Cierra solo esta ventana
-        setSize(600, 400);
+        setSize(900, 450);
         setLocationRelativeTo(null);
         setLayout(new BorderLayout());
 
         setupTable();
-        loadResultsFromCsv();
+        loadResults();
         setupButtons();
 
         setVisible(true);
     }
 
-    /** Configura la tabla y su modelo para mostrar los resultados. */
+    /** Configura las pestañas de historial y estadísticas con sus tablas. */
     private void setupTable() {
-        String[] columnNames = {"Método Solver", "Cantidad de Celdas", "Tiempo (ns)"};
+        String[] columnNames = {"Método Solver", "Cantidad de Celdas", "Tiempo (ns)", "Dispersión (ns)", "Iteraciones",
+                "Laberinto", "Fecha", "Dimensiones", "Muros", "Semilla", "Hilos", "JVM", "Expandidos", "Generados",
+                "Frontera Máx.", "Bytes Reservados", "Solver Retenido", "Resultado Retenido", "Pico Heap", "Variante"};
         tableModel = new DefaultTableModel(columnNames, 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
@@ -60,200 +78,303 @@ public class ResultsView extends JFrame {
         };
         resultsTable = new JTable(tableModel);
         resultsTable.setFillsViewportHeight(true); // Hace que la tabla ocupe toda la altura disponible
-        add(new JScrollPane(resultsTable), BorderLayout.CENTER); // Envuelve la tabla en un JScrollPane
+
+        String[] statsColumns = {"Método Solver", "Celdas", "Ejecuciones", "Media (ns)", "p50 (ns)", "p95 (ns)",
+                "p99 (ns)", "Camino Medio", "Expandidos Medios", "Bytes Medios", "Retenido Medio", "Pico Heap Medio"};
+        statsModel = new DefaultTableModel(statsColumns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable statsTable = new JTable(statsModel);
+        statsTable.setFillsViewportHeight(true);
+
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Historial", new JScrollPane(resultsTable)); // Envuelve la tabla en un JScrollPane
+        tabs.addTab("Estadísticas", new JScrollPane(statsTable));
+        add(tabs, BorderLayout.CENTER);
     }
 
     /**
-     * Carga los resultados desde el archivo CSV y los muestra en la tabla.
-     * Si el archivo no existe o está vacío, la tabla estará vacía.
+     * Carga los resultados del registro en segundo plano y los muestra en la tabla.
+     * Si el registro está vacío, la tabla estará vacía.
      */
-    private void loadResultsFromCsv() {
+    private void loadResults() {
         tableModel.setRowCount(0); // Limpia la tabla antes de cargar
-        try (BufferedReader br = new BufferedReader(new FileReader(CSV_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] data = line.split(",");
-                if (data.length == 3) {
-                    tableModel.addRow(data);
+        new SwingWorker<List<ResultRecord>, Void>() {
+            @Override
+            protected List<ResultRecord> doInBackground() throws IOException {
+                ResultsWriter.getDefault().flush(); // Incluye los resultados aún en cola
+                return ResultsLog.getDefault().readAll();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    records = get();
+                    SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+                    for (ResultRecord record : records) {
+                        SearchMetrics metrics = record.getMetrics();
+                        MemoryProfiler.Footprint memory = record.getMemory();
+                        tableModel.addRow(new Object[] {
+                            record.getAlgorithm(),
+                            record.getPathLength() >= 0 ? String.valueOf(record.getPathLength()) : "N/A",
+                            String.valueOf(record.getTimeNanos()),
+                            record.getIterations() > 1 ? "± " + record.getTimeSpreadNanos() : "",
+                            String.valueOf(record.getIterations()),
+                            Long.toHexString(record.getMazeSignature()),
+                            dateFormat.format(new Date(record.getTimestamp())),
+                            record.getCells() > 0 ? record.getRows() + "x" + record.getCols() : "?",
+                            Float.isNaN(record.getWallDensity()) ? "?" : String.format("%.1f%%", record.getWallDensity() * 100),
+                            String.valueOf(record.getSeed()),
+                            String.valueOf(record.getThreads()),
+                            record.getJvm(),
+                            metricText(metrics != null ? metrics.getNodesExpanded() : -1),
+                            metricText(metrics != null ? metrics.getNodesGenerated() : -1),
+                            metricText(metrics != null ? metrics.getPeakFrontier() : -1),
+                            metricText(metrics != null ? metrics.getAllocatedBytes() : -1),
+                            metricText(memory != null ? memory.getSolverBytes() : -1),
+                            metricText(memory != null ? memory.getResultBytes() : -1),
+                            metricText(memory != null ? memory.getPeakHeapBytes() : -1),
+                            metricText(record.getWinningVariant())
+                        });
+                    }
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(ResultsView.this, "Error al leer los resultados: " + e.getMessage(), "Error de Lectura", JOptionPane.ERROR_MESSAGE);
                 }
             }
-        } catch (FileNotFoundException e) {
-            System.out.println("Archivo CSV de resultados no encontrado. Se creará uno nuevo al guardar.");
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(this, "Error al leer los resultados: " + e.getMessage(), "Error de Lectura", JOptionPane.ERROR_MESSAGE);
-        }
+        }.execute();
+        loadStatistics();
+    }
+
+    /**
+     * Carga los agregados por algoritmo y tamaño del registro y los muestra en la pestaña de estadísticas.
+     * Los agregados se mantienen al añadir cada resultado, así que no se relee el historial.
+     */
+    private void loadStatistics() {
+        statsModel.setRowCount(0);
+        new SwingWorker<List<ResultsStats.Aggregate>, Void>() {
+            @Override
+            protected List<ResultsStats.Aggregate> doInBackground() throws IOException {
+                ResultsWriter.getDefault().flush();
+                return ResultsLog.getDefault().statistics();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    for (ResultsStats.Aggregate aggregate : get()) {
+                        LatencyHistogram times = aggregate.getTimes();
+                        statsModel.addRow(new Object[] {
+                            aggregate.getAlgorithm(),
+                            ResultsStats.describeSizeBucket(aggregate.getSizeBucket()),
+                            String.valueOf(aggregate.getCount()),
+                            String.format("%.0f", times.getMean()),
+                            String.valueOf(times.getPercentile(50)),
+                            String.valueOf(times.getPercentile(95)),
+                            String.valueOf(times.getPercentile(99)),
+                            Double.isNaN(aggregate.getMeanPathLength()) ? "N/A" : String.format("%.1f", aggregate.getMeanPathLength()),
+                            Double.isNaN(aggregate.getMeanNodesExpanded()) ? "N/A" : String.format("%.0f", aggregate.getMeanNodesExpanded()),
+                            Double.isNaN(aggregate.getMeanAllocatedBytes()) ? "N/A" : String.format("%.0f", aggregate.getMeanAllocatedBytes()),
+                            Double.isNaN(aggregate.getMeanRetainedBytes()) ? "N/A" : String.format("%.0f", aggregate.getMeanRetainedBytes()),
+                            Double.isNaN(aggregate.getMeanPeakHeapBytes()) ? "N/A" : String.format("%.0f", aggregate.getMeanPeakHeapBytes())
+                        });
+                    }
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(ResultsView.this, "Error al leer las estadísticas: " + e.getMessage(), "Error de Lectura", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
     }
 
-    /** Configura los botones "Eliminar Resultados" y "Ver Gráfica". */
+    /** Muestra una métrica de búsqueda, o "N/A" si no se informó. */
+    private static String metricText(long value) {
+        return value >= 0 ? String.valueOf(value) : "N/A";
+    }
+
+    /** Configura los botones "Eliminar Resultados", "Ver Gráfica", "Ver Métricas" y "Ver Memoria". */
     private void setupButtons() {
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
         JButton deleteButton = new JButton("Eliminar Resultados");
         JButton viewGraphButton = new JButton("Ver Gráfica");
+        JButton viewMetricsButton = new JButton("Ver Métricas");
+        JButton viewMemoryButton = new JButton("Ver Memoria");
 
         deleteButton.addActionListener(e -> deleteResults());
         viewGraphButton.addActionListener(e -> createAndShowPerformanceChart());
+        viewMetricsButton.addActionListener(e -> createAndShowMetricsChart());
+        viewMemoryButton.addActionListener(e -> createAndShowMemoryChart());
 
         buttonPanel.add(deleteButton);
         buttonPanel.add(viewGraphButton);
+        buttonPanel.add(viewMetricsButton);
+        buttonPanel.add(viewMemoryButton);
         add(buttonPanel, BorderLayout.SOUTH);
     }
 
+    /**
+     * Muestra la mediana y el rango intercuartílico del tiempo de cada algoritmo, por franja de tamaño,
+     * a partir de los agregados del registro y no de las filas del historial, que solo darían la última
+     * ejecución de cada algoritmo.
+     */
     private void createAndShowPerformanceChart() {
-        // Preparar los datos para el gráfico
-        List<String> algorithms = new ArrayList<>();
-        List<Long> times = new ArrayList<>();
-
-        TableModel model = resultsTable.getModel();
-        int rowCount = model.getRowCount();
-
-        // Asumiendo que la columna 0 es el Algoritmo y la columna 2 es el Tiempo (en nanosegundos)
-        // Ajusta los índices de columna si tu tabla tiene una estructura diferente.
-        int algorithmCol = 0; // Columna para el nombre del algoritmo
-        int timeCol = 2;      // Columna para el tiempo en nanosegundos
-
-        for (int i = 0; i < rowCount; i++) {
-            try {
-                String algorithmName = (String) model.getValueAt(i, algorithmCol);
-                // Asegúrate de que el valor sea un Long o conviértelo si es String
-                Object timeValue = model.getValueAt(i, timeCol);
-                long timeNano;
-
-                switch (timeValue) {
-                    case Long aLong -> timeNano = aLong;
-                    case Integer integer -> timeNano = integer.longValue();
-                    case String timeStr -> timeNano = Long.parseLong(timeStr.replaceAll("[^\\d]", "")); // Elimina " ns" y parsea
-                    default -> {
-                        System.err.println("Tipo de dato de tiempo inesperado: " + timeValue.getClass().getName());
-                        continue; // Saltar esta fila si no se puede parsear el tiempo
-                    }
+        new SwingWorker<List<ResultsStats.Aggregate>, Void>() {
+            @Override
+            protected List<ResultsStats.Aggregate> doInBackground() throws IOException {
+                ResultsWriter.getDefault().flush(); // Incluye los resultados aún en cola
+                return ResultsLog.getDefault().statistics();
+            }
+
+            @Override
+            protected void done() {
+                List<ResultsStats.Aggregate> aggregates;
+                try {
+                    aggregates = get();
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(ResultsView.this, "Error al leer las estadísticas: " + e.getMessage(), "Error de Lectura", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                if (aggregates.isEmpty()) {
+                    JOptionPane.showMessageDialog(ResultsView.this, "No hay datos disponibles en el registro para generar el gráfico.", "Advertencia", JOptionPane.WARNING_MESSAGE);
+                    return;
                 }
-                
-                algorithms.add(algorithmName);
-                times.add(timeNano);
 
-            } catch (NumberFormatException ex) {
-                System.err.println("Error al obtener datos de la tabla para el gráfico: " + ex.getMessage());
+                // Crear y mostrar la ventana del gráfico
+                JFrame chartFrame = new JFrame("Rendimiento de Algoritmos de Laberinto");
+                chartFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE); // Solo cierra la ventana del gráfico
+                chartFrame.setSize(800, 600);
+                chartFrame.setLocationRelativeTo(ResultsView.this); // Centrar respecto a la ventana principal
+                chartFrame.add(new PerformanceChartPanel(aggregates));
+                chartFrame.setVisible(true);
             }
+        }.execute();
+    }
+
+    /**
+     * Muestra una gráfica de barras con la media de nodos expandidos, nodos generados y frontera máxima
+     * de cada algoritmo, calculada sobre los resultados del historial que informaron métricas de búsqueda.
+     */
+    private void createAndShowMetricsChart() {
+        Map<String, long[]> sums = new LinkedHashMap<>(); // Algoritmo -> {expandidos, generados, frontera, resultados}
+        for (ResultRecord record : records) {
+            SearchMetrics metrics = record.getMetrics();
+            if (metrics == null || metrics.getNodesExpanded() < 0 || metrics.getNodesGenerated() < 0 || metrics.getPeakFrontier() < 0) {
+                continue; // Sin métricas o con métricas parciales: no se grafica
+            }
+            long[] sum = sums.computeIfAbsent(record.getAlgorithm(), key -> new long[4]);
+            sum[0] += metrics.getNodesExpanded();
+            sum[1] += metrics.getNodesGenerated();
+            sum[2] += metrics.getPeakFrontier();
+            sum[3]++;
         }
 
-        if (algorithms.isEmpty()) {
-            JOptionPane.showMessageDialog(this, "No hay datos disponibles en la tabla para generar el gráfico.", "Advertencia", JOptionPane.WARNING_MESSAGE);
+        if (sums.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "No hay resultados con métricas de búsqueda completas para graficar.", "Advertencia", JOptionPane.WARNING_MESSAGE);
             return;
         }
 
-        // Crear y mostrar la ventana del gráfico
+        List<String> algorithms = new ArrayList<>(sums.keySet());
+        List<Double> expanded = new ArrayList<>();
+        List<Double> generated = new ArrayList<>();
+        List<Double> frontier = new ArrayList<>();
+        for (long[] sum : sums.values()) {
+            expanded.add((double) sum[0] / sum[3]);
+            generated.add((double) sum[1] / sum[3]);
+            frontier.add((double) sum[2] / sum[3]);
+        }
+
         SwingUtilities.invokeLater(() -> {
-            JFrame chartFrame = new JFrame("Rendimiento de Algoritmos de Laberinto");
-            chartFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE); // Solo cierra la ventana del gráfico
+            JFrame chartFrame = new JFrame("Métricas de Búsqueda por Algoritmo");
+            chartFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
             chartFrame.setSize(800, 600);
-            chartFrame.setLocationRelativeTo(this); // Centrar respecto a la ventana principal
-
-            // Aquí es donde usaremos JFreeChart. Necesitarás añadir la librería.
-            // Para fines de ejemplo, asumiré que tienes JFreeChart configurado.
-            PerformanceChartPanel chartPanel = new PerformanceChartPanel(algorithms, times);
-            chartFrame.add(chartPanel);
+            chartFrame.setLocationRelativeTo(this);
+            chartFrame.add(new SearchMetricsChartPanel(algorithms, expanded, generated, frontier));
             chartFrame.setVisible(true);
         });
     }
 
-    /** Elimina el archivo CSV de resultados y limpia la tabla. */
-    private void deleteResults() {
-        int confirm = JOptionPane.showConfirmDialog(this, "¿Estás seguro de que quieres eliminar todos los resultados?", "Confirmar Eliminación", JOptionPane.YES_NO_OPTION);
-        if (confirm == JOptionPane.YES_OPTION) {
-            File csv = new File(CSV_FILE);
-            if (csv.delete()) {
-                tableModel.setRowCount(0); // Limpia la tabla en la GUI
-                JOptionPane.showMessageDialog(this, "Resultados eliminados exitosamente.", "Eliminación Completa", JOptionPane.INFORMATION_MESSAGE);
-                System.out.println("Archivo CSV de resultados eliminado.");
-            } else {
-                JOptionPane.showMessageDialog(this, "No se pudo eliminar el archivo de resultados.", "Error", JOptionPane.ERROR_MESSAGE);
-                System.err.println("Error: No se pudo eliminar el archivo CSV de resultados.");
-            }
-        }
-    }
-
     /**
- * <p>Guarda una lista de resultados en el archivo CSV.</p>
- * <p>Si el archivo no existe o está vacío, se añadirán los encabezados.</p>
- * <p>Si un resultado para un algoritmo ya existe en el archivo, su entrada se actualizará.
- * Si es un algoritmo nuevo, se añadirá al final.</p>
- * <p>Cada resultado es un array de Strings con [Nombre del Método, Cantidad de Celdas, Tiempo (ns)].</p>
- *
- * @param newResults La lista de resultados a guardar/actualizar.
- */
-public static void saveResultsToCsv(List<String[]> newResults) {
-    String CSV_FILE = "maze_results.csv"; // Define aquí la constante si no está globalmente
-    File file = new File(CSV_FILE);
-    List<String> fileLines = new ArrayList<>();
-    String header = "Algoritmo,Longitud del Camino,Tiempo (ns)";
-    boolean headerExists = false;
-
-    // 1. Leer el archivo CSV existente (si lo hay)
-    if (file.exists() && file.length() > 0) {
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            String line;
-            if ((line = br.readLine()) != null) {
-                // Comprobar si la primera línea es el encabezado esperado
-                if (line.equals(header)) {
-                    headerExists = true;
-                    fileLines.add(line); // Añadir el encabezado existente a la lista
-                } else {
-                    // Si la primera línea no es el encabezado, añadirla de todos modos
-                    // o decidir si se debe sobrescribir todo el archivo si no tiene formato.
-                    // Para este caso, la añadimos y asumimos que se corregirá si es necesario.
-                    fileLines.add(line);
-                }
-            }
-            while ((line = br.readLine()) != null) {
-                fileLines.add(line);
+     * Muestra la memoria retenida y el pico de heap de cada algoritmo frente al tamaño del laberinto,
+     * con la media de los resultados del historial que se perfilaron en cada tamaño.
+     */
+    private void createAndShowMemoryChart() {
+        Map<String, double[]> sums = new LinkedHashMap<>(); // Algoritmo y celdas -> {retenido, pico, resultados}
+        Map<String, String> algorithmOf = new LinkedHashMap<>();
+        Map<String, Long> cellsOf = new LinkedHashMap<>();
+        for (ResultRecord record : records) {
+            MemoryProfiler.Footprint memory = record.getMemory();
+            if (memory == null || record.getCells() <= 0 || memory.getSolverBytes() < 0 || memory.getResultBytes() < 0
+                    || memory.getPeakHeapBytes() < 0) {
+                continue; // Sin perfil de memoria o sin dimensiones: no se grafica
             }
-        } catch (IOException e) {
-            System.err.println("Error al leer el archivo CSV existente: " + e.getMessage());
-            return; // Salir si hay un error de lectura
+            String key = record.getAlgorithm() + "|" + record.getCells();
+            double[] sum = sums.computeIfAbsent(key, k -> new double[3]);
+            sum[0] += memory.getSolverBytes() + memory.getResultBytes();
+            sum[1] += memory.getPeakHeapBytes();
+            sum[2]++;
+            algorithmOf.put(key, record.getAlgorithm());
+            cellsOf.put(key, record.getCells());
         }
-    }
 
-    // Asegurarse de que el encabezado exista si el archivo estaba vacío o no existía
-    if (!headerExists) {
-        // Si el archivo estaba completamente vacío o no existía, o si no tenía encabezado, lo añadimos.
-        // Lo ponemos al principio de la lista de líneas si no está ya.
-        if (fileLines.isEmpty() || !fileLines.get(0).equals(header)) {
-             fileLines.add(0, header);
+        if (sums.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "No hay resultados con perfil de memoria para graficar. Activa \"Perfilar Memoria\" al resolver.", "Advertencia", JOptionPane.WARNING_MESSAGE);
+            return;
         }
-    }
-
 
-    // 2. Procesar los nuevos resultados: actualizar o añadir
-    for (String[] newRow : newResults) {
-        String newAlgorithmName = newRow[0]; // El nombre del algoritmo del nuevo resultado
-        boolean foundAndUpdated = false;
-
-        // Iterar desde la segunda línea (después del encabezado)
-        for (int i = 1; i < fileLines.size(); i++) {
-            String existingLine = fileLines.get(i);
-            String[] existingData = existingLine.split(",");
-            if (existingData.length > 0 && existingData[0].equals(newAlgorithmName)) {
-                // Si encontramos una coincidencia, actualizamos la línea
-                fileLines.set(i, String.join(",", newRow));
-                foundAndUpdated = true;
-                break; // Salir del bucle interno, ya actualizamos esta fila
-            }
+        List<String> algorithms = new ArrayList<>();
+        List<Long> cells = new ArrayList<>();
+        List<Double> retained = new ArrayList<>();
+        List<Double> peak = new ArrayList<>();
+        for (Map.Entry<String, double[]> entry : sums.entrySet()) {
+            double[] sum = entry.getValue();
+            algorithms.add(algorithmOf.get(entry.getKey()));
+            cells.add(cellsOf.get(entry.getKey()));
+            retained.add(sum[0] / sum[2]);
+            peak.add(sum[1] / sum[2]);
         }
 
-        if (!foundAndUpdated) {
-            // Si no se encontró el algoritmo, añadir la nueva línea al final
-            fileLines.add(String.join(",", newRow));
-        }
+        SwingUtilities.invokeLater(() -> {
+            JFrame chartFrame = new JFrame("Memoria por Algoritmo y Tamaño");
+            chartFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+            chartFrame.setSize(800, 600);
+            chartFrame.setLocationRelativeTo(this);
+            chartFrame.add(new MemoryChartPanel(algorithms, cells, retained, peak));
+            chartFrame.setVisible(true);
+        });
     }
 
-    // 3. Reescribir el archivo completo con los datos actualizados
-    try (PrintWriter pw = new PrintWriter(new FileWriter(file, false))) { // ¡'false' para sobrescribir todo el archivo!
-        for (String line : fileLines) {
-            pw.println(line);
+    /**
+     * Vacía el registro de resultados en segundo plano y limpia la tabla. El vaciado espera a que se
+     * escriban los resultados en cola, así que no se hace en el hilo de la interfaz.
+     */
+    private void deleteResults() {
+        int confirm = JOptionPane.showConfirmDialog(this, "¿Estás seguro de que quieres eliminar todos los resultados?", "Confirmar Eliminación", JOptionPane.YES_NO_OPTION);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
         }
-        System.out.println("Resultados actualizados/añadidos en " + CSV_FILE);
-    } catch (IOException e) {
-        System.err.println("Error al reescribir resultados en CSV: " + e.getMessage());
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws IOException {
+                ResultsWriter.getDefault().flush(); // Evita que un resultado en cola reaparezca tras vaciar
+                ResultsLog.getDefault().clear();
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    get();
+                    records = new ArrayList<>();
+                    tableModel.setRowCount(0); // Limpia la tabla en la GUI
+                    statsModel.setRowCount(0);
+                    JOptionPane.showMessageDialog(ResultsView.this, "Resultados eliminados exitosamente.", "Eliminación Completa", JOptionPane.INFORMATION_MESSAGE);
+                    System.out.println("Registro de resultados vaciado.");
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(ResultsView.this, "No se pudo eliminar el archivo de resultados.", "Error", JOptionPane.ERROR_MESSAGE);
+                    System.err.println("Error: No se pudo vaciar el registro de resultados: " + e.getMessage());
+                }
+            }
+        }.execute();
     }
 }
-}
\ No newline at end of file
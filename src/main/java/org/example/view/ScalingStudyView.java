@@ -0,0 +1,105 @@
+package org.example.view;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+
+import org.example.results.ScalingStudy;
+import org.example.solver.SolverFactory;
+
+/**
+ * Ventana del estudio de escalado: lanza un {@link ScalingStudy} en segundo plano y va dibujando sus
+ * mediciones en un {@link PerformanceChartPanel} log-log a medida que llegan. Al cerrar la ventana o
+ * pulsar "Detener" el estudio termina tras la resolución en curso.
+ */
+public class ScalingStudyView extends JFrame {
+
+    private final ScalingStudy study;
+    private final PerformanceChartPanel chartPanel;
+    private final JLabel statusLabel = new JLabel("Midiendo...");
+    private int measured;
+
+    /**
+     * Crea la ventana y lanza el estudio con todos los solvers, de 2^{@value ScalingStudy#DEFAULT_MIN_EXPONENT}
+     * celdas hasta 2^{@code maxExponent}.
+     *
+     * @param maxExponent El exponente del laberinto más grande.
+     */
+    public ScalingStudyView(int maxExponent) {
+        super("Estudio de Escalado de los Solvers");
+        setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        setSize(900, 650);
+        setLocationRelativeTo(null);
+        setLayout(new BorderLayout());
+
+        study = new ScalingStudy(SolverFactory.NAMES, ScalingStudy.DEFAULT_MIN_EXPONENT,
+                Math.max(ScalingStudy.DEFAULT_MIN_EXPONENT, maxExponent), ScalingStudy.DEFAULT_REPEAT,
+                ScalingStudy.DEFAULT_TIME_BUDGET_NANOS);
+        chartPanel = new PerformanceChartPanel(study);
+        add(chartPanel, BorderLayout.CENTER);
+
+        JPanel statusPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        JButton stopButton = new JButton("Detener");
+        stopButton.addActionListener(e -> {
+            study.cancel();
+            stopButton.setEnabled(false);
+        });
+        statusPanel.add(stopButton);
+        statusPanel.add(statusLabel);
+        add(statusPanel, BorderLayout.SOUTH);
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                study.cancel();
+            }
+        });
+
+        System.out.println("Estudio de escalado: 2^" + ScalingStudy.DEFAULT_MIN_EXPONENT + " a 2^" + maxExponent + " celdas.");
+        Future<List<ScalingStudy.Point>> result = study.start(point -> SwingUtilities.invokeLater(() -> showPoint(point)));
+        new SwingWorker<List<ScalingStudy.Point>, Void>() {
+            @Override
+            protected List<ScalingStudy.Point> doInBackground() throws Exception {
+                return result.get();
+            }
+
+            @Override
+            protected void done() {
+                stopButton.setEnabled(false);
+                try {
+                    statusLabel.setText("Estudio terminado: " + get().size() + " mediciones.");
+                } catch (CancellationException | InterruptedException e) {
+                    statusLabel.setText("Estudio detenido tras " + measured + " mediciones.");
+                } catch (ExecutionException e) {
+                    statusLabel.setText("Error en el estudio: " + e.getCause());
+                    System.err.println("Error en el estudio de escalado: " + e.getCause());
+                }
+            }
+        }.execute();
+        setVisible(true);
+    }
+
+    /** Añade una medición a la gráfica y actualiza el estado. */
+    private void showPoint(ScalingStudy.Point point) {
+        chartPanel.addScalingPoint(point);
+        measured++;
+        List<ScalingStudy.Point> points = ScalingStudy.forSolver(study.getPoints(), point.getSolver());
+        double exponent = ScalingStudy.exponent(points, ScalingStudy.Point::getTimeNanos);
+        statusLabel.setText(String.format(Locale.ROOT, "%d mediciones. Última: %s con %d celdas en %d ns%s.",
+                measured, point.getSolver(), point.getCells(), point.getTimeNanos(),
+                Double.isNaN(exponent) ? "" : String.format(Locale.ROOT, " (exponente %.2f)", exponent)));
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.view;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.util.List;
+
+import javax.swing.JPanel;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.category.DefaultCategoryDataset;
+
+/**
+ * <p>Panel con una gráfica de barras agrupadas (JFreeChart) que compara el trabajo de búsqueda de los
+ * algoritmos: la media de nodos expandidos, de nodos generados y de la frontera máxima de cada uno.</p>
+ * <p>Complementa a {@link PerformanceChartPanel}: dos algoritmos con tiempos parecidos pueden explorar
+ * cantidades de celdas muy distintas, y al revés.</p>
+ */
+public class SearchMetricsChartPanel extends JPanel {
+
+    /**
+     * Construye la gráfica.
+     *
+     * @param algorithms Los nombres de los algoritmos, usados como categorías del eje X.
+     * @param expanded   La media de nodos expandidos de cada algoritmo, con los mismos índices.
+     * @param generated  La media de nodos generados de cada algoritmo.
+     * @param frontier   La media de la frontera máxima de cada algoritmo.
+     */
+    public SearchMetricsChartPanel(List<String> algorithms, List<Double> expanded, List<Double> generated, List<Double> frontier) {
+        setLayout(new BorderLayout());
+
+        // Una serie por métrica y una categoría por algoritmo, para agrupar las barras de cada algoritmo.
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int i = 0; i < algorithms.size(); i++) {
+            dataset.addValue(expanded.get(i), "Nodos expandidos", algorithms.get(i));
+            dataset.addValue(generated.get(i), "Nodos generados", algorithms.get(i));
+            dataset.addValue(frontier.get(i), "Frontera máxima", algorithms.get(i));
+        }
+
+        JFreeChart chart = ChartFactory.createBarChart(
+                "Métricas de Búsqueda de los Algoritmos", // Título principal del gráfico
+                "Algoritmo Solver",     // Etiqueta para el eje X (categorías)
+                "Nodos (media)",        // Etiqueta para el eje Y
+                dataset,
+                PlotOrientation.VERTICAL,
+                true,                   // Leyenda con las tres métricas
+                true,                   // Tooltips
+                false                   // Sin URLs
+        );
+        chart.setBackgroundPaint(Color.white);
+
+        ChartPanel chartPanel = new ChartPanel(chart);
+        chartPanel.setPreferredSize(new Dimension(750, 550));
+        add(chartPanel, BorderLayout.CENTER);
+    }
+}